@@ -0,0 +1,89 @@
+package com.bloxbean.cardano.client.plutus.annotation.processor;
+
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.ChildDatum;
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.DatumHolder;
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.ParentDatum;
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.ScalarDatum;
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.converter.EntryConverter;
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.converter.ParentDatumConverter;
+import com.bloxbean.cardano.client.plutus.annotation.processor.model.converter.ScalarDatumConverter;
+import com.bloxbean.cardano.client.plutus.exception.PlutusDataConvertionException;
+import com.bloxbean.cardano.client.plutus.impl.DefaultPlutusObjectConverter;
+import com.bloxbean.cardano.client.plutus.spec.*;
+import com.bloxbean.cardano.client.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Compares the output of {@link DefaultPlutusObjectConverter} with the generated converters it may dispatch to
+ */
+class DefaultPlutusObjectConverterDispatchTest {
+    private final DefaultPlutusObjectConverter plutusObjectConverter = new DefaultPlutusObjectConverter();
+
+    @Test
+    void scalarFields_sameAsGeneratedConverter() {
+        ScalarDatum datum = new ScalarDatum();
+        datum.owner = "0x5468697320697320612074657374";
+        datum.amount = BigInteger.valueOf(2000000);
+        datum.deadline = 1700000000000L;
+        datum.hash = new byte[]{1, 2, 3};
+
+        PlutusData plutusData = plutusObjectConverter.toPlutusData(datum);
+
+        assertThat(plutusData).isEqualTo(new ScalarDatumConverter().toPlutusData(datum));
+        assertThat(plutusData).isEqualTo(ConstrPlutusData.of(1,
+                BytesPlutusData.of(HexUtil.decodeHexString("5468697320697320612074657374")),
+                BigIntPlutusData.of(2000000),
+                BigIntPlutusData.of(1700000000000L),
+                BytesPlutusData.of(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    void nestedConstrAndMapFields_notDispatched() {
+        ParentDatum datum = new ParentDatum();
+        datum.name = "parent";
+        datum.child = new ChildDatum();
+        datum.child.id = "0x0102";
+        datum.child.memo = "memo";
+        datum.balances = Map.of("0x0a0b", BigInteger.TEN);
+
+        PlutusData plutusData = plutusObjectConverter.toPlutusData(datum);
+
+        //Only the PlutusField of the child, and the map key as utf-8 bytes
+        MapPlutusData balances = new MapPlutusData();
+        balances.put(BytesPlutusData.of("0x0a0b"), BigIntPlutusData.of(10));
+        assertThat(plutusData).isEqualTo(ConstrPlutusData.of(0,
+                BytesPlutusData.of("parent"),
+                ConstrPlutusData.of(0, BytesPlutusData.of(new byte[]{1, 2})),
+                balances));
+        assertThat(plutusData).isNotEqualTo(new ParentDatumConverter().toPlutusData(datum));
+    }
+
+    @Test
+    void nestedNullField() {
+        ParentDatum datum = new ParentDatum();
+        datum.name = "parent";
+        datum.child = new ChildDatum();
+        datum.balances = Map.of();
+
+        assertThatThrownBy(() -> plutusObjectConverter.toPlutusData(datum))
+                .isInstanceOf(PlutusDataConvertionException.class)
+                .hasMessageContaining("id");
+    }
+
+    @Test
+    void nestedClass_sameAsGeneratedConverter() {
+        DatumHolder.Entry entry = new DatumHolder.Entry();
+        entry.owner = "0x0102";
+
+        PlutusData plutusData = plutusObjectConverter.toPlutusData(entry);
+
+        assertThat(plutusData).isEqualTo(new EntryConverter().toPlutusData(entry));
+        assertThat(plutusData).isEqualTo(ConstrPlutusData.of(3, BytesPlutusData.of(new byte[]{1, 2})));
+    }
+}
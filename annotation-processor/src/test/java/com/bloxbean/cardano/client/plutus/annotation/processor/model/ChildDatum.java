@@ -0,0 +1,13 @@
+package com.bloxbean.cardano.client.plutus.annotation.processor.model;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+@Constr
+public class ChildDatum {
+    @PlutusField
+    public String id;
+
+    //Converted by the generated converter only
+    public String memo;
+}
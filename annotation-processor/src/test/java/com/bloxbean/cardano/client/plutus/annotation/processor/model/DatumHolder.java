@@ -0,0 +1,13 @@
+package com.bloxbean.cardano.client.plutus.annotation.processor.model;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+public class DatumHolder {
+
+    @Constr(alternative = 3)
+    public static class Entry {
+        @PlutusField
+        public String owner;
+    }
+}
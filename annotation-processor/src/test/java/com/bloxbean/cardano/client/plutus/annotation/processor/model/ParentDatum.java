@@ -0,0 +1,17 @@
+package com.bloxbean.cardano.client.plutus.annotation.processor.model;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+@Constr
+public class ParentDatum {
+    @PlutusField
+    public String name;
+    @PlutusField
+    public ChildDatum child;
+    @PlutusField
+    public Map<String, BigInteger> balances;
+}
@@ -0,0 +1,18 @@
+package com.bloxbean.cardano.client.plutus.annotation.processor.model;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+import java.math.BigInteger;
+
+@Constr(alternative = 1)
+public class ScalarDatum {
+    @PlutusField
+    public String owner;
+    @PlutusField
+    public BigInteger amount;
+    @PlutusField
+    public long deadline;
+    @PlutusField
+    public byte[] hash;
+}
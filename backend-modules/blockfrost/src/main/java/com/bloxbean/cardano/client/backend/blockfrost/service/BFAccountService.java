@@ -7,6 +7,8 @@ import com.bloxbean.cardano.client.backend.api.AccountService;
 import com.bloxbean.cardano.client.backend.api.AddressService;
 import com.bloxbean.cardano.client.backend.blockfrost.service.http.AccountApi;
 import com.bloxbean.cardano.client.backend.model.*;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -20,7 +22,11 @@ public class BFAccountService extends BFBaseService implements AccountService {
     private final AddressService addressService;
 
     public BFAccountService(String baseUrl, String projectId, AddressService addressService) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, addressService, HttpClients.getDefault());
+    }
+
+    public BFAccountService(String baseUrl, String projectId, AddressService addressService, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.accountApi = getRetrofit().create(AccountApi.class);
         this.addressService = addressService;
     }
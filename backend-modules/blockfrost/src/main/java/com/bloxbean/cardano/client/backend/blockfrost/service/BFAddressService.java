@@ -8,6 +8,8 @@ import com.bloxbean.cardano.client.backend.blockfrost.service.http.AddressesApi;
 import com.bloxbean.cardano.client.backend.model.AddressContent;
 import com.bloxbean.cardano.client.backend.model.AddressDetails;
 import com.bloxbean.cardano.client.backend.model.AddressTransactionContent;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -20,7 +22,11 @@ public class BFAddressService extends BFBaseService implements AddressService {
     private AddressesApi addressApi;
 
     public BFAddressService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFAddressService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.addressApi = getRetrofit().create(AddressesApi.class);
     }
 
@@ -9,6 +9,8 @@ import com.bloxbean.cardano.client.backend.model.Asset;
 import com.bloxbean.cardano.client.backend.model.AssetAddress;
 import com.bloxbean.cardano.client.backend.model.AssetTransactionContent;
 import com.bloxbean.cardano.client.backend.model.PolicyAsset;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -21,7 +23,11 @@ public class BFAssetService extends BFBaseService implements AssetService {
     private final AssetsApi assetsApi;
 
     public BFAssetService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFAssetService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.assetsApi = getRetrofit().create(AssetsApi.class);
     }
 
@@ -1,65 +1,102 @@
 package com.bloxbean.cardano.client.backend.blockfrost.service;
 
 import com.bloxbean.cardano.client.backend.api.*;
+import com.bloxbean.cardano.client.http.HttpClientConfig;
+import com.bloxbean.cardano.client.http.HttpClients;
 
+import java.util.List;
+
+/**
+ * Blockfrost backend service. All services returned by this class share one http client and its connection pool.
+ */
 public class BFBackendService extends BFBaseService implements BackendService {
 
+    /**
+     * Paths of Blockfrost endpoints which return immutable resources (transactions, scripts and datums by hash).
+     * Paged endpoints which grow over time, like the redeemers of a script, are not included.
+     * Can be used as {@link HttpClientConfig#getImmutablePathPatterns()} when the response cache is enabled.
+     */
+    public static final List<String> IMMUTABLE_RESOURCE_PATHS = List.of(
+            ".*/txs/[0-9a-fA-F]{64}(/.*)?",
+            ".*/scripts/[0-9a-fA-F]{56}(/json|/cbor)?",
+            ".*/scripts/datum/[0-9a-fA-F]{64}(/.*)?"
+    );
+
     public BFBackendService(String baseUrl, String projectId) {
         super(baseUrl, projectId);
     }
 
+    /**
+     * Create a BFBackendService with a custom http client configuration.
+     * <p>
+     * Example: to enable the response cache for immutable resources
+     * <pre>
+     * HttpClientConfig.builder()
+     *         .cacheDirectory(new File("bf-cache"))
+     *         .immutablePathPatterns(BFBackendService.IMMUTABLE_RESOURCE_PATHS)
+     *         .build();
+     * </pre>
+     *
+     * @param baseUrl          Blockfrost base url
+     * @param projectId        Blockfrost project id
+     * @param httpClientConfig http client config
+     */
+    public BFBackendService(String baseUrl, String projectId, HttpClientConfig httpClientConfig) {
+        super(baseUrl, projectId, HttpClients.create(httpClientConfig));
+    }
+
     @Override
     public AssetService getAssetService() {
-        return new BFAssetService(getBaseUrl(), getProjectId());
+        return new BFAssetService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public BlockService getBlockService() {
-        return new BFBlockService(getBaseUrl(), getProjectId());
+        return new BFBlockService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public NetworkInfoService getNetworkInfoService() {
-        return new BFNetworkService(getBaseUrl(), getProjectId());
+        return new BFNetworkService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public PoolService getPoolService() {
-        return new BFPoolService(getBaseUrl(), getProjectId());
+        return new BFPoolService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public TransactionService getTransactionService() {
-        return new BFTransactionService(getBaseUrl(), getProjectId());
+        return new BFTransactionService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public UtxoService getUtxoService() {
-        return new BFUtxoService(getBaseUrl(), getProjectId());
+        return new BFUtxoService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public AddressService getAddressService() {
-        return new BFAddressService(getBaseUrl(), getProjectId());
+        return new BFAddressService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public AccountService getAccountService() {
-        return new BFAccountService(getBaseUrl(), getProjectId(), getAddressService());
+        return new BFAccountService(getBaseUrl(), getProjectId(), getAddressService(), getHttpClient());
     }
 
     @Override
     public EpochService getEpochService() {
-        return new BFEpochService(getBaseUrl(), getProjectId());
+        return new BFEpochService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public MetadataService getMetadataService() {
-        return new BFMetadataService(getBaseUrl(), getProjectId());
+        return new BFMetadataService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 
     @Override
     public ScriptService getScriptService() {
-        return new BFScriptService(getBaseUrl(), getProjectId());
+        return new BFScriptService(getBaseUrl(), getProjectId(), getHttpClient());
     }
 }
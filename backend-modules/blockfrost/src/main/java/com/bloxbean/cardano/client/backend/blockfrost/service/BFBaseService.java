@@ -1,22 +1,43 @@
 package com.bloxbean.cardano.client.backend.blockfrost.service;
 
 import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.async.BackendExecutor;
+import com.bloxbean.cardano.client.http.HttpClients;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import retrofit2.Response;
 import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class BFBaseService {
+    //Blockfrost's rate limit applies per project, so bulk calls of services with the same project id share an executor
+    private static final Map<String, BackendExecutor> backendExecutors = new ConcurrentHashMap<>();
 
     private final String baseUrl;
     private final String projectId;
+    private final OkHttpClient httpClient;
 
     public BFBaseService(String baseUrl, String projectId) {
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    /**
+     * Create a service which uses the given http client. Services created with the same http client share its
+     * connection pool.
+     *
+     * @param baseUrl    Blockfrost base url
+     * @param projectId  Blockfrost project id
+     * @param httpClient http client
+     */
+    public BFBaseService(String baseUrl, String projectId, @NonNull OkHttpClient httpClient) {
         this.baseUrl = baseUrl;
         this.projectId = projectId;
+        this.httpClient = httpClient;
 
         if (log.isDebugEnabled()) {
             log.debug("Blockfrost URL : " + baseUrl);
@@ -24,10 +45,7 @@ public class BFBaseService {
     }
 
     protected Retrofit getRetrofit() {
-        return new Retrofit.Builder()
-                .baseUrl(getBaseUrl())
-                .addConverterFactory(JacksonConverterFactory.create())
-                .build();
+        return HttpClients.retrofit(getBaseUrl(), httpClient);
     }
 
     public String getBaseUrl() {
@@ -38,6 +56,20 @@ public class BFBaseService {
         return projectId;
     }
 
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Returns the executor used for bulk calls. It's shared by the Blockfrost services of the same base url and
+     * project id, and limits requests to Blockfrost's default rate limit.
+     *
+     * @return BackendExecutor
+     */
+    protected BackendExecutor getBackendExecutor() {
+        return backendExecutors.computeIfAbsent(projectId + "@" + baseUrl, key -> BackendExecutor.forBlockfrost());
+    }
+
     protected <T> Result<T> processResponse(Response<T> response) throws IOException {
         if (response.isSuccessful())
             return Result.success(response.toString()).withValue(response.body()).code(response.code());
@@ -5,6 +5,8 @@ import com.bloxbean.cardano.client.api.exception.ApiException;
 import com.bloxbean.cardano.client.backend.blockfrost.service.http.BlockApi;
 import com.bloxbean.cardano.client.backend.model.Block;
 import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -16,7 +18,11 @@ public class BFBlockService extends BFBaseService implements BlockService {
     private BlockApi blockApi;
 
     public BFBlockService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFBlockService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.blockApi = getRetrofit().create(BlockApi.class);
     }
 
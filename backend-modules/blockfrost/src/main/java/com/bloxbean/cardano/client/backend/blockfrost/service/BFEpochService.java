@@ -6,6 +6,8 @@ import com.bloxbean.cardano.client.backend.blockfrost.service.http.EpochApi;
 import com.bloxbean.cardano.client.backend.model.EpochContent;
 import com.bloxbean.cardano.client.api.model.ProtocolParams;
 import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -16,7 +18,11 @@ public class BFEpochService extends BFBaseService implements EpochService {
     private EpochApi epochApi;
 
     public BFEpochService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFEpochService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.epochApi = getRetrofit().create(EpochApi.class);
     }
 
@@ -8,6 +8,8 @@ import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.backend.model.metadata.MetadataCBORContent;
 import com.bloxbean.cardano.client.backend.model.metadata.MetadataJSONContent;
 import com.bloxbean.cardano.client.backend.model.metadata.MetadataLabel;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -20,7 +22,11 @@ public class BFMetadataService extends BFBaseService implements MetadataService
     private MetadataApi metadataApi;
 
     public BFMetadataService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFMetadataService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.metadataApi = getRetrofit().create(MetadataApi.class);
     }
 
@@ -5,6 +5,8 @@ import com.bloxbean.cardano.client.api.exception.ApiException;
 import com.bloxbean.cardano.client.backend.blockfrost.service.http.CardanoLedgerApi;
 import com.bloxbean.cardano.client.backend.model.Genesis;
 import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -15,7 +17,11 @@ public class BFNetworkService extends BFBaseService implements NetworkInfoServic
     private final CardanoLedgerApi ledgerApi;
 
     public BFNetworkService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFNetworkService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.ledgerApi = getRetrofit().create(CardanoLedgerApi.class);
     }
 
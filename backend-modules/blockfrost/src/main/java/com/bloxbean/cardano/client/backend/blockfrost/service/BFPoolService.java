@@ -5,6 +5,8 @@ import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.backend.api.PoolService;
 import com.bloxbean.cardano.client.backend.blockfrost.service.http.PoolApi;
 import com.bloxbean.cardano.client.backend.model.PoolInfo;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -15,7 +17,11 @@ public class BFPoolService extends BFBaseService implements PoolService {
     private final PoolApi poolApi;
 
     public BFPoolService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFPoolService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.poolApi = getRetrofit().create(PoolApi.class);
     }
 
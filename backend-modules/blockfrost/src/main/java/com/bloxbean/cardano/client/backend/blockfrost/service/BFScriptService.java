@@ -6,7 +6,9 @@ import com.bloxbean.cardano.client.backend.api.ScriptService;
 import com.bloxbean.cardano.client.backend.blockfrost.service.http.ScriptApi;
 import com.bloxbean.cardano.client.backend.model.ScriptDatum;
 import com.bloxbean.cardano.client.backend.model.ScriptDatumCbor;
+import com.bloxbean.cardano.client.http.HttpClients;
 import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -17,7 +19,11 @@ public class BFScriptService extends BFBaseService implements ScriptService {
     private ScriptApi scriptApi;
 
     public BFScriptService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFScriptService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.scriptApi = getRetrofit().create(ScriptApi.class);
     }
 
@@ -9,20 +9,25 @@ import com.bloxbean.cardano.client.backend.model.TransactionContent;
 import com.bloxbean.cardano.client.backend.model.TxContentRedeemers;
 import com.bloxbean.cardano.client.backend.model.TxContentUtxo;
 import com.bloxbean.cardano.client.util.HexUtil;
+import com.bloxbean.cardano.client.http.HttpClients;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class BFTransactionService extends BFBaseService implements TransactionService {
     private TransactionApi transactionApi;
 
     public BFTransactionService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFTransactionService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.transactionApi = getRetrofit().create(TransactionApi.class);
     }
 
@@ -54,19 +59,14 @@ public class BFTransactionService extends BFBaseService implements TransactionSe
 
     @Override
     public Result<List<TransactionContent>> getTransactions(List<String> txnHashCollection) throws ApiException {
-        List<TransactionContent> transactionContentList = new ArrayList<>();
         for (String txnHash : txnHashCollection) {
             if (!txnHash.isEmpty() && !txnHash.matches("^[\\da-fA-F]+$")) {
                 throw new ApiException("Invalid Transaction Hash Format");
             }
-            Result<TransactionContent> result = getTransaction(txnHash);
-            if (result.isSuccessful()) {
-                transactionContentList.add(result.getValue());
-            } else {
-                return Result.error(result.getResponse()).code(result.code());
-            }
         }
-        return Result.success("OK").withValue(transactionContentList).code(200);
+
+        //Fetch in parallel within Blockfrost's rate limit
+        return getBackendExecutor().executeAll(txnHashCollection, txnHash -> () -> getTransaction(txnHash));
     }
 
     @Override
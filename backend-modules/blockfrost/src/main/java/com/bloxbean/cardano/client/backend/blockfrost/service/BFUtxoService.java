@@ -8,6 +8,8 @@ import com.bloxbean.cardano.client.backend.api.TransactionService;
 import com.bloxbean.cardano.client.backend.api.UtxoService;
 import com.bloxbean.cardano.client.backend.blockfrost.service.http.AddressesApi;
 import com.bloxbean.cardano.client.backend.model.AddressTransactionContent;
+import com.bloxbean.cardano.client.http.HttpClients;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -20,9 +22,13 @@ public class BFUtxoService extends BFBaseService implements UtxoService {
     private TransactionService transactionService;
 
     public BFUtxoService(String baseUrl, String projectId) {
-        super(baseUrl, projectId);
+        this(baseUrl, projectId, HttpClients.getDefault());
+    }
+
+    public BFUtxoService(String baseUrl, String projectId, OkHttpClient httpClient) {
+        super(baseUrl, projectId, httpClient);
         this.addressApi = getRetrofit().create(AddressesApi.class);
-        this.transactionService = new BFTransactionService(baseUrl, projectId);
+        this.transactionService = new BFTransactionService(baseUrl, projectId, httpClient);
     }
 
     @Override
@@ -5,17 +5,30 @@ import com.bloxbean.cardano.client.api.exception.ApiException;
 import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.api.util.AssetUtil;
 import com.bloxbean.cardano.client.backend.api.TransactionService;
 import com.bloxbean.cardano.client.backend.api.UtxoService;
 import rest.koios.client.backend.api.address.AddressService;
 import rest.koios.client.backend.api.address.model.AddressInfo;
 import rest.koios.client.backend.api.address.model.AddressUtxo;
 import rest.koios.client.backend.api.base.common.Asset;
+import rest.koios.client.backend.api.base.common.UTxO;
+import rest.koios.client.backend.factory.options.Limit;
+import rest.koios.client.backend.factory.options.Offset;
+import rest.koios.client.backend.factory.options.Options;
+import rest.koios.client.backend.factory.options.Order;
+import rest.koios.client.backend.factory.options.SortType;
+import rest.koios.client.backend.factory.options.filters.Filter;
+import rest.koios.client.backend.factory.options.filters.FilterType;
 
 import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,8 +36,18 @@ import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
 
 /**
  * Koios Utxo Service
+ * <p>
+ * Koios returns the whole utxo set of an address in one call. To avoid fetching the full set again for every page,
+ * the sorted utxo set is kept as a snapshot when the first page is requested, and the next pages of the same scan
+ * are served from that snapshot. A scan is identified by the address, the order and the calling thread, so concurrent
+ * scans of the same address get their own snapshots. A request for the first page always fetches a new snapshot.
+ * <p>
+ * A snapshot is discarded when the last page is served. Expired snapshots of abandoned scans are evicted on every
+ * call, and the no of snapshots is capped by evicting the oldest one.
  */
 public class KoiosUtxoService implements UtxoService {
+    private static final Duration DEFAULT_SNAPSHOT_TTL = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_SNAPSHOTS = 100;
 
     /**
      * Address Service
@@ -34,6 +57,16 @@ public class KoiosUtxoService implements UtxoService {
      * Transaction Service
      */
     private final TransactionService transactionService;
+    /**
+     * Max age of a utxo set snapshot in milliseconds. 0 disables snapshots.
+     */
+    private final long snapshotTtlMillis;
+    private final int maxSnapshots;
+    private final Clock clock;
+    /**
+     * Utxo set snapshots by scan in insertion order. Guarded by itself.
+     */
+    private final LinkedHashMap<String, UtxoSnapshot> snapshots = new LinkedHashMap<>();
 
     /**
      * KoiosUtxoService Constructor
@@ -42,8 +75,28 @@ public class KoiosUtxoService implements UtxoService {
      * @param transactionService transactionService
      */
     public KoiosUtxoService(AddressService addressService, TransactionService transactionService) {
+        this(addressService, transactionService, DEFAULT_SNAPSHOT_TTL);
+    }
+
+    /**
+     * KoiosUtxoService Constructor
+     *
+     * @param addressService     addressService
+     * @param transactionService transactionService
+     * @param snapshotTtl        max age of a utxo set snapshot used to serve subsequent pages. Duration.ZERO to fetch
+     *                           the utxo set for every page.
+     */
+    public KoiosUtxoService(AddressService addressService, TransactionService transactionService, Duration snapshotTtl) {
+        this(addressService, transactionService, snapshotTtl, DEFAULT_MAX_SNAPSHOTS, Clock.systemUTC());
+    }
+
+    KoiosUtxoService(AddressService addressService, TransactionService transactionService, Duration snapshotTtl,
+                     int maxSnapshots, Clock clock) {
         this.addressService = addressService;
         this.transactionService = transactionService;
+        this.snapshotTtlMillis = snapshotTtl.toMillis();
+        this.maxSnapshots = maxSnapshots;
+        this.clock = clock;
     }
 
     @Override
@@ -53,22 +106,41 @@ public class KoiosUtxoService implements UtxoService {
 
     @Override
     public Result<List<Utxo>> getUtxos(String address, int count, int page, OrderEnum order) throws ApiException {
-        try {
-            if (page < 1) {
-                return Result.success("OK").withValue(Collections.emptyList()).code(200);
-            }
-            rest.koios.client.backend.api.base.Result<AddressInfo> addressInformationResult = addressService.getAddressInformation(address);
-            if (!addressInformationResult.isSuccessful()) {
-                return Result.error(addressInformationResult.getResponse()).withValue(Collections.emptyList()).code(addressInformationResult.getCode());
-            }
-            List<AddressUtxo> addressUtxos = addressInformationResult.getValue().getUtxoSet().stream().sorted(Comparator.comparingInt(AddressUtxo::getBlockTime).thenComparingInt(AddressUtxo::getTxIndex)).collect(Collectors.toList());
-            if (order == OrderEnum.desc) {
-                Collections.reverse(addressUtxos);
+        if (page < 1) {
+            return Result.success("OK").withValue(Collections.emptyList()).code(200);
+        }
+
+        //Pages of a scan are requested one after another by the same thread
+        String snapshotKey = address + ":" + order + ":" + Thread.currentThread().getId();
+        UtxoSnapshot snapshot = page > 1 ? getSnapshot(snapshotKey) : null;
+        boolean newSnapshot = snapshot == null;
+        if (newSnapshot) {
+            try {
+                rest.koios.client.backend.api.base.Result<AddressInfo> addressInformationResult = addressService.getAddressInformation(address);
+                if (!addressInformationResult.isSuccessful()) {
+                    removeSnapshot(snapshotKey);
+                    return Result.error(addressInformationResult.getResponse()).withValue(Collections.emptyList()).code(addressInformationResult.getCode());
+                }
+                List<AddressUtxo> addressUtxos = addressInformationResult.getValue().getUtxoSet().stream().sorted(Comparator.comparingInt(AddressUtxo::getBlockTime).thenComparingInt(AddressUtxo::getTxIndex)).collect(Collectors.toList());
+                if (order == OrderEnum.desc) {
+                    Collections.reverse(addressUtxos);
+                }
+                snapshot = new UtxoSnapshot(addressInformationResult.getValue().getAddress(), addressUtxos, clock.millis());
+            } catch (rest.koios.client.backend.api.base.exception.ApiException e) {
+                throw new ApiException(e.getMessage(), e);
             }
-            return convertToUTxOs(addressInformationResult.getValue().getAddress(), getSubListByPage(addressUtxos, page, count));
-        } catch (rest.koios.client.backend.api.base.exception.ApiException e) {
-            throw new ApiException(e.getMessage(), e);
         }
+
+        List<AddressUtxo> pageUtxos = getSubListByPage(snapshot.utxos, page, count);
+        //Keep the snapshot only while there are more pages to serve
+        if (snapshotTtlMillis > 0 && (long) page * count < snapshot.utxos.size()) {
+            if (newSnapshot)
+                putSnapshot(snapshotKey, snapshot);
+        } else {
+            removeSnapshot(snapshotKey);
+        }
+
+        return convertToUTxOs(snapshot.address, pageUtxos);
     }
 
     @Override
@@ -76,26 +148,87 @@ public class KoiosUtxoService implements UtxoService {
         return getUtxos(address, unit, count, page, OrderEnum.asc);
     }
 
+    /**
+     * Returns a page of utxos of an address which contain the given asset. The asset filter and paging are applied by
+     * Koios, so only the matching utxos of the requested page are fetched.
+     */
     @Override
     public Result<List<Utxo>> getUtxos(String address, String unit, int count, int page, OrderEnum order) throws ApiException {
-        Result<List<Utxo>> resultUtxos = getUtxos(address, count, page, order);
-        if (!resultUtxos.isSuccessful())
-            return resultUtxos;
+        if (unit == null || unit.isEmpty() || LOVELACE.equals(unit))
+            return getUtxos(address, count, page, order);
 
-        List<Utxo> utxos = resultUtxos.getValue();
-        if (utxos == null || utxos.isEmpty())
-            return resultUtxos;
+        if (page < 1) {
+            return Result.error("Not Found").withValue(Collections.emptyList()).code(404);
+        }
+
+        try {
+            var policyIdAndAssetName = AssetUtil.getPolicyIdAndAssetName(unit);
+            String assetFilter = "[{\"policy_id\":\"" + policyIdAndAssetName._1 + "\",\"asset_name\":\""
+                    + policyIdAndAssetName._2.replace("0x", "") + "\"}]";
+            SortType sortType = order == OrderEnum.desc ? SortType.DESC : SortType.ASC;
+            Options options = Options.builder()
+                    .option(Limit.of(count))
+                    .option(Offset.of((long) (page - 1) * count))
+                    .option(Order.by("block_height", sortType))
+                    //Tie-breakers, so that utxos of the same block are in the same order for every page
+                    .option(Order.by("tx_hash", SortType.ASC))
+                    .option(Order.by("tx_index", SortType.ASC))
+                    .option(Filter.of("asset_list", FilterType.CS, assetFilter))
+                    .build();
 
-        if (unit != null && !unit.isEmpty()) {
-            utxos = utxos.stream().filter(utxo ->
-                            utxo.getAmount().stream().anyMatch(amount -> amount.getUnit().equals(unit)))
-                    .collect(Collectors.toList());
+            rest.koios.client.backend.api.base.Result<List<UTxO>> utxosResult = addressService.getAddressUTxOs(List.of(address), true, options);
+            if (!utxosResult.isSuccessful()) {
+                return Result.error(utxosResult.getResponse()).withValue(Collections.emptyList()).code(utxosResult.getCode());
+            }
+
+            List<Utxo> utxos = convertUTxOs(utxosResult.getValue());
+            if (!utxos.isEmpty())
+                return Result.success("OK").withValue(utxos).code(200);
+            else
+                return Result.error("Not Found").withValue(Collections.emptyList()).code(404);
+        } catch (rest.koios.client.backend.api.base.exception.ApiException e) {
+            throw new ApiException(e.getMessage(), e);
         }
+    }
 
-        if (!utxos.isEmpty())
-            return Result.success("OK").withValue(utxos).code(200);
-        else
-            return Result.error("Not Found").withValue(Collections.emptyList()).code(404);
+    private UtxoSnapshot getSnapshot(String key) {
+        synchronized (snapshots) {
+            evictExpiredSnapshots();
+            return snapshots.get(key);
+        }
+    }
+
+    private void putSnapshot(String key, UtxoSnapshot snapshot) {
+        synchronized (snapshots) {
+            evictExpiredSnapshots();
+            //Re-insert, so that the oldest snapshot is always the first entry
+            snapshots.remove(key);
+            snapshots.put(key, snapshot);
+
+            Iterator<UtxoSnapshot> iterator = snapshots.values().iterator();
+            while (snapshots.size() > maxSnapshots) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void removeSnapshot(String key) {
+        synchronized (snapshots) {
+            evictExpiredSnapshots();
+            snapshots.remove(key);
+        }
+    }
+
+    private void evictExpiredSnapshots() {
+        long now = clock.millis();
+        snapshots.values().removeIf(snapshot -> snapshot.isExpired(now, snapshotTtlMillis));
+    }
+
+    int getSnapshotCount() {
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
     }
 
     @Override
@@ -129,6 +262,37 @@ public class KoiosUtxoService implements UtxoService {
         return Result.success("OK").withValue(utxoList).code(200);
     }
 
+    private List<Utxo> convertUTxOs(List<UTxO> koiosUtxos) {
+        List<Utxo> utxoList = new ArrayList<>();
+        if (koiosUtxos == null)
+            return utxoList;
+
+        for (UTxO koiosUtxo : koiosUtxos) {
+            Utxo utxo = new Utxo();
+            utxo.setAddress(koiosUtxo.getAddress());
+            utxo.setTxHash(koiosUtxo.getTxHash());
+            utxo.setOutputIndex(koiosUtxo.getTxIndex());
+            utxo.setDataHash(koiosUtxo.getDatumHash());
+            if (koiosUtxo.getInlineDatum() != null) {
+                utxo.setInlineDatum(koiosUtxo.getInlineDatum().getBytes());
+            }
+            if (koiosUtxo.getReferenceScript() != null) {
+                utxo.setReferenceScriptHash(koiosUtxo.getReferenceScript().getHash());
+            }
+            List<Amount> amountList = new ArrayList<>();
+            amountList.add(new Amount(LOVELACE, new BigInteger(koiosUtxo.getValue())));
+            if (koiosUtxo.getAssetList() != null) {
+                for (Asset asset : koiosUtxo.getAssetList()) {
+                    String key = asset.getPolicyId() + asset.getAssetName();
+                    amountList.add(new Amount(key, new BigInteger(asset.getQuantity())));
+                }
+            }
+            utxo.setAmount(amountList);
+            utxoList.add(utxo);
+        }
+        return utxoList;
+    }
+
     /**
      * Returns sublist of a page. If a page is empty and emptyList will be returned.
      * @param list
@@ -160,4 +324,20 @@ public class KoiosUtxoService implements UtxoService {
             return list.subList(start, end);
         }
     }
+
+    private static class UtxoSnapshot {
+        private final String address;
+        private final List<AddressUtxo> utxos;
+        private final long createdAt;
+
+        UtxoSnapshot(String address, List<AddressUtxo> utxos, long createdAt) {
+            this.address = address;
+            this.utxos = utxos;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return now - createdAt > ttlMillis;
+        }
+    }
 }
@@ -0,0 +1,326 @@
+package com.bloxbean.cardano.client.backend.koios;
+
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.backend.api.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import rest.koios.client.backend.api.address.AddressService;
+import rest.koios.client.backend.api.address.model.AddressInfo;
+import rest.koios.client.backend.api.address.model.AddressUtxo;
+import rest.koios.client.backend.api.base.common.Asset;
+import rest.koios.client.backend.api.base.common.UTxO;
+import rest.koios.client.backend.factory.options.Limit;
+import rest.koios.client.backend.factory.options.Offset;
+import rest.koios.client.backend.factory.options.Option;
+import rest.koios.client.backend.factory.options.Options;
+import rest.koios.client.backend.factory.options.Order;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KoiosUtxoServiceTest {
+    private static final String ADDRESS = "addr_test1qz3s0c370u8zzqn302nppuxl840gm6qdmjwqnxmqxme657ze964mar2m3r5jjv4qrsf62yduqns0tsw0hvzwar07qasqeamp0c";
+    private static final String POLICY_ID = "c48f707fea6f08af67a8c06c9bea5b3ec847f5901dc08420cd7f8fa8";
+    private static final String ASSET_NAME = "4d7954657374546f6b656e";
+
+    @Mock
+    private AddressService addressService;
+    @Mock
+    private TransactionService transactionService;
+
+    private final Random random = new Random(42);
+    private List<UTxO> blockUtxos;
+    private volatile List<AddressUtxo> addressUtxos;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+
+        blockUtxos = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            blockUtxos.add(utxo(String.format("%064x", i * 7919L), i % 3, 100));
+        }
+
+        when(addressService.getAddressUTxOs(anyList(), anyBoolean(), any(Options.class)))
+                .thenAnswer(invocation -> queryUtxos(invocation.getArgument(2)));
+
+        addressUtxos = addressUtxos(0, 25);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        when(addressService.getAddressInformation(anyString()))
+                .thenAnswer(invocation -> addressInformation(invocation.getArgument(0)));
+    }
+
+    @Test
+    void getUtxos_multiPageScanServedFromOneSnapshot() throws Exception {
+        KoiosUtxoService utxoService = new KoiosUtxoService(addressService, transactionService, Duration.ofSeconds(30), 10, clock);
+
+        List<String> utxoIds = scan(utxoService, ADDRESS, OrderEnum.desc);
+
+        assertThat(utxoIds).containsExactlyElementsOf(ids(addressUtxos(0, 25), true));
+        verify(addressService, times(1)).getAddressInformation(ADDRESS);
+        //Snapshot is discarded after the last page
+        assertThat(utxoService.getSnapshotCount()).isZero();
+    }
+
+    @Test
+    void getUtxos_concurrentScansUseOwnSnapshots() throws Exception {
+        KoiosUtxoService utxoService = new KoiosUtxoService(addressService, transactionService, Duration.ofSeconds(30), 10, clock);
+        ExecutorService scanA = Executors.newSingleThreadExecutor();
+        ExecutorService scanB = Executors.newSingleThreadExecutor();
+        try {
+            //Scan A reads the first page, then the utxo set changes and scan B starts before scan A continues
+            assertThat(scanA.submit(() -> ids(utxoService.getUtxos(ADDRESS, 10, 1, OrderEnum.asc).getValue())).get())
+                    .containsExactlyElementsOf(ids(addressUtxos(0, 10), false));
+
+            addressUtxos = addressUtxos(100, 25);
+            List<String> scanBIds = scanB.submit(() -> scan(utxoService, ADDRESS, OrderEnum.asc)).get();
+
+            List<String> scanAIds = new ArrayList<>();
+            for (int page = 2; page <= 3; page++) {
+                int currentPage = page;
+                scanAIds.addAll(scanA.submit(() -> ids(utxoService.getUtxos(ADDRESS, 10, currentPage, OrderEnum.asc).getValue())).get());
+            }
+
+            assertThat(scanAIds).containsExactlyElementsOf(ids(addressUtxos(10, 15), false));
+            assertThat(scanBIds).containsExactlyElementsOf(ids(addressUtxos(100, 25), false));
+        } finally {
+            scanA.shutdownNow();
+            scanB.shutdownNow();
+        }
+        verify(addressService, times(2)).getAddressInformation(ADDRESS);
+    }
+
+    @Test
+    void getUtxos_abandonedScanEvictedAfterTtl() throws Exception {
+        KoiosUtxoService utxoService = new KoiosUtxoService(addressService, transactionService, Duration.ofSeconds(30), 10, clock);
+
+        //Only the first page is read
+        utxoService.getUtxos(ADDRESS, 10, 1);
+        assertThat(utxoService.getSnapshotCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        //A call for any other address evicts the expired snapshot
+        utxoService.getUtxos(ADDRESS + "1", 100, 1);
+        assertThat(utxoService.getSnapshotCount()).isZero();
+
+        //The abandoned scan fetches the utxo set again if it continues
+        addressUtxos = addressUtxos(100, 25);
+        assertThat(ids(utxoService.getUtxos(ADDRESS, 10, 2).getValue()))
+                .containsExactlyElementsOf(ids(addressUtxos(100, 25), true).subList(10, 20));
+        verify(addressService, times(2)).getAddressInformation(ADDRESS);
+    }
+
+    @Test
+    void getUtxos_noOfSnapshotsCapped() throws Exception {
+        KoiosUtxoService utxoService = new KoiosUtxoService(addressService, transactionService, Duration.ofSeconds(30), 2, clock);
+
+        for (int i = 0; i < 5; i++) {
+            utxoService.getUtxos(ADDRESS + i, 10, 1);
+            clock.advance(Duration.ofSeconds(1));
+        }
+        assertThat(utxoService.getSnapshotCount()).isEqualTo(2);
+
+        //Snapshots of the latest scans are kept
+        utxoService.getUtxos(ADDRESS + 4, 10, 2);
+        verify(addressService, times(1)).getAddressInformation(ADDRESS + 4);
+        utxoService.getUtxos(ADDRESS + 0, 10, 2);
+        verify(addressService, times(2)).getAddressInformation(ADDRESS + 0);
+    }
+
+    @Test
+    void getUtxosByAsset_pagesThroughBlockWithMoreUtxosThanPage() throws Exception {
+        KoiosUtxoService utxoService = new KoiosUtxoService(addressService, transactionService);
+
+        List<String> utxoIds = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            Result<List<Utxo>> result = utxoService.getUtxos(ADDRESS, POLICY_ID + ASSET_NAME, 10, page);
+            if (!result.isSuccessful())
+                break;
+
+            result.getValue().forEach(utxo -> utxoIds.add(utxo.getTxHash() + "#" + utxo.getOutputIndex()));
+        }
+
+        Set<String> expectedIds = blockUtxos.stream()
+                .map(utxo -> utxo.getTxHash() + "#" + utxo.getTxIndex())
+                .collect(Collectors.toSet());
+        assertThat(utxoIds).hasSize(25);
+        assertThat(utxoIds).containsExactlyInAnyOrderElementsOf(expectedIds);
+    }
+
+    private static List<String> scan(KoiosUtxoService utxoService, String address, OrderEnum order) throws Exception {
+        List<String> utxoIds = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            List<Utxo> utxos = utxoService.getUtxos(address, 10, page, order).getValue();
+            utxoIds.addAll(ids(utxos));
+            if (utxos.size() < 10)
+                break;
+        }
+        return utxoIds;
+    }
+
+    private static List<String> ids(List<Utxo> utxos) {
+        return utxos.stream()
+                .map(utxo -> utxo.getTxHash() + "#" + utxo.getOutputIndex())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<AddressUtxo> utxos, boolean desc) {
+        List<String> ids = utxos.stream()
+                .map(utxo -> utxo.getTxHash() + "#" + utxo.getTxIndex())
+                .collect(Collectors.toList());
+        if (desc)
+            Collections.reverse(ids);
+        return ids;
+    }
+
+    private rest.koios.client.backend.api.base.Result<AddressInfo> addressInformation(String address) {
+        AddressInfo addressInfo = new AddressInfo();
+        addressInfo.setAddress(address);
+        addressInfo.setUtxoSet(new ArrayList<>(addressUtxos));
+        return rest.koios.client.backend.api.base.Result.<AddressInfo>builder()
+                .successful(true)
+                .code(200)
+                .response("OK")
+                .value(addressInfo)
+                .build();
+    }
+
+    /**
+     * Utxos ordered by block time
+     */
+    private static List<AddressUtxo> addressUtxos(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> {
+                    AddressUtxo utxo = new AddressUtxo();
+                    utxo.setTxHash(String.format("%064x", i));
+                    utxo.setTxIndex(0);
+                    utxo.setBlockTime(1_700_000_000 + i);
+                    utxo.setValue("2000000");
+                    utxo.setAssetList(List.of());
+                    return utxo;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Simulates Koios, which returns rows with equal sort keys in no particular order
+     */
+    private rest.koios.client.backend.api.base.Result<List<UTxO>> queryUtxos(Options options) {
+        List<UTxO> utxos = new ArrayList<>(blockUtxos);
+        Collections.shuffle(utxos, random);
+
+        Comparator<UTxO> comparator = null;
+        long offset = 0;
+        int limit = Integer.MAX_VALUE;
+        for (Option option : options.getOptionList()) {
+            if (option instanceof Order) {
+                Comparator<UTxO> orderComparator = comparator(option.getValue());
+                comparator = comparator == null ? orderComparator : comparator.thenComparing(orderComparator);
+            } else if (option instanceof Offset) {
+                offset = Long.parseLong(option.getValue());
+            } else if (option instanceof Limit) {
+                limit = Integer.parseInt(option.getValue());
+            }
+        }
+        if (comparator != null)
+            utxos.sort(comparator);
+
+        List<UTxO> page = utxos.stream().skip(offset).limit(limit).collect(Collectors.toList());
+        return rest.koios.client.backend.api.base.Result.<List<UTxO>>builder()
+                .successful(true)
+                .code(200)
+                .response("OK")
+                .value(page)
+                .build();
+    }
+
+    private static Comparator<UTxO> comparator(String order) {
+        String field = order.substring(0, order.lastIndexOf('.'));
+        Comparator<UTxO> comparator;
+        switch (field) {
+            case "block_height":
+                comparator = Comparator.comparing(UTxO::getBlockHeight);
+                break;
+            case "tx_hash":
+                comparator = Comparator.comparing(UTxO::getTxHash);
+                break;
+            case "tx_index":
+                comparator = Comparator.comparing(UTxO::getTxIndex);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported order: " + order);
+        }
+
+        return order.endsWith(".desc") ? comparator.reversed() : comparator;
+    }
+
+    private static UTxO utxo(String txHash, int txIndex, int blockHeight) {
+        Asset asset = new Asset();
+        asset.setPolicyId(POLICY_ID);
+        asset.setAssetName(ASSET_NAME);
+        asset.setQuantity("1");
+
+        UTxO utxo = new UTxO();
+        utxo.setAddress(ADDRESS);
+        utxo.setTxHash(txHash);
+        utxo.setTxIndex(txIndex);
+        utxo.setBlockHeight(blockHeight);
+        utxo.setValue("2000000");
+        utxo.setAssetList(List.of(asset));
+        return utxo;
+    }
+
+    static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
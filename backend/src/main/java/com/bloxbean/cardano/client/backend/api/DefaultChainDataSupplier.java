@@ -2,25 +2,59 @@ package com.bloxbean.cardano.client.backend.api;
 
 import com.bloxbean.cardano.client.api.ChainDataSupplier;
 import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.ChainTip;
 import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.api.model.TransactionInfo;
+import com.bloxbean.cardano.client.backend.async.BackendExecutor;
 import com.bloxbean.cardano.client.backend.model.Block;
 import com.bloxbean.cardano.client.backend.model.TransactionContent;
-import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Default implementation of ChainDataSupplier using BackendService.
  * <p>
  * This implementation wraps BlockService and TransactionService to provide
  * the chain data needed for transaction tracking and confirmation monitoring.
+ * <p>
+ * When created with a {@link BackendExecutor}, {@link #getTransactionInfos(Collection)} looks up
+ * the transactions in parallel within the executor's concurrency and rate limits.
  */
-@RequiredArgsConstructor
 public class DefaultChainDataSupplier implements ChainDataSupplier {
 
     private final BlockService blockService;
     private final TransactionService transactionService;
+    private final BackendExecutor executor;
+
+    /**
+     * Create a DefaultChainDataSupplier from block and transaction services.
+     *
+     * @param blockService the block service
+     * @param transactionService the transaction service
+     */
+    public DefaultChainDataSupplier(BlockService blockService, TransactionService transactionService) {
+        this(blockService, transactionService, null);
+    }
+
+    /**
+     * Create a DefaultChainDataSupplier from block and transaction services, running bulk lookups
+     * through the given executor.
+     *
+     * @param blockService the block service
+     * @param transactionService the transaction service
+     * @param executor the executor for bulk lookups, or null for sequential lookups
+     */
+    public DefaultChainDataSupplier(BlockService blockService, TransactionService transactionService,
+                                    BackendExecutor executor) {
+        this.blockService = blockService;
+        this.transactionService = transactionService;
+        this.executor = executor;
+    }
 
     /**
      * Create a DefaultChainDataSupplier from a BackendService.
@@ -31,13 +65,33 @@ public class DefaultChainDataSupplier implements ChainDataSupplier {
         this(backendService.getBlockService(), backendService.getTransactionService());
     }
 
+    /**
+     * Create a DefaultChainDataSupplier from a BackendService, running bulk lookups through the given executor.
+     *
+     * @param backendService the backend service
+     * @param executor the executor for bulk lookups
+     */
+    public DefaultChainDataSupplier(BackendService backendService, BackendExecutor executor) {
+        this(backendService.getBlockService(), backendService.getTransactionService(), executor);
+    }
+
     @Override
     public long getChainTipHeight() throws ApiException {
+        return getLatestBlock().getHeight();
+    }
+
+    @Override
+    public ChainTip getChainTip() throws ApiException {
+        Block block = getLatestBlock();
+        return new ChainTip(block.getHeight(), block.getHash());
+    }
+
+    private Block getLatestBlock() throws ApiException {
         Result<Block> result = blockService.getLatestBlock();
         if (!result.isSuccessful() || result.getValue() == null) {
             throw new ApiException("Failed to get latest block: " + result.getResponse());
         }
-        return result.getValue().getHeight();
+        return result.getValue();
     }
 
     @Override
@@ -46,14 +100,38 @@ public class DefaultChainDataSupplier implements ChainDataSupplier {
         if (!result.isSuccessful() || result.getValue() == null) {
             return Optional.empty();
         }
+        return Optional.of(toTransactionInfo(txHash, result.getValue()));
+    }
+
+    @Override
+    public Map<String, TransactionInfo> getTransactionInfos(Collection<String> txHashes) throws ApiException {
+        if (executor == null) {
+            return ChainDataSupplier.super.getTransactionInfos(txHashes);
+        }
+
+        // Unlike BackendExecutor.executeAll, a transaction not found yet must not fail the whole lookup
+        Map<String, CompletableFuture<Result<TransactionContent>>> futures = new LinkedHashMap<>();
+        for (String txHash : txHashes) {
+            futures.put(txHash, executor.submit(() -> transactionService.getTransaction(txHash)));
+        }
+
+        Map<String, TransactionInfo> infos = new HashMap<>();
+        for (Map.Entry<String, CompletableFuture<Result<TransactionContent>>> entry : futures.entrySet()) {
+            Result<TransactionContent> result = BackendExecutor.await(entry.getValue());
+            if (result != null && result.isSuccessful() && result.getValue() != null) {
+                infos.put(entry.getKey(), toTransactionInfo(entry.getKey(), result.getValue()));
+            }
+        }
+        return infos;
+    }
 
-        TransactionContent tx = result.getValue();
-        return Optional.of(TransactionInfo.builder()
+    private static TransactionInfo toTransactionInfo(String txHash, TransactionContent tx) {
+        return TransactionInfo.builder()
                 .txHash(txHash)
                 .blockHeight(tx.getBlockHeight())
                 .blockHash(tx.getBlock())
                 .blockTime(tx.getBlockTime())
                 .slot(tx.getSlot())
-                .build());
+                .build();
     }
 }
@@ -0,0 +1,70 @@
+package com.bloxbean.cardano.client.backend.api;
+
+import com.bloxbean.cardano.client.api.cache.CachedProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.cache.EpochProtocolParams;
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.exception.ApiRuntimeException;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.model.EpochContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A caching {@link com.bloxbean.cardano.client.api.ProtocolParamsSupplier} which keeps protocol parameters until the
+ * end of their epoch or the given max ttl, whichever comes first.
+ * Each load fetches the latest epoch through {@link EpochService#getLatestEpoch()} and then the protocol parameters of
+ * that epoch, so the cached parameters always match the epoch end time used for expiry.
+ */
+public class EpochAwareProtocolParamsSupplier extends CachedProtocolParamsSupplier {
+    private static final Logger log = LoggerFactory.getLogger(EpochAwareProtocolParamsSupplier.class);
+    private static final Duration DEFAULT_MAX_TTL = Duration.ofHours(1);
+
+    public EpochAwareProtocolParamsSupplier(EpochService epochService) {
+        this(epochService, DEFAULT_MAX_TTL);
+    }
+
+    /**
+     * Create an EpochAwareProtocolParamsSupplier
+     *
+     * @param epochService EpochService
+     * @param maxTtl       max time to keep the protocol parameters in cache. It's also used when the epoch end time
+     *                     can't be fetched.
+     */
+    public EpochAwareProtocolParamsSupplier(EpochService epochService, Duration maxTtl) {
+        super(maxTtl, () -> load(epochService));
+    }
+
+    private static EpochProtocolParams load(EpochService epochService) {
+        EpochContent epoch = latestEpoch(epochService);
+        if (epoch == null)
+            return new EpochProtocolParams(new DefaultProtocolParamsSupplier(epochService).getProtocolParams(), null);
+
+        try {
+            Result<ProtocolParams> result = epochService.getProtocolParameters(epoch.getEpoch());
+            if (!result.isSuccessful())
+                throw new ApiRuntimeException("Error fetching protocol params for epoch " + epoch.getEpoch() + " : " + result);
+
+            return new EpochProtocolParams(result.getValue(), Instant.ofEpochSecond(epoch.getEndTime()));
+        } catch (ApiException apiException) {
+            throw new ApiRuntimeException("Error fetching protocol params for epoch " + epoch.getEpoch(), apiException);
+        }
+    }
+
+    private static EpochContent latestEpoch(EpochService epochService) {
+        try {
+            Result<EpochContent> result = epochService.getLatestEpoch();
+            EpochContent epoch = result.getValue();
+            if (result.isSuccessful() && epoch != null && epoch.getEpoch() != null && epoch.getEndTime() > 0)
+                return epoch;
+
+            log.warn("Unable to get latest epoch. Protocol params will be cached for max ttl. " + result);
+        } catch (Exception e) {
+            log.warn("Unable to get latest epoch. Protocol params will be cached for max ttl.", e);
+        }
+        return null;
+    }
+}
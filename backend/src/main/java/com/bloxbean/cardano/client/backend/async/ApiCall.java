@@ -0,0 +1,14 @@
+package com.bloxbean.cardano.client.backend.async;
+
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.Result;
+
+/**
+ * A backend service call which can be executed through {@link BackendExecutor}
+ *
+ * @param <T> type of the result value
+ */
+@FunctionalInterface
+public interface ApiCall<T> {
+    Result<T> call() throws ApiException;
+}
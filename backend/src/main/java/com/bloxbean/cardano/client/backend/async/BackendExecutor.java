@@ -0,0 +1,336 @@
+package com.bloxbean.cardano.client.backend.async;
+
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.Result;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executes backend service calls with bounded concurrency, an optional rate limit and retries with exponential
+ * backoff when the provider returns 429 (Too Many Requests).
+ * <p>
+ * On Java 21 and later, calls are executed on virtual threads by default. On older runtimes, a fixed pool of
+ * <code>maxConcurrency</code> daemon threads is used. The default executor service is shut down by {@link #close()}.
+ */
+@Slf4j
+public class BackendExecutor implements AutoCloseable {
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final int maxConcurrency;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
+    private final Semaphore permits;
+
+    private BackendExecutor(Builder builder) {
+        if (builder.maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency should be greater than 0");
+
+        this.maxConcurrency = builder.maxConcurrency;
+        this.rateLimiter = builder.rateLimiter;
+        this.maxRetries = builder.maxRetries;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.ownsExecutorService = builder.executorService == null;
+        this.executorService = ownsExecutorService
+                ? defaultExecutorService(builder.maxConcurrency) : builder.executorService;
+        this.permits = new Semaphore(builder.maxConcurrency, true);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a BackendExecutor with Blockfrost's default rate limit, 10 requests per second with a burst of 500
+     *
+     * @return BackendExecutor
+     */
+    public static BackendExecutor forBlockfrost() {
+        return builder()
+                .maxConcurrency(10)
+                .rateLimiter(new TokenBucketRateLimiter(10, 500))
+                .build();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Execute a call asynchronously
+     *
+     * @param call backend service call
+     * @param <T>  type of the result value
+     * @return CompletableFuture of the result. It completes exceptionally with {@link ApiException} if the call fails.
+     */
+    public <T> CompletableFuture<Result<T>> submit(@NonNull ApiCall<T> call) {
+        return supplyAsyncWithPermit(() -> executeWithoutPermit(call));
+    }
+
+    /**
+     * Execute a task which makes multiple calls asynchronously. The task takes one concurrency permit, and each
+     * nested call should be executed with {@link #executeWithoutPermit(ApiCall)}.
+     */
+    <T> CompletableFuture<Result<T>> submitComposite(ApiCall<T> task) {
+        return supplyAsyncWithPermit(task);
+    }
+
+    /**
+     * Execute a call in the current thread, within the concurrency and rate limits of this executor.
+     * The call is retried with exponential backoff while the result code is 429.
+     *
+     * @param call backend service call
+     * @param <T>  type of the result value
+     * @return result
+     * @throws ApiException if the call fails or the thread is interrupted
+     */
+    public <T> Result<T> execute(@NonNull ApiCall<T> call) throws ApiException {
+        return withPermit(() -> executeWithoutPermit(call));
+    }
+
+    /**
+     * Execute a call with rate limit and retries, but without taking a concurrency permit. Used for the nested calls
+     * of a call which already holds a permit.
+     */
+    <T> Result<T> executeWithoutPermit(ApiCall<T> call) throws ApiException {
+        try {
+            for (int attempt = 0; ; attempt++) {
+                if (rateLimiter != null)
+                    rateLimiter.acquire();
+
+                Result<T> result = call.call();
+                if (result == null || result.code() != TOO_MANY_REQUESTS || attempt >= maxRetries)
+                    return result;
+
+                long backoff = backoffMillis(attempt);
+                if (log.isDebugEnabled())
+                    log.debug("Rate limited by the provider. Retrying in {} ms, attempt: {}", backoff, attempt + 1);
+                Thread.sleep(backoff);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting to execute the call", e);
+        }
+    }
+
+    /**
+     * Execute a call for each key in parallel and collect the values in the order of the keys.
+     * If any call is not successful, calls which have not started yet are skipped and the first unsuccessful result
+     * (in key order) is returned.
+     *
+     * @param keys     keys
+     * @param callFunc function to create the call for a key
+     * @param <K>      type of the key
+     * @param <T>      type of the result value
+     * @return result with list of values
+     * @throws ApiException if any call fails
+     */
+    public <K, T> Result<List<T>> executeAll(@NonNull List<K> keys, @NonNull Function<K, ApiCall<T>> callFunc) throws ApiException {
+        //Set by a failing call before it releases its permit, so that calls waiting for a permit are skipped
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Result<T>>> futures = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            ApiCall<T> call = callFunc.apply(key);
+            futures.add(submit(() -> {
+                if (failed.get())
+                    return null;
+
+                boolean successful = false;
+                try {
+                    Result<T> result = call.call();
+                    successful = result != null && result.isSuccessful();
+                    return result;
+                } finally {
+                    if (!successful)
+                        failed.set(true);
+                }
+            }));
+        }
+
+        List<T> values = new ArrayList<>(keys.size());
+        for (CompletableFuture<Result<T>> future : futures) {
+            Result<T> result = await(future);
+            if (result != null && result.isSuccessful()) {
+                values.add(result.getValue());
+            } else if (result != null || !failed.get()) {
+                futures.forEach(f -> f.cancel(false));
+                return result != null ? Result.error(result.getResponse()).code(result.code())
+                        : Result.error("No result").code(500);
+            }
+            //Otherwise the call was skipped after a later call failed. Its result is found further on.
+        }
+
+        return Result.success("OK").withValue(values).code(200);
+    }
+
+    /**
+     * Wait for a future returned by {@link #submit(ApiCall)}
+     *
+     * @param future future
+     * @param <T>    type of the result value
+     * @return result or null if the future was cancelled
+     * @throws ApiException if the call failed
+     */
+    public static <T> Result<T> await(CompletableFuture<Result<T>> future) throws ApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted", e);
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiException)
+                throw (ApiException) e.getCause();
+            throw new ApiException("Error executing the call", e);
+        }
+    }
+
+    /**
+     * Shut down the default executor service. Calls which are already submitted are still executed.
+     * An executor service set through {@link Builder#executorService(ExecutorService)} is not shut down.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutorService)
+            executorService.shutdown();
+    }
+
+    private <T> Result<T> withPermit(ApiCall<T> call) throws ApiException {
+        acquirePermit();
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> CompletableFuture<Result<T>> supplyAsyncWithPermit(ApiCall<T> call) {
+        CompletableFuture<Result<T>> future = new CompletableFuture<>();
+        executorService.execute(() -> {
+            try {
+                acquirePermit();
+            } catch (ApiException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+
+            try {
+                //Skip the call if the future was cancelled while waiting for a permit
+                if (!future.isDone())
+                    future.complete(call.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+        return future;
+    }
+
+    private void acquirePermit() throws ApiException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting to execute the call", e);
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long backoff = initialBackoff.toMillis() << Math.min(attempt, 20);
+        backoff = Math.min(backoff, maxBackoff.toMillis());
+        //Add up to 20% jitter so that throttled callers don't retry at the same time
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+    }
+
+    private static ExecutorService defaultExecutorService(int maxConcurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNo = new AtomicInteger();
+            return Executors.newFixedThreadPool(maxConcurrency, r -> {
+                Thread thread = new Thread(r, "backend-executor-" + threadNo.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public static class Builder {
+        private int maxConcurrency = 10;
+        private TokenBucketRateLimiter rateLimiter;
+        private int maxRetries = 5;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+        private ExecutorService executorService;
+
+        /**
+         * Max no of calls executed at the same time. Default is 10.
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Rate limiter shared by all calls of the executor. Default is no rate limit.
+         */
+        public Builder rateLimiter(TokenBucketRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Max no of retries when the provider returns 429. Default is 5.
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Backoff before the first retry. It's doubled for each retry up to maxBackoff. Default is 1 sec.
+         */
+        public Builder initialBackoff(@NonNull Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(@NonNull Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Executor service to run asynchronous calls. The caller is responsible to shut it down, it's not shut down
+         * by {@link BackendExecutor#close()}.
+         */
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        public BackendExecutor build() {
+            return new BackendExecutor(this);
+        }
+    }
+}
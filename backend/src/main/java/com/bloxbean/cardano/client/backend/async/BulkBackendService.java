@@ -0,0 +1,138 @@
+package com.bloxbean.cardano.client.backend.async;
+
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.backend.api.BackendService;
+import com.bloxbean.cardano.client.backend.model.TransactionContent;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous and bulk variants of common {@link BackendService} calls. All calls are executed through a
+ * {@link BackendExecutor}, so they share its concurrency and rate limits.
+ * <p>
+ * Example:
+ * <pre>
+ * BulkBackendService bulkService = new BulkBackendService(backendService, BackendExecutor.forBlockfrost());
+ * Result&lt;List&lt;TransactionContent&gt;&gt; txs = bulkService.getTransactions(txHashes);
+ * </pre>
+ */
+public class BulkBackendService {
+    private final BackendService backendService;
+    private final BackendExecutor executor;
+
+    public BulkBackendService(@NonNull BackendService backendService, @NonNull BackendExecutor executor) {
+        this.backendService = backendService;
+        this.executor = executor;
+    }
+
+    public BackendExecutor getExecutor() {
+        return executor;
+    }
+
+    public CompletableFuture<Result<TransactionContent>> getTransactionAsync(String txHash) {
+        return executor.submit(() -> backendService.getTransactionService().getTransaction(txHash));
+    }
+
+    /**
+     * Fetch transactions in parallel
+     *
+     * @param txHashes transaction hashes
+     * @return transactions in the order of the given hashes, or the first unsuccessful result
+     * @throws ApiException if any call fails
+     */
+    public Result<List<TransactionContent>> getTransactions(@NonNull List<String> txHashes) throws ApiException {
+        var transactionService = backendService.getTransactionService();
+        return executor.executeAll(txHashes, txHash -> () -> transactionService.getTransaction(txHash));
+    }
+
+    public CompletableFuture<Result<Utxo>> getTxOutputAsync(String txHash, int outputIndex) {
+        return executor.submit(() -> backendService.getUtxoService().getTxOutput(txHash, outputIndex));
+    }
+
+    /**
+     * Fetch outputs of the given inputs in parallel
+     *
+     * @param inputs transaction inputs
+     * @return outputs in the order of the given inputs, or the first unsuccessful result
+     * @throws ApiException if any call fails
+     */
+    public Result<List<Utxo>> getTxOutputs(@NonNull List<TransactionInput> inputs) throws ApiException {
+        var utxoService = backendService.getUtxoService();
+        return executor.executeAll(inputs, input -> () -> utxoService.getTxOutput(input.getTransactionId(), input.getIndex()));
+    }
+
+    /**
+     * Fetch all utxos of an address. Pages of the address are fetched sequentially.
+     *
+     * @param address address
+     * @return CompletableFuture of the result
+     */
+    public CompletableFuture<Result<List<Utxo>>> getAllUtxosAsync(String address) {
+        return executor.submitComposite(() -> fetchAllUtxos(address));
+    }
+
+    /**
+     * Fetch all utxos of the given addresses. Addresses are fetched in parallel.
+     *
+     * @param addresses addresses
+     * @return map of address to utxos, in the order of the given addresses, or the first unsuccessful result
+     * @throws ApiException if any call fails
+     */
+    public Result<Map<String, List<Utxo>>> getAllUtxos(@NonNull List<String> addresses) throws ApiException {
+        List<CompletableFuture<Result<List<Utxo>>>> futures = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            futures.add(getAllUtxosAsync(address));
+        }
+
+        Map<String, List<Utxo>> utxoMap = new LinkedHashMap<>();
+        for (int i = 0; i < addresses.size(); i++) {
+            Result<List<Utxo>> result = BackendExecutor.await(futures.get(i));
+            if (!result.isSuccessful()) {
+                futures.forEach(f -> f.cancel(false));
+                return Result.error(result.getResponse()).code(result.code());
+            }
+            utxoMap.put(addresses.get(i), result.getValue());
+        }
+
+        return Result.success("OK").withValue(utxoMap).code(200);
+    }
+
+    private Result<List<Utxo>> fetchAllUtxos(String address) throws ApiException {
+        var utxoService = backendService.getUtxoService();
+        List<Utxo> utxos = new ArrayList<>();
+        int page = 1;
+        while (true) {
+            int currentPage = page;
+            //The task already holds a concurrency permit. Each page still goes through the rate limiter and 429 retries.
+            Result<List<Utxo>> result = executor.executeWithoutPermit(() ->
+                    utxoService.getUtxos(address, UtxoSupplier.DEFAULT_NR_OF_ITEMS_TO_FETCH, currentPage, OrderEnum.asc));
+            if (!result.isSuccessful()) {
+                //Not found is returned by some providers for an address without utxos
+                if (result.code() == 404)
+                    break;
+                return result;
+            }
+
+            List<Utxo> pageUtxos = result.getValue();
+            if (pageUtxos == null || pageUtxos.isEmpty())
+                break;
+
+            utxos.addAll(pageUtxos);
+            if (pageUtxos.size() < UtxoSupplier.DEFAULT_NR_OF_ITEMS_TO_FETCH)
+                break;
+            page++;
+        }
+
+        return Result.success("OK").withValue(utxos).code(200);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bloxbean.cardano.client.backend.api;
+
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.backend.model.EpochContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EpochAwareProtocolParamsSupplierTest {
+
+    @Mock
+    private EpochService epochService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getProtocolParams_loadsParamsOfLatestEpoch() throws ApiException {
+        when(epochService.getLatestEpoch()).thenReturn(epochResult(100, Instant.now().plus(Duration.ofDays(1))));
+        when(epochService.getProtocolParameters(100)).thenReturn(paramsResult(44));
+
+        EpochAwareProtocolParamsSupplier supplier = new EpochAwareProtocolParamsSupplier(epochService);
+
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(44);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(44);
+
+        verify(epochService, times(1)).getLatestEpoch();
+        verify(epochService, times(1)).getProtocolParameters(100);
+        verify(epochService, never()).getProtocolParameters();
+    }
+
+    @Test
+    void getProtocolParams_reloadsWhenLoadedEpochHasEnded() throws ApiException {
+        //Epoch 100 has ended by the time its params are cached, so they must not be reused
+        when(epochService.getLatestEpoch())
+                .thenReturn(epochResult(100, Instant.now().minusSeconds(1)))
+                .thenReturn(epochResult(101, Instant.now().plus(Duration.ofDays(5))));
+        when(epochService.getProtocolParameters(100)).thenReturn(paramsResult(44));
+        when(epochService.getProtocolParameters(101)).thenReturn(paramsResult(45));
+
+        EpochAwareProtocolParamsSupplier supplier = new EpochAwareProtocolParamsSupplier(epochService);
+
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(44);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(45);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(45);
+
+        verify(epochService, times(2)).getLatestEpoch();
+    }
+
+    @Test
+    void getProtocolParams_latestEpochFailure_fallsBackToLatestParams() throws ApiException {
+        when(epochService.getLatestEpoch()).thenReturn(Result.error("Not found").code(404));
+        when(epochService.getProtocolParameters()).thenReturn(paramsResult(44));
+
+        EpochAwareProtocolParamsSupplier supplier = new EpochAwareProtocolParamsSupplier(epochService);
+
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(44);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(44);
+
+        verify(epochService, times(1)).getProtocolParameters();
+        verify(epochService, never()).getProtocolParameters(anyInt());
+    }
+
+    private static Result<EpochContent> epochResult(int epoch, Instant endTime) {
+        EpochContent epochContent = new EpochContent();
+        epochContent.setEpoch(epoch);
+        epochContent.setEndTime(endTime.getEpochSecond());
+        return Result.success("OK").withValue(epochContent).code(200);
+    }
+
+    private static Result<ProtocolParams> paramsResult(int minFeeA) {
+        ProtocolParams protocolParams = new ProtocolParams();
+        protocolParams.setMinFeeA(minFeeA);
+        return Result.success("OK").withValue(protocolParams).code(200);
+    }
+}
@@ -0,0 +1,158 @@
+package com.bloxbean.cardano.client.backend.async;
+
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BackendExecutorTest {
+
+    @Test
+    void executeAll_keepsOrderAndLimitsConcurrency() throws Exception {
+        AtomicInteger inflight = new AtomicInteger();
+        AtomicInteger maxInflight = new AtomicInteger();
+        BackendExecutor executor = BackendExecutor.builder().maxConcurrency(4).build();
+
+        List<Integer> keys = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        Result<List<Integer>> result = executor.executeAll(keys, key -> () -> {
+            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inflight.decrementAndGet();
+            }
+            return Result.success("OK").withValue(key * 2).code(200);
+        });
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getValue()).isEqualTo(keys.stream().map(k -> k * 2).collect(Collectors.toList()));
+        assertThat(maxInflight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void execute_retriesOnTooManyRequests() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        BackendExecutor executor = BackendExecutor.builder()
+                .initialBackoff(Duration.ofMillis(1))
+                .build();
+
+        Result<String> result = executor.execute(() -> {
+            if (calls.incrementAndGet() < 3)
+                return Result.error("Too many requests").code(429);
+            return Result.success("OK").withValue("value").code(200);
+        });
+
+        assertThat(result.getValue()).isEqualTo("value");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void execute_stopsAfterMaxRetries() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        BackendExecutor executor = BackendExecutor.builder()
+                .maxRetries(2)
+                .initialBackoff(Duration.ofMillis(1))
+                .build();
+
+        Result<String> result = executor.execute(() -> {
+            calls.incrementAndGet();
+            return Result.error("Too many requests").code(429);
+        });
+
+        assertThat(result.code()).isEqualTo(429);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void executeAll_returnsFirstError() throws Exception {
+        BackendExecutor executor = BackendExecutor.builder().maxConcurrency(2).build();
+
+        Result<List<Integer>> result = executor.executeAll(List.of(1, 2, 3), key -> () -> key == 2
+                ? Result.error("Not found").code(404)
+                : Result.success("OK").withValue(key).code(200));
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.code()).isEqualTo(404);
+    }
+
+    @Test
+    void executeAll_skipsCallsWaitingForPermitAfterError() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        BackendExecutor executor = BackendExecutor.builder()
+                .maxConcurrency(1)
+                .executorService(executorService)
+                .build();
+
+        try {
+            //Any call may take the permit first, so every call fails
+            Result<List<Integer>> result = executor.executeAll(List.of(1, 2, 3, 4), key -> () -> {
+                calls.incrementAndGet();
+                //Keep the permit until the other calls are waiting for it
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Result.error("Not found").code(404);
+            });
+
+            assertThat(result.code()).isEqualTo(404);
+        } finally {
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void close_shutsDownOnlyDefaultExecutorService() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try (BackendExecutor executor = BackendExecutor.builder().executorService(executorService).build()) {
+            ApiCall<String> call = () -> Result.success("OK").withValue("value").code(200);
+            Result<String> result = executor.submit(call).get();
+            assertThat(result.getValue()).isEqualTo("value");
+        }
+        assertThat(executorService.isShutdown()).isFalse();
+        executorService.shutdown();
+
+        BackendExecutor executor = BackendExecutor.builder().build();
+        executor.close();
+        assertThatThrownBy(() -> executor.submit(() -> Result.success("OK").code(200)))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void executeAll_throwsApiException() {
+        BackendExecutor executor = BackendExecutor.builder().build();
+
+        assertThatThrownBy(() -> executor.executeAll(List.of(1), key -> () -> {
+            throw new ApiException("error");
+        })).isInstanceOf(ApiException.class).hasMessage("error");
+    }
+
+    @Test
+    void rateLimiter_limitsBurst() throws Exception {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 3);
+
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.bloxbean.cardano.client.coinselection.bench;
+
+import com.bloxbean.cardano.client.api.impl.IndexedUtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.coinselection.UtxoSelectionStrategy;
+import com.bloxbean.cardano.client.coinselection.impl.BranchAndBoundUtxoSelectionStrategy;
+import com.bloxbean.cardano.client.coinselection.impl.DefaultUtxoSelectionStrategyImpl;
+import com.bloxbean.cardano.client.coinselection.impl.LargestFirstUtxoSelectionStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BranchAndBoundUtxoSelectionStrategy} against the default and largest first strategies on wallets
+ * of 1k to 100k utxos. One in ten utxos holds one of 20 native tokens, and each selection asks for ada plus one token.
+ *
+ * <p>Run with:
+ * <pre>
+ * ./gradlew :coinselection:jmh -Pjmh.include=".*CoinSelectionBenchmark.*"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoinSelectionBenchmark {
+    private static final String ADDRESS = "addr_test1qqwpl7h3g84mhr36wpetk904p7fchx2vst0z696lxk8ujsjyruqwmlsm344gfux3nsj6njyzj3ppvrqtt36cp9xyydzqzumz82";
+    private static final String POLICY_ID = "34250edd1e9836f5378702fbf9416b709bc140e04f668cc355208518";
+    private static final int TOKENS = 20;
+
+    @Param({"1000", "10000", "100000"})
+    public int walletSize;
+
+    private UtxoSelectionStrategy branchAndBound;
+    private UtxoSelectionStrategy defaultStrategy;
+    private UtxoSelectionStrategy largestFirst;
+    private List<Amount> outputs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        IndexedUtxoSupplier utxoSupplier = new IndexedUtxoSupplier();
+        for (int i = 0; i < walletSize; i++) {
+            List<Amount> amounts = new ArrayList<>();
+            amounts.add(Amount.lovelace(BigInteger.valueOf(1_000_000 + random.nextInt(50_000_000))));
+            if (i % 10 == 0)
+                amounts.add(Amount.asset(token(random.nextInt(TOKENS)), 1 + random.nextInt(1000)));
+            utxoSupplier.add(Utxo.builder()
+                    .txHash(String.format("%064x", i))
+                    .outputIndex(i % 4)
+                    .address(ADDRESS)
+                    .amount(amounts)
+                    .build());
+        }
+
+        branchAndBound = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier);
+        defaultStrategy = new DefaultUtxoSelectionStrategyImpl(utxoSupplier);
+        largestFirst = new LargestFirstUtxoSelectionStrategy(utxoSupplier);
+        outputs = List.of(Amount.ada(200), Amount.asset(token(0), 1500));
+    }
+
+    @Benchmark
+    public Set<Utxo> branchAndBound() {
+        return branchAndBound.select(ADDRESS, outputs, null);
+    }
+
+    @Benchmark
+    public Set<Utxo> defaultStrategy() {
+        return defaultStrategy.select(ADDRESS, outputs, null);
+    }
+
+    @Benchmark
+    public Set<Utxo> largestFirst() {
+        return largestFirst.select(ADDRESS, outputs, null);
+    }
+
+    private static String token(int index) {
+        return POLICY_ID + String.format("746f6b656e%02x", index);
+    }
+}
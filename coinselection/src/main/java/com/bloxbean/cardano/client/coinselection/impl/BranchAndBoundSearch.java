@@ -0,0 +1,232 @@
+package com.bloxbean.cardano.client.coinselection.impl;
+
+import java.util.Arrays;
+
+/**
+ * Branch-and-bound search over utxos encoded as primitive vectors, used by {@link BranchAndBoundUtxoSelectionStrategy}.
+ * <p>
+ * Candidate {@code i} holds {@code quantities[i * assets + a]} of asset {@code a}, where asset ids are the positions of
+ * the target assets. Quantities saturate at {@link Long#MAX_VALUE}. The search finds the selection covering all
+ * targets with the fewest inputs, and among those the lowest change cost: excess lovelace plus
+ * {@code assetChangeCost} for each extra asset which ends up in the change output.
+ * <p>
+ * Candidates are explored in the given order, including a candidate before excluding it. A branch is cut when the
+ * remaining candidates can't cover a target, or when even the largest remaining ones would need more inputs than the
+ * best selection found so far. The search stops when the node or time budget is used up, keeping the best selection
+ * found so far.
+ */
+class BranchAndBoundSearch {
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    private final int candidates;
+    private final int assets;
+    private final long[] quantities;
+    private final long[] targets;
+    private final long[] extraAssets;
+    private final long assetChangeCost;
+    private final int lovelaceId;
+
+    private final long[] suffixSums;
+    private final long[] suffixMax;
+    private final long[] current;
+    private final long[] saved;
+    private final int[] path;
+
+    private int[] best;
+    private int bestCount;
+    private long bestCost;
+
+    private long nodes;
+    private long maxNodes;
+    private long deadline;
+    private boolean exhausted;
+
+    /**
+     * @param candidates      no of candidates
+     * @param assets          no of target assets
+     * @param quantities      candidate quantities, {@code candidates * assets} values
+     * @param targets         target quantity per asset
+     * @param extraAssets     no of non target assets per candidate
+     * @param lovelaceId      asset id of lovelace, or -1 if lovelace is not a target
+     * @param assetChangeCost cost of one asset in the change output, in lovelace
+     */
+    BranchAndBoundSearch(int candidates, int assets, long[] quantities, long[] targets, long[] extraAssets,
+                         int lovelaceId, long assetChangeCost) {
+        this.candidates = candidates;
+        this.assets = assets;
+        this.quantities = quantities;
+        this.targets = targets;
+        this.extraAssets = extraAssets;
+        this.lovelaceId = lovelaceId;
+        this.assetChangeCost = assetChangeCost;
+
+        this.suffixSums = new long[(candidates + 1) * assets];
+        this.suffixMax = new long[(candidates + 1) * assets];
+        for (int i = candidates - 1; i >= 0; i--) {
+            for (int a = 0; a < assets; a++) {
+                long q = quantities[i * assets + a];
+                suffixSums[i * assets + a] = saturatedAdd(suffixSums[(i + 1) * assets + a], q);
+                suffixMax[i * assets + a] = Math.max(suffixMax[(i + 1) * assets + a], q);
+            }
+        }
+        this.current = new long[assets];
+        this.saved = new long[candidates * assets];
+        this.path = new int[candidates];
+    }
+
+    /**
+     * Run the search.
+     *
+     * @param maxInputs  max no of inputs of a selection
+     * @param maxNodes   max no of search nodes to visit
+     * @param timeBudgetNanos max search time
+     * @return positions of the selected candidates, or null if no selection was found
+     */
+    int[] search(int maxInputs, long maxNodes, long timeBudgetNanos) {
+        this.maxNodes = maxNodes;
+        this.deadline = System.nanoTime() + timeBudgetNanos;
+        this.nodes = 0;
+        this.exhausted = false;
+        this.best = null;
+        this.bestCount = maxInputs;
+        this.bestCost = Long.MAX_VALUE;
+        Arrays.fill(current, 0);
+
+        for (int a = 0; a < assets; a++) {
+            if (suffixSums[a] < targets[a])
+                return null;
+        }
+
+        greedy(maxInputs);
+        dfs(0, 0);
+        return best;
+    }
+
+    /**
+     * @return true if the last search stopped before exploring all branches
+     */
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * @return no of nodes visited by the last search
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    //Initial upper bound: take candidates in order until all targets are covered
+    private void greedy(int maxInputs) {
+        int count = 0;
+        for (int i = 0; i < candidates && count < maxInputs && !covered(); i++) {
+            if (contributes(i)) {
+                add(i);
+                path[count++] = i;
+            }
+        }
+        if (covered())
+            record(count);
+        Arrays.fill(current, 0);
+    }
+
+    private void dfs(int pos, int count) {
+        if (exhausted)
+            return;
+        if (++nodes >= maxNodes || (nodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() > deadline)) {
+            exhausted = true;
+            return;
+        }
+
+        if (covered()) {
+            //Adding more inputs can only increase the count and the change
+            if (count < bestCount || cost(count) < bestCost)
+                record(count);
+            return;
+        }
+        if (pos == candidates || count + 1 > bestCount)
+            return;
+
+        //Bound: the remaining candidates must cover every target, with no more inputs than the best selection
+        int base = pos * assets;
+        int minInputs = 1;
+        for (int a = 0; a < assets; a++) {
+            long deficit = targets[a] - current[a];
+            if (deficit <= 0)
+                continue;
+            if (saturatedAdd(current[a], suffixSums[base + a]) < targets[a])
+                return;
+            long max = suffixMax[base + a];
+            long needed = (deficit + max - 1) / max;
+            if (needed > minInputs)
+                minInputs = (int) Math.min(needed, Integer.MAX_VALUE);
+        }
+        if (count + minInputs > bestCount)
+            return;
+
+        if (contributes(pos)) {
+            //Sums saturate, so restore them instead of subtracting
+            System.arraycopy(current, 0, saved, count * assets, assets);
+            add(pos);
+            path[count] = pos;
+            dfs(pos + 1, count + 1);
+            System.arraycopy(saved, count * assets, current, 0, assets);
+        }
+        dfs(pos + 1, count);
+    }
+
+    private boolean covered() {
+        for (int a = 0; a < assets; a++) {
+            if (current[a] < targets[a])
+                return false;
+        }
+        return true;
+    }
+
+    //A candidate is only worth adding if it adds to a target which is not yet covered
+    private boolean contributes(int i) {
+        int base = i * assets;
+        for (int a = 0; a < assets; a++) {
+            if (current[a] < targets[a] && quantities[base + a] > 0)
+                return true;
+        }
+        return false;
+    }
+
+    private long cost(int count) {
+        long cost = 0;
+        for (int a = 0; a < assets; a++) {
+            long excess = current[a] - targets[a];
+            if (a == lovelaceId)
+                cost = saturatedAdd(cost, excess);
+            else if (excess > 0)
+                cost = saturatedAdd(cost, assetChangeCost);
+        }
+        for (int k = 0; k < count; k++) {
+            cost = saturatedAdd(cost, saturatedMultiply(extraAssets[path[k]], assetChangeCost));
+        }
+        return cost;
+    }
+
+    private void record(int count) {
+        best = Arrays.copyOf(path, count);
+        bestCount = count;
+        bestCost = cost(count);
+    }
+
+    private void add(int i) {
+        int base = i * assets;
+        for (int a = 0; a < assets; a++) {
+            current[a] = saturatedAdd(current[a], quantities[base + a]);
+        }
+    }
+
+    static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+}
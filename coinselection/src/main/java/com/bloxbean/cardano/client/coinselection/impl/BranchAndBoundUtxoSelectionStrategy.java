@@ -0,0 +1,337 @@
+package com.bloxbean.cardano.client.coinselection.impl;
+
+import com.bloxbean.cardano.client.api.AddressIterator;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.exception.ApiRuntimeException;
+import com.bloxbean.cardano.client.api.exception.InsufficientBalanceException;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.coinselection.UtxoSelectionStrategy;
+import com.bloxbean.cardano.client.plutus.spec.PlutusData;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.*;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * Branch-and-bound implementation of {@link UtxoSelectionStrategy}, which selects the fewest inputs covering the outputs
+ * and, among those, the ones leaving the least change.
+ * <p>
+ * Utxos are encoded once into primitive {@code long} vectors, one column per requested asset. For each requested asset,
+ * the largest holders and the smallest holders which cover the requested quantity on their own form the candidate pool,
+ * so the search stays small for wallets with many utxos. The pool is first covered greedily, which bounds the search,
+ * and the search then looks for a selection with fewer inputs or less change within the time budget. The change cost
+ * counts excess lovelace plus {@link #setAssetChangeCost(long) assetChangeCost} for each asset which ends up in the
+ * change output.
+ * <p>
+ * The selection is delegated to the fallback strategy, {@link DefaultUtxoSelectionStrategyImpl} by default, when the
+ * candidate pool can't cover the outputs (e.g. they need more inputs than the pool has), or when no selection was
+ * found within the input limit before the time budget ran out.
+ */
+@Slf4j
+public class BranchAndBoundUtxoSelectionStrategy implements UtxoSelectionStrategy {
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(20);
+    private static final long DEFAULT_MAX_NODES = 1_000_000;
+    private static final int DEFAULT_POOL_SIZE_PER_ASSET = 32;
+    private static final long DEFAULT_ASSET_CHANGE_COST = 200_000;
+
+    private final UtxoSupplier utxoSupplier;
+    private final UtxoSelectionStrategy fallbackStrategy;
+    @Setter
+    private boolean ignoreUtxosWithDatumHash;
+
+    /**
+     * Max time spent in the search
+     */
+    @Setter
+    @NonNull
+    private Duration timeBudget = DEFAULT_TIME_BUDGET;
+
+    /**
+     * Max no of search nodes, keeps the search deterministic
+     */
+    @Setter
+    private long maxNodes = DEFAULT_MAX_NODES;
+
+    /**
+     * No of largest and of smallest covering utxos taken into the candidate pool per requested asset
+     */
+    @Setter
+    private int poolSizePerAsset = DEFAULT_POOL_SIZE_PER_ASSET;
+
+    /**
+     * Cost of carrying one asset in the change output, in lovelace. Roughly the min ada an asset adds to an output.
+     */
+    @Setter
+    private long assetChangeCost = DEFAULT_ASSET_CHANGE_COST;
+
+    public BranchAndBoundUtxoSelectionStrategy(UtxoSupplier utxoSupplier) {
+        this(utxoSupplier, true);
+    }
+
+    public BranchAndBoundUtxoSelectionStrategy(UtxoSupplier utxoSupplier, boolean ignoreUtxosWithDatumHash) {
+        this(utxoSupplier, new DefaultUtxoSelectionStrategyImpl(utxoSupplier, ignoreUtxosWithDatumHash), ignoreUtxosWithDatumHash);
+    }
+
+    /**
+     * @param utxoSupplier             utxo supplier
+     * @param fallbackStrategy         strategy used when the search finds no selection, or null to fail then
+     * @param ignoreUtxosWithDatumHash true to skip utxos with a datum hash
+     */
+    public BranchAndBoundUtxoSelectionStrategy(UtxoSupplier utxoSupplier, UtxoSelectionStrategy fallbackStrategy,
+                                               boolean ignoreUtxosWithDatumHash) {
+        this.utxoSupplier = utxoSupplier;
+        this.fallbackStrategy = fallbackStrategy;
+        this.ignoreUtxosWithDatumHash = ignoreUtxosWithDatumHash;
+    }
+
+    @Override
+    public Set<Utxo> select(AddressIterator addrIter, List<Amount> outputAmounts, String datumHash, PlutusData inlineDatum, Set<Utxo> utxosToExclude, int maxUtxoSelectionLimit) {
+        if (outputAmounts == null || outputAmounts.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        //Reset the iterator incase it's reused
+        if (addrIter != null)
+            addrIter.reset();
+
+        //Intern the requested assets, the asset id is the column of the asset in the utxo vectors
+        Map<String, Integer> assetIds = new LinkedHashMap<>();
+        List<BigInteger> requested = new ArrayList<>();
+        for (Amount amount : outputAmounts) {
+            Integer id = assetIds.computeIfAbsent(amount.getUnit(), unit -> {
+                requested.add(BigInteger.ZERO);
+                return requested.size() - 1;
+            });
+            requested.set(id, requested.get(id).add(amount.getQuantity()));
+        }
+
+        int assets = assetIds.size();
+        long[] targets = new long[assets];
+        for (int a = 0; a < assets; a++) {
+            BigInteger quantity = requested.get(a);
+            if (quantity.bitLength() > 62)
+                return fallback(addrIter, outputAmounts, datumHash, inlineDatum, utxosToExclude, maxUtxoSelectionLimit, "requested quantity too large");
+            targets[a] = Math.max(0, quantity.longValue());
+        }
+        if (Arrays.stream(targets).allMatch(target -> target == 0))
+            return Collections.emptySet();
+
+        String inlineDatumHex = inlineDatum != null ? inlineDatum.serializeToHex() : null;
+        List<Utxo> utxos = new ArrayList<>();
+        while (addrIter.hasNext()) {
+            for (Utxo utxo : utxoSupplier.getAll(addrIter.next().toBech32())) {
+                if (isCandidate(utxo, datumHash, inlineDatumHex, utxosToExclude))
+                    utxos.add(utxo);
+            }
+        }
+
+        UtxoVectors vectors = UtxoVectors.encode(utxos, assetIds);
+        for (int a = 0; a < assets; a++) {
+            if (vectors.total(a) < targets[a])
+                throw new InsufficientBalanceException("Not enough funds for [" + remaining(assetIds, targets, vectors) + "], address: "
+                        + (addrIter.getFirst() != null ? addrIter.getFirst().toBech32() : null));
+        }
+
+        int[] pool = vectors.pool(targets, poolSizePerAsset);
+        UtxoVectors candidates = vectors.subset(pool);
+        Integer lovelaceId = assetIds.get(LOVELACE);
+        BranchAndBoundSearch search = new BranchAndBoundSearch(pool.length, assets, candidates.quantities, targets,
+                candidates.extraAssets, lovelaceId != null ? lovelaceId : -1, assetChangeCost);
+
+        int[] selected = search.search(maxUtxoSelectionLimit, maxNodes, timeBudget.toNanos());
+        if (log.isDebugEnabled())
+            log.debug("Branch and bound search: {} utxos, {} candidates, {} nodes, exhausted: {}", utxos.size(), pool.length,
+                    search.getNodes(), search.isExhausted());
+
+        if (selected == null)
+            return fallback(addrIter, outputAmounts, datumHash, inlineDatum, utxosToExclude, maxUtxoSelectionLimit,
+                    search.isExhausted() ? "time budget exceeded" : "no selection in candidate pool");
+
+        Set<Utxo> result = new LinkedHashSet<>();
+        for (int position : selected) {
+            result.add(utxos.get(pool[position]));
+        }
+        return result;
+    }
+
+    @Override
+    public UtxoSelectionStrategy fallback() {
+        return fallbackStrategy;
+    }
+
+    protected boolean accept(Utxo utxo) {
+        return true;
+    }
+
+    private boolean isCandidate(Utxo utxo, String datumHash, String inlineDatumHex, Set<Utxo> utxosToExclude) {
+        if (!accept(utxo))
+            return false;
+        if (utxosToExclude != null && utxosToExclude.contains(utxo))
+            return false;
+        if (utxo.getDataHash() != null && !utxo.getDataHash().isEmpty() && ignoreUtxosWithDatumHash)
+            return false;
+        if (datumHash != null && !datumHash.isEmpty() && !datumHash.equals(utxo.getDataHash()))
+            return false;
+        return inlineDatumHex == null || inlineDatumHex.equals(utxo.getInlineDatum());
+    }
+
+    private Set<Utxo> fallback(AddressIterator addrIter, List<Amount> outputAmounts, String datumHash, PlutusData inlineDatum,
+                               Set<Utxo> utxosToExclude, int maxUtxoSelectionLimit, String reason) {
+        if (fallbackStrategy == null)
+            throw new ApiRuntimeException("Branch and bound selection failed (" + reason + ") and no fallback provided");
+
+        if (log.isDebugEnabled())
+            log.debug("Branch and bound selection failed ({}), using fallback strategy", reason);
+        return fallbackStrategy.select(addrIter, outputAmounts, datumHash, inlineDatum, utxosToExclude, maxUtxoSelectionLimit);
+    }
+
+    private static Map<String, BigInteger> remaining(Map<String, Integer> assetIds, long[] targets, UtxoVectors vectors) {
+        Map<String, BigInteger> remaining = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : assetIds.entrySet()) {
+            int a = entry.getValue();
+            if (vectors.total(a) < targets[a])
+                remaining.put(entry.getKey(), BigInteger.valueOf(targets[a] - vectors.total(a)));
+        }
+        return remaining;
+    }
+
+    /**
+     * Utxos encoded as a flat {@code long[]} matrix, one row per utxo and one column per requested asset.
+     * Quantities above {@link Long#MAX_VALUE} saturate.
+     */
+    static class UtxoVectors {
+        final int size;
+        final int assets;
+        final long[] quantities;
+        final long[] extraAssets;
+        private final long[] totals;
+
+        private UtxoVectors(int size, int assets, long[] quantities, long[] extraAssets) {
+            this.size = size;
+            this.assets = assets;
+            this.quantities = quantities;
+            this.extraAssets = extraAssets;
+            this.totals = new long[assets];
+            for (int i = 0; i < size; i++) {
+                for (int a = 0; a < assets; a++) {
+                    totals[a] = BranchAndBoundSearch.saturatedAdd(totals[a], quantities[i * assets + a]);
+                }
+            }
+        }
+
+        static UtxoVectors encode(List<Utxo> utxos, Map<String, Integer> assetIds) {
+            int assets = assetIds.size();
+            long[] quantities = new long[utxos.size() * assets];
+            long[] extraAssets = new long[utxos.size()];
+            for (int i = 0; i < utxos.size(); i++) {
+                List<Amount> amounts = utxos.get(i).getAmount();
+                if (amounts == null)
+                    continue;
+                for (Amount amount : amounts) {
+                    Integer id = assetIds.get(amount.getUnit());
+                    if (id == null) {
+                        if (!LOVELACE.equals(amount.getUnit()))
+                            extraAssets[i]++;
+                        continue;
+                    }
+                    int index = i * assets + id;
+                    quantities[index] = BranchAndBoundSearch.saturatedAdd(quantities[index], toLong(amount.getQuantity()));
+                }
+            }
+            return new UtxoVectors(utxos.size(), assets, quantities, extraAssets);
+        }
+
+        long total(int asset) {
+            return totals[asset];
+        }
+
+        /**
+         * Select the candidate pool: per requested asset, the largest holders and the smallest holders covering the
+         * requested quantity on their own. Candidates are ordered by how much of the requested assets they cover,
+         * most first, so that the search and its greedy bound try the most useful candidates first.
+         *
+         * @param targets           requested quantity per asset
+         * @param poolSizePerAsset  no of largest and of smallest covering holders per asset
+         * @return indexes of the candidates
+         */
+        int[] pool(long[] targets, int poolSizePerAsset) {
+            boolean[] inPool = new boolean[size];
+            for (int asset = 0; asset < assets; asset++) {
+                final int a = asset;
+                if (targets[a] == 0)
+                    continue;
+                //Largest holders, min-heap on quantity
+                PriorityQueue<Integer> largest = new PriorityQueue<>(poolSizePerAsset + 1,
+                        Comparator.comparingLong(i -> quantity(i, a)));
+                //Smallest holders covering the target, max-heap on quantity
+                PriorityQueue<Integer> covering = new PriorityQueue<>(poolSizePerAsset + 1,
+                        Comparator.comparingLong((Integer i) -> quantity(i, a)).reversed());
+                for (int i = 0; i < size; i++) {
+                    long q = quantity(i, a);
+                    if (q == 0)
+                        continue;
+                    if (largest.size() < poolSizePerAsset || q > quantity(largest.peek(), a)) {
+                        largest.add(i);
+                        if (largest.size() > poolSizePerAsset)
+                            largest.poll();
+                    }
+                    if (q >= targets[a] && (covering.size() < poolSizePerAsset || q < quantity(covering.peek(), a))) {
+                        covering.add(i);
+                        if (covering.size() > poolSizePerAsset)
+                            covering.poll();
+                    }
+                }
+                largest.forEach(i -> inPool[i] = true);
+                covering.forEach(i -> inPool[i] = true);
+            }
+
+            int count = 0;
+            for (boolean b : inPool) {
+                if (b)
+                    count++;
+            }
+            Integer[] pool = new Integer[count];
+            double[] coverage = new double[size];
+            for (int i = 0, k = 0; i < size; i++) {
+                if (!inPool[i])
+                    continue;
+                pool[k++] = i;
+                for (int a = 0; a < assets; a++) {
+                    if (targets[a] > 0)
+                        coverage[i] += Math.min(1.0, (double) quantity(i, a) / targets[a]);
+                }
+            }
+            Arrays.sort(pool, (i, j) -> {
+                int c = Double.compare(coverage[j], coverage[i]);
+                return c != 0 ? c : Long.compare(extraAssets[i], extraAssets[j]);
+            });
+            return Arrays.stream(pool).mapToInt(Integer::intValue).toArray();
+        }
+
+        UtxoVectors subset(int[] indexes) {
+            long[] subsetQuantities = new long[indexes.length * assets];
+            long[] subsetExtraAssets = new long[indexes.length];
+            for (int k = 0; k < indexes.length; k++) {
+                System.arraycopy(quantities, indexes[k] * assets, subsetQuantities, k * assets, assets);
+                subsetExtraAssets[k] = extraAssets[indexes[k]];
+            }
+            return new UtxoVectors(indexes.length, assets, subsetQuantities, subsetExtraAssets);
+        }
+
+        private long quantity(int i, int asset) {
+            return quantities[i * assets + asset];
+        }
+
+        private static long toLong(BigInteger quantity) {
+            if (quantity == null || quantity.signum() <= 0)
+                return 0;
+            return quantity.bitLength() > 63 ? Long.MAX_VALUE : quantity.longValue();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bloxbean.cardano.client.coinselection.impl;
+
+import com.bloxbean.cardano.client.api.AddressIterator;
+import com.bloxbean.cardano.client.api.exception.ApiRuntimeException;
+import com.bloxbean.cardano.client.api.impl.ReservingUtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.coinselection.UtxoSelectionStrategy;
+import com.bloxbean.cardano.client.plutus.spec.PlutusData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * This is a wrapper {@link UtxoSelectionStrategy} implementation which reserves the selected utxos in a
+ * {@link ReservingUtxoSupplier.Reservation}, so that concurrent builds on the same wallet don't select them. The actual
+ * selection is delegated to the underlying {@link UtxoSelectionStrategy}, which should read utxos from the same
+ * {@link ReservingUtxoSupplier}.
+ * <p>
+ * If another build reserves some of the selected utxos between the read and the reservation, the selection is
+ * retried without them.
+ */
+@Slf4j
+public class ReservingUtxoSelectionStrategy implements UtxoSelectionStrategy {
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    private final UtxoSelectionStrategy utxoSelectionStrategy;
+    private final ReservingUtxoSupplier.Reservation reservation;
+    private final int maxAttempts;
+
+    public ReservingUtxoSelectionStrategy(UtxoSelectionStrategy utxoSelectionStrategy, ReservingUtxoSupplier.Reservation reservation) {
+        this(utxoSelectionStrategy, reservation, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * @param utxoSelectionStrategy strategy to delegate the selection to
+     * @param reservation           reservation of the current build
+     * @param maxAttempts           max no of selections when selected utxos are reserved concurrently
+     */
+    public ReservingUtxoSelectionStrategy(UtxoSelectionStrategy utxoSelectionStrategy, ReservingUtxoSupplier.Reservation reservation,
+                                          int maxAttempts) {
+        this.utxoSelectionStrategy = utxoSelectionStrategy;
+        this.reservation = reservation;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public Set<Utxo> select(AddressIterator addrIter, List<Amount> outputAmounts, String datumHash, PlutusData inlineDatum, Set<Utxo> utxosToExclude,
+                            int maxUtxoSelectionLimit) {
+        Set<Utxo> excluded = utxosToExclude;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Set<Utxo> selected = utxoSelectionStrategy.select(addrIter, outputAmounts, datumHash, inlineDatum, excluded, maxUtxoSelectionLimit);
+            if (selected == null || selected.isEmpty())
+                return selected;
+
+            Set<Utxo> conflicts = reservation.tryReserve(selected);
+            if (conflicts.isEmpty())
+                return selected;
+
+            if (log.isDebugEnabled())
+                log.debug("{} selected utxos reserved by another build, selecting again (attempt {})", conflicts.size(), attempt);
+
+            excluded = excluded != null ? new HashSet<>(excluded) : new HashSet<>();
+            excluded.addAll(conflicts);
+        }
+
+        throw new ApiRuntimeException("Unable to reserve selected utxos after " + maxAttempts + " attempts");
+    }
+
+    @Override
+    public UtxoSelectionStrategy fallback() {
+        UtxoSelectionStrategy fallback = utxoSelectionStrategy.fallback();
+        return fallback != null ? new ReservingUtxoSelectionStrategy(fallback, reservation, maxAttempts) : null;
+    }
+
+    @Override
+    public void setIgnoreUtxosWithDatumHash(boolean ignoreUtxosWithDatumHash) {
+        utxoSelectionStrategy.setIgnoreUtxosWithDatumHash(ignoreUtxosWithDatumHash);
+    }
+}
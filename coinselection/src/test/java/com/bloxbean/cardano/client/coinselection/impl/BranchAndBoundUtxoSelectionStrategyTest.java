@@ -0,0 +1,168 @@
+package com.bloxbean.cardano.client.coinselection.impl;
+
+import com.bloxbean.cardano.client.api.AddressIterator;
+import com.bloxbean.cardano.client.api.exception.ApiRuntimeException;
+import com.bloxbean.cardano.client.api.exception.InsufficientBalanceException;
+import com.bloxbean.cardano.client.api.impl.IndexedUtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.coinselection.UtxoSelectionStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BranchAndBoundUtxoSelectionStrategyTest {
+    private static final String ADDRESS = "addr_test1qqwpl7h3g84mhr36wpetk904p7fchx2vst0z696lxk8ujsjyruqwmlsm344gfux3nsj6njyzj3ppvrqtt36cp9xyydzqzumz82";
+    private static final String TX_HASH = "10aeba3c30d23f07d202fd8c19386cef84543698bf52081b47408cba9277ea0e";
+    private static final String POLICY_ID = "34250edd1e9836f5378702fbf9416b709bc140e04f668cc355208518";
+    private static final String TOKEN = POLICY_ID + "4154414441636f696e";
+    private static final String OTHER_TOKEN = POLICY_ID + "4154414441636f696f";
+
+    private final IndexedUtxoSupplier utxoSupplier = new IndexedUtxoSupplier();
+
+    @Test
+    void select_leastChange() {
+        add(0, Amount.ada(10));
+        add(1, Amount.ada(8.5));
+        add(2, Amount.ada(5));
+        add(3, Amount.ada(3));
+
+        Set<Utxo> largestFirst = new LargestFirstUtxoSelectionStrategy(utxoSupplier).select(ADDRESS, Amount.ada(8), null);
+        Set<Utxo> selected = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier).select(ADDRESS, Amount.ada(8), null);
+
+        assertThat(largestFirst).extracting(Utxo::getOutputIndex).containsExactly(0);
+        assertThat(selected).extracting(Utxo::getOutputIndex).containsExactly(1);
+    }
+
+    @Test
+    void select_fewestInputs() {
+        for (int i = 0; i < 6; i++) {
+            add(i, Amount.ada(2));
+        }
+        add(6, Amount.ada(5));
+        add(7, Amount.ada(7));
+
+        Set<Utxo> selected = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier).select(ADDRESS, Amount.ada(11), null);
+
+        //5 + 7 covers 11 with two inputs, with less change than any other pair
+        assertThat(selected).extracting(Utxo::getOutputIndex).containsExactlyInAnyOrder(6, 7);
+    }
+
+    @Test
+    void select_multiAsset() {
+        add(0, Amount.ada(2), Amount.asset(TOKEN, 100));
+        add(1, Amount.ada(50));
+        add(2, Amount.ada(6), Amount.asset(TOKEN, 100), Amount.asset(OTHER_TOKEN, 1));
+        add(3, Amount.ada(5.5), Amount.asset(TOKEN, 150));
+        add(4, Amount.ada(5.5), Amount.asset(TOKEN, 100));
+
+        Set<Utxo> selected = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier)
+                .select(ADDRESS, List.of(Amount.ada(5), Amount.asset(TOKEN, 100)), null);
+
+        //Index 2 and 3 cover the outputs too, but leave extra assets in the change
+        assertThat(selected).extracting(Utxo::getOutputIndex).containsExactly(4);
+    }
+
+    @Test
+    void select_aggregatesOutputsOfSameUnit() {
+        add(0, Amount.ada(4));
+        add(1, Amount.ada(6));
+        add(2, Amount.ada(9));
+
+        Set<Utxo> selected = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier)
+                .select(ADDRESS, List.of(Amount.ada(3), Amount.ada(3)), null);
+
+        assertThat(selected).extracting(Utxo::getOutputIndex).containsExactly(1);
+    }
+
+    @Test
+    void select_skipsExcludedAndDatumUtxos() {
+        add(0, Amount.ada(8));
+        Utxo withDatumHash = utxo(1, Amount.ada(8));
+        withDatumHash.setDataHash("9e1199a988ba72ffd6e9c269cadb3b53b5f360ff99f112d9b2ee30c4d74ad88b");
+        utxoSupplier.add(withDatumHash);
+        add(2, Amount.ada(20));
+
+        Set<Utxo> selected = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier)
+                .select(ADDRESS, Amount.ada(8), Set.of(utxo(0, Amount.ada(8))));
+
+        assertThat(selected).extracting(Utxo::getOutputIndex).containsExactly(2);
+    }
+
+    @Test
+    void select_insufficientBalance() {
+        add(0, Amount.ada(2), Amount.asset(TOKEN, 10));
+        add(1, Amount.ada(3));
+
+        UtxoSelectionStrategy strategy = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier);
+
+        assertThatThrownBy(() -> strategy.select(ADDRESS, List.of(Amount.ada(4), Amount.asset(TOKEN, 20)), null))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessageContaining(TOKEN);
+    }
+
+    @Test
+    void select_usesFallbackWhenPoolTooSmall() {
+        for (int i = 0; i < 10; i++) {
+            add(i, Amount.ada(1));
+        }
+        UtxoSelectionStrategy fallback = mock(UtxoSelectionStrategy.class);
+        Set<Utxo> fallbackSelection = Set.of(utxo(0, Amount.ada(1)));
+        given(fallback.select(any(AddressIterator.class), anyList(), any(), any(), any(), anyInt())).willReturn(fallbackSelection);
+
+        BranchAndBoundUtxoSelectionStrategy strategy = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier, fallback, true);
+        strategy.setPoolSizePerAsset(2);
+
+        assertThat(strategy.select(ADDRESS, Amount.ada(5), null)).isSameAs(fallbackSelection);
+    }
+
+    @Test
+    void select_failsWithoutFallbackWhenInputLimitExceeded() {
+        for (int i = 0; i < 10; i++) {
+            add(i, Amount.ada(1));
+        }
+        UtxoSelectionStrategy strategy = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier, null, true);
+
+        assertThat(strategy.select(ADDRESS, Amount.ada(5), null, 5)).hasSize(5);
+        assertThatThrownBy(() -> strategy.select(ADDRESS, Amount.ada(5), null, 4))
+                .isInstanceOf(ApiRuntimeException.class);
+    }
+
+    @Test
+    void select_largeWalletWithinBudget() {
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            add(i, Amount.lovelace(BigInteger.valueOf(1_000_000 + random.nextInt(100_000_000))));
+        }
+
+        Set<Utxo> selected = new BranchAndBoundUtxoSelectionStrategy(utxoSupplier)
+                .select(ADDRESS, Amount.ada(500), null);
+
+        BigInteger total = selected.stream()
+                .map(utxo -> utxo.getAmount().get(0).getQuantity())
+                .reduce(BigInteger.ZERO, BigInteger::add);
+        assertThat(total).isGreaterThanOrEqualTo(Amount.ada(500).getQuantity());
+        assertThat(selected.size()).isLessThanOrEqualTo(new LargestFirstUtxoSelectionStrategy(utxoSupplier)
+                .select(ADDRESS, Amount.ada(500), null).size());
+    }
+
+    private void add(int index, Amount... amounts) {
+        utxoSupplier.add(utxo(index, amounts));
+    }
+
+    private static Utxo utxo(int index, Amount... amounts) {
+        return Utxo.builder()
+                .txHash(TX_HASH)
+                .outputIndex(index)
+                .address(ADDRESS)
+                .amount(new ArrayList<>(List.of(amounts)))
+                .build();
+    }
+}
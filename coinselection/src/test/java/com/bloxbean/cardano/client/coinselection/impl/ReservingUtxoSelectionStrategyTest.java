@@ -0,0 +1,91 @@
+package com.bloxbean.cardano.client.coinselection.impl;
+
+import com.bloxbean.cardano.client.api.AddressIterator;
+import com.bloxbean.cardano.client.api.exception.ApiRuntimeException;
+import com.bloxbean.cardano.client.api.impl.IndexedUtxoSupplier;
+import com.bloxbean.cardano.client.api.impl.ReservingUtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.coinselection.UtxoSelectionStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReservingUtxoSelectionStrategyTest {
+    private static final String ADDRESS = "addr_test1qqwpl7h3g84mhr36wpetk904p7fchx2vst0z696lxk8ujsjyruqwmlsm344gfux3nsj6njyzj3ppvrqtt36cp9xyydzqzumz82";
+    private static final String TX_HASH = "10aeba3c30d23f07d202fd8c19386cef84543698bf52081b47408cba9277ea0e";
+
+    @Test
+    void concurrentBuilds_selectDisjointUtxos() {
+        IndexedUtxoSupplier source = new IndexedUtxoSupplier();
+        for (int i = 0; i < 10; i++) {
+            source.add(utxo(i, 5));
+        }
+        ReservingUtxoSupplier supplier = new ReservingUtxoSupplier(source);
+
+        ReservingUtxoSupplier.Reservation reservation1 = supplier.newReservation();
+        ReservingUtxoSupplier.Reservation reservation2 = supplier.newReservation();
+        UtxoSelectionStrategy strategy1 = new ReservingUtxoSelectionStrategy(new DefaultUtxoSelectionStrategyImpl(supplier), reservation1);
+        UtxoSelectionStrategy strategy2 = new ReservingUtxoSelectionStrategy(new DefaultUtxoSelectionStrategyImpl(supplier), reservation2);
+
+        Set<Utxo> selected1 = strategy1.select(ADDRESS, Amount.ada(8), null);
+        Set<Utxo> selected2 = strategy2.select(ADDRESS, Amount.ada(8), null);
+
+        assertThat(selected1).hasSize(2);
+        assertThat(selected2).hasSize(2).doesNotContainAnyElementsOf(selected1);
+        assertThat(reservation1.size()).isEqualTo(2);
+
+        reservation1.release();
+        assertThat(supplier.getAll(ADDRESS)).hasSize(8);
+    }
+
+    @Test
+    void select_retriesWithoutConcurrentlyReservedUtxos() {
+        IndexedUtxoSupplier source = new IndexedUtxoSupplier();
+        ReservingUtxoSupplier supplier = new ReservingUtxoSupplier(source);
+        supplier.newReservation().tryReserve(List.of(utxo(0, 5)));
+
+        //Delegate which read the utxos before they were reserved
+        UtxoSelectionStrategy delegate = mock(UtxoSelectionStrategy.class);
+        given(delegate.select(any(AddressIterator.class), anyList(), any(), any(), any(), anyInt()))
+                .willReturn(Set.of(utxo(0, 5)), Set.of(utxo(1, 5)));
+
+        ReservingUtxoSupplier.Reservation reservation = supplier.newReservation();
+        Set<Utxo> selected = new ReservingUtxoSelectionStrategy(delegate, reservation)
+                .select(ADDRESS, Amount.ada(4), Set.of(utxo(5, 5)));
+
+        assertThat(selected).containsExactly(utxo(1, 5));
+        verify(delegate).select(any(AddressIterator.class), anyList(), any(), any(), eq(Set.of(utxo(0, 5), utxo(5, 5))), anyInt());
+        assertThat(supplier.isHeld(TX_HASH, 1)).isTrue();
+    }
+
+    @Test
+    void select_failsAfterMaxAttempts() {
+        ReservingUtxoSupplier supplier = new ReservingUtxoSupplier(new IndexedUtxoSupplier());
+        supplier.newReservation().tryReserve(List.of(utxo(0, 5)));
+
+        UtxoSelectionStrategy delegate = mock(UtxoSelectionStrategy.class);
+        given(delegate.select(any(AddressIterator.class), anyList(), any(), any(), any(), anyInt()))
+                .willReturn(Set.of(utxo(0, 5)));
+
+        UtxoSelectionStrategy strategy = new ReservingUtxoSelectionStrategy(delegate, supplier.newReservation(), 3);
+        assertThatThrownBy(() -> strategy.select(ADDRESS, Amount.ada(4), null))
+                .isInstanceOf(ApiRuntimeException.class);
+    }
+
+    private static Utxo utxo(int index, double ada) {
+        return Utxo.builder()
+                .txHash(TX_HASH)
+                .outputIndex(index)
+                .address(ADDRESS)
+                .amount(new ArrayList<>(List.of(Amount.ada(ada))))
+                .build();
+    }
+}
@@ -0,0 +1,248 @@
+package com.bloxbean.cardano.client.common.cbor;
+
+import com.bloxbean.cardano.client.exception.CborRuntimeException;
+
+import java.util.Arrays;
+
+/**
+ * A lightweight CBOR reader which walks encoded bytes without creating {@link co.nstant.in.cbor.model.DataItem} objects.
+ * It's mainly used to find the boundaries of data items, so that the raw bytes of a data item can be sliced, hashed or
+ * decoded later on demand.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class CborReader {
+    public static final int MAJOR_UNSIGNED = 0;
+    public static final int MAJOR_NEGATIVE = 1;
+    public static final int MAJOR_BYTE_STRING = 2;
+    public static final int MAJOR_UNICODE_STRING = 3;
+    public static final int MAJOR_ARRAY = 4;
+    public static final int MAJOR_MAP = 5;
+    public static final int MAJOR_TAG = 6;
+    public static final int MAJOR_SIMPLE = 7;
+
+    private static final int INDEFINITE = 31;
+    private static final int BREAK = 0xff;
+
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    public CborReader(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public CborReader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IllegalArgumentException("Invalid offset or length");
+
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    /**
+     * Returns the major type of the next data item without consuming it
+     *
+     * @return major type (0 - 7)
+     */
+    public int peekMajorType() {
+        ensureAvailable(1);
+        return (bytes[position] & 0xff) >>> 5;
+    }
+
+    /**
+     * Returns true if the next byte is the "break" stop code of an indefinite length item
+     *
+     * @return true if next byte is break
+     */
+    public boolean isBreak() {
+        ensureAvailable(1);
+        return (bytes[position] & 0xff) == BREAK;
+    }
+
+    public void readBreak() {
+        if (!isBreak())
+            throw new CborRuntimeException("Expected break at position " + position);
+        position++;
+    }
+
+    /**
+     * Read the header of an array
+     *
+     * @return no of items or -1 for an indefinite length array
+     */
+    public long readArrayStart() {
+        return readLengthHeader(MAJOR_ARRAY);
+    }
+
+    /**
+     * Read the header of a map
+     *
+     * @return no of entries or -1 for an indefinite length map
+     */
+    public long readMapStart() {
+        return readLengthHeader(MAJOR_MAP);
+    }
+
+    /**
+     * Read a tag, if present, and return its value. Otherwise, nothing is consumed.
+     *
+     * @return tag value or -1 if the next item is not tagged
+     */
+    public long readTagIfPresent() {
+        if (peekMajorType() != MAJOR_TAG)
+            return -1;
+
+        int info = bytes[position++] & 0x1f;
+        return readArgument(info);
+    }
+
+    /**
+     * Read an unsigned integer which fits into a signed long
+     *
+     * @return value
+     */
+    public long readUnsignedInteger() {
+        int major = peekMajorType();
+        if (major != MAJOR_UNSIGNED)
+            throw new CborRuntimeException("Expected unsigned integer, but found major type " + major + " at position " + position);
+
+        int info = bytes[position++] & 0x1f;
+        long value = readArgument(info);
+        if (value < 0)
+            throw new CborRuntimeException("Unsigned integer is too large at position " + position);
+        return value;
+    }
+
+    /**
+     * Skip the next data item, including any nested items and tags
+     *
+     * @return position after the skipped item
+     */
+    public int skipItem() {
+        ensureAvailable(1);
+        int initialByte = bytes[position++] & 0xff;
+        int major = initialByte >>> 5;
+        int info = initialByte & 0x1f;
+
+        if (info == INDEFINITE) {
+            switch (major) {
+                case MAJOR_BYTE_STRING:
+                case MAJOR_UNICODE_STRING:
+                case MAJOR_ARRAY:
+                    while (!isBreak()) {
+                        skipItem();
+                    }
+                    position++;
+                    return position;
+                case MAJOR_MAP:
+                    while (!isBreak()) {
+                        skipItem();
+                        skipItem();
+                    }
+                    position++;
+                    return position;
+                default:
+                    throw new CborRuntimeException("Unexpected break or indefinite length item at position " + (position - 1));
+            }
+        }
+
+        long argument = readArgument(info);
+        switch (major) {
+            case MAJOR_BYTE_STRING:
+            case MAJOR_UNICODE_STRING:
+                if (argument < 0 || argument > limit - position)
+                    throw new CborRuntimeException("Invalid string length at position " + position);
+                position += (int) argument;
+                break;
+            case MAJOR_ARRAY:
+                for (long i = 0; i < argument; i++) {
+                    skipItem();
+                }
+                break;
+            case MAJOR_MAP:
+                for (long i = 0; i < argument; i++) {
+                    skipItem();
+                    skipItem();
+                }
+                break;
+            case MAJOR_TAG:
+                skipItem();
+                break;
+            default: //integers, simple values and floats are complete after the argument
+                break;
+        }
+
+        return position;
+    }
+
+    /**
+     * Read the raw encoded bytes of the next data item
+     *
+     * @return a copy of the encoded bytes of the next data item
+     */
+    public byte[] readItemBytes() {
+        int start = position;
+        int end = skipItem();
+        return Arrays.copyOfRange(bytes, start, end);
+    }
+
+    private long readLengthHeader(int expectedMajorType) {
+        ensureAvailable(1);
+        int initialByte = bytes[position] & 0xff;
+        int major = initialByte >>> 5;
+        if (major != expectedMajorType)
+            throw new CborRuntimeException("Expected major type " + expectedMajorType + ", but found " + major + " at position " + position);
+
+        position++;
+        int info = initialByte & 0x1f;
+        if (info == INDEFINITE)
+            return -1;
+
+        return readArgument(info);
+    }
+
+    private long readArgument(int info) {
+        if (info < 24)
+            return info;
+
+        int size;
+        switch (info) {
+            case 24:
+                size = 1;
+                break;
+            case 25:
+                size = 2;
+                break;
+            case 26:
+                size = 4;
+                break;
+            case 27:
+                size = 8;
+                break;
+            default:
+                throw new CborRuntimeException("Invalid additional information " + info + " at position " + (position - 1));
+        }
+
+        ensureAvailable(size);
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            value = (value << 8) | (bytes[position++] & 0xff);
+        }
+        return value;
+    }
+
+    private void ensureAvailable(int n) {
+        if (position + n > limit)
+            throw new CborRuntimeException("Unexpected end of cbor data at position " + position);
+    }
+}
@@ -0,0 +1,369 @@
+package com.bloxbean.cardano.client.common.cbor;
+
+import co.nstant.in.cbor.CborException;
+import co.nstant.in.cbor.model.DataItem;
+import co.nstant.in.cbor.model.MajorType;
+import com.bloxbean.cardano.client.common.cbor.custom.CustomCborEncoder;
+import com.bloxbean.cardano.client.exception.CborRuntimeException;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * A streaming CBOR writer which encodes values directly into a growable byte buffer, without building an
+ * intermediate {@link DataItem} tree.
+ * <p>
+ * The encoding produced by this writer is the same as {@link CustomCborEncoder} in canonical mode, i.e.
+ * <ul>
+ *     <li>Integers and lengths are always encoded in the shortest form</li>
+ *     <li>Chunked byte strings are written as indefinite length byte strings (see {@link #writeChunkedByteString(List)})</li>
+ *     <li>Maps whose keys are not already sorted by the caller can be written through {@link CanonicalMap}</li>
+ * </ul>
+ * Types which don't have a streaming implementation can still be written through {@link #writeDataItem(DataItem)}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class CborWriter {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final BigInteger UINT64_MAX = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_BYTE_STRING = 2;
+    private static final int MAJOR_UNICODE_STRING = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    private static final int MAJOR_TAG = 6;
+
+    private static final int SIMPLE_FALSE = 0xf4;
+    private static final int SIMPLE_TRUE = 0xf5;
+    private static final int SIMPLE_NULL = 0xf6;
+    private static final int BREAK = 0xff;
+    private static final int INDEFINITE = 31;
+
+    /**
+     * Canonical CBOR key order as defined in RFC 7049 section 3.9 and used by {@link CustomCborEncoder}:
+     * unsigned lexicographic order of the encoded key bytes.
+     */
+    public static final Comparator<byte[]> CANONICAL_KEY_ORDER = Arrays::compareUnsigned;
+
+    private byte[] buffer;
+    private int position;
+
+    public CborWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CborWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Write the header of a definite length array
+     *
+     * @param size no of items in the array
+     * @return this writer
+     */
+    public CborWriter writeArrayStart(int size) {
+        writeTypeAndLength(MAJOR_ARRAY, size);
+        return this;
+    }
+
+    /**
+     * Write the header of an indefinite length array. The caller must terminate it with {@link #writeBreak()}
+     *
+     * @return this writer
+     */
+    public CborWriter writeIndefiniteArrayStart() {
+        write((MAJOR_ARRAY << 5) | INDEFINITE);
+        return this;
+    }
+
+    /**
+     * Write the header of a definite length map. Keys and values must be written by the caller in the required order.
+     *
+     * @param size no of key-value pairs in the map
+     * @return this writer
+     */
+    public CborWriter writeMapStart(int size) {
+        writeTypeAndLength(MAJOR_MAP, size);
+        return this;
+    }
+
+    /**
+     * Write a semantic tag
+     *
+     * @param tag tag value
+     * @return this writer
+     */
+    public CborWriter writeTag(long tag) {
+        writeTypeAndLength(MAJOR_TAG, tag);
+        return this;
+    }
+
+    /**
+     * Write a non-negative integer
+     *
+     * @param value value, must be >= 0
+     * @return this writer
+     */
+    public CborWriter writeUnsignedInteger(long value) {
+        if (value < 0)
+            throw new IllegalArgumentException("Unsigned integer expected, but found : " + value);
+
+        writeTypeAndLength(MAJOR_UNSIGNED, value);
+        return this;
+    }
+
+    /**
+     * Write an integer as an unsigned or negative CBOR integer depending on its sign.
+     * Values outside the 64-bit CBOR integer range are written as bignums, same as the default encoder.
+     *
+     * @param value value
+     * @return this writer
+     */
+    public CborWriter writeInteger(BigInteger value) {
+        if (value.signum() >= 0) {
+            if (value.bitLength() <= 64) {
+                writeTypeAndLength(MAJOR_UNSIGNED, value.longValue());
+            } else {
+                writeDataItem(CborSerializationUtil.bigIntegerToDataItem(value));
+            }
+        } else {
+            BigInteger n = BigInteger.ONE.negate().subtract(value);
+            if (n.compareTo(UINT64_MAX) <= 0) {
+                writeTypeAndLength(MAJOR_NEGATIVE, n.longValue());
+            } else {
+                writeDataItem(CborSerializationUtil.bigIntegerToDataItem(value));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Write a definite length byte string
+     *
+     * @param bytes bytes
+     * @return this writer
+     */
+    public CborWriter writeByteString(byte[] bytes) {
+        writeTypeAndLength(MAJOR_BYTE_STRING, bytes.length);
+        writeRaw(bytes);
+        return this;
+    }
+
+    /**
+     * Write an indefinite length byte string with the given chunks.
+     * This is the streaming equivalent of {@link com.bloxbean.cardano.client.common.cbor.custom.ChunkedByteString}
+     *
+     * @param chunks chunks
+     * @return this writer
+     */
+    public CborWriter writeChunkedByteString(List<byte[]> chunks) {
+        write((MAJOR_BYTE_STRING << 5) | INDEFINITE);
+        for (byte[] chunk : chunks) {
+            writeByteString(chunk);
+        }
+        writeBreak();
+        return this;
+    }
+
+    /**
+     * Write a UTF-8 text string
+     *
+     * @param text text
+     * @return this writer
+     */
+    public CborWriter writeUnicodeString(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeTypeAndLength(MAJOR_UNICODE_STRING, bytes.length);
+        writeRaw(bytes);
+        return this;
+    }
+
+    public CborWriter writeBoolean(boolean value) {
+        write(value ? SIMPLE_TRUE : SIMPLE_FALSE);
+        return this;
+    }
+
+    public CborWriter writeNull() {
+        write(SIMPLE_NULL);
+        return this;
+    }
+
+    public CborWriter writeBreak() {
+        write(BREAK);
+        return this;
+    }
+
+    /**
+     * Write already encoded CBOR bytes as is
+     *
+     * @param encoded encoded bytes
+     * @return this writer
+     */
+    public CborWriter writeRaw(byte[] encoded) {
+        return writeRaw(encoded, 0, encoded.length);
+    }
+
+    public CborWriter writeRaw(byte[] encoded, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(encoded, offset, buffer, position, length);
+        position += length;
+        return this;
+    }
+
+    /**
+     * Write a {@link DataItem} using canonical encoding. This is the fallback for types which are not
+     * yet streamed directly.
+     *
+     * @param dataItem DataItem to write. If null, CBOR null is written
+     * @return this writer
+     */
+    public CborWriter writeDataItem(DataItem dataItem) {
+        try {
+            new CustomCborEncoder(new BufferOutputStream()).encode(dataItem);
+        } catch (CborException e) {
+            throw new CborRuntimeException("Cbor serialization error", e);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written so far
+     *
+     * @return size in bytes
+     */
+    public int size() {
+        return position;
+    }
+
+    /**
+     * Discard all bytes written so far. The underlying buffer is kept for reuse.
+     */
+    public void reset() {
+        position = 0;
+    }
+
+    /**
+     * Returns a copy of the bytes written so far
+     *
+     * @return encoded bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Returns the encoded length of a CBOR header (major type + length/value argument)
+     *
+     * @param value the unsigned argument of the header
+     * @return length in bytes
+     */
+    public static int headerSize(long value) {
+        if (value < 0)
+            return 9; //unsigned 64 bit values above Long.MAX_VALUE
+        if (value < 24)
+            return 1;
+        if (value < 0x100)
+            return 2;
+        if (value < 0x10000)
+            return 3;
+        if (value < 0x100000000L)
+            return 5;
+        return 9;
+    }
+
+    private void writeTypeAndLength(int majorType, long length) {
+        int symbol = majorType << 5;
+        ensureCapacity(9);
+        if (length >= 0 && length < 24) {
+            buffer[position++] = (byte) (symbol | length);
+        } else if (length >= 0 && length < 0x100) {
+            buffer[position++] = (byte) (symbol | 24);
+            buffer[position++] = (byte) length;
+        } else if (length >= 0 && length < 0x10000) {
+            buffer[position++] = (byte) (symbol | 25);
+            buffer[position++] = (byte) (length >> 8);
+            buffer[position++] = (byte) length;
+        } else if (length >= 0 && length < 0x100000000L) {
+            buffer[position++] = (byte) (symbol | 26);
+            buffer[position++] = (byte) (length >> 24);
+            buffer[position++] = (byte) (length >> 16);
+            buffer[position++] = (byte) (length >> 8);
+            buffer[position++] = (byte) length;
+        } else {
+            buffer[position++] = (byte) (symbol | 27);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (length >> shift);
+            }
+        }
+    }
+
+    private void write(int b) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = position + extra;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+
+    private class BufferOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+            CborWriter.this.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writeRaw(b, off, len);
+        }
+    }
+
+    /**
+     * Collects encoded map entries and writes them in canonical key order. This is the streaming equivalent of
+     * a {@link co.nstant.in.cbor.model.Map} written with canonical = true. As with the DataItem path, a later entry
+     * with the same encoded key replaces an earlier one.
+     */
+    public static class CanonicalMap {
+        private final TreeMap<byte[], byte[]> entries = new TreeMap<>(CANONICAL_KEY_ORDER);
+        private final CborWriter scratch = new CborWriter();
+
+        /**
+         * Returns a writer to encode the next key or value into. The content must be taken with
+         * {@link #put(byte[], byte[])} before the writer is requested again.
+         *
+         * @return an empty scratch writer
+         */
+        public CborWriter scratch() {
+            scratch.reset();
+            return scratch;
+        }
+
+        public CanonicalMap put(byte[] encodedKey, byte[] encodedValue) {
+            entries.put(encodedKey, encodedValue);
+            return this;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        public void writeTo(CborWriter writer) {
+            writer.writeMapStart(entries.size());
+            for (java.util.Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                writer.writeRaw(entry.getKey());
+                writer.writeRaw(entry.getValue());
+            }
+        }
+    }
+}
@@ -1,6 +1,22 @@
 package com.bloxbean.cardano.client.util;
 
+import java.util.Arrays;
+
 public class HexUtil {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DIGITS['a' + i] = (byte) (10 + i);
+            DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
     public static String encodeHexString(byte[] byteArray) {
         if (byteArray == null)
             return null;
@@ -12,32 +28,35 @@ public class HexUtil {
         if (byteArray == null)
             return null;
 
-        StringBuffer hexStringBuffer = new StringBuffer();
+        int offset = withPrefix ? 2 : 0;
+        char[] chars = new char[offset + byteArray.length * 2];
+        if (withPrefix) {
+            chars[0] = '0';
+            chars[1] = 'x';
+        }
         for (int i = 0; i < byteArray.length; i++) {
-            hexStringBuffer.append(byteToHex(byteArray[i]));
+            int b = byteArray[i] & 0xFF;
+            chars[offset + i * 2] = HEX_DIGITS[b >>> 4];
+            chars[offset + i * 2 + 1] = HEX_DIGITS[b & 0xF];
         }
-        String hexString = hexStringBuffer.toString();
-        if(hexString == null)
-            return null;
-
-        if(withPrefix)
-            return "0x" + hexString;
-        else
-            return hexString;
+        return new String(chars);
     }
 
     public static byte[] decodeHexString(String hexString) {
+        int start = 0;
         if(hexString != null && hexString.startsWith("0x"))
-            hexString = hexString.substring(2);
+            start = 2;
 
-        if (hexString.length() % 2 == 1) {
+        int length = hexString.length() - start;
+        if (length % 2 == 1) {
             throw new IllegalArgumentException(
-                    "Invalid hexadecimal String supplied. " + hexString);
+                    "Invalid hexadecimal String supplied. " + hexString.substring(start));
         }
 
-        byte[] bytes = new byte[hexString.length() / 2];
-        for (int i = 0; i < hexString.length(); i += 2) {
-            bytes[i / 2] = hexToByte(hexString.substring(i, i + 2));
+        byte[] bytes = new byte[length / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int index = start + i * 2;
+            bytes[i] = (byte) ((toDigit(hexString.charAt(index)) << 4) + toDigit(hexString.charAt(index + 1)));
         }
         return bytes;
     }
@@ -50,13 +69,13 @@ public class HexUtil {
 
     public static String byteToHex(byte num) {
         char[] hexDigits = new char[2];
-        hexDigits[0] = Character.forDigit((num >> 4) & 0xF, 16);
-        hexDigits[1] = Character.forDigit((num & 0xF), 16);
+        hexDigits[0] = HEX_DIGITS[(num >> 4) & 0xF];
+        hexDigits[1] = HEX_DIGITS[num & 0xF];
         return new String(hexDigits);
     }
 
     private static int toDigit(char hexChar) {
-        int digit = Character.digit(hexChar, 16);
+        int digit = hexChar < DIGITS.length ? DIGITS[hexChar] : -1;
         if(digit == -1) {
             throw new IllegalArgumentException(
                     "Invalid Hexadecimal Character: "+ hexChar);
@@ -0,0 +1,70 @@
+package com.bloxbean.cardano.client.common.cbor;
+
+import co.nstant.in.cbor.model.Array;
+import co.nstant.in.cbor.model.ByteString;
+import co.nstant.in.cbor.model.Map;
+import co.nstant.in.cbor.model.SimpleValue;
+import co.nstant.in.cbor.model.UnicodeString;
+import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.common.cbor.custom.ChunkedByteString;
+import com.bloxbean.cardano.client.exception.CborRuntimeException;
+import com.bloxbean.cardano.client.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CborReaderTest {
+
+    @Test
+    void readItemBytes_returnsItemBoundaries() throws Exception {
+        Map map = new Map();
+        map.put(new UnsignedInteger(1), new ByteString(new byte[300]));
+        map.put(new UnsignedInteger(2), new UnicodeString("hello"));
+        Array tagged = new Array();
+        tagged.add(CborSerializationUtil.bigIntegerToDataItem(BigInteger.TWO.pow(100)));
+        tagged.setTag(258);
+
+        byte[] first = CborSerializationUtil.serialize(map);
+        byte[] second = CborSerializationUtil.serialize(tagged);
+        byte[] third = CborSerializationUtil.serialize(new ChunkedByteString(List.of(new byte[64], new byte[3])));
+        byte[] fourth = CborSerializationUtil.serialize(SimpleValue.TRUE);
+
+        byte[] encoded = new CborWriter().writeArrayStart(4).writeRaw(first).writeRaw(second).writeRaw(third).writeRaw(fourth).toByteArray();
+
+        CborReader reader = new CborReader(encoded);
+        assertThat(reader.readArrayStart()).isEqualTo(4);
+        assertThat(reader.readItemBytes()).isEqualTo(first);
+        assertThat(reader.readItemBytes()).isEqualTo(second);
+        assertThat(reader.readItemBytes()).isEqualTo(third);
+        assertThat(reader.readItemBytes()).isEqualTo(fourth);
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    void indefiniteArray() {
+        byte[] encoded = HexUtil.decodeHexString("9f01820203a1041905dcff");
+
+        CborReader reader = new CborReader(encoded);
+        assertThat(reader.readArrayStart()).isEqualTo(-1);
+        assertThat(reader.readUnsignedInteger()).isEqualTo(1);
+        assertThat(reader.peekMajorType()).isEqualTo(CborReader.MAJOR_ARRAY);
+        reader.skipItem();
+        assertThat(reader.readMapStart()).isEqualTo(1);
+        assertThat(reader.readUnsignedInteger()).isEqualTo(4);
+        assertThat(reader.readUnsignedInteger()).isEqualTo(1500);
+        reader.readBreak();
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    void truncatedInput_throwsException() {
+        byte[] encoded = HexUtil.decodeHexString("8301025820aabb");
+
+        CborReader reader = new CborReader(encoded);
+        assertThatThrownBy(reader::skipItem).isInstanceOf(CborRuntimeException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.bloxbean.cardano.client.common.cbor;
+
+import co.nstant.in.cbor.model.Array;
+import co.nstant.in.cbor.model.ByteString;
+import co.nstant.in.cbor.model.DataItem;
+import co.nstant.in.cbor.model.Map;
+import co.nstant.in.cbor.model.UnicodeString;
+import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.common.cbor.custom.ChunkedByteString;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborWriterTest {
+
+    @Test
+    void writeInteger_sameAsDataItemEncoding() throws Exception {
+        List<BigInteger> values = List.of(BigInteger.ZERO, BigInteger.valueOf(23), BigInteger.valueOf(24), BigInteger.valueOf(255),
+                BigInteger.valueOf(256), BigInteger.valueOf(65535), BigInteger.valueOf(65536), BigInteger.valueOf(4294967295L),
+                BigInteger.valueOf(4294967296L), BigInteger.valueOf(Long.MAX_VALUE), BigInteger.TWO.pow(64).subtract(BigInteger.ONE),
+                BigInteger.TWO.pow(64), BigInteger.TWO.pow(100), BigInteger.valueOf(-1), BigInteger.valueOf(-24), BigInteger.valueOf(-25),
+                BigInteger.valueOf(Long.MIN_VALUE), BigInteger.TWO.pow(64).negate(), BigInteger.TWO.pow(64).negate().subtract(BigInteger.ONE),
+                BigInteger.TWO.pow(90).negate());
+
+        for (BigInteger value : values) {
+            CborWriter writer = new CborWriter();
+            writer.writeInteger(value);
+
+            assertThat(writer.toByteArray())
+                    .as("value: %s", value)
+                    .isEqualTo(CborSerializationUtil.serialize(CborSerializationUtil.bigIntegerToDataItem(value)));
+        }
+    }
+
+    @Test
+    void writeStringsAndArrays_sameAsDataItemEncoding() throws Exception {
+        Array array = new Array();
+        array.add(new ByteString(new byte[0]));
+        array.add(new ByteString(new byte[300]));
+        array.add(new UnicodeString("hello cardano"));
+        array.add(new ChunkedByteString(List.of(new byte[64], new byte[10])));
+        array.setTag(258);
+
+        CborWriter writer = new CborWriter(16);
+        writer.writeTag(258)
+                .writeArrayStart(4)
+                .writeByteString(new byte[0])
+                .writeByteString(new byte[300])
+                .writeUnicodeString("hello cardano")
+                .writeChunkedByteString(List.of(new byte[64], new byte[10]));
+
+        assertThat(writer.toByteArray()).isEqualTo(CborSerializationUtil.serialize(array));
+    }
+
+    @Test
+    void canonicalMap_sortedSameAsCanonicalEncoder() throws Exception {
+        Map map = new Map();
+        map.put(new ByteString(new byte[]{2, 1}), new UnsignedInteger(1));
+        map.put(new ByteString(new byte[]{1}), new UnsignedInteger(2));
+        map.put(new UnsignedInteger(500), new UnsignedInteger(3));
+        map.put(new UnsignedInteger(7), new UnsignedInteger(4));
+
+        CborWriter.CanonicalMap canonicalMap = new CborWriter.CanonicalMap();
+        putEntry(canonicalMap, new ByteString(new byte[]{2, 1}), new UnsignedInteger(1));
+        putEntry(canonicalMap, new ByteString(new byte[]{1}), new UnsignedInteger(2));
+        putEntry(canonicalMap, new UnsignedInteger(500), new UnsignedInteger(3));
+        putEntry(canonicalMap, new UnsignedInteger(7), new UnsignedInteger(4));
+
+        CborWriter writer = new CborWriter();
+        canonicalMap.writeTo(writer);
+
+        assertThat(writer.toByteArray()).isEqualTo(CborSerializationUtil.serialize(map));
+    }
+
+    @Test
+    void reset_reusesBuffer() {
+        CborWriter writer = new CborWriter();
+        writer.writeUnsignedInteger(1000);
+        writer.reset();
+        writer.writeBoolean(true).writeNull();
+
+        assertThat(writer.size()).isEqualTo(2);
+        assertThat(writer.toByteArray()).isEqualTo(new byte[]{(byte) 0xf5, (byte) 0xf6});
+    }
+
+    private void putEntry(CborWriter.CanonicalMap canonicalMap, DataItem key, DataItem value) {
+        byte[] keyBytes = canonicalMap.scratch().writeDataItem(key).toByteArray();
+        byte[] valueBytes = canonicalMap.scratch().writeDataItem(value).toByteArray();
+        canonicalMap.put(keyBytes, valueBytes);
+    }
+}
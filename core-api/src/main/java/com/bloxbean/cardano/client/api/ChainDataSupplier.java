@@ -1,8 +1,12 @@
 package com.bloxbean.cardano.client.api;
 
 import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.ChainTip;
 import com.bloxbean.cardano.client.api.model.TransactionInfo;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -22,6 +26,20 @@ public interface ChainDataSupplier {
      */
     long getChainTipHeight() throws ApiException;
 
+    /**
+     * Get the current chain tip, with its block hash if available.
+     * <p>
+     * Used by confirmation polling to notice a fork at the same height. The default implementation
+     * calls {@link #getChainTipHeight()} and returns no hash; implementations should override it
+     * when the latest block hash comes with the same request.
+     *
+     * @return the latest block of the chain
+     * @throws ApiException if the data cannot be retrieved
+     */
+    default ChainTip getChainTip() throws ApiException {
+        return new ChainTip(getChainTipHeight(), null);
+    }
+
     /**
      * Get transaction information by hash.
      *
@@ -30,4 +48,23 @@ public interface ChainDataSupplier {
      * @throws ApiException if the lookup fails
      */
     Optional<TransactionInfo> getTransactionInfo(String txHash) throws ApiException;
+
+    /**
+     * Get transaction information for several transactions at once.
+     * <p>
+     * Used by confirmation polling to look up all tracked transactions with as few requests as the
+     * data provider allows. The default implementation calls {@link #getTransactionInfo(String)} for
+     * each hash; implementations backed by a bulk endpoint should override it.
+     *
+     * @param txHashes the transaction hashes to look up
+     * @return TransactionInfo by transaction hash, for the transactions found on chain
+     * @throws ApiException if the lookup fails
+     */
+    default Map<String, TransactionInfo> getTransactionInfos(Collection<String> txHashes) throws ApiException {
+        Map<String, TransactionInfo> infos = new HashMap<>();
+        for (String txHash : txHashes) {
+            getTransactionInfo(txHash).ifPresent(info -> infos.put(txHash, info));
+        }
+        return infos;
+    }
 }
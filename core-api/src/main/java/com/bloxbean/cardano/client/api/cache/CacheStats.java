@@ -0,0 +1,42 @@
+package com.bloxbean.cardano.client.api.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Snapshot of the hit / miss counters of a caching supplier
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CacheStats {
+    /**
+     * No of requests served from the cache
+     */
+    private final long hitCount;
+
+    /**
+     * No of requests which were not found in the cache. Concurrent misses for the same key share a single load.
+     */
+    private final long missCount;
+
+    /**
+     * No of loads from the underlying supplier
+     */
+    private final long loadCount;
+
+    /**
+     * No of loads which failed with an exception
+     */
+    private final long loadFailureCount;
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,159 @@
+package com.bloxbean.cardano.client.api.cache;
+
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import lombok.NonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ProtocolParamsSupplier} decorator which caches the protocol parameters returned by another supplier.
+ * <p>
+ * Cached parameters expire after the given ttl. If the loader also returns the end time of the epoch the parameters
+ * belong to, they expire at that time, as protocol parameters can only change at an epoch boundary.
+ * <p>
+ * Each caller gets its own copy of the cached parameters, so changes made by one caller are not seen by others.
+ * <p>
+ * Loading is single-flight. When the cached value expires, only one caller loads the new value from the underlying
+ * supplier and concurrent callers wait for that result.
+ */
+public class CachedProtocolParamsSupplier implements ProtocolParamsSupplier {
+    private final Supplier<EpochProtocolParams> loader;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Object loadLock = new Object();
+    private volatile CachedValue cachedValue;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    /**
+     * Create a CachedProtocolParamsSupplier with a fixed ttl
+     *
+     * @param delegate supplier to load protocol parameters from
+     * @param ttl      max time to keep the protocol parameters in cache
+     */
+    public CachedProtocolParamsSupplier(@NonNull ProtocolParamsSupplier delegate, Duration ttl) {
+        this(ttl, () -> new EpochProtocolParams(delegate.getProtocolParams(), null), Clock.systemUTC());
+    }
+
+    /**
+     * Create an epoch aware CachedProtocolParamsSupplier
+     *
+     * @param ttl    max time to keep the protocol parameters in cache
+     * @param loader loads protocol parameters together with the end time of their epoch in one step.
+     *               If the epoch end is null, only the ttl is used.
+     */
+    public CachedProtocolParamsSupplier(Duration ttl, Supplier<EpochProtocolParams> loader) {
+        this(ttl, loader, Clock.systemUTC());
+    }
+
+    CachedProtocolParamsSupplier(@NonNull Duration ttl, @NonNull Supplier<EpochProtocolParams> loader,
+                                 @NonNull Clock clock) {
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("ttl should be a positive duration");
+
+        this.loader = loader;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public ProtocolParams getProtocolParams() {
+        CachedValue value = cachedValue;
+        if (value != null && value.isValid(clock.instant())) {
+            hitCount.increment();
+            return copy(value.protocolParams);
+        }
+
+        missCount.increment();
+        synchronized (loadLock) {
+            //Another caller may have loaded it while waiting for the lock
+            value = cachedValue;
+            if (value != null && value.isValid(clock.instant()))
+                return copy(value.protocolParams);
+
+            loadCount.increment();
+            EpochProtocolParams loaded;
+            try {
+                loaded = loader.get();
+            } catch (RuntimeException e) {
+                loadFailureCount.increment();
+                throw e;
+            }
+
+            if (loaded == null || loaded.getProtocolParams() == null)
+                return null;
+
+            ProtocolParams protocolParams = copy(loaded.getProtocolParams());
+            cachedValue = new CachedValue(protocolParams, expiryTime(loaded.getEpochEnd()));
+
+            return copy(protocolParams);
+        }
+    }
+
+    /**
+     * Discard the cached protocol parameters. The next call loads them again from the underlying supplier.
+     */
+    public void invalidate() {
+        cachedValue = null;
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadCount.sum(), loadFailureCount.sum());
+    }
+
+    private Instant expiryTime(Instant epochEnd) {
+        Instant expiry = clock.instant().plus(ttl);
+
+        //If the epoch has already ended, the params are expired and the next call loads them again
+        if (epochEnd != null && epochEnd.isBefore(expiry))
+            expiry = epochEnd;
+
+        return expiry;
+    }
+
+    private static ProtocolParams copy(ProtocolParams protocolParams) {
+        ProtocolParams.ProtocolParamsBuilder builder = protocolParams.toBuilder();
+
+        if (protocolParams.getCostModels() != null) {
+            LinkedHashMap<String, LinkedHashMap<String, Long>> costModels = new LinkedHashMap<>();
+            protocolParams.getCostModels().forEach((language, costModel) ->
+                    costModels.put(language, costModel != null ? new LinkedHashMap<>(costModel) : null));
+            builder.costModels(costModels);
+        }
+
+        if (protocolParams.getCostModelsRaw() != null) {
+            LinkedHashMap<String, List<Long>> costModelsRaw = new LinkedHashMap<>();
+            protocolParams.getCostModelsRaw().forEach((language, costModel) ->
+                    costModelsRaw.put(language, costModel != null ? new ArrayList<>(costModel) : null));
+            builder.costModelsRaw(costModelsRaw);
+        }
+
+        return builder.build();
+    }
+
+    private static class CachedValue {
+        private final ProtocolParams protocolParams;
+        private final Instant expiresAt;
+
+        CachedValue(ProtocolParams protocolParams, Instant expiresAt) {
+            this.protocolParams = protocolParams;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isValid(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bloxbean.cardano.client.api.cache;
+
+import com.bloxbean.cardano.client.api.ScriptSupplier;
+import com.bloxbean.cardano.client.plutus.spec.PlutusScript;
+import lombok.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ScriptSupplier} decorator which caches scripts returned by another supplier.
+ * <p>
+ * Scripts are immutable for a given script hash, so a cached script never expires. The cache is bounded and the least
+ * recently used script is evicted when the max size is reached. A script which is not found is not cached, as it may
+ * be available later.
+ * <p>
+ * Loading is single-flight per script hash. Concurrent requests for the same script hash share one call to the
+ * underlying supplier.
+ */
+public class CachedScriptSupplier implements ScriptSupplier {
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final ScriptSupplier delegate;
+    private final Map<String, PlutusScript> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<PlutusScript>>> inflightLoads = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    public CachedScriptSupplier(ScriptSupplier delegate) {
+        this(delegate, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a CachedScriptSupplier
+     *
+     * @param delegate supplier to load scripts from
+     * @param maxSize  max no of scripts to keep in cache
+     */
+    public CachedScriptSupplier(@NonNull ScriptSupplier delegate, int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("maxSize should be greater than 0");
+
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PlutusScript> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Optional<PlutusScript> getScript(String scriptHash) {
+        if (scriptHash == null || scriptHash.isEmpty())
+            return Optional.empty();
+
+        PlutusScript script;
+        synchronized (cache) {
+            script = cache.get(scriptHash);
+        }
+
+        if (script != null) {
+            hitCount.increment();
+            return Optional.of(script);
+        }
+
+        missCount.increment();
+
+        CompletableFuture<Optional<PlutusScript>> newLoad = new CompletableFuture<>();
+        CompletableFuture<Optional<PlutusScript>> inflightLoad = inflightLoads.putIfAbsent(scriptHash, newLoad);
+        if (inflightLoad != null)
+            return join(inflightLoad);
+
+        try {
+            loadCount.increment();
+            Optional<PlutusScript> result = delegate.getScript(scriptHash);
+            if (result != null && result.isPresent()) {
+                synchronized (cache) {
+                    cache.put(scriptHash, result.get());
+                }
+            } else if (result == null) {
+                result = Optional.empty();
+            }
+
+            newLoad.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            loadFailureCount.increment();
+            newLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLoads.remove(scriptHash, newLoad);
+        }
+    }
+
+    /**
+     * Discard all cached scripts
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadCount.sum(), loadFailureCount.sum());
+    }
+
+    private static Optional<PlutusScript> join(CompletableFuture<Optional<PlutusScript>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.bloxbean.cardano.client.api.cache;
+
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Protocol parameters of an epoch together with the end time of that epoch
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class EpochProtocolParams {
+    private final ProtocolParams protocolParams;
+
+    /**
+     * End time of the epoch the protocol parameters belong to. Null if not known.
+     */
+    private final Instant epochEnd;
+}
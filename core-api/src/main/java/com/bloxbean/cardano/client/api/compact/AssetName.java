@@ -0,0 +1,49 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.util.HexUtil;
+
+/**
+ * Interned asset name. Instances are created by {@link AssetRegistry}, and there is only one instance per asset name,
+ * so they can be compared by identity.
+ */
+public final class AssetName {
+    public static final int MAX_SIZE = 32;
+
+    private final int id;
+    private final String hex;
+
+    AssetName(int id, String hex) {
+        this.id = id;
+        this.hex = hex;
+    }
+
+    /**
+     * Get the interned asset name
+     *
+     * @param hex asset name in hex, with or without 0x prefix
+     * @return AssetName
+     */
+    public static AssetName of(String hex) {
+        return AssetRegistry.INSTANCE.assetName(hex);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    /**
+     * @return asset name in hex, without 0x prefix
+     */
+    public String toHex() {
+        return hex;
+    }
+
+    public byte[] toBytes() {
+        return HexUtil.decodeHexString(hex);
+    }
+
+    @Override
+    public String toString() {
+        return hex;
+    }
+}
@@ -0,0 +1,123 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.util.HexUtil;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns policy ids and asset names, and assigns them the int ids used by {@link CompactValue}.
+ * <p>
+ * Ids are assigned in order of first use and never released, so the registry grows with the no of distinct assets
+ * seen by the application. Lookups are lock free, only the first registration of a policy id or asset name locks.
+ */
+public final class AssetRegistry {
+    public static final AssetRegistry INSTANCE = new AssetRegistry();
+
+    private final ConcurrentHashMap<String, PolicyId> policyIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AssetName> assetNames = new ConcurrentHashMap<>();
+
+    private volatile PolicyId[] policyIdsById = new PolicyId[64];
+    private volatile AssetName[] assetNamesById = new AssetName[64];
+    private int policyIdCount;
+    private int assetNameCount;
+
+    private AssetRegistry() {
+    }
+
+    /**
+     * @param hex policy id in hex
+     * @return interned policy id
+     * @throws IllegalArgumentException if the policy id is not 28 bytes hex
+     */
+    public PolicyId policyId(String hex) {
+        String key = normalize(hex);
+        PolicyId policyId = policyIds.get(key);
+        return policyId != null ? policyId : policyIds.computeIfAbsent(key, this::registerPolicyId);
+    }
+
+    /**
+     * @param bytes policy id
+     * @return interned policy id
+     */
+    public PolicyId policyId(byte[] bytes) {
+        return policyId(HexUtil.encodeHexString(bytes));
+    }
+
+    /**
+     * @param hex asset name in hex, with or without 0x prefix
+     * @return interned asset name
+     * @throws IllegalArgumentException if the asset name is not hex or is longer than 32 bytes
+     */
+    public AssetName assetName(String hex) {
+        String key = normalize(hex);
+        AssetName assetName = assetNames.get(key);
+        return assetName != null ? assetName : assetNames.computeIfAbsent(key, this::registerAssetName);
+    }
+
+    /**
+     * @param bytes asset name
+     * @return interned asset name
+     */
+    public AssetName assetName(byte[] bytes) {
+        return assetName(HexUtil.encodeHexString(bytes));
+    }
+
+    /**
+     * @return no of interned policy ids
+     */
+    public int policyIdCount() {
+        return policyIds.size();
+    }
+
+    /**
+     * @return no of interned asset names
+     */
+    public int assetNameCount() {
+        return assetNames.size();
+    }
+
+    PolicyId policyId(int id) {
+        return policyIdsById[id];
+    }
+
+    AssetName assetName(int id) {
+        return assetNamesById[id];
+    }
+
+    private synchronized PolicyId registerPolicyId(String hex) {
+        if (HexUtil.decodeHexString(hex).length != PolicyId.SIZE)
+            throw new IllegalArgumentException("Invalid policy id, expected 28 bytes: " + hex);
+
+        PolicyId policyId = new PolicyId(policyIdCount, hex);
+        PolicyId[] byId = policyIdsById;
+        if (policyIdCount == byId.length)
+            byId = Arrays.copyOf(byId, byId.length * 2);
+        byId[policyIdCount++] = policyId;
+        //Publish the new entry to lock free readers
+        policyIdsById = byId;
+        return policyId;
+    }
+
+    private synchronized AssetName registerAssetName(String hex) {
+        if (HexUtil.decodeHexString(hex).length > AssetName.MAX_SIZE)
+            throw new IllegalArgumentException("Invalid asset name, more than 32 bytes: " + hex);
+
+        AssetName assetName = new AssetName(assetNameCount, hex);
+        AssetName[] byId = assetNamesById;
+        if (assetNameCount == byId.length)
+            byId = Arrays.copyOf(byId, byId.length * 2);
+        byId[assetNameCount++] = assetName;
+        assetNamesById = byId;
+        return assetName;
+    }
+
+    private static String normalize(String hex) {
+        if (hex == null)
+            throw new IllegalArgumentException("Hex string is null");
+        if (hex.startsWith("0x"))
+            hex = hex.substring(2);
+        return hex.toLowerCase(Locale.ROOT);
+    }
+}
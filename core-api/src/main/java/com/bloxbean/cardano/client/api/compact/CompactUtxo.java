@@ -0,0 +1,64 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.api.model.Utxo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Immutable, compact alternative to {@link Utxo}, with the tx hash as a {@link Hash32} and the amounts as a
+ * {@link CompactValue}. Like {@link Utxo}, equality is by tx hash and output index.
+ */
+@Getter
+@AllArgsConstructor
+public final class CompactUtxo {
+    private final Hash32 txHash;
+    private final int outputIndex;
+    private final String address;
+    private final CompactValue value;
+    private final String dataHash;
+    private final String inlineDatum;
+    private final String referenceScriptHash;
+
+    /**
+     * Convert a {@link Utxo}
+     *
+     * @param utxo utxo
+     * @return CompactUtxo
+     */
+    public static CompactUtxo from(Utxo utxo) {
+        return new CompactUtxo(Hash32.fromHex(utxo.getTxHash()), utxo.getOutputIndex(), utxo.getAddress(),
+                CompactValue.from(utxo.getAmount()), utxo.getDataHash(), utxo.getInlineDatum(), utxo.getReferenceScriptHash());
+    }
+
+    public Utxo toUtxo() {
+        return Utxo.builder()
+                .txHash(txHash.toHex())
+                .outputIndex(outputIndex)
+                .address(address)
+                .amount(value.toAmounts())
+                .dataHash(dataHash)
+                .inlineDatum(inlineDatum)
+                .referenceScriptHash(referenceScriptHash)
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactUtxo)) return false;
+        CompactUtxo that = (CompactUtxo) o;
+        return outputIndex == that.outputIndex && txHash.equals(that.txHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(txHash, outputIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactUtxo{" + txHash + "#" + outputIndex + ", " + value + '}';
+    }
+}
@@ -0,0 +1,469 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.transaction.spec.Asset;
+import com.bloxbean.cardano.client.transaction.spec.MultiAsset;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * Immutable, compact alternative to {@link Value}, for arithmetic on many values, e.g. in coin selection and
+ * balancing.
+ * <p>
+ * Assets are kept as a sorted {@code long[]} of asset keys, which combine the ids of the interned {@link PolicyId} and
+ * {@link AssetName}, with a parallel {@code long[]} of quantities. Coin and quantities are {@code long}s, and only
+ * switch to {@link BigInteger} when they overflow. So {@link #add(CompactValue)}, {@link #subtract(CompactValue)} and
+ * {@link #covers(CompactValue)} are a single merge over primitive arrays, without the intermediate lists and maps of
+ * {@link Value#add(Value)}.
+ * <p>
+ * Assets with zero quantity are not kept.
+ */
+public final class CompactValue {
+    private static final long[] EMPTY_KEYS = new long[0];
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    public static final CompactValue ZERO = new CompactValue(0, null, EMPTY_KEYS, EMPTY_KEYS, null);
+
+    private final long coin;
+    //Set only when the coin doesn't fit in a long
+    private final BigInteger bigCoin;
+    private final long[] keys;
+    private final long[] quantities;
+    //Set only when a quantity doesn't fit in a long, then it holds all quantities
+    private final BigInteger[] bigQuantities;
+
+    private CompactValue(long coin, BigInteger bigCoin, long[] keys, long[] quantities, BigInteger[] bigQuantities) {
+        this.coin = coin;
+        this.bigCoin = bigCoin;
+        this.keys = keys;
+        this.quantities = quantities;
+        this.bigQuantities = bigQuantities;
+    }
+
+    public static CompactValue ofCoin(long coin) {
+        return coin == 0 ? ZERO : new CompactValue(coin, null, EMPTY_KEYS, EMPTY_KEYS, null);
+    }
+
+    public static CompactValue ofCoin(BigInteger coin) {
+        return fitsLong(coin) ? ofCoin(coin.longValue()) : new CompactValue(0, coin, EMPTY_KEYS, EMPTY_KEYS, null);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Convert a {@link Value}
+     *
+     * @param value value
+     * @return CompactValue
+     */
+    public static CompactValue from(Value value) {
+        Builder builder = builder();
+        if (value.getCoin() != null)
+            builder.coin(value.getCoin());
+        if (value.getMultiAssets() != null) {
+            for (MultiAsset multiAsset : value.getMultiAssets()) {
+                PolicyId policyId = AssetRegistry.INSTANCE.policyId(multiAsset.getPolicyId());
+                for (Asset asset : multiAsset.getAssets()) {
+                    builder.add(policyId, AssetRegistry.INSTANCE.assetName(asset.getNameAsBytes()), asset.getValue());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert a list of {@link Amount}, e.g. the amounts of a utxo
+     *
+     * @param amounts amounts
+     * @return CompactValue
+     */
+    public static CompactValue from(List<Amount> amounts) {
+        Builder builder = builder();
+        if (amounts != null) {
+            for (Amount amount : amounts) {
+                builder.add(amount.getUnit(), amount.getQuantity());
+            }
+        }
+        return builder.build();
+    }
+
+    public BigInteger getCoin() {
+        return bigCoin != null ? bigCoin : BigInteger.valueOf(coin);
+    }
+
+    /**
+     * @return coin as long
+     * @throws ArithmeticException if the coin doesn't fit in a long
+     */
+    public long getCoinAsLong() {
+        if (bigCoin != null)
+            throw new ArithmeticException("Coin out of long range: " + bigCoin);
+        return coin;
+    }
+
+    /**
+     * @return no of assets, excluding coin
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    public PolicyId getPolicyId(int index) {
+        return AssetRegistry.INSTANCE.policyId((int) (keys[index] >>> 32));
+    }
+
+    public AssetName getAssetName(int index) {
+        return AssetRegistry.INSTANCE.assetName((int) keys[index]);
+    }
+
+    public BigInteger getQuantity(int index) {
+        return bigQuantities != null ? bigQuantities[index] : BigInteger.valueOf(quantities[index]);
+    }
+
+    /**
+     * @param policyId  policy id
+     * @param assetName asset name
+     * @return quantity of the asset, zero if not present
+     */
+    public BigInteger getQuantity(PolicyId policyId, AssetName assetName) {
+        int index = Arrays.binarySearch(keys, key(policyId, assetName));
+        return index >= 0 ? getQuantity(index) : BigInteger.ZERO;
+    }
+
+    /**
+     * @return no of distinct policy ids
+     */
+    public int policyIdCount() {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || (keys[i] >>> 32) != (keys[i - 1] >>> 32))
+                count++;
+        }
+        return count;
+    }
+
+    public boolean isZero() {
+        return bigCoin == null && coin == 0 && keys.length == 0;
+    }
+
+    /**
+     * @return true if coin and all quantities are zero or positive
+     */
+    public boolean isNonNegative() {
+        if (getCoinSignum() < 0)
+            return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (signum(i) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    public CompactValue add(CompactValue that) {
+        return merge(that, false);
+    }
+
+    public CompactValue subtract(CompactValue that) {
+        return merge(that, true);
+    }
+
+    /**
+     * Check if this value has at least the coin and the quantity of each asset of the given value, i.e. if
+     * {@code this - that} is non negative, without creating the difference.
+     *
+     * @param that value to cover
+     * @return true if this value covers the given value
+     */
+    public boolean covers(CompactValue that) {
+        if (bigCoin != null || that.bigCoin != null || bigQuantities != null || that.bigQuantities != null)
+            return subtract(that).isNonNegative();
+
+        if (coin < that.coin)
+            return false;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < that.keys.length) {
+            if (j == that.keys.length || (i < keys.length && keys[i] < that.keys[j])) {
+                if (quantities[i++] < 0)
+                    return false;
+            } else if (i == keys.length || that.keys[j] < keys[i]) {
+                if (that.quantities[j++] > 0)
+                    return false;
+            } else {
+                if (quantities[i++] < that.quantities[j++])
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert to {@link Value}. Asset names are hex with 0x prefix, like deserialized values.
+     *
+     * @return Value
+     */
+    public Value toValue() {
+        List<MultiAsset> multiAssets = new ArrayList<>();
+        MultiAsset multiAsset = null;
+        for (int i = 0; i < keys.length; i++) {
+            if (multiAsset == null || (keys[i] >>> 32) != (keys[i - 1] >>> 32)) {
+                multiAsset = new MultiAsset(getPolicyId(i).toHex(), new ArrayList<>());
+                multiAssets.add(multiAsset);
+            }
+            multiAsset.getAssets().add(new Asset("0x" + getAssetName(i).toHex(), getQuantity(i)));
+        }
+        return new Value(getCoin(), multiAssets);
+    }
+
+    /**
+     * Convert to a list of {@link Amount}, lovelace first
+     *
+     * @return amounts
+     */
+    public List<Amount> toAmounts() {
+        List<Amount> amounts = new ArrayList<>(keys.length + 1);
+        amounts.add(new Amount(LOVELACE, getCoin()));
+        for (int i = 0; i < keys.length; i++) {
+            amounts.add(new Amount(getPolicyId(i).toHex() + getAssetName(i).toHex(), getQuantity(i)));
+        }
+        return amounts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactValue)) return false;
+        CompactValue that = (CompactValue) o;
+        //The representation is canonical, big values are only used when the value doesn't fit in a long
+        return coin == that.coin && Objects.equals(bigCoin, that.bigCoin) && Arrays.equals(keys, that.keys)
+                && Arrays.equals(quantities, that.quantities) && Arrays.equals(bigQuantities, that.bigQuantities);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(coin);
+        result = 31 * result + Objects.hashCode(bigCoin);
+        result = 31 * result + Arrays.hashCode(keys);
+        result = 31 * result + Arrays.hashCode(quantities);
+        result = 31 * result + Arrays.hashCode(bigQuantities);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CompactValue{coin=").append(getCoin());
+        for (int i = 0; i < keys.length; i++) {
+            sb.append(", ").append(getPolicyId(i)).append('.').append(getAssetName(i)).append('=').append(getQuantity(i));
+        }
+        return sb.append('}').toString();
+    }
+
+    private CompactValue merge(CompactValue that, boolean subtract) {
+        if (bigCoin == null && that.bigCoin == null && bigQuantities == null && that.bigQuantities == null) {
+            try {
+                return mergeLongs(that, subtract);
+            } catch (ArithmeticException e) {
+                //Overflow, use BigInteger
+            }
+        }
+        return mergeBigIntegers(that, subtract);
+    }
+
+    private CompactValue mergeLongs(CompactValue that, boolean subtract) {
+        long mergedCoin = subtract ? Math.subtractExact(coin, that.coin) : Math.addExact(coin, that.coin);
+        if (that.keys.length == 0)
+            return new CompactValue(mergedCoin, null, keys, quantities, null);
+        if (keys.length == 0 && !subtract)
+            return new CompactValue(mergedCoin, null, that.keys, that.quantities, null);
+
+        long[] mergedKeys = new long[keys.length + that.keys.length];
+        long[] mergedQuantities = new long[mergedKeys.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < that.keys.length) {
+            long key;
+            long quantity;
+            if (j == that.keys.length || (i < keys.length && keys[i] < that.keys[j])) {
+                key = keys[i];
+                quantity = quantities[i++];
+            } else if (i == keys.length || that.keys[j] < keys[i]) {
+                key = that.keys[j];
+                quantity = subtract ? Math.negateExact(that.quantities[j]) : that.quantities[j];
+                j++;
+            } else {
+                key = keys[i];
+                quantity = subtract ? Math.subtractExact(quantities[i], that.quantities[j])
+                        : Math.addExact(quantities[i], that.quantities[j]);
+                i++;
+                j++;
+            }
+            if (quantity != 0) {
+                mergedKeys[n] = key;
+                mergedQuantities[n++] = quantity;
+            }
+        }
+        if (n < mergedKeys.length) {
+            mergedKeys = n == 0 ? EMPTY_KEYS : Arrays.copyOf(mergedKeys, n);
+            mergedQuantities = n == 0 ? EMPTY_KEYS : Arrays.copyOf(mergedQuantities, n);
+        }
+        return new CompactValue(mergedCoin, null, mergedKeys, mergedQuantities, null);
+    }
+
+    private CompactValue mergeBigIntegers(CompactValue that, boolean subtract) {
+        BigInteger mergedCoin = subtract ? getCoin().subtract(that.getCoin()) : getCoin().add(that.getCoin());
+        long[] mergedKeys = new long[keys.length + that.keys.length];
+        BigInteger[] mergedQuantities = new BigInteger[mergedKeys.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < that.keys.length) {
+            if (j == that.keys.length || (i < keys.length && keys[i] < that.keys[j])) {
+                mergedKeys[n] = keys[i];
+                mergedQuantities[n++] = getQuantity(i++);
+            } else if (i == keys.length || that.keys[j] < keys[i]) {
+                mergedKeys[n] = that.keys[j];
+                mergedQuantities[n++] = subtract ? that.getQuantity(j).negate() : that.getQuantity(j);
+                j++;
+            } else {
+                mergedKeys[n] = keys[i];
+                mergedQuantities[n++] = subtract ? getQuantity(i).subtract(that.getQuantity(j))
+                        : getQuantity(i).add(that.getQuantity(j));
+                i++;
+                j++;
+            }
+        }
+        return create(mergedCoin, mergedKeys, mergedQuantities, n);
+    }
+
+    //Create from sorted keys, dropping zero quantities and using longs where possible
+    private static CompactValue create(BigInteger coin, long[] keys, BigInteger[] quantities, int size) {
+        int n = 0;
+        boolean fitsLong = true;
+        for (int i = 0; i < size; i++) {
+            if (quantities[i].signum() == 0)
+                continue;
+            keys[n] = keys[i];
+            quantities[n++] = quantities[i];
+            fitsLong &= fitsLong(quantities[i]);
+        }
+
+        long[] compactKeys = n == 0 ? EMPTY_KEYS : Arrays.copyOf(keys, n);
+        long compactCoin = fitsLong(coin) ? coin.longValue() : 0;
+        BigInteger bigCoin = fitsLong(coin) ? null : coin;
+        if (fitsLong) {
+            long[] longQuantities = n == 0 ? EMPTY_KEYS : new long[n];
+            for (int i = 0; i < n; i++) {
+                longQuantities[i] = quantities[i].longValue();
+            }
+            return new CompactValue(compactCoin, bigCoin, compactKeys, longQuantities, null);
+        } else {
+            return new CompactValue(compactCoin, bigCoin, compactKeys, null, Arrays.copyOf(quantities, n));
+        }
+    }
+
+    private int getCoinSignum() {
+        return bigCoin != null ? bigCoin.signum() : Long.signum(coin);
+    }
+
+    private int signum(int index) {
+        return bigQuantities != null ? bigQuantities[index].signum() : Long.signum(quantities[index]);
+    }
+
+    private static long key(PolicyId policyId, AssetName assetName) {
+        return ((long) policyId.getId() << 32) | (assetName.getId() & 0xFFFFFFFFL);
+    }
+
+    private static boolean fitsLong(BigInteger value) {
+        return value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0;
+    }
+
+    /**
+     * Builder for {@link CompactValue}. Quantities of the same asset are summed.
+     */
+    public static final class Builder {
+        private BigInteger coin = BigInteger.ZERO;
+        private long[] keys = new long[8];
+        private BigInteger[] quantities = new BigInteger[8];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder coin(long coin) {
+            return coin(BigInteger.valueOf(coin));
+        }
+
+        public Builder coin(BigInteger coin) {
+            this.coin = this.coin.add(coin);
+            return this;
+        }
+
+        public Builder add(PolicyId policyId, AssetName assetName, long quantity) {
+            return add(policyId, assetName, BigInteger.valueOf(quantity));
+        }
+
+        public Builder add(PolicyId policyId, AssetName assetName, BigInteger quantity) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                quantities = Arrays.copyOf(quantities, size * 2);
+            }
+            keys[size] = key(policyId, assetName);
+            quantities[size++] = quantity;
+            return this;
+        }
+
+        /**
+         * @param unit     lovelace or policy id + asset name in hex
+         * @param quantity quantity
+         * @return this builder
+         */
+        public Builder add(String unit, BigInteger quantity) {
+            if (LOVELACE.equals(unit))
+                return coin(quantity);
+            if (unit.length() < PolicyId.SIZE * 2)
+                throw new IllegalArgumentException("Invalid unit: " + unit);
+            return add(AssetRegistry.INSTANCE.policyId(unit.substring(0, PolicyId.SIZE * 2)),
+                    AssetRegistry.INSTANCE.assetName(unit.substring(PolicyId.SIZE * 2)), quantity);
+        }
+
+        public CompactValue build() {
+            //Insertion sort, values usually have a few assets
+            for (int i = 1; i < size; i++) {
+                long key = keys[i];
+                BigInteger quantity = quantities[i];
+                int j = i - 1;
+                while (j >= 0 && keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    quantities[j + 1] = quantities[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                quantities[j + 1] = quantity;
+            }
+
+            long[] mergedKeys = new long[size];
+            BigInteger[] mergedQuantities = new BigInteger[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (n > 0 && mergedKeys[n - 1] == keys[i]) {
+                    mergedQuantities[n - 1] = mergedQuantities[n - 1].add(quantities[i]);
+                } else {
+                    mergedKeys[n] = keys[i];
+                    mergedQuantities[n++] = quantities[i];
+                }
+            }
+            return create(coin, mergedKeys, mergedQuantities, n);
+        }
+    }
+}
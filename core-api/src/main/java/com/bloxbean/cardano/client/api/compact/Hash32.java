@@ -0,0 +1,102 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.util.HexUtil;
+
+/**
+ * Immutable 32 bytes hash (e.g. a transaction hash) held as four longs, for use as a map key without keeping the
+ * hex string around.
+ */
+public final class Hash32 implements Comparable<Hash32> {
+    public static final int SIZE = 32;
+
+    private final long w0;
+    private final long w1;
+    private final long w2;
+    private final long w3;
+
+    private Hash32(long w0, long w1, long w2, long w3) {
+        this.w0 = w0;
+        this.w1 = w1;
+        this.w2 = w2;
+        this.w3 = w3;
+    }
+
+    /**
+     * @param bytes 32 bytes hash
+     * @return Hash32
+     * @throws IllegalArgumentException if the hash is not 32 bytes
+     */
+    public static Hash32 of(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE)
+            throw new IllegalArgumentException("Invalid hash length, expected 32 bytes: " + (bytes == null ? null : bytes.length));
+        return new Hash32(word(bytes, 0), word(bytes, 8), word(bytes, 16), word(bytes, 24));
+    }
+
+    /**
+     * @param hex 32 bytes hash in hex
+     * @return Hash32
+     * @throws IllegalArgumentException if the hash is not 32 bytes hex
+     */
+    public static Hash32 fromHex(String hex) {
+        return of(HexUtil.decodeHexString(hex));
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[SIZE];
+        putWord(bytes, 0, w0);
+        putWord(bytes, 8, w1);
+        putWord(bytes, 16, w2);
+        putWord(bytes, 24, w3);
+        return bytes;
+    }
+
+    public String toHex() {
+        return HexUtil.encodeHexString(toBytes());
+    }
+
+    @Override
+    public int compareTo(Hash32 that) {
+        int c = Long.compareUnsigned(w0, that.w0);
+        if (c == 0)
+            c = Long.compareUnsigned(w1, that.w1);
+        if (c == 0)
+            c = Long.compareUnsigned(w2, that.w2);
+        if (c == 0)
+            c = Long.compareUnsigned(w3, that.w3);
+        return c;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hash32)) return false;
+        Hash32 that = (Hash32) o;
+        return w0 == that.w0 && w1 == that.w1 && w2 == that.w2 && w3 == that.w3;
+    }
+
+    @Override
+    public int hashCode() {
+        //Hashes are uniformly distributed, any word is a good hash code
+        return Long.hashCode(w0);
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+
+    private static long word(byte[] bytes, int offset) {
+        long word = 0;
+        for (int i = 0; i < 8; i++) {
+            word = (word << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return word;
+    }
+
+    private static void putWord(byte[] bytes, int offset, long word) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) word;
+            word >>>= 8;
+        }
+    }
+}
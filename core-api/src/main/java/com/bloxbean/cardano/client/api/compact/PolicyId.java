@@ -0,0 +1,43 @@
+package com.bloxbean.cardano.client.api.compact;
+
+/**
+ * Interned policy id. Instances are created by {@link AssetRegistry}, and there is only one instance per policy id,
+ * so they can be compared by identity.
+ */
+public final class PolicyId {
+    public static final int SIZE = 28;
+
+    private final int id;
+    private final String hex;
+
+    PolicyId(int id, String hex) {
+        this.id = id;
+        this.hex = hex;
+    }
+
+    /**
+     * Get the interned policy id
+     *
+     * @param hex policy id in hex
+     * @return PolicyId
+     */
+    public static PolicyId of(String hex) {
+        return AssetRegistry.INSTANCE.policyId(hex);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    /**
+     * @return policy id in hex
+     */
+    public String toHex() {
+        return hex;
+    }
+
+    @Override
+    public String toString() {
+        return hex;
+    }
+}
@@ -0,0 +1,450 @@
+package com.bloxbean.cardano.client.api.impl;
+
+import com.bloxbean.cardano.client.address.Address;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.api.util.UtxoUtil;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
+import com.bloxbean.cardano.client.util.HexUtil;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+
+/**
+ * An in-memory {@link UtxoSupplier} which keeps unspent outputs indexed by address, payment credential, asset unit and
+ * output reference (txHash#index). Pages and outputs are served from memory, without any remote call.
+ * <p>
+ * The supplier is seeded from another {@link UtxoSupplier} through {@link #load(String...)} or with
+ * {@link #add(Utxo)}, and kept up to date by applying submitted transactions with {@link #applyTransaction(Transaction)}.
+ * Utxos of an address are returned in the order they were added. {@link OrderEnum#desc} returns the latest first.
+ * <p>
+ * This class is thread-safe.
+ */
+@Slf4j
+public class IndexedUtxoSupplier implements UtxoSupplier {
+    private final UtxoSupplier source;
+
+    private final Map<String, Entry> byOutRef = new HashMap<>();
+    private final Map<String, NavigableMap<Long, Utxo>> byAddress = new HashMap<>();
+    private final Map<String, NavigableMap<Long, Utxo>> byPaymentCredential = new HashMap<>();
+    private final Map<String, NavigableMap<Long, Utxo>> byUnit = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long sequence;
+    private volatile boolean searchByAddressVkh;
+
+    /**
+     * Create an empty IndexedUtxoSupplier
+     */
+    public IndexedUtxoSupplier() {
+        this.source = null;
+    }
+
+    /**
+     * Create an IndexedUtxoSupplier which is seeded from the given supplier. Utxos are only loaded through
+     * {@link #load(String...)}. The source supplier is also used for {@link #isUsedAddress(Address)}.
+     *
+     * @param source supplier to load utxos from
+     */
+    public IndexedUtxoSupplier(@NonNull UtxoSupplier source) {
+        this.source = source;
+    }
+
+    /**
+     * Load all utxos of the given addresses from the source supplier. Existing utxos of these addresses are replaced.
+     *
+     * @param addresses addresses
+     * @return this supplier
+     */
+    public IndexedUtxoSupplier load(String... addresses) {
+        if (source == null)
+            throw new IllegalStateException("No source UtxoSupplier to load utxos from");
+
+        for (String address : addresses) {
+            List<Utxo> utxos = source.getAll(address);
+
+            lock.writeLock().lock();
+            try {
+                NavigableMap<Long, Utxo> existing = byAddress.get(address);
+                if (existing != null) {
+                    for (Utxo utxo : new ArrayList<>(existing.values())) {
+                        removeInternal(outRef(utxo.getTxHash(), utxo.getOutputIndex()));
+                    }
+                }
+
+                for (Utxo utxo : utxos) {
+                    addInternal(utxo);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Add an unspent output. If an output with the same txHash#index exists, it's replaced.
+     *
+     * @param utxo utxo
+     */
+    public void add(@NonNull Utxo utxo) {
+        lock.writeLock().lock();
+        try {
+            addInternal(utxo);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(@NonNull Collection<Utxo> utxos) {
+        lock.writeLock().lock();
+        try {
+            for (Utxo utxo : utxos) {
+                addInternal(utxo);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a spent output
+     *
+     * @param txHash      transaction hash
+     * @param outputIndex output index
+     * @return removed utxo, if found
+     */
+    public Optional<Utxo> spend(@NonNull String txHash, int outputIndex) {
+        lock.writeLock().lock();
+        try {
+            return Optional.ofNullable(removeInternal(outRef(txHash, outputIndex)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a transaction. Spent inputs are removed and new outputs are added. For a transaction marked as invalid,
+     * only the collateral inputs are removed and the collateral return output is added.
+     * <p>
+     * Outputs are indexed only for addresses which are already known to this supplier, unless
+     * <code>indexAllOutputs</code> is true.
+     *
+     * @param transaction     transaction
+     * @param indexAllOutputs true to add all outputs of the transaction
+     * @return transaction hash
+     */
+    public String applyTransaction(@NonNull Transaction transaction, boolean indexAllOutputs) {
+        String txHash = TransactionUtil.getTxHash(transaction);
+        var body = transaction.getBody();
+
+        List<TransactionInput> spentInputs;
+        List<TransactionOutput> outputs;
+        int firstOutputIndex;
+        if (transaction.isValid()) {
+            spentInputs = body.getInputs();
+            outputs = body.getOutputs();
+            firstOutputIndex = 0;
+        } else {
+            spentInputs = body.getCollateral();
+            outputs = body.getCollateralReturn() != null ? List.of(body.getCollateralReturn()) : Collections.emptyList();
+            firstOutputIndex = body.getOutputs() != null ? body.getOutputs().size() : 0;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (spentInputs != null) {
+                for (TransactionInput input : spentInputs) {
+                    removeInternal(outRef(input.getTransactionId(), input.getIndex()));
+                }
+            }
+
+            if (outputs != null) {
+                for (int i = 0; i < outputs.size(); i++) {
+                    TransactionOutput output = outputs.get(i);
+                    if (indexAllOutputs || byAddress.containsKey(output.getAddress()))
+                        addInternal(UtxoUtil.toUtxo(txHash, firstOutputIndex + i, output));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return txHash;
+    }
+
+    /**
+     * Apply a transaction. Spent inputs are removed and outputs to addresses already known to this supplier are added.
+     *
+     * @param transaction transaction
+     * @return transaction hash
+     * @see #applyTransaction(Transaction, boolean)
+     */
+    public String applyTransaction(@NonNull Transaction transaction) {
+        return applyTransaction(transaction, false);
+    }
+
+    @Override
+    public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+        int pageSize = nrOfItems != null ? nrOfItems : DEFAULT_NR_OF_ITEMS_TO_FETCH;
+        int pageNo = page != null ? page : 0;
+        if (pageSize <= 0 || pageNo < 0)
+            return Collections.emptyList();
+
+        long skip = (long) pageNo * pageSize;
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Utxo> utxos = addressIndex(address);
+            if (utxos == null || skip >= utxos.size())
+                return Collections.emptyList();
+
+            Collection<Utxo> values = order == OrderEnum.desc ? utxos.descendingMap().values() : utxos.values();
+            List<Utxo> result = new ArrayList<>(Math.min(pageSize, utxos.size()));
+            Iterator<Utxo> iterator = values.iterator();
+            for (long i = 0; i < skip; i++) {
+                iterator.next();
+            }
+            while (iterator.hasNext() && result.size() < pageSize) {
+                result.add(iterator.next());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Utxo> getAll(String address) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Utxo> utxos = addressIndex(address);
+            return utxos != null ? new ArrayList<>(utxos.values()) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the output from memory. Unlike remote suppliers, a spent output is not available.
+     *
+     * @param txHash      Transaction hash
+     * @param outputIndex Output index
+     * @return {@link Utxo}
+     */
+    @Override
+    public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+        lock.readLock().lock();
+        try {
+            Entry entry = byOutRef.get(outRef(txHash, outputIndex));
+            return entry != null ? Optional.of(entry.utxo) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all unspent outputs with the given asset
+     *
+     * @param unit asset unit (policy id + asset name in hex)
+     * @return list of utxos
+     */
+    public List<Utxo> getByUnit(String unit) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Utxo> utxos = byUnit.get(unit);
+            return utxos != null ? new ArrayList<>(utxos.values()) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all unspent outputs of an address with the given asset
+     *
+     * @param address address
+     * @param unit    asset unit (policy id + asset name in hex) or lovelace
+     * @return list of utxos
+     */
+    public List<Utxo> getByAddressAndUnit(String address, String unit) {
+        if (LOVELACE.equals(unit))
+            return getAll(address);
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Utxo> addressUtxos = addressIndex(address);
+            NavigableMap<Long, Utxo> unitUtxos = byUnit.get(unit);
+            if (addressUtxos == null || unitUtxos == null)
+                return new ArrayList<>();
+
+            //Iterate the smaller index and filter by the other one
+            List<Utxo> result = new ArrayList<>();
+            if (unitUtxos.size() <= addressUtxos.size()) {
+                for (Map.Entry<Long, Utxo> entry : unitUtxos.entrySet()) {
+                    if (addressUtxos.containsKey(entry.getKey()))
+                        result.add(entry.getValue());
+                }
+            } else {
+                for (Map.Entry<Long, Utxo> entry : addressUtxos.entrySet()) {
+                    if (unitUtxos.containsKey(entry.getKey()))
+                        result.add(entry.getValue());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all unspent outputs with the given payment credential
+     *
+     * @param paymentCredentialHash payment credential hash in hex
+     * @return list of utxos
+     */
+    public List<Utxo> getByPaymentCredential(String paymentCredentialHash) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Utxo> utxos = byPaymentCredential.get(paymentCredentialHash);
+            return utxos != null ? new ArrayList<>(utxos.values()) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the no of unspent outputs in this supplier
+     *
+     * @return size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byOutRef.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isUsedAddress(Address address) {
+        if (source != null)
+            return source.isUsedAddress(address);
+
+        lock.readLock().lock();
+        try {
+            return byAddress.containsKey(address.toBech32());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void setSearchByAddressVkh(boolean flag) {
+        this.searchByAddressVkh = flag;
+    }
+
+    private NavigableMap<Long, Utxo> addressIndex(String address) {
+        if (searchByAddressVkh) {
+            String paymentCredential = paymentCredential(address);
+            if (paymentCredential != null)
+                return byPaymentCredential.get(paymentCredential);
+
+            log.warn("searchByAddressVkh is true, but no payment credential found for the address {}.", address);
+        }
+
+        return byAddress.get(address);
+    }
+
+    private void addInternal(Utxo utxo) {
+        String outRef = outRef(utxo.getTxHash(), utxo.getOutputIndex());
+        removeInternal(outRef);
+
+        long seq = sequence++;
+        String paymentCredential = paymentCredential(utxo.getAddress());
+        byOutRef.put(outRef, new Entry(seq, utxo, paymentCredential));
+
+        if (utxo.getAddress() != null)
+            byAddress.computeIfAbsent(utxo.getAddress(), k -> new TreeMap<>()).put(seq, utxo);
+
+        if (paymentCredential != null)
+            byPaymentCredential.computeIfAbsent(paymentCredential, k -> new TreeMap<>()).put(seq, utxo);
+
+        if (utxo.getAmount() != null) {
+            for (Amount amount : utxo.getAmount()) {
+                if (!LOVELACE.equals(amount.getUnit()))
+                    byUnit.computeIfAbsent(amount.getUnit(), k -> new TreeMap<>()).put(seq, utxo);
+            }
+        }
+    }
+
+    private Utxo removeInternal(String outRef) {
+        Entry entry = byOutRef.remove(outRef);
+        if (entry == null)
+            return null;
+
+        Utxo utxo = entry.utxo;
+        removeFromIndex(byAddress, utxo.getAddress(), entry.seq);
+        removeFromIndex(byPaymentCredential, entry.paymentCredential, entry.seq);
+        if (utxo.getAmount() != null) {
+            for (Amount amount : utxo.getAmount()) {
+                if (!LOVELACE.equals(amount.getUnit()))
+                    removeFromIndex(byUnit, amount.getUnit(), entry.seq);
+            }
+        }
+        return utxo;
+    }
+
+    private static void removeFromIndex(Map<String, NavigableMap<Long, Utxo>> index, String key, long seq) {
+        if (key == null)
+            return;
+
+        NavigableMap<Long, Utxo> utxos = index.get(key);
+        if (utxos != null) {
+            utxos.remove(seq);
+            if (utxos.isEmpty())
+                index.remove(key);
+        }
+    }
+
+    private static String paymentCredential(String address) {
+        if (address == null || !address.startsWith("addr"))
+            return null; //Byron or invalid address
+
+        try {
+            return new Address(address).getPaymentCredentialHash()
+                    .map(HexUtil::encodeHexString)
+                    .orElse(null);
+        } catch (Exception e) {
+            if (log.isDebugEnabled())
+                log.debug("Unable to get payment credential for address " + address, e);
+            return null;
+        }
+    }
+
+    private static String outRef(String txHash, int outputIndex) {
+        return txHash + "#" + outputIndex;
+    }
+
+    private static class Entry {
+        private final long seq;
+        private final Utxo utxo;
+        private final String paymentCredential;
+
+        Entry(long seq, Utxo utxo, String paymentCredential) {
+            this.seq = seq;
+            this.utxo = utxo;
+            this.paymentCredential = paymentCredential;
+        }
+    }
+}
@@ -0,0 +1,617 @@
+package com.bloxbean.cardano.client.api.impl;
+
+import com.bloxbean.cardano.client.address.Address;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.api.util.UtxoUtil;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link UtxoSupplier} which lets concurrent transaction builds on the same wallet share one utxo set without
+ * selecting the same utxos.
+ * <p>
+ * Each build takes a {@link Reservation}. Utxos selected for a build are leased to its reservation and hidden from
+ * all other callers until the lease is released, the lease ttl expires, or the transaction is confirmed as submitted
+ * with {@link Reservation#confirm(Transaction)}. Inputs of a submitted transaction stay hidden, and its outputs
+ * (e.g. change) are returned as spendable utxos, until the source supplier returns one of its outputs or the pending
+ * ttl expires.
+ * <p>
+ * Pages are computed over the filtered utxo set, so a page is only empty when there are no more utxos. When no utxo
+ * is reserved or pending, pages are read from the source supplier as is. Otherwise, page {@code n}
+ * reads the source pages {@code 0..n}, so a source with cheap pages such as {@link IndexedUtxoSupplier} is
+ * recommended for busy wallets.
+ * <p>
+ * QuickTxBuilder reserves, confirms and releases utxos automatically when its utxo supplier is a
+ * ReservingUtxoSupplier. This class is thread-safe.
+ */
+@Slf4j
+public class ReservingUtxoSupplier implements UtxoSupplier {
+    private static final Duration DEFAULT_LEASE_TTL = Duration.ofMinutes(2);
+    private static final Duration DEFAULT_PENDING_TTL = Duration.ofMinutes(10);
+
+    private final UtxoSupplier source;
+    private final long leaseTtlMillis;
+    private final long pendingTtlMillis;
+    private final Clock clock;
+
+    //Leased or spent utxos by output reference (txHash#index)
+    private final Map<String, Hold> holds = new HashMap<>();
+    //Submitted, not yet observed transactions by tx hash
+    private final Map<String, Submission> submissions = new LinkedHashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Create a ReservingUtxoSupplier with a lease ttl of 2 minutes and a pending ttl of 10 minutes
+     *
+     * @param source supplier to read utxos from
+     */
+    public ReservingUtxoSupplier(@NonNull UtxoSupplier source) {
+        this(source, DEFAULT_LEASE_TTL, DEFAULT_PENDING_TTL);
+    }
+
+    /**
+     * Create a ReservingUtxoSupplier
+     *
+     * @param source     supplier to read utxos from
+     * @param leaseTtl   max time utxos stay reserved for a build which is neither confirmed nor released
+     * @param pendingTtl max time inputs of a submitted transaction stay hidden and its outputs are returned, if the
+     *                   source supplier doesn't return any output of the transaction before
+     */
+    public ReservingUtxoSupplier(@NonNull UtxoSupplier source, @NonNull Duration leaseTtl, @NonNull Duration pendingTtl) {
+        this(source, leaseTtl, pendingTtl, Clock.systemUTC());
+    }
+
+    /**
+     * Create a ReservingUtxoSupplier
+     *
+     * @param source     supplier to read utxos from
+     * @param leaseTtl   max time utxos stay reserved for a build which is neither confirmed nor released
+     * @param pendingTtl max time inputs of a submitted transaction stay hidden and its outputs are returned
+     * @param clock      clock for lease and pending expiry
+     */
+    public ReservingUtxoSupplier(@NonNull UtxoSupplier source, @NonNull Duration leaseTtl, @NonNull Duration pendingTtl,
+                                 @NonNull Clock clock) {
+        this.source = source;
+        this.leaseTtlMillis = leaseTtl.toMillis();
+        this.pendingTtlMillis = pendingTtl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the supplier utxos are read from
+     *
+     * @return source supplier
+     */
+    public UtxoSupplier getSource() {
+        return source;
+    }
+
+    /**
+     * Start a new reservation, usually one per transaction build
+     *
+     * @return reservation
+     */
+    public Reservation newReservation() {
+        return new Reservation();
+    }
+
+    @Override
+    public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+        int pageSize = nrOfItems != null ? nrOfItems : DEFAULT_NR_OF_ITEMS_TO_FETCH;
+        int pageNo = page != null ? page : 0;
+        if (pageSize <= 0 || pageNo < 0)
+            return Collections.emptyList();
+
+        View view = view(address);
+        if (view.hidden.isEmpty() && view.pending.isEmpty())
+            return source.getPage(address, nrOfItems, page, order);
+
+        long skip = (long) pageNo * pageSize;
+        List<Utxo> result = new ArrayList<>();
+        Set<String> observed = new HashSet<>();
+        PageCollector collector = new PageCollector(view, skip, pageSize, result);
+
+        //Pending outputs are the latest utxos of the address
+        if (order == OrderEnum.desc)
+            collector.addAll(view.pending);
+
+        for (int sourcePage = 0; !collector.isFull(); sourcePage++) {
+            List<Utxo> utxos = source.getPage(address, pageSize, sourcePage, order);
+            if (utxos == null || utxos.isEmpty())
+                break;
+            for (Utxo utxo : utxos) {
+                if (view.pendingTxHashes.contains(utxo.getTxHash()))
+                    observed.add(utxo.getTxHash());
+            }
+            collector.addAll(utxos);
+        }
+
+        if (order != OrderEnum.desc)
+            collector.addAll(view.pending);
+
+        markObserved(observed);
+        return result;
+    }
+
+    @Override
+    public List<Utxo> getAll(String address) {
+        View view = view(address);
+        List<Utxo> utxos = source.getAll(address);
+        if (view.hidden.isEmpty() && view.pending.isEmpty())
+            return utxos;
+
+        Set<String> observed = new HashSet<>();
+        List<Utxo> result = new ArrayList<>();
+        PageCollector collector = new PageCollector(view, 0, Integer.MAX_VALUE, result);
+        if (utxos != null) {
+            for (Utxo utxo : utxos) {
+                if (view.pendingTxHashes.contains(utxo.getTxHash()))
+                    observed.add(utxo.getTxHash());
+            }
+            collector.addAll(utxos);
+        }
+        collector.addAll(view.pending);
+
+        markObserved(observed);
+        return result;
+    }
+
+    /**
+     * Returns the output from the source supplier, or a pending output of a submitted transaction
+     *
+     * @param txHash      Transaction hash
+     * @param outputIndex Output index
+     * @return {@link Utxo}
+     */
+    @Override
+    public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+        Optional<Utxo> utxo = source.getTxOutput(txHash, outputIndex);
+        if (utxo.isPresent())
+            return utxo;
+
+        lock.readLock().lock();
+        try {
+            Submission submission = submissions.get(txHash);
+            if (submission == null || submission.isExpired(now()))
+                return Optional.empty();
+            return submission.outputs.stream()
+                    .filter(output -> output.getOutputIndex() == outputIndex)
+                    .findFirst();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isUsedAddress(Address address) {
+        return source.isUsedAddress(address);
+    }
+
+    @Override
+    public void setSearchByAddressVkh(boolean flag) {
+        source.setSearchByAddressVkh(flag);
+    }
+
+    /**
+     * Returns the outputs of submitted transactions to an address which are not yet returned by the source supplier
+     *
+     * @param address address
+     * @return pending utxos, excluding the ones reserved or spent by other builds
+     */
+    public List<Utxo> getPendingUtxos(String address) {
+        View view = view(address);
+        List<Utxo> result = new ArrayList<>();
+        new PageCollector(view, 0, Integer.MAX_VALUE, result).addAll(view.pending);
+        return result;
+    }
+
+    /**
+     * Checks if an output is reserved by a build or spent by a submitted transaction
+     *
+     * @param txHash      transaction hash
+     * @param outputIndex output index
+     * @return true if the output is not available for selection
+     */
+    public boolean isHeld(String txHash, int outputIndex) {
+        lock.readLock().lock();
+        try {
+            Hold hold = holds.get(outRef(txHash, outputIndex));
+            return hold != null && !hold.isExpired(now());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Forget a submitted transaction, e.g. when it was rejected or rolled back after submission. Its inputs become
+     * available again and its outputs are no longer returned.
+     *
+     * @param txHash transaction hash
+     */
+    public void discard(@NonNull String txHash) {
+        lock.writeLock().lock();
+        try {
+            removeSubmission(txHash);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the no of outputs currently reserved or spent by submitted transactions
+     *
+     * @return no of held outputs
+     */
+    public int heldCount() {
+        lock.writeLock().lock();
+        try {
+            purgeExpired();
+            return holds.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the no of submitted transactions whose outputs are not yet returned by the source supplier
+     *
+     * @return no of pending transactions
+     */
+    public int pendingCount() {
+        lock.writeLock().lock();
+        try {
+            purgeExpired();
+            return submissions.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private View view(String address) {
+        long now = now();
+        lock.readLock().lock();
+        try {
+            Set<String> hidden = new HashSet<>();
+            for (Map.Entry<String, Hold> entry : holds.entrySet()) {
+                if (!entry.getValue().isExpired(now))
+                    hidden.add(entry.getKey());
+            }
+
+            List<Utxo> pending = new ArrayList<>();
+            Set<String> pendingTxHashes = new HashSet<>();
+            for (Submission submission : submissions.values()) {
+                if (submission.isExpired(now))
+                    continue;
+                pendingTxHashes.add(submission.txHash);
+                for (Utxo output : submission.outputs) {
+                    if (address.equals(output.getAddress()))
+                        pending.add(output);
+                }
+            }
+            return new View(hidden, pending, pendingTxHashes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markObserved(Set<String> txHashes) {
+        if (txHashes.isEmpty())
+            return;
+
+        lock.writeLock().lock();
+        try {
+            for (String txHash : txHashes) {
+                if (removeSubmission(txHash) && log.isDebugEnabled())
+                    log.debug("Transaction {} observed in source supplier", txHash);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //Must be called with the write lock held
+    private boolean removeSubmission(String txHash) {
+        Submission submission = submissions.remove(txHash);
+        if (submission == null)
+            return false;
+
+        for (String outRef : submission.spent) {
+            Hold hold = holds.get(outRef);
+            if (hold != null && hold.submission == submission)
+                holds.remove(outRef);
+        }
+        return true;
+    }
+
+    //Must be called with the write lock held
+    private void purgeExpired() {
+        long now = now();
+        holds.values().removeIf(hold -> hold.isExpired(now));
+        submissions.values().removeIf(submission -> submission.isExpired(now));
+    }
+
+    private long now() {
+        return clock.millis();
+    }
+
+    private static String outRef(String txHash, int outputIndex) {
+        return txHash + "#" + outputIndex;
+    }
+
+    private static List<String> outRefs(List<TransactionInput> inputs) {
+        if (inputs == null)
+            return Collections.emptyList();
+
+        List<String> outRefs = new ArrayList<>(inputs.size());
+        for (TransactionInput input : inputs) {
+            outRefs.add(outRef(input.getTransactionId(), input.getIndex()));
+        }
+        return outRefs;
+    }
+
+    /**
+     * Leases of one transaction build. A reservation ends with {@link #confirm(Transaction)} when the transaction is
+     * submitted, or with {@link #release()} when the build or the submission fails.
+     */
+    public class Reservation {
+        private final Set<String> leased = new HashSet<>();
+        private boolean closed;
+
+        private Reservation() {
+        }
+
+        /**
+         * Reserve utxos for this build. Either all utxos are reserved, or none when some of them are already held by
+         * another build or spent by a submitted transaction. Reserving a utxo again renews its lease.
+         *
+         * @param utxos utxos to reserve
+         * @return utxos held by others, empty if all utxos are reserved
+         */
+        public Set<Utxo> tryReserve(@NonNull Collection<Utxo> utxos) {
+            Map<String, Utxo> byOutRef = new LinkedHashMap<>();
+            for (Utxo utxo : utxos) {
+                byOutRef.put(outRef(utxo.getTxHash(), utxo.getOutputIndex()), utxo);
+            }
+
+            Set<String> conflicts = reserve(byOutRef.keySet(), false);
+            if (conflicts.isEmpty())
+                return Collections.emptySet();
+
+            Set<Utxo> result = new HashSet<>();
+            for (String conflict : conflicts) {
+                result.add(byOutRef.get(conflict));
+            }
+            return result;
+        }
+
+        /**
+         * Reserve exactly the inputs and collateral inputs of a built transaction. Utxos reserved during selection
+         * but not used by the transaction are released.
+         *
+         * @param transaction built transaction
+         * @return true if all inputs are reserved, false if some are held by others. Nothing is changed then.
+         */
+        public boolean reserveInputs(@NonNull Transaction transaction) {
+            Set<String> outRefs = new LinkedHashSet<>(outRefs(transaction.getBody().getInputs()));
+            outRefs.addAll(outRefs(transaction.getBody().getCollateral()));
+            return reserve(outRefs, true).isEmpty();
+        }
+
+        /**
+         * Confirm that the transaction was submitted. Its inputs and collateral inputs stay hidden, and its outputs are
+         * returned as spendable utxos, until the source supplier returns one of its outputs or the pending ttl expires.
+         * Other utxos reserved by this build are released.
+         *
+         * @param transaction submitted transaction
+         * @return transaction hash
+         */
+        public String confirm(@NonNull Transaction transaction) {
+            String txHash = TransactionUtil.getTxHash(transaction);
+            var body = transaction.getBody();
+
+            List<Utxo> outputs = new ArrayList<>();
+            if (body.getOutputs() != null) {
+                for (int i = 0; i < body.getOutputs().size(); i++) {
+                    TransactionOutput output = body.getOutputs().get(i);
+                    outputs.add(UtxoUtil.toUtxo(txHash, i, output));
+                }
+            }
+            List<String> spent = new ArrayList<>(outRefs(body.getInputs()));
+            spent.addAll(outRefs(body.getCollateral()));
+
+            lock.writeLock().lock();
+            try {
+                purgeExpired();
+                Submission submission = new Submission(txHash, spent, outputs, now() + pendingTtlMillis);
+                removeSubmission(txHash);
+                submissions.put(txHash, submission);
+                for (String outRef : spent) {
+                    holds.put(outRef, new Hold(null, submission, submission.expiresAt));
+                }
+                releaseLeases();
+                closed = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return txHash;
+        }
+
+        /**
+         * Release all utxos reserved by this build
+         */
+        public void release() {
+            lock.writeLock().lock();
+            try {
+                releaseLeases();
+                closed = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Returns the no of utxos currently reserved by this build
+         *
+         * @return no of reserved utxos
+         */
+        public int size() {
+            lock.readLock().lock();
+            try {
+                return leased.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Set<String> reserve(Set<String> outRefs, boolean exact) {
+            lock.writeLock().lock();
+            try {
+                if (closed)
+                    throw new IllegalStateException("Reservation is already confirmed or released");
+
+                long now = now();
+                Set<String> conflicts = new LinkedHashSet<>();
+                for (String outRef : outRefs) {
+                    Hold hold = holds.get(outRef);
+                    if (hold != null && hold.reservation != this && !hold.isExpired(now))
+                        conflicts.add(outRef);
+                }
+                if (!conflicts.isEmpty())
+                    return conflicts;
+
+                if (exact) {
+                    for (String outRef : new ArrayList<>(leased)) {
+                        if (!outRefs.contains(outRef))
+                            releaseLease(outRef);
+                    }
+                }
+
+                long expiresAt = now + leaseTtlMillis;
+                for (String outRef : outRefs) {
+                    holds.put(outRef, new Hold(this, null, expiresAt));
+                    leased.add(outRef);
+                }
+                return conflicts;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        //Must be called with the write lock held
+        private void releaseLeases() {
+            for (String outRef : new ArrayList<>(leased)) {
+                releaseLease(outRef);
+            }
+        }
+
+        //Must be called with the write lock held
+        private void releaseLease(String outRef) {
+            Hold hold = holds.get(outRef);
+            if (hold != null && hold.reservation == this)
+                holds.remove(outRef);
+            leased.remove(outRef);
+        }
+    }
+
+    /**
+     * A leased or spent output. Exactly one of reservation and submission is set.
+     */
+    private static class Hold {
+        private final Reservation reservation;
+        private final Submission submission;
+        private final long expiresAt;
+
+        private Hold(Reservation reservation, Submission submission, long expiresAt) {
+            this.reservation = reservation;
+            this.submission = submission;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private static class Submission {
+        private final String txHash;
+        private final List<String> spent;
+        private final List<Utxo> outputs;
+        private final long expiresAt;
+
+        private Submission(String txHash, List<String> spent, List<Utxo> outputs, long expiresAt) {
+            this.txHash = txHash;
+            this.spent = spent;
+            this.outputs = outputs;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * Held outputs and pending outputs of an address at the time of a read
+     */
+    private static class View {
+        private final Set<String> hidden;
+        private final List<Utxo> pending;
+        private final Set<String> pendingTxHashes;
+
+        private View(Set<String> hidden, List<Utxo> pending, Set<String> pendingTxHashes) {
+            this.hidden = hidden;
+            this.pending = pending;
+            this.pendingTxHashes = pendingTxHashes;
+        }
+    }
+
+    /**
+     * Collects one page of the filtered utxo sequence
+     */
+    private static class PageCollector {
+        private final View view;
+        private final int pageSize;
+        private final List<Utxo> result;
+        //Output references of collected utxos. A pending output can also be returned by the source with other field values
+        private final Set<String> seen = new HashSet<>();
+        private long toSkip;
+
+        private PageCollector(View view, long skip, int pageSize, List<Utxo> result) {
+            this.view = view;
+            this.toSkip = skip;
+            this.pageSize = pageSize;
+            this.result = result;
+        }
+
+        private void addAll(List<Utxo> utxos) {
+            for (Utxo utxo : utxos) {
+                if (isFull())
+                    return;
+                String outRef = outRef(utxo.getTxHash(), utxo.getOutputIndex());
+                if (view.hidden.contains(outRef) || !seen.add(outRef))
+                    continue;
+                if (toSkip > 0)
+                    toSkip--;
+                else
+                    result.add(utxo);
+            }
+        }
+
+        private boolean isFull() {
+            return result.size() >= pageSize;
+        }
+    }
+}
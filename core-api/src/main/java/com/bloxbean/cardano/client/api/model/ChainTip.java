@@ -0,0 +1,20 @@
+package com.bloxbean.cardano.client.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The latest block of the chain.
+ * <p>
+ * The block hash tells a fork at the same height apart, it's null if the data provider doesn't return it.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChainTip {
+    private long height;
+    private String hash;
+}
@@ -2,6 +2,7 @@ package com.bloxbean.cardano.client.api.util;
 
 import com.bloxbean.cardano.client.address.Address;
 import com.bloxbean.cardano.client.address.AddressProvider;
+import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.api.model.Utxo;
 import com.bloxbean.cardano.client.transaction.spec.Asset;
 import com.bloxbean.cardano.client.transaction.spec.MultiAsset;
@@ -72,6 +73,49 @@ public class UtxoUtil {
         }
     }
 
+    /**
+     * Create a {@link Utxo} from a transaction output
+     *
+     * @param txHash      transaction hash
+     * @param outputIndex index of the output in the transaction
+     * @param output      transaction output
+     * @return Utxo
+     */
+    public static Utxo toUtxo(@NonNull String txHash, int outputIndex, @NonNull TransactionOutput output) {
+        List<Amount> amounts = new ArrayList<>();
+        if (output.getValue() != null) {
+            if (output.getValue().getCoin() != null)
+                amounts.add(Amount.lovelace(output.getValue().getCoin()));
+
+            if (output.getValue().getMultiAssets() != null) {
+                for (MultiAsset multiAsset : output.getValue().getMultiAssets()) {
+                    for (Asset asset : multiAsset.getAssets()) {
+                        amounts.add(new Amount(AssetUtil.getUnit(multiAsset.getPolicyId(), asset), asset.getValue()));
+                    }
+                }
+            }
+        }
+
+        String referenceScriptHash = null;
+        if (output.getScriptRef() != null) {
+            try {
+                referenceScriptHash = ReferenceScriptUtil.deserializeScriptRef(output.getScriptRef()).getPolicyId();
+            } catch (Exception e) {
+                log.warn("Unable to get reference script hash. TxHash=" + txHash + ", Index=" + outputIndex, e);
+            }
+        }
+
+        return Utxo.builder()
+                .txHash(txHash)
+                .outputIndex(outputIndex)
+                .address(output.getAddress())
+                .amount(amounts)
+                .dataHash(output.getDatumHash() != null ? HexUtil.encodeHexString(output.getDatumHash()) : null)
+                .inlineDatum(output.getInlineDatum() != null ? output.getInlineDatum().serializeToHex() : null)
+                .referenceScriptHash(referenceScriptHash)
+                .build();
+    }
+
     /**
      * Get a set of PubKeyHash of owners from a given set of utxos. Script utxos are ignored.
      *
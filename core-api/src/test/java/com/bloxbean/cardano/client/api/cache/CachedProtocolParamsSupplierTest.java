@@ -0,0 +1,209 @@
+package com.bloxbean.cardano.client.api.cache;
+
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedProtocolParamsSupplierTest {
+
+    @Test
+    void getProtocolParams_cachedUntilTtl() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        AtomicInteger loads = new AtomicInteger();
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(Duration.ofMinutes(10),
+                () -> new EpochProtocolParams(protocolParams(loads.incrementAndGet()), null), clock);
+
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+
+        CacheStats stats = supplier.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getProtocolParams_expiresAtEpochEnd() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        Instant epochEnd = clock.instant().plus(Duration.ofMinutes(2));
+        AtomicInteger loads = new AtomicInteger();
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(Duration.ofHours(1), () -> {
+            int load = loads.incrementAndGet();
+            return new EpochProtocolParams(protocolParams(load), epochEnd.plus(Duration.ofDays(5).multipliedBy(load - 1)));
+        }, clock);
+
+        supplier.getProtocolParams();
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+
+        //next epoch ends in 5 days, so only ttl is used
+        clock.advance(Duration.ofMinutes(59));
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(3);
+    }
+
+    @Test
+    void getProtocolParams_paramsOfEndedEpochNotReused() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        Instant previousEpochEnd = clock.instant().minusSeconds(1);
+        Instant currentEpochEnd = clock.instant().plus(Duration.ofDays(5));
+        AtomicInteger loads = new AtomicInteger();
+        //First load returns the params of an epoch which has just ended
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(Duration.ofHours(1), () -> {
+            int load = loads.incrementAndGet();
+            return new EpochProtocolParams(protocolParams(load), load == 1 ? previousEpochEnd : currentEpochEnd);
+        }, clock);
+
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(1);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void getProtocolParams_returnsCopyToEachCaller() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(() -> {
+            ProtocolParams protocolParams = protocolParams(loads.incrementAndGet());
+            LinkedHashMap<String, LinkedHashMap<String, Long>> costModels = new LinkedHashMap<>();
+            costModels.put("PlutusV2", new LinkedHashMap<>(Map.of("addInteger-cpu-arguments-intercept", 205665L)));
+            protocolParams.setCostModels(costModels);
+            LinkedHashMap<String, List<Long>> costModelsRaw = new LinkedHashMap<>();
+            costModelsRaw.put("PlutusV2", new ArrayList<>(List.of(205665L, 812L)));
+            protocolParams.setCostModelsRaw(costModelsRaw);
+            return protocolParams;
+        }, Duration.ofHours(1));
+
+        ProtocolParams first = supplier.getProtocolParams();
+        first.setMinFeeA(100);
+        first.getCostModels().get("PlutusV2").put("addInteger-cpu-arguments-intercept", 1L);
+        first.getCostModelsRaw().get("PlutusV2").set(0, 1L);
+        first.getCostModelsRaw().put("PlutusV3", List.of(1L));
+
+        ProtocolParams second = supplier.getProtocolParams();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getMinFeeA()).isEqualTo(1);
+        assertThat(second.getCostModels().get("PlutusV2")).containsEntry("addInteger-cpu-arguments-intercept", 205665L);
+        assertThat(second.getCostModelsRaw()).containsOnlyKeys("PlutusV2");
+        assertThat(second.getCostModelsRaw().get("PlutusV2")).containsExactly(205665L, 812L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(() -> protocolParams(loads.incrementAndGet()),
+                Duration.ofHours(1));
+
+        supplier.getProtocolParams();
+        supplier.invalidate();
+
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+    }
+
+    @Test
+    void getProtocolParams_loadFailureNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(() -> {
+            if (loads.incrementAndGet() == 1)
+                throw new IllegalStateException("error");
+            return protocolParams(loads.get());
+        }, Duration.ofHours(1));
+
+        assertThatThrownBy(supplier::getProtocolParams).isInstanceOf(IllegalStateException.class);
+        assertThat(supplier.getProtocolParams().getMinFeeA()).isEqualTo(2);
+        assertThat(supplier.getStats().getLoadFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getProtocolParams_concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        CachedProtocolParamsSupplier supplier = new CachedProtocolParamsSupplier(() -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                releaseLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return protocolParams(1);
+        }, Duration.ofHours(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ProtocolParams>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(supplier::getProtocolParams));
+            }
+            loadStarted.await();
+            Thread.sleep(50);
+            releaseLoad.countDown();
+
+            for (Future<ProtocolParams> future : futures) {
+                assertThat(future.get().getMinFeeA()).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private ProtocolParams protocolParams(int minFeeA) {
+        ProtocolParams protocolParams = new ProtocolParams();
+        protocolParams.setMinFeeA(minFeeA);
+        return protocolParams;
+    }
+
+    static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.bloxbean.cardano.client.api.cache;
+
+import com.bloxbean.cardano.client.plutus.spec.PlutusScript;
+import com.bloxbean.cardano.client.plutus.spec.PlutusV2Script;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedScriptSupplierTest {
+
+    @Test
+    void getScript_cached() {
+        ConcurrentHashMap<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+        CachedScriptSupplier supplier = new CachedScriptSupplier(hash -> {
+            loads.computeIfAbsent(hash, k -> new AtomicInteger()).incrementAndGet();
+            return Optional.of(script(hash));
+        });
+
+        PlutusScript script1 = supplier.getScript("a1").get();
+        PlutusScript script2 = supplier.getScript("a1").get();
+
+        assertThat(script2).isSameAs(script1);
+        assertThat(loads.get("a1").get()).isEqualTo(1);
+        assertThat(supplier.getStats().getHitCount()).isEqualTo(1);
+        assertThat(supplier.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getScript_leastRecentlyUsedEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedScriptSupplier supplier = new CachedScriptSupplier(hash -> {
+            loads.incrementAndGet();
+            return Optional.of(script(hash));
+        }, 2);
+
+        supplier.getScript("a1");
+        supplier.getScript("a2");
+        supplier.getScript("a1");
+        supplier.getScript("a3"); //evicts a2
+
+        assertThat(supplier.size()).isEqualTo(2);
+        supplier.getScript("a1");
+        assertThat(loads.get()).isEqualTo(3);
+        supplier.getScript("a2");
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void getScript_notFoundNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedScriptSupplier supplier = new CachedScriptSupplier(hash -> {
+            if (loads.incrementAndGet() == 1)
+                return Optional.empty();
+            return Optional.of(script(hash));
+        });
+
+        assertThat(supplier.getScript("a1")).isEmpty();
+        assertThat(supplier.getScript("a1")).isPresent();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void getScript_concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        CachedScriptSupplier supplier = new CachedScriptSupplier(hash -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                releaseLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(script(hash));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<PlutusScript>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> supplier.getScript("a1")));
+            }
+            loadStarted.await();
+            Thread.sleep(50);
+            releaseLoad.countDown();
+
+            for (Future<Optional<PlutusScript>> future : futures) {
+                assertThat(future.get()).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private PlutusScript script(String hash) {
+        return PlutusV2Script.builder()
+                .cborHex("4e4d01000033222220051200120011")
+                .description(hash)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactUtxoTest {
+    private static final String TX_HASH = "a6cbe6cadecd3f89b60e08e68e5e6c7d72d730aaa1ad21431590f7e6643438ef";
+    private static final String ADDRESS = "addr_test1qqwpl7h3g84mhr36wpetk904p7fchx2vst0z696lxk8ujsjyruqwmlsm344gfux3nsj6njyzj3ppvrqtt36cp9xyydzqzumz82";
+    private static final String UNIT = "34250edd1e9836f5378702fbf9416b709bc140e04f668cc3552085184154414441636f696e";
+
+    @Test
+    void convertUtxo_roundTrip() {
+        Utxo utxo = Utxo.builder()
+                .txHash(TX_HASH)
+                .outputIndex(3)
+                .address(ADDRESS)
+                .amount(new ArrayList<>(List.of(Amount.ada(5), Amount.asset(UNIT, 100))))
+                .dataHash("9e1199a988ba72ffd6e9c269cadb3b53b5f360ff99f112d9b2ee30c4d74ad88b")
+                .build();
+
+        CompactUtxo compactUtxo = CompactUtxo.from(utxo);
+        Utxo converted = compactUtxo.toUtxo();
+
+        assertThat(converted).usingRecursiveComparison().isEqualTo(utxo);
+        assertThat(compactUtxo).isEqualTo(CompactUtxo.from(converted));
+        assertThat(compactUtxo.getValue().getCoinAsLong()).isEqualTo(5_000_000);
+    }
+
+    @Test
+    void hash32() {
+        Hash32 hash = Hash32.fromHex(TX_HASH);
+
+        assertThat(hash.toHex()).isEqualTo(TX_HASH);
+        assertThat(hash).isEqualTo(Hash32.of(hash.toBytes())).hasSameHashCodeAs(Hash32.fromHex(TX_HASH.toUpperCase()));
+        assertThat(hash.compareTo(Hash32.fromHex("ff" + TX_HASH.substring(2)))).isNegative();
+        assertThatThrownBy(() -> Hash32.fromHex("abcd")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
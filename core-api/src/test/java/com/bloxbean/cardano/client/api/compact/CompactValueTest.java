@@ -0,0 +1,128 @@
+package com.bloxbean.cardano.client.api.compact;
+
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.transaction.spec.Asset;
+import com.bloxbean.cardano.client.transaction.spec.MultiAsset;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.bloxbean.cardano.client.common.CardanoConstants.LOVELACE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactValueTest {
+    private static final String POLICY_1 = "34250edd1e9836f5378702fbf9416b709bc140e04f668cc355208518";
+    private static final String POLICY_2 = "ef76f6f0b3558ea0aaad6af5c9a5f3e5bf20b393314de747662e8ce9";
+    private static final String NAME_1 = "4154414441636f696e";
+    private static final String NAME_2 = "74657374";
+
+    @Test
+    void addAndSubtract_matchValue() {
+        Value value1 = value(5_000_000, POLICY_1, NAME_1, 100, POLICY_2, NAME_2, 7);
+        Value value2 = value(2_000_000, POLICY_1, NAME_1, 40, POLICY_1, NAME_2, 3);
+
+        CompactValue sum = CompactValue.from(value1).add(CompactValue.from(value2));
+        CompactValue difference = CompactValue.from(value1).subtract(CompactValue.from(value2));
+
+        assertThat(sum).isEqualTo(CompactValue.from(value1.add(value2)));
+        assertThat(difference).isEqualTo(CompactValue.from(value1.subtract(value2)));
+        assertThat(sum.getCoin()).isEqualTo(BigInteger.valueOf(7_000_000));
+        assertThat(sum.getQuantity(PolicyId.of(POLICY_1), AssetName.of(NAME_1))).isEqualTo(BigInteger.valueOf(140));
+        assertThat(difference.getQuantity(PolicyId.of(POLICY_1), AssetName.of(NAME_2))).isEqualTo(BigInteger.valueOf(-3));
+        assertThat(sum.size()).isEqualTo(3);
+        assertThat(sum.policyIdCount()).isEqualTo(2);
+    }
+
+    @Test
+    void subtract_dropsZeroQuantities() {
+        CompactValue value = CompactValue.from(value(5_000_000, POLICY_1, NAME_1, 100, POLICY_2, NAME_2, 7));
+
+        CompactValue difference = value.subtract(CompactValue.from(value(5_000_000, POLICY_1, NAME_1, 100, POLICY_2, NAME_2, 7)));
+
+        assertThat(difference.isZero()).isTrue();
+        assertThat(difference).isEqualTo(CompactValue.ZERO);
+    }
+
+    @Test
+    void overflow_fallsBackToBigInteger() {
+        CompactValue max = CompactValue.builder()
+                .coin(Long.MAX_VALUE)
+                .add(PolicyId.of(POLICY_1), AssetName.of(NAME_1), Long.MAX_VALUE)
+                .build();
+
+        CompactValue sum = max.add(max);
+
+        BigInteger twiceMax = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO);
+        assertThat(sum.getCoin()).isEqualTo(twiceMax);
+        assertThat(sum.getQuantity(0)).isEqualTo(twiceMax);
+        assertThatThrownBy(sum::getCoinAsLong).isInstanceOf(ArithmeticException.class);
+
+        //Back to longs once the values fit again
+        assertThat(sum.subtract(max)).isEqualTo(max);
+        assertThat(sum.subtract(max).getCoinAsLong()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void covers() {
+        CompactValue available = CompactValue.from(value(5_000_000, POLICY_1, NAME_1, 100, POLICY_2, NAME_2, 7));
+
+        assertThat(available.covers(CompactValue.from(value(5_000_000, POLICY_1, NAME_1, 100, POLICY_2, NAME_2, 7)))).isTrue();
+        assertThat(available.covers(CompactValue.ofCoin(4_000_000))).isTrue();
+        assertThat(available.covers(CompactValue.ofCoin(6_000_000))).isFalse();
+        assertThat(available.covers(CompactValue.from(value(1_000_000, POLICY_1, NAME_2, 1, POLICY_2, NAME_2, 1)))).isFalse();
+        assertThat(available.covers(CompactValue.from(value(1_000_000, POLICY_1, NAME_1, 101, POLICY_2, NAME_2, 1)))).isFalse();
+        assertThat(CompactValue.ofCoin(BigInteger.TWO.pow(70)).covers(available)).isFalse();
+        assertThat(CompactValue.ofCoin(BigInteger.TWO.pow(70)).covers(CompactValue.ofCoin(1))).isTrue();
+    }
+
+    @Test
+    void convertValue_roundTrip() {
+        Value value = value(5_000_000, POLICY_1, NAME_1, 100, POLICY_2, NAME_2, 7);
+
+        Value converted = CompactValue.from(value).toValue();
+
+        assertThat(converted.getCoin()).isEqualTo(value.getCoin());
+        assertThat(converted.toMap()).isEqualTo(value.toMap());
+        assertThat(CompactValue.from(converted)).isEqualTo(CompactValue.from(value));
+    }
+
+    @Test
+    void convertAmounts_roundTrip() {
+        List<Amount> amounts = List.of(
+                Amount.lovelace(BigInteger.valueOf(2_000_000)),
+                Amount.asset(POLICY_1 + NAME_1, 10),
+                Amount.asset(POLICY_2 + NAME_2, 20),
+                Amount.asset(POLICY_1 + NAME_1, 5));
+
+        CompactValue value = CompactValue.from(amounts);
+
+        assertThat(value.toAmounts()).containsExactlyInAnyOrder(
+                Amount.lovelace(BigInteger.valueOf(2_000_000)),
+                Amount.asset(POLICY_1 + NAME_1, 15),
+                Amount.asset(POLICY_2 + NAME_2, 20));
+        assertThat(value.toAmounts().get(0).getUnit()).isEqualTo(LOVELACE);
+        assertThat(value).isEqualTo(CompactValue.from(value.toValue()));
+    }
+
+    @Test
+    void assetRegistry_internsIds() {
+        assertThat(PolicyId.of(POLICY_1)).isSameAs(PolicyId.of(POLICY_1.toUpperCase()));
+        assertThat(AssetName.of("0x" + NAME_1)).isSameAs(AssetName.of(NAME_1));
+        assertThat(AssetName.of("")).isSameAs(AssetRegistry.INSTANCE.assetName(new byte[0]));
+        assertThatThrownBy(() -> PolicyId.of("abcd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Value value(long coin, String policy1, String name1, long quantity1, String policy2, String name2, long quantity2) {
+        List<MultiAsset> multiAssets = new ArrayList<>();
+        multiAssets.add(new MultiAsset(policy1, new ArrayList<>(List.of(new Asset("0x" + name1, BigInteger.valueOf(quantity1))))));
+        if (policy1.equals(policy2))
+            multiAssets.get(0).getAssets().add(new Asset("0x" + name2, BigInteger.valueOf(quantity2)));
+        else
+            multiAssets.add(new MultiAsset(policy2, new ArrayList<>(List.of(new Asset("0x" + name2, BigInteger.valueOf(quantity2))))));
+        return new Value(BigInteger.valueOf(coin), multiAssets);
+    }
+}
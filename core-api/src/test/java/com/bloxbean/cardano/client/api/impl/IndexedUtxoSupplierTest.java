@@ -0,0 +1,159 @@
+package com.bloxbean.cardano.client.api.impl;
+
+import com.bloxbean.cardano.client.address.AddressProvider;
+import com.bloxbean.cardano.client.address.Credential;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.transaction.spec.Asset;
+import com.bloxbean.cardano.client.transaction.spec.MultiAsset;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedUtxoSupplierTest {
+    private static final String TX_HASH = "a6cbe6cadecd3f89b60e08e68e5e6c7d72d730aaa1ad21431590f7e6643438ef";
+    private static final String POLICY_ID = "1b0e3e9e1a4e1b0e3e9e1a4e1b0e3e9e1a4e1b0e3e9e1a4e1b0e3e9e";
+    private static final String UNIT = POLICY_ID + "746f6b656e";
+
+    private final String paymentKeyHash = "a3cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1";
+    private final String address1 = baseAddress(paymentKeyHash, "11cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1");
+    private final String address2 = baseAddress(paymentKeyHash, "22cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1");
+    private final String address3 = baseAddress("b3cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1",
+            "33cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1");
+
+    @Test
+    void getPage_fromMemory() {
+        IndexedUtxoSupplier supplier = new IndexedUtxoSupplier();
+        for (int i = 0; i < 250; i++) {
+            supplier.add(utxo(TX_HASH, i, address1, 1000 + i));
+        }
+
+        assertThat(supplier.getPage(address1, 100, 0, OrderEnum.asc)).hasSize(100)
+                .first().extracting(Utxo::getOutputIndex).isEqualTo(0);
+        assertThat(supplier.getPage(address1, 100, 2, OrderEnum.asc)).hasSize(50)
+                .first().extracting(Utxo::getOutputIndex).isEqualTo(200);
+        assertThat(supplier.getPage(address1, 100, 3, OrderEnum.asc)).isEmpty();
+        assertThat(supplier.getPage(address1, 100, 0, OrderEnum.desc))
+                .first().extracting(Utxo::getOutputIndex).isEqualTo(249);
+        assertThat(supplier.getAll(address1)).hasSize(250);
+        assertThat(supplier.getPage(address3, 100, 0, OrderEnum.asc)).isEmpty();
+    }
+
+    @Test
+    void load_fromSourceSupplier() {
+        List<Utxo> sourceUtxos = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            sourceUtxos.add(utxo(TX_HASH, i, address1, 1000));
+        }
+
+        UtxoSupplier source = new UtxoSupplier() {
+            @Override
+            public List<Utxo> getPage(String address, Integer nrOfItems, Integer page, OrderEnum order) {
+                if (!address1.equals(address))
+                    return List.of();
+                return sourceUtxos.stream().skip((long) page * nrOfItems).limit(nrOfItems).collect(Collectors.toList());
+            }
+
+            @Override
+            public Optional<Utxo> getTxOutput(String txHash, int outputIndex) {
+                return Optional.empty();
+            }
+        };
+
+        IndexedUtxoSupplier supplier = new IndexedUtxoSupplier(source).load(address1, address2);
+
+        assertThat(supplier.size()).isEqualTo(150);
+        assertThat(supplier.getTxOutput(TX_HASH, 120)).contains(sourceUtxos.get(120));
+    }
+
+    @Test
+    void searchByAddressVkh() {
+        IndexedUtxoSupplier supplier = new IndexedUtxoSupplier();
+        supplier.add(utxo(TX_HASH, 0, address1, 1000));
+        supplier.add(utxo(TX_HASH, 1, address2, 1000));
+        supplier.add(utxo(TX_HASH, 2, address3, 1000));
+
+        assertThat(supplier.getAll(address1)).hasSize(1);
+
+        supplier.setSearchByAddressVkh(true);
+        assertThat(supplier.getPage(address1, 10, 0, OrderEnum.asc)).extracting(Utxo::getOutputIndex).containsExactly(0, 1);
+        assertThat(supplier.getByPaymentCredential(paymentKeyHash)).hasSize(2);
+    }
+
+    @Test
+    void getByUnit() {
+        IndexedUtxoSupplier supplier = new IndexedUtxoSupplier();
+        Utxo assetUtxo1 = utxo(TX_HASH, 0, address1, 1000);
+        assetUtxo1.getAmount().add(Amount.asset(UNIT, 5));
+        Utxo assetUtxo2 = utxo(TX_HASH, 1, address3, 1000);
+        assetUtxo2.getAmount().add(Amount.asset(UNIT, 10));
+        supplier.add(assetUtxo1);
+        supplier.add(assetUtxo2);
+        supplier.add(utxo(TX_HASH, 2, address1, 1000));
+
+        assertThat(supplier.getByUnit(UNIT)).containsExactly(assetUtxo1, assetUtxo2);
+        assertThat(supplier.getByAddressAndUnit(address1, UNIT)).containsExactly(assetUtxo1);
+
+        supplier.spend(TX_HASH, 0);
+        assertThat(supplier.getByUnit(UNIT)).containsExactly(assetUtxo2);
+        assertThat(supplier.getByAddressAndUnit(address1, UNIT)).isEmpty();
+    }
+
+    @Test
+    void applyTransaction_spendsInputsAndAddsOutputs() {
+        IndexedUtxoSupplier supplier = new IndexedUtxoSupplier();
+        supplier.add(utxo(TX_HASH, 0, address1, 5000000));
+        supplier.add(utxo(TX_HASH, 1, address1, 3000000));
+
+        MultiAsset multiAsset = new MultiAsset(POLICY_ID, new ArrayList<>(List.of(new Asset("token", BigInteger.TEN))));
+        Transaction transaction = new Transaction();
+        TransactionBody body = new TransactionBody();
+        body.setInputs(List.of(new TransactionInput(TX_HASH, 0)));
+        body.setOutputs(List.of(
+                new TransactionOutput(address3, new Value(BigInteger.valueOf(2000000), List.of(multiAsset))),
+                new TransactionOutput(address1, new Value(BigInteger.valueOf(2800000), new ArrayList<>()))));
+        body.setFee(BigInteger.valueOf(200000));
+        transaction.setBody(body);
+
+        String txHash = supplier.applyTransaction(transaction);
+
+        assertThat(txHash).isEqualTo(TransactionUtil.getTxHash(transaction));
+        assertThat(supplier.getTxOutput(TX_HASH, 0)).isEmpty();
+        assertThat(supplier.getAll(address1)).extracting(Utxo::getTxHash).containsExactly(TX_HASH, txHash);
+        assertThat(supplier.getTxOutput(txHash, 1).get().getAmount()).containsExactly(Amount.lovelace(BigInteger.valueOf(2800000)));
+        //address3 is not known to the supplier
+        assertThat(supplier.getTxOutput(txHash, 0)).isEmpty();
+
+        supplier.applyTransaction(transaction, true);
+        assertThat(supplier.getByUnit(UNIT)).extracting(Utxo::getAddress).containsExactly(address3);
+    }
+
+    private Utxo utxo(String txHash, int index, String address, long lovelace) {
+        return Utxo.builder()
+                .txHash(txHash)
+                .outputIndex(index)
+                .address(address)
+                .amount(new ArrayList<>(List.of(Amount.lovelace(BigInteger.valueOf(lovelace)))))
+                .build();
+    }
+
+    private static String baseAddress(String paymentKeyHash, String stakeKeyHash) {
+        return AddressProvider.getBaseAddress(Credential.fromKey(paymentKeyHash), Credential.fromKey(stakeKeyHash),
+                Networks.testnet()).toBech32();
+    }
+}
@@ -0,0 +1,242 @@
+package com.bloxbean.cardano.client.api.impl;
+
+import com.bloxbean.cardano.client.address.AddressProvider;
+import com.bloxbean.cardano.client.address.Credential;
+import com.bloxbean.cardano.client.api.common.OrderEnum;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.spec.Value;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservingUtxoSupplierTest {
+    private static final String TX_HASH = "a6cbe6cadecd3f89b60e08e68e5e6c7d72d730aaa1ad21431590f7e6643438ef";
+
+    private final String address1 = AddressProvider.getBaseAddress(
+            Credential.fromKey("a3cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1"),
+            Credential.fromKey("11cb4d3a8cd3a0c8a9aeb8a3b0c8e6f7f1b1c2d3e4f5a6b7c8d9e0f1"), Networks.testnet()).toBech32();
+
+    private final IndexedUtxoSupplier source = new IndexedUtxoSupplier();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void reservedUtxos_hiddenFromOtherReaders() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(5);
+        ReservingUtxoSupplier.Reservation reservation1 = supplier.newReservation();
+        ReservingUtxoSupplier.Reservation reservation2 = supplier.newReservation();
+
+        assertThat(reservation1.tryReserve(List.of(utxo(0), utxo(1)))).isEmpty();
+
+        assertThat(supplier.getPage(address1, 10, 0, OrderEnum.asc)).extracting(Utxo::getOutputIndex)
+                .containsExactly(2, 3, 4);
+        assertThat(reservation2.tryReserve(List.of(utxo(1), utxo(2)))).containsExactly(utxo(1));
+        //Nothing is reserved when there is a conflict
+        assertThat(supplier.isHeld(TX_HASH, 2)).isFalse();
+
+        reservation1.release();
+        assertThat(supplier.getAll(address1)).hasSize(5);
+        assertThat(reservation2.tryReserve(List.of(utxo(1), utxo(2)))).isEmpty();
+        assertThatThrownBy(() -> reservation1.tryReserve(List.of(utxo(3)))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void getPage_skipsHiddenUtxosAcrossSourcePages() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(25);
+        List<Utxo> firstPage = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            firstPage.add(utxo(i));
+        }
+        supplier.newReservation().tryReserve(firstPage);
+
+        //A fully reserved source page must not end the scan
+        assertThat(supplier.getPage(address1, 10, 0, OrderEnum.asc)).extracting(Utxo::getOutputIndex)
+                .startsWith(10).hasSize(10);
+        assertThat(supplier.getPage(address1, 10, 1, OrderEnum.asc)).extracting(Utxo::getOutputIndex)
+                .containsExactly(20, 21, 22, 23, 24);
+        assertThat(supplier.getPage(address1, 10, 2, OrderEnum.asc)).isEmpty();
+    }
+
+    @Test
+    void leaseExpires_afterTtl() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(2);
+        supplier.newReservation().tryReserve(List.of(utxo(0)));
+        assertThat(supplier.getAll(address1)).hasSize(1);
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(supplier.getAll(address1)).hasSize(2);
+        assertThat(supplier.newReservation().tryReserve(List.of(utxo(0)))).isEmpty();
+    }
+
+    @Test
+    void confirm_hidesInputsAndReturnsPendingOutputs() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(3);
+        ReservingUtxoSupplier.Reservation reservation = supplier.newReservation();
+        reservation.tryReserve(List.of(utxo(0), utxo(1)));
+
+        Transaction transaction = transaction(List.of(0), 4000000);
+        assertThat(reservation.reserveInputs(transaction)).isTrue();
+        //Selected but unused utxos are released
+        assertThat(supplier.isHeld(TX_HASH, 1)).isFalse();
+
+        String txHash = reservation.confirm(transaction);
+
+        assertThat(supplier.getPage(address1, 10, 0, OrderEnum.asc))
+                .extracting(Utxo::getTxHash, Utxo::getOutputIndex)
+                .containsExactly(tuple(TX_HASH, 1), tuple(TX_HASH, 2), tuple(txHash, 0));
+        assertThat(supplier.getPage(address1, 10, 0, OrderEnum.desc)).first()
+                .extracting(Utxo::getTxHash).isEqualTo(txHash);
+        assertThat(supplier.getTxOutput(txHash, 0)).isPresent();
+        assertThat(supplier.pendingCount()).isEqualTo(1);
+
+        //Once the source returns the outputs, the transaction is no longer pending
+        source.applyTransaction(transaction);
+        assertThat(supplier.getAll(address1)).hasSize(3);
+        assertThat(supplier.pendingCount()).isZero();
+        assertThat(supplier.heldCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(OrderEnum.class)
+    void pendingOutputReturnedBySource_collectedOnce(OrderEnum order) {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(3);
+        ReservingUtxoSupplier.Reservation reservation = supplier.newReservation();
+        String txHash = reservation.confirm(transaction(List.of(0), 4000000));
+        //Keep a lease, so that the next reads don't pass through to the source
+        supplier.newReservation().tryReserve(List.of(utxo(2)));
+
+        //The source reports the pending output with fields the pending copy doesn't have
+        source.spend(TX_HASH, 0);
+        source.add(Utxo.builder()
+                .txHash(txHash)
+                .outputIndex(0)
+                .address(address1)
+                .amount(new ArrayList<>(List.of(Amount.lovelace(BigInteger.valueOf(4000000)))))
+                .dataHash("9e1199a988ba72ffd6e9c269cadb3b53b5f360ff99f112d9b2ee30c4d74ad88b")
+                .build());
+
+        assertThat(supplier.getPage(address1, 10, 0, order))
+                .extracting(utxo -> utxo.getTxHash() + "#" + utxo.getOutputIndex())
+                .containsExactlyInAnyOrder(TX_HASH + "#1", txHash + "#0");
+    }
+
+    @Test
+    void pendingOutputs_canBeChained() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(1);
+        Transaction first = transaction(List.of(0), 4000000);
+        ReservingUtxoSupplier.Reservation reservation = supplier.newReservation();
+        reservation.reserveInputs(first);
+        String firstHash = reservation.confirm(first);
+
+        Utxo change = supplier.getPendingUtxos(address1).get(0);
+        ReservingUtxoSupplier.Reservation next = supplier.newReservation();
+        assertThat(next.tryReserve(List.of(change))).isEmpty();
+
+        assertThat(change.getTxHash()).isEqualTo(firstHash);
+        assertThat(supplier.getAll(address1)).isEmpty();
+        assertThat(supplier.newReservation().tryReserve(List.of(change))).containsExactly(change);
+    }
+
+    @Test
+    void reserveInputs_failsWhenHeldByOtherBuild() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(2);
+        supplier.newReservation().tryReserve(List.of(utxo(0)));
+
+        ReservingUtxoSupplier.Reservation reservation = supplier.newReservation();
+        reservation.tryReserve(List.of(utxo(1)));
+
+        assertThat(reservation.reserveInputs(transaction(List.of(0, 1), 4000000))).isFalse();
+        assertThat(reservation.size()).isEqualTo(1);
+    }
+
+    @Test
+    void pendingTransaction_expiresOrIsDiscarded() {
+        ReservingUtxoSupplier supplier = supplierWithUtxos(2);
+        ReservingUtxoSupplier.Reservation reservation = supplier.newReservation();
+        String txHash = reservation.confirm(transaction(List.of(0), 4000000));
+        assertThat(supplier.getAll(address1)).extracting(Utxo::getTxHash).containsExactly(TX_HASH, txHash);
+
+        supplier.discard(txHash);
+        assertThat(supplier.getAll(address1)).extracting(Utxo::getTxHash).containsExactly(TX_HASH, TX_HASH);
+
+        ReservingUtxoSupplier.Reservation another = supplier.newReservation();
+        another.confirm(transaction(List.of(1), 3000000));
+        clock.advance(Duration.ofMinutes(6));
+        assertThat(supplier.getAll(address1)).hasSize(2);
+        assertThat(supplier.pendingCount()).isZero();
+    }
+
+    private ReservingUtxoSupplier supplierWithUtxos(int count) {
+        for (int i = 0; i < count; i++) {
+            source.add(utxo(i));
+        }
+        return new ReservingUtxoSupplier(source, Duration.ofMinutes(1), Duration.ofMinutes(5), clock);
+    }
+
+    private Utxo utxo(int index) {
+        return Utxo.builder()
+                .txHash(TX_HASH)
+                .outputIndex(index)
+                .address(address1)
+                .amount(new ArrayList<>(List.of(Amount.lovelace(BigInteger.valueOf(5000000)))))
+                .build();
+    }
+
+    private Transaction transaction(List<Integer> inputIndexes, long change) {
+        List<TransactionInput> inputs = new ArrayList<>();
+        for (int index : inputIndexes) {
+            inputs.add(new TransactionInput(TX_HASH, index));
+        }
+        TransactionBody body = new TransactionBody();
+        body.setInputs(inputs);
+        body.setOutputs(List.of(new TransactionOutput(address1, new Value(BigInteger.valueOf(change), new ArrayList<>()))));
+        body.setFee(BigInteger.valueOf(200000));
+        Transaction transaction = new Transaction();
+        transaction.setBody(body);
+        return transaction;
+    }
+
+    private static org.assertj.core.groups.Tuple tuple(Object... values) {
+        return org.assertj.core.groups.Tuple.tuple(values);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
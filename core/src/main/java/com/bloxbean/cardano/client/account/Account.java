@@ -198,18 +198,18 @@ public class Account {
 
         if (mnemonic != null && !mnemonic.isEmpty()) {
             this.mnemonic = mnemonic;
-            this.accountKey = null;
             MnemonicUtil.validateMnemonic(this.mnemonic);
         } else if (rootKey != null && rootKey.length > 0) {
             this.mnemonic = null;
-            this.accountKey = null;
 
             if (rootKey.length == 96)
                 this.rootKey = rootKey;
             else
                 throw new AccountException("Invalid length (Root Pvt Key): " + rootKey.length);
-        } else if (accountKey != null && accountKey.length > 0) {
-            this.mnemonic = null;
+        }
+
+        //Account key is either the only secret, or derived from the mnemonic or root key to derive keys faster
+        if (accountKey != null && accountKey.length > 0) {
             if (accountKey.length == 96)
                 this.accountKey = accountKey;
             else
@@ -258,6 +258,22 @@ public class Account {
         return new Account(network, mnemonic, null, null, derivationPath);
     }
 
+    /**
+     * Creates an Account instance from the provided mnemonic and the account level private key derived from it.
+     * Keys are derived from the account key, which avoids deriving the root key from the mnemonic again.
+     * {@link #mnemonic()} still returns the mnemonic.
+     *
+     * @param network the network for which the account is created
+     * @param mnemonic the mnemonic phrase
+     * @param accountKey private key of 96 bytes at m/1852'/1815'/account' derived from the mnemonic, where account is
+     *                   the account of the derivation path
+     * @param derivationPath the derivation path
+     * @return an Account object
+     */
+    public static Account createFromMnemonic(Network network, String mnemonic, byte[] accountKey, DerivationPath derivationPath) {
+        return new Account(network, mnemonic, null, accountKey, derivationPath);
+    }
+
     /**
      * Creates an Account instance from a root key at derivation path: m/1852'/1815'/0/0/0
      *
@@ -298,6 +314,21 @@ public class Account {
         return new Account(network, null, rootKey, null, derivationPath);
     }
 
+    /**
+     * Creates an Account instance from the provided root key and the account level private key derived from it.
+     * Keys are derived from the account key, which avoids deriving them from the root key.
+     *
+     * @param network the network for which the account is created
+     * @param rootKey root private key of 96 bytes
+     * @param accountKey private key of 96 bytes at m/1852'/1815'/account' derived from the root key, where account is
+     *                   the account of the derivation path
+     * @param derivationPath the derivation path
+     * @return an Account object
+     */
+    public static Account createFromRootKey(Network network, byte[] rootKey, byte[] accountKey, DerivationPath derivationPath) {
+        return new Account(network, null, rootKey, accountKey, derivationPath);
+    }
+
     /**
      * Creates an Account instance using the provided account level key and at address index = 0
      *
@@ -699,10 +730,10 @@ public class Account {
 
     private HdKeyPair getHdKeyPairFromDerivationPath(DerivationPath derivationPath) {
         HdKeyPair hdKeyPair;
-        if (mnemonic != null && !mnemonic.isEmpty()) {
-            hdKeyPair = new CIP1852().getKeyPairFromMnemonic(mnemonic, derivationPath);
-        } else if (accountKey != null && accountKey.length > 0) {
+        if (accountKey != null && accountKey.length > 0) {
             hdKeyPair = new CIP1852().getKeyPairFromAccountKey(this.accountKey, derivationPath);
+        } else if (mnemonic != null && !mnemonic.isEmpty()) {
+            hdKeyPair = new CIP1852().getKeyPairFromMnemonic(mnemonic, derivationPath);
         } else if (rootKey != null && rootKey.length > 0) {
             hdKeyPair = new CIP1852().getKeyPairFromRootKey(this.rootKey, derivationPath);
         } else {
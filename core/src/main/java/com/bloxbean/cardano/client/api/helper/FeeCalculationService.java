@@ -106,6 +106,38 @@ public interface FeeCalculationService {
      */
     BigInteger calculateFee(byte[] transaction, ProtocolParams protocolParams);
 
+    /**
+     * Calculate estimated fee for a signed transaction of the given serialized size.
+     * The default implementation delegates to {@link #calculateFee(byte[])}, as the fee only depends on the size.
+     * @param txSize Signed transaction size in bytes
+     * @return Estimated fee
+     * @throws ApiException
+     */
+    default BigInteger calculateFeeForTxSize(int txSize) throws ApiException {
+        return calculateFee(new byte[txSize]);
+    }
+
+    /**
+     * Calculate estimated fee for a signed transaction of the given serialized size.
+     * The default implementation delegates to {@link #calculateFee(byte[], ProtocolParams)}, as the fee only depends on the size.
+     * @param txSize Signed transaction size in bytes
+     * @param protocolParams
+     * @return Estimated fee
+     */
+    default BigInteger calculateFeeForTxSize(int txSize, ProtocolParams protocolParams) {
+        return calculateFee(new byte[txSize], protocolParams);
+    }
+
+    /**
+     * Returns true if the base fee of a transaction only depends on its serialized size, so that
+     * {@link #calculateFeeForTxSize(int)} can be used instead of {@link #calculateFee(Transaction)}.
+     * Returns false by default, so implementations with a custom {@link #calculateFee(Transaction)} are always called.
+     * @return true if the fee can be calculated from the transaction size
+     */
+    default boolean isTxSizeBasedFee() {
+        return false;
+    }
+
     /**
      * Calculate estimated fee for a list of payment transactions
      * @param paymentTransactions
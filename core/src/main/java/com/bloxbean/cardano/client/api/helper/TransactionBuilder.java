@@ -7,6 +7,7 @@ import com.bloxbean.cardano.client.api.exception.ApiException;
 import com.bloxbean.cardano.client.api.helper.impl.UtxoTransactionBuilderImpl;
 import com.bloxbean.cardano.client.coinselection.UtxoSelectionStrategy;
 import com.bloxbean.cardano.client.crypto.SecretKey;
+import com.bloxbean.cardano.client.crypto.bip32.HdKeyPair;
 import com.bloxbean.cardano.client.exception.AddressExcepion;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.metadata.Metadata;
@@ -22,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class TransactionBuilder {
@@ -112,8 +114,6 @@ public class TransactionBuilder {
         if (log.isDebugEnabled())
             log.debug(JsonUtil.getPrettyJson(transaction));
 
-        Transaction finalTxn = transaction;
-
         Set<Account> signers = new HashSet<>();
         paymentTransactions
                 .forEach(paymentTransaction -> {
@@ -123,9 +123,10 @@ public class TransactionBuilder {
                     }
                 });
 
-        for (Account signer: signers) {
-            finalTxn = signer.sign(finalTxn);
-        }
+        List<HdKeyPair> signerKeys = signers.stream()
+                .map(Account::hdKeyPair)
+                .collect(Collectors.toList());
+        Transaction finalTxn = TransactionSigner.INSTANCE.signAll(transaction, signerKeys);
 
         return finalTxn.serializeToHex();
     }
@@ -171,9 +172,10 @@ public class TransactionBuilder {
         }
 
         if (mintTransaction.getAdditionalWitnessAccounts() != null) {
-            for (Account addWitnessAcc : mintTransaction.getAdditionalWitnessAccounts()) {
-                signedTxn = addWitnessAcc.sign(signedTxn);
-            }
+            List<HdKeyPair> witnessKeys = mintTransaction.getAdditionalWitnessAccounts().stream()
+                    .map(Account::hdKeyPair)
+                    .collect(Collectors.toList());
+            signedTxn = TransactionSigner.INSTANCE.signAll(signedTxn, witnessKeys);
         }
 
         if (log.isDebugEnabled()) {
@@ -139,6 +139,29 @@ public class FeeCalculationServiceImpl implements FeeCalculationService {
         return doFeeCalculationFromTxnSize(transaction, protocolParams);
     }
 
+    @Override
+    public BigInteger calculateFeeForTxSize(int txSize) throws ApiException {
+        ProtocolParams protocolParams = protocolParamsSupplier.getProtocolParams();
+        if(protocolParams == null)
+            throw new ApiException("Unable to fetch protocol parameters to calculate the fee");
+
+        return calculateFeeForTxSize(txSize, protocolParams);
+    }
+
+    @Override
+    public BigInteger calculateFeeForTxSize(int txSize, ProtocolParams protocolParams) {
+        return doFeeCalculationFromTxnSize(txSize, protocolParams);
+    }
+
+    /**
+     * The fee is calculated from the transaction size only. Subclasses overriding {@link #calculateFee(Transaction)}
+     * should return false to have their implementation called during fee calculation.
+     */
+    @Override
+    public boolean isTxSizeBasedFee() {
+        return true;
+    }
+
     @Override
     public BigInteger calculateFee(List<PaymentTransaction> paymentTransactions, TransactionDetailsParams detailsParams, Metadata metadata)
             throws ApiException, CborSerializationException, AddressExcepion {
@@ -257,7 +280,11 @@ public class FeeCalculationServiceImpl implements FeeCalculationService {
     }
 
     private BigInteger doFeeCalculationFromTxnSize(byte[] bytes, ProtocolParams protocolParams) {
+        return doFeeCalculationFromTxnSize(bytes.length, protocolParams);
+    }
+
+    private BigInteger doFeeCalculationFromTxnSize(int txSize, ProtocolParams protocolParams) {
         //a + b x size
-        return BigInteger.valueOf((protocolParams.getMinFeeA() * bytes.length) + protocolParams.getMinFeeB());
+        return BigInteger.valueOf((protocolParams.getMinFeeA() * (long) txSize) + protocolParams.getMinFeeB());
     }
 }
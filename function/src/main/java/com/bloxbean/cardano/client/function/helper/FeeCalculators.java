@@ -12,6 +12,7 @@ import com.bloxbean.cardano.client.function.exception.TxBuildException;
 import com.bloxbean.cardano.client.plutus.spec.ExUnits;
 import com.bloxbean.cardano.client.plutus.spec.Redeemer;
 import com.bloxbean.cardano.client.transaction.spec.*;
+import com.bloxbean.cardano.client.transaction.util.TransactionSizeEstimator;
 import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,6 +32,8 @@ public class FeeCalculators {
     private static final byte[] DUMMY_VKEY = new byte[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
     //64 bytes dummy vkey signature
     private static final byte[] DUMMY_VKEY_SIGNATURE = new byte[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+    //Encoded length of the fee and change coin can change at most a few times before it's stable
+    private static final int MAX_FEE_SIZE_ITERATIONS = 3;
 
     /**
      * A function to calculate fee based on noOfSigners. The function then sets fee in <code>{@link Transaction}</code>
@@ -75,9 +78,6 @@ public class FeeCalculators {
         try {
             TransactionBody tbody = transaction.getBody();
 
-            Transaction clonedTxn = createTransactionWithDummyWitnesses(transaction, noOfSigners);
-            BigInteger baseFee = feeCalculationService.calculateFee(clonedTxn);
-
             //Check if there is any script included in this txn
             BigInteger scriptFee = BigInteger.ZERO;
 
@@ -148,23 +148,16 @@ public class FeeCalculators {
                     refScriptFee = feeCalculationService.tierRefScriptFee(totalRefScriptBytesInInputs);
             }
 
+            Optional<TransactionOutput> changeOutput = updateOutputWithFeeFunc == null
+                    ? findChangeOutput(tbody, changeAddress) : Optional.empty();
+
+            BigInteger baseFee = calculateBaseFee(feeCalculationService, transaction, noOfSigners,
+                    scriptFee.add(refScriptFee), changeOutput.orElse(null));
+
             BigInteger totalFee = baseFee.add(scriptFee).add(refScriptFee);
             tbody.setFee(totalFee);
 
             if (updateOutputWithFeeFunc == null) {
-                //If a change output is there with negative value, then deduct fee from that
-                Optional<TransactionOutput> changeOutput
-                        = tbody.getOutputs().stream().filter(output -> changeAddress.equals(output.getAddress())
-                                && output.getValue().getCoin().compareTo(BigInteger.ZERO) < 0)
-                        .findFirst();
-
-                //If no change output with negative value, then deduct fee from change output with max value.
-                if (!changeOutput.isPresent()) {
-                    changeOutput = tbody.getOutputs().stream().filter(output -> changeAddress.equals(output.getAddress()))
-                            //Find the output with max lovelace value if multiple outputs for change address. Fee will be deducted from that
-                            .max((to1, to2) -> to1.getValue().getCoin().compareTo(to2.getValue().getCoin()));
-                }
-
                 changeOutput.ifPresentOrElse(output -> {
                     output.getValue().setCoin(output.getValue().getCoin().subtract(totalFee));
                 }, () -> {
@@ -182,6 +175,74 @@ public class FeeCalculators {
         }
     }
 
+    private static Optional<TransactionOutput> findChangeOutput(TransactionBody tbody, String changeAddress) {
+        //If a change output is there with negative value, then deduct fee from that
+        Optional<TransactionOutput> changeOutput
+                = tbody.getOutputs().stream().filter(output -> changeAddress.equals(output.getAddress())
+                        && output.getValue().getCoin().compareTo(BigInteger.ZERO) < 0)
+                .findFirst();
+
+        //If no change output with negative value, then deduct fee from change output with max value.
+        if (!changeOutput.isPresent()) {
+            changeOutput = tbody.getOutputs().stream().filter(output -> changeAddress.equals(output.getAddress()))
+                    //Find the output with max lovelace value if multiple outputs for change address. Fee will be deducted from that
+                    .max((to1, to2) -> to1.getValue().getCoin().compareTo(to2.getValue().getCoin()));
+        }
+
+        return changeOutput;
+    }
+
+    /**
+     * Calculate the base fee of the transaction including the vkey witnesses of all signers.
+     * If the fee calculation service only depends on the transaction size, the size is calculated once. It's then only
+     * updated for the encoded length of the total fee and of the change output's coin after the fee is deducted, until
+     * the size doesn't change any more. Otherwise, the fee is calculated by the service from a copy of the transaction
+     * with dummy witnesses.
+     */
+    private static BigInteger calculateBaseFee(FeeCalculationService feeCalculationService, Transaction transaction,
+                                               int noOfSigners, BigInteger otherFees, TransactionOutput changeOutput)
+            throws CborSerializationException, ApiException {
+        if (!feeCalculationService.isTxSizeBasedFee()) {
+            Transaction clonedTxn = createTransactionWithDummyWitnesses(transaction, noOfSigners);
+            return feeCalculationService.calculateFee(clonedTxn);
+        }
+
+        TransactionSizeEstimator sizeEstimator = TransactionSizeEstimator.of(transaction, noOfSigners);
+        int changeIndex = changeOutput != null ? indexOf(transaction.getBody().getOutputs(), changeOutput) : -1;
+
+        BigInteger baseFee = feeCalculationService.calculateFeeForTxSize(sizeEstimator.getSize());
+        BigInteger maxFee = baseFee;
+        for (int i = 0; i < MAX_FEE_SIZE_ITERATIONS; i++) {
+            int size = sizeEstimator.getSize();
+            applyFee(sizeEstimator, baseFee.add(otherFees), changeOutput, changeIndex);
+            if (sizeEstimator.getSize() == size)
+                return baseFee;
+
+            baseFee = feeCalculationService.calculateFeeForTxSize(sizeEstimator.getSize());
+            maxFee = maxFee.max(baseFee);
+        }
+
+        //Not stable, e.g. the change coin is at an encoding boundary. Use the max fee, if it covers its own size.
+        applyFee(sizeEstimator, maxFee.add(otherFees), changeOutput, changeIndex);
+        return maxFee.max(feeCalculationService.calculateFeeForTxSize(sizeEstimator.getSize()));
+    }
+
+    private static void applyFee(TransactionSizeEstimator sizeEstimator, BigInteger totalFee,
+                                 TransactionOutput changeOutput, int changeIndex) {
+        sizeEstimator.setFee(totalFee);
+        //Fee is deducted from the change output
+        if (changeIndex >= 0)
+            sizeEstimator.setOutputCoin(changeIndex, changeOutput.getValue().getCoin().subtract(totalFee));
+    }
+
+    private static int indexOf(List<TransactionOutput> outputs, TransactionOutput output) {
+        for (int i = 0; i < outputs.size(); i++) {
+            if (outputs.get(i) == output)
+                return i;
+        }
+        return -1;
+    }
+
     private static Transaction createTransactionWithDummyWitnesses(Transaction transaction, int noOfSigners) {
         Transaction cloneTxn;
 
@@ -7,6 +7,7 @@ import com.bloxbean.cardano.client.function.BaseTest;
 import com.bloxbean.cardano.client.account.Account;
 import com.bloxbean.cardano.client.api.exception.ApiException;
 import com.bloxbean.cardano.client.api.helper.FeeCalculationService;
+import com.bloxbean.cardano.client.api.helper.impl.FeeCalculationServiceImpl;
 import com.bloxbean.cardano.client.api.model.ProtocolParams;
 import com.bloxbean.cardano.client.api.UtxoSupplier;
 import com.bloxbean.cardano.client.common.model.Networks;
@@ -14,6 +15,7 @@ import com.bloxbean.cardano.client.function.TxBuilder;
 import com.bloxbean.cardano.client.function.TxBuilderContext;
 import com.bloxbean.cardano.client.plutus.spec.*;
 import com.bloxbean.cardano.client.transaction.spec.*;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
 import com.bloxbean.cardano.client.util.HexUtil;
 import com.bloxbean.cardano.client.api.util.PolicyUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -455,4 +457,82 @@ class FeeCalculatorsTest extends BaseTest {
         assertThat(transaction.getBody().getOutputs().get(1).getValue().getCoin())
                 .isEqualTo(ONE_ADA.multiply(BigInteger.valueOf(3)).subtract(expectedFee.add(scriptFee).add(tierRefScriptFee)));
     }
+
+    @Test
+    void feeCalculator_whenTxSizeBasedFee_sameFeeAsFromTransactionCopy() throws Exception {
+        Account account = new Account(Networks.testnet());
+        String sender = account.baseAddress();
+
+        FeeCalculationService sizeBasedFeeService = new FeeCalculationServiceImpl(utxoSupplier, () -> protocolParams);
+        FeeCalculationService txBasedFeeService = new FeeCalculationServiceImpl(utxoSupplier, () -> protocolParams) {
+            @Override
+            public boolean isTxSizeBasedFee() {
+                return false;
+            }
+        };
+        assertThat(sizeBasedFeeService.isTxSizeBasedFee()).isTrue();
+
+        Transaction sizeBasedFeeTxn = adaTransferTransaction(sender);
+        TxBuilderContext context = new TxBuilderContext(utxoSupplier, protocolParams);
+        context.setFeeCalculationService(sizeBasedFeeService);
+        FeeCalculators.feeCalculator(sender, 2).apply(context, sizeBasedFeeTxn);
+
+        Transaction txBasedFeeTxn = adaTransferTransaction(sender);
+        context = new TxBuilderContext(utxoSupplier, protocolParams);
+        context.setFeeCalculationService(txBasedFeeService);
+        FeeCalculators.feeCalculator(sender, 2).apply(context, txBasedFeeTxn);
+
+        assertThat(sizeBasedFeeTxn.getBody().getFee()).isPositive();
+        assertThat(sizeBasedFeeTxn.getBody().getFee()).isEqualTo(txBasedFeeTxn.getBody().getFee());
+        assertThat(sizeBasedFeeTxn.getWitnessSet().getVkeyWitnesses()).isEmpty();
+    }
+
+    @Test
+    void feeCalculator_whenTxSizeBasedFee_changeCoinEncodingShrinks() throws Exception {
+        Account account = new Account(Networks.testnet());
+        String sender = account.baseAddress();
+        FeeCalculationService sizeBasedFeeService = new FeeCalculationServiceImpl(utxoSupplier, () -> protocolParams);
+
+        Transaction transaction = adaTransferTransaction(sender);
+        //Just above 2^32. The coin is encoded in 4 bytes less once the fee is deducted.
+        transaction.getBody().getOutputs().get(1).getValue().setCoin(BigInteger.valueOf(4_295_000_000L));
+
+        TxBuilderContext context = new TxBuilderContext(utxoSupplier, protocolParams);
+        context.setFeeCalculationService(sizeBasedFeeService);
+        FeeCalculators.feeCalculator(sender, 2).apply(context, transaction);
+
+        Transaction signedTxn = TransactionUtil.createCopy(transaction);
+        signedTxn.setWitnessSet(new TransactionWitnessSet());
+        for (int i = 0; i < 2; i++) {
+            byte[] vkey = new byte[32];
+            vkey[31] = (byte) i;
+            signedTxn.getWitnessSet().getVkeyWitnesses().add(new VkeyWitness(vkey, new byte[64]));
+        }
+
+        BigInteger fee = transaction.getBody().getFee();
+        assertThat(transaction.getBody().getOutputs().get(1).getValue().getCoin())
+                .isEqualTo(BigInteger.valueOf(4_295_000_000L).subtract(fee));
+        assertThat(fee).isEqualTo(sizeBasedFeeService.calculateFeeForTxSize(signedTxn.serialize().length));
+    }
+
+    private Transaction adaTransferTransaction(String sender) {
+        String receiver = "addr_test1qqwpl7h3g84mhr36wpetk904p7fchx2vst0z696lxk8ujsjyruqwmlsm344gfux3nsj6njyzj3ppvrqtt36cp9xyydzqzumz82";
+
+        List<TransactionInput> inputs = List.of(
+                new TransactionInput("735262c68b5fa220dee2b447d0d1dd44e0800ba6212dcea7955c561f365fb0e9", 0),
+                new TransactionInput("88c014d348bf1919c78a5cb87a5beed87729ff3f8a2019be040117a41a83e82e", 1)
+        );
+        List<TransactionOutput> outputs = List.of(
+                new TransactionOutput(receiver, Value.builder().coin(ONE_ADA.multiply(BigInteger.valueOf(5))).build()),
+                new TransactionOutput(sender, Value.builder().coin(ONE_ADA.multiply(BigInteger.valueOf(3))).build())
+        );
+
+        Transaction transaction = new Transaction();
+        transaction.setBody(TransactionBody.builder()
+                .inputs(inputs)
+                .outputs(outputs)
+                .ttl(6500000).build());
+        transaction.setValid(true);
+        return transaction;
+    }
 }
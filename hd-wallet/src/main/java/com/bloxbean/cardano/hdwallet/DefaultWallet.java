@@ -8,6 +8,7 @@ import com.bloxbean.cardano.client.common.model.Networks;
 import com.bloxbean.cardano.client.crypto.MnemonicUtil;
 import com.bloxbean.cardano.client.crypto.bip32.HdKeyGenerator;
 import com.bloxbean.cardano.client.crypto.bip32.HdKeyPair;
+import com.bloxbean.cardano.client.crypto.bip32.key.HdPublicKey;
 import com.bloxbean.cardano.client.crypto.bip39.MnemonicCode;
 import com.bloxbean.cardano.client.crypto.bip39.MnemonicException;
 import com.bloxbean.cardano.client.crypto.bip39.Words;
@@ -21,8 +22,10 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * The Wallet class represents wallet with functionalities to manage accounts, addresses.
@@ -49,6 +52,10 @@ public class DefaultWallet implements Wallet {
     private HdKeyPair rootKeyPair;
     private HdKeyPair stakeKeys;
 
+    //Account level key pairs (m/1852'/1815'/x') by account no. Address keys are derived from these keys, so the
+    //root key derivation from mnemonic is done only once per wallet.
+    private final Map<Integer, HdKeyPair> accountKeyPairs = new ConcurrentHashMap<>();
+
     @Getter
     @Setter
     private int[] indexesToScan; //If set, only scan these indexes and avoid gap limit during address scanning
@@ -73,7 +80,7 @@ public class DefaultWallet implements Wallet {
         this.network = network;
         this.mnemonic = MnemonicUtil.generateNew(noOfWords);
         this.accountNo = account;
-        cache = new HashMap<>();
+        cache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -94,7 +101,7 @@ public class DefaultWallet implements Wallet {
         }
 
         this.network = network;
-        this.cache = new HashMap<>();
+        this.cache = new ConcurrentHashMap<>();
 
         if (mnemonic != null && !mnemonic.isEmpty()) {
             this.mnemonic = mnemonic;
@@ -190,43 +197,97 @@ public class DefaultWallet implements Wallet {
         if(account != this.accountNo) {
             return deriveAccount(account, index);
         } else {
-            if(cache.containsKey(index)) {
-                return cache.get(index);
-            } else {
-                Account acc = deriveAccount(account, index);
-                if (acc != null)
-                    cache.put(index, acc);
-
-                return acc;
-            }
+            return cache.computeIfAbsent(index, idx -> deriveAccount(account, idx));
         }
     }
 
+    /**
+     * Returns base addresses for the index range and current account. Account can be changed via the setter.
+     * @param fromIndex start index (inclusive)
+     * @param toIndex end index (exclusive)
+     * @return list of Address objects in index order
+     */
+    @Override
+    public List<Address> getBaseAddresses(int fromIndex, int toIndex) {
+        return getBaseAddresses(this.accountNo, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns base addresses for derivation paths m/1852'/1815'/{account}'/0/{fromIndex..toIndex-1}.
+     * Addresses are derived in parallel from the account level public key.
+     * @param account account number
+     * @param fromIndex start index (inclusive)
+     * @param toIndex end index (exclusive)
+     * @return list of Address objects in index order
+     */
+    public List<Address> getBaseAddresses(int account, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex < fromIndex)
+            throw new IllegalArgumentException("Invalid index range: " + fromIndex + " - " + toIndex);
+
+        HdKeyGenerator hdKeyGenerator = new HdKeyGenerator();
+        HdPublicKey accountPubKey = getAccountKeyPair(account).getPublicKey();
+        HdPublicKey externalPubKey = hdKeyGenerator.getChildPublicKey(accountPubKey, 0);
+        HdPublicKey stakePubKey = CIP1852.getPublicKeyFromAccountPubKey(accountPubKey, 2, 0);
+
+        return IntStream.range(fromIndex, toIndex)
+                .parallel()
+                .mapToObj(index -> {
+                    HdPublicKey paymentPubKey = hdKeyGenerator.getChildPublicKey(externalPubKey, index);
+                    Address address = AddressProvider.getBaseAddress(paymentPubKey, stakePubKey, network);
+
+                    DerivationPath derivationPath = DerivationPath.createExternalAddressDerivationPathForAccount(account);
+                    derivationPath.getIndex().setValue(index);
+                    return new Address(address.toBech32(), derivationPath);
+                })
+                .collect(Collectors.toList());
+    }
+
     private Account deriveAccount(int account, int index) {
         DerivationPath derivationPath = DerivationPath.createExternalAddressDerivationPathForAccount(account);
         derivationPath.getIndex().setValue(index);
 
-        if (mnemonic != null && !mnemonic.isEmpty()) {
-            return Account.createFromMnemonic(this.network, this.mnemonic, derivationPath);
-        } else if (rootKey != null && rootKey.length > 0) {
-            return Account.createFromRootKey(this.network, this.rootKey, derivationPath);
-        } else if (accountKey != null && accountKey.length > 0) {
-            return Account.createFromAccountKey(this.network, this.accountKey, derivationPath);
-        }else {
-            throw new WalletException("Can't create Account. At least one of 'mnemonic', 'accountKey', or 'rootKey' must be set.");
-        }
+        //Keys are derived from the cached account level key, so that the root key is not derived again for each index.
+        //The mnemonic or root key is still kept in the account.
+        byte[] accountPvtKey = getAccountKeyPair(account).getPrivateKey().getBytes();
+        if (mnemonic != null && !mnemonic.isEmpty())
+            return Account.createFromMnemonic(this.network, this.mnemonic, accountPvtKey, derivationPath);
+        else if (rootKey != null && rootKey.length > 0)
+            return Account.createFromRootKey(this.network, this.rootKey, accountPvtKey, derivationPath);
+        else
+            return Account.createFromAccountKey(this.network, accountPvtKey, derivationPath);
+    }
+
+    private HdKeyPair getAccountKeyPair(int account) {
+        return accountKeyPairs.computeIfAbsent(account, this::deriveAccountKeyPair);
+    }
+
+    private HdKeyPair deriveAccountKeyPair(int account) {
+        DerivationPath derivationPath = DerivationPath.createExternalAddressDerivationPathForAccount(account);
+        HdKeyGenerator hdKeyGenerator = new HdKeyGenerator();
+
+        if (accountKey != null && accountKey.length > 0)
+            return hdKeyGenerator.getAccountKeyPairFromSecretKey(accountKey, derivationPath);
+
+        HdKeyPair rootKeyPair = getRootKeyPair()
+                .orElseThrow(() -> new WalletException("Can't create Account. At least one of 'mnemonic', 'accountKey', or 'rootKey' must be set."));
+
+        HdKeyPair purposeKey = hdKeyGenerator.getChildKeyPair(rootKeyPair, derivationPath.getPurpose().getValue(), derivationPath.getPurpose().isHarden());
+        HdKeyPair coinTypeKey = hdKeyGenerator.getChildKeyPair(purposeKey, derivationPath.getCoinType().getValue(), derivationPath.getCoinType().isHarden());
+        return hdKeyGenerator.getChildKeyPair(coinTypeKey, derivationPath.getAccount().getValue(), derivationPath.getAccount().isHarden());
     }
 
     /**
      * Setting the current account for derivation path.
-     * Setting the account will reset the cache.
+     * Setting the account will reset the address cache. Derived account level keys are kept.
      * @param account account number which will be set in the wallet
      */
     @Override
     public void setAccountNo(int account) {
         this.accountNo = account;
         // invalidating cache since it is only held for one account
-        cache = new HashMap<>();
+        cache = new ConcurrentHashMap<>();
+        stakeKeys = null;
+        stakeAddress = null;
     }
 
     @Override
@@ -240,7 +301,7 @@ public class DefaultWallet implements Wallet {
      */
     @JsonIgnore
     @Override
-    public Optional<HdKeyPair> getRootKeyPair() {
+    public synchronized Optional<HdKeyPair> getRootKeyPair() {
         if(rootKeyPair == null) {
             if (mnemonic != null && !mnemonic.isEmpty()) {
                 HdKeyGenerator hdKeyGenerator = new HdKeyGenerator();
@@ -289,10 +350,11 @@ public class DefaultWallet implements Wallet {
         if(accounts.isEmpty())
             throw new WalletException("No signers found!");
 
-        for (Account signerAcc : accounts)
-            txToSign = signerAcc.sign(txToSign);
+        List<HdKeyPair> signerKeys = accounts.stream()
+                .map(Account::hdKeyPair)
+                .collect(Collectors.toList());
 
-        return txToSign;
+        return TransactionSigner.INSTANCE.signAll(txToSign, signerKeys);
     }
 
 //
@@ -368,7 +430,11 @@ public class DefaultWallet implements Wallet {
     private HdKeyPair getStakeKeyPair() {
         if(stakeKeys == null) {
             DerivationPath stakeDerivationPath = DerivationPath.createStakeAddressDerivationPathForAccount(this.accountNo);
-            stakeKeys = new CIP1852().getKeyPairFromMnemonic(mnemonic, stakeDerivationPath);
+            HdKeyGenerator hdKeyGenerator = new HdKeyGenerator();
+            HdKeyPair roleKey = hdKeyGenerator.getChildKeyPair(getAccountKeyPair(this.accountNo),
+                    stakeDerivationPath.getRole().getValue(), stakeDerivationPath.getRole().isHarden());
+            stakeKeys = hdKeyGenerator.getChildKeyPair(roleKey, stakeDerivationPath.getIndex().getValue(),
+                    stakeDerivationPath.getIndex().isHarden());
         }
         return stakeKeys;
     }
@@ -9,6 +9,8 @@ import com.bloxbean.cardano.client.crypto.bip32.HdKeyPair;
 import com.bloxbean.cardano.client.crypto.bip39.Words;
 import com.bloxbean.cardano.client.transaction.spec.Transaction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -52,6 +54,21 @@ public interface Wallet {
      */
     Address getBaseAddress(int account, int index);
 
+    /**
+     * Retrieves the base addresses for an index range of the current account.
+     *
+     * @param fromIndex the start index (inclusive)
+     * @param toIndex the end index (exclusive)
+     * @return the base addresses in index order
+     */
+    default List<Address> getBaseAddresses(int fromIndex, int toIndex) {
+        List<Address> addresses = new ArrayList<>();
+        for (int index = fromIndex; index < toIndex; index++) {
+            addresses.add(getBaseAddress(index));
+        }
+        return addresses;
+    }
+
     /**
      * Retrieves the stake address associated with the Wallet instance.
      *
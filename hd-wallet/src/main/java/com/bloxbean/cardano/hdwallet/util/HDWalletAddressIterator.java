@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @Slf4j
@@ -18,6 +19,10 @@ public class HDWalletAddressIterator implements AddressIterator {
     private int gapCount = 0;
     private Iterator<Integer> indexesToScan;
 
+    //Addresses derived in advance during gap limit scanning, starting at prefetchStart
+    private List<Address> prefetched = List.of();
+    private int prefetchStart = 0;
+
     public HDWalletAddressIterator(Wallet wallet, UtxoSupplier utxoSupplier) {
         this.wallet = wallet;
         this.utxoSupplier = utxoSupplier;
@@ -48,7 +53,7 @@ public class HDWalletAddressIterator implements AddressIterator {
         if (indexesToScan != null) {
             address = wallet.getBaseAddress(indexesToScan.next());
         } else {
-            address = wallet.getBaseAddress(index);
+            address = getAddressAtIndex(index);
 
             if (log.isTraceEnabled())
                 log.trace("Scanning derivation path: " + address.getDerivationPath().get());
@@ -63,6 +68,17 @@ public class HDWalletAddressIterator implements AddressIterator {
         return address;
     }
 
+    private Address getAddressAtIndex(int index) {
+        if (index < prefetchStart || index >= prefetchStart + prefetched.size()) {
+            //Derive the addresses, which can be scanned before the gap limit is reached, in one batch
+            int batchSize = Math.max(wallet.getGapLimit() - gapCount, 1);
+            prefetched = wallet.getBaseAddresses(index, index + batchSize);
+            prefetchStart = index;
+        }
+
+        return prefetched.get(index - prefetchStart);
+    }
+
     @Override
     public String toString() {
         //Print address at first index
@@ -82,6 +98,8 @@ public class HDWalletAddressIterator implements AddressIterator {
     public void reset() {
         index = 0;
         gapCount = 0;
+        prefetched = List.of();
+        prefetchStart = 0;
 
         this.indexesToScan = wallet.getIndexesToScan() != null && wallet.getIndexesToScan().length > 0 ?
                 Arrays.stream(wallet.getIndexesToScan()).iterator() : null;
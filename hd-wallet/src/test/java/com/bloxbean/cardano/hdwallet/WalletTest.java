@@ -9,6 +9,8 @@ import com.bloxbean.cardano.client.util.HexUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -225,4 +227,64 @@ public class WalletTest {
             Wallet.createFromRootKey(network, rootKey);
         });
     }
+
+    @Test
+    void testGetAccount_keepsMnemonicAndKeys() {
+        Wallet wallet = Wallet.createFromMnemonic(Networks.testnet(), phrase24W);
+
+        Account account = wallet.getAccount(1, 3);
+        Account expected = Account.createFromMnemonic(Networks.testnet(), phrase24W, 1, 3);
+
+        assertThat(account.mnemonic()).isEqualTo(phrase24W);
+        assertThat(account.baseAddress()).isEqualTo(expected.baseAddress());
+        assertThat(account.privateKeyBytes()).isEqualTo(expected.privateKeyBytes());
+        assertThat(account.stakeAddress()).isEqualTo(expected.stakeAddress());
+        assertThat(account.getRootKeyPair().get().getPrivateKey().getBytes())
+                .isEqualTo(expected.getRootKeyPair().get().getPrivateKey().getBytes());
+    }
+
+    @Test
+    void testGetBaseAddresses_matchesAddressAtIndex() {
+        Wallet wallet = Wallet.createFromMnemonic(Networks.mainnet(), phrase24W);
+
+        List<Address> addresses = wallet.getBaseAddresses(0, 4);
+
+        assertThat(addresses).extracting(Address::toBech32).containsExactly(baseAddress0, baseAddress1, baseAddress2, baseAddress3);
+        assertThat(addresses.get(2).getDerivationPath().get().getIndex().getValue()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetBaseAddresses_otherAccount() {
+        DefaultWallet wallet = (DefaultWallet) Wallet.createFromMnemonic(Networks.testnet(), phrase24W);
+
+        List<Address> addresses = wallet.getBaseAddresses(3, 10, 40);
+
+        assertThat(addresses).hasSize(30);
+        assertThat(addresses.get(0).toBech32()).isEqualTo(wallet.getBaseAddress(3, 10).toBech32());
+        assertThat(addresses.get(29).toBech32()).isEqualTo(wallet.getBaseAddress(3, 39).toBech32());
+    }
+
+    @Test
+    void testSetAccountNo_addressesAndStakeAddressOfNewAccount() {
+        String mnemonic = "fresh apple bus punch dynamic what arctic elevator logic hole survey hunt better adapt helmet fat refuse season enter category tomato mule capable faith";
+        Wallet wallet = Wallet.createFromMnemonic(Networks.testnet(), mnemonic);
+        String stakeAddress0 = wallet.getStakeAddress();
+
+        wallet.setAccountNo(2);
+
+        assertThat(wallet.getBaseAddressString(0)).isEqualTo("addr_test1qpyf7633hxe5t5lwr20dre9xy54nuhl4qf53rvpcs3geq5mgypzw9uc2ug5dsdet3gtvkd7f32f4q6a5x3afwk5m6y7sfpmuak");
+        assertThat(wallet.getStakeAddress()).isEqualTo("stake_test1up5zq38z7v9wy2xcxu4c59ktxlyc4y6sdw6rg75ht2daz0guncpsl");
+
+        wallet.setAccountNo(0);
+        assertThat(wallet.getStakeAddress()).isEqualTo(stakeAddress0);
+    }
+
+    @Test
+    void testStakeAddressWhenFromRootKey() {
+        String rootKey = "root_xsk1xrvg8kfpdlaluwstt0twcajgavqcgkczmav6lffvgfmrxeqwq3qer3rasrjdj9f663xa98xcu4a28zuv5cks5lytdvfezn49ycrndz2mptat9v0t5eafsdj9rpe4lcxndvys0v6qahq8v0flv9ycpav8ks46k8xh";
+
+        Wallet wallet = Wallet.createFromRootKey(Networks.testnet(), Bech32.decode(rootKey).data, 2);
+
+        assertThat(wallet.getStakeAddress()).isEqualTo("stake_test1up5zq38z7v9wy2xcxu4c59ktxlyc4y6sdw6rg75ht2daz0guncpsl");
+    }
 }
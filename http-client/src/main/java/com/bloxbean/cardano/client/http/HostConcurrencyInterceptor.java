@@ -0,0 +1,137 @@
+package com.bloxbean.cardano.client.http;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the no of concurrent requests to a host. The OkHttp dispatcher only limits asynchronous calls, but most
+ * services execute calls synchronously.
+ * <p>
+ * A request holds its slot until the response body is closed or fully read, so the limit also covers reading the
+ * body. A response without a body releases the slot right away.
+ */
+class HostConcurrencyInterceptor implements Interceptor {
+    private final int maxRequestsPerHost;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    HostConcurrencyInterceptor(int maxRequestsPerHost) {
+        if (maxRequestsPerHost <= 0)
+            throw new IllegalArgumentException("maxRequestsPerHost should be greater than 0");
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Semaphore semaphore = permits.computeIfAbsent(chain.request().url().host(), host -> new Semaphore(maxRequestsPerHost, true));
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection slot");
+        }
+
+        Permit permit = new Permit(semaphore);
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException | Error e) {
+            permit.release();
+            throw e;
+        }
+
+        ResponseBody body = response.body();
+        if (body == null) {
+            permit.release();
+            return response;
+        }
+        return response.newBuilder()
+                .body(new PermitReleasingBody(body, permit))
+                .build();
+    }
+
+    private static class Permit {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true))
+                semaphore.release();
+        }
+    }
+
+    private static class PermitReleasingBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final Permit permit;
+        private final BufferedSource source;
+
+        PermitReleasingBody(ResponseBody delegate, Permit permit) {
+            this.delegate = delegate;
+            this.permit = permit;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read;
+                    try {
+                        read = super.read(sink, byteCount);
+                    } catch (IOException e) {
+                        permit.release();
+                        throw e;
+                    }
+                    if (read == -1)
+                        permit.release();
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                permit.release();
+            }
+        }
+    }
+}
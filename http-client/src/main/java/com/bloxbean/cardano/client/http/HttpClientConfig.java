@@ -0,0 +1,97 @@
+package com.bloxbean.cardano.client.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of a shared http client created through {@link HttpClients#create(HttpClientConfig)}
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+public class HttpClientConfig {
+
+    /**
+     * Max no of idle connections to keep in the connection pool
+     */
+    @Builder.Default
+    private final int maxIdleConnections = 10;
+
+    /**
+     * Time to keep an idle connection alive
+     */
+    @Builder.Default
+    private final Duration keepAliveDuration = Duration.ofMinutes(5);
+
+    /**
+     * Max no of concurrent requests
+     */
+    @Builder.Default
+    private final int maxRequests = 64;
+
+    /**
+     * Max no of concurrent asynchronous requests to a single host. Also applied to synchronous calls if
+     * {@link #limitSyncRequestsPerHost} is set.
+     */
+    @Builder.Default
+    private final int maxRequestsPerHost = 10;
+
+    /**
+     * Apply {@link #maxRequestsPerHost} to synchronous calls too, which the OkHttp dispatcher doesn't limit.
+     * A request holds its slot until its response body is closed, so callers must close the response.
+     */
+    @Builder.Default
+    private final boolean limitSyncRequestsPerHost = false;
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final Duration readTimeout = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final Duration writeTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Allow HTTP/2 when the server supports it. If false, only HTTP/1.1 is used.
+     */
+    @Builder.Default
+    private final boolean http2Enabled = true;
+
+    /**
+     * Directory of the response cache. The response cache is disabled if not set.
+     * <p>
+     * Cached responses are revalidated with the server using their ETag or Last-Modified headers, unless the request
+     * path matches one of {@link #immutablePathPatterns}.
+     */
+    private final File cacheDirectory;
+
+    /**
+     * Max size of the response cache in bytes
+     */
+    @Builder.Default
+    private final long cacheMaxSize = 50L * 1024 * 1024;
+
+    /**
+     * Regular expressions of request paths which return immutable resources, for example transaction or script
+     * details by hash. Successful responses for these paths are cached without revalidation.
+     * Only used when {@link #cacheDirectory} is set.
+     */
+    @Builder.Default
+    private final List<String> immutablePathPatterns = Collections.emptyList();
+
+    /**
+     * Listener to receive the latency of each request
+     */
+    private final RequestLatencyListener latencyListener;
+
+    public static HttpClientConfig defaultConfig() {
+        return HttpClientConfig.builder().build();
+    }
+}
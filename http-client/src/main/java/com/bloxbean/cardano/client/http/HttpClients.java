@@ -0,0 +1,90 @@
+package com.bloxbean.cardano.client.http;
+
+import lombok.NonNull;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import retrofit2.Retrofit;
+import retrofit2.converter.jackson.JacksonConverterFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory of shared http clients used by backend and supplier services.
+ * <p>
+ * An {@link OkHttpClient} owns a connection pool and a dispatcher thread pool. Services which are created with the
+ * same client share these, so connections to a provider are kept alive and reused across services.
+ */
+public class HttpClients {
+
+    private HttpClients() {
+    }
+
+    /**
+     * Returns the default shared http client
+     *
+     * @return OkHttpClient
+     */
+    public static OkHttpClient getDefault() {
+        return DefaultClientHolder.INSTANCE;
+    }
+
+    /**
+     * Create a new http client. The returned client should be shared by all services which connect to the same provider.
+     *
+     * @param config http client config
+     * @return OkHttpClient
+     */
+    public static OkHttpClient create(@NonNull HttpClientConfig config) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(config.getMaxIdleConnections(),
+                        config.getKeepAliveDuration().toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(config.getConnectTimeout())
+                .readTimeout(config.getReadTimeout())
+                .writeTimeout(config.getWriteTimeout());
+
+        if (!config.isHttp2Enabled())
+            builder.protocols(List.of(Protocol.HTTP_1_1));
+
+        if (config.getLatencyListener() != null)
+            builder.addInterceptor(new LatencyInterceptor(config.getLatencyListener()));
+
+        if (config.isLimitSyncRequestsPerHost())
+            builder.addInterceptor(new HostConcurrencyInterceptor(config.getMaxRequestsPerHost()));
+
+        if (config.getCacheDirectory() != null) {
+            builder.cache(new Cache(config.getCacheDirectory(), config.getCacheMaxSize()));
+            if (config.getImmutablePathPatterns() != null && !config.getImmutablePathPatterns().isEmpty())
+                builder.addNetworkInterceptor(new ImmutableResourceInterceptor(config.getImmutablePathPatterns()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Create a {@link Retrofit} instance with Jackson converter which uses the given http client
+     *
+     * @param baseUrl    base url
+     * @param httpClient http client
+     * @return Retrofit
+     */
+    public static Retrofit retrofit(@NonNull String baseUrl, @NonNull OkHttpClient httpClient) {
+        return new Retrofit.Builder()
+                .baseUrl(baseUrl)
+                .client(httpClient)
+                .addConverterFactory(JacksonConverterFactory.create())
+                .build();
+    }
+
+    private static class DefaultClientHolder {
+        private static final OkHttpClient INSTANCE = create(HttpClientConfig.defaultConfig());
+    }
+}
@@ -0,0 +1,49 @@
+package com.bloxbean.cardano.client.http;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Marks successful GET responses of immutable resources as cacheable, so that they are served from the response cache
+ * without revalidation. Responses of other paths keep the cache headers sent by the server.
+ */
+class ImmutableResourceInterceptor implements Interceptor {
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final List<Pattern> patterns;
+
+    ImmutableResourceInterceptor(List<String> pathPatterns) {
+        this.patterns = pathPatterns.stream()
+                .map(Pattern::compile)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        if (response.code() == 200 && "GET".equals(request.method()) && isImmutable(request.url().encodedPath())) {
+            return response.newBuilder()
+                    .removeHeader("Pragma")
+                    .header("Cache-Control", IMMUTABLE_CACHE_CONTROL)
+                    .build();
+        }
+
+        return response;
+    }
+
+    private boolean isImmutable(String path) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(path).matches())
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bloxbean.cardano.client.http;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Reports the latency of each request to a {@link RequestLatencyListener}
+ */
+@Slf4j
+class LatencyInterceptor implements Interceptor {
+    private final RequestLatencyListener listener;
+
+    LatencyInterceptor(RequestLatencyListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        long start = System.nanoTime();
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            long latency = System.nanoTime() - start;
+            try {
+                listener.onFailure(request.method(), request.url().encodedPath(), e, latency);
+            } catch (Exception listenerError) {
+                log.warn("Error in request latency listener", listenerError);
+            }
+            throw e;
+        }
+
+        long latency = System.nanoTime() - start;
+        try {
+            boolean cached = response.cacheResponse() != null && response.networkResponse() == null;
+            listener.onResponse(request.method(), request.url().encodedPath(), response.code(), latency, cached);
+        } catch (Exception listenerError) {
+            log.warn("Error in request latency listener", listenerError);
+        }
+
+        return response;
+    }
+}
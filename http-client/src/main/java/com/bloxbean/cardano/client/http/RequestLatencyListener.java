@@ -0,0 +1,32 @@
+package com.bloxbean.cardano.client.http;
+
+import java.io.IOException;
+
+/**
+ * Implement this interface to collect request latency metrics of a http client created through {@link HttpClients}.
+ * Listener methods are called in the thread which executed the request, so implementations should return quickly.
+ */
+public interface RequestLatencyListener {
+
+    /**
+     * Called when a response is received
+     *
+     * @param method       http method
+     * @param path         request path
+     * @param statusCode   http status code
+     * @param latencyNanos time taken in nanoseconds
+     * @param cached       true if the response was served from the response cache without a network call
+     */
+    void onResponse(String method, String path, int statusCode, long latencyNanos, boolean cached);
+
+    /**
+     * Called when a request fails without a response
+     *
+     * @param method       http method
+     * @param path         request path
+     * @param error        error
+     * @param latencyNanos time taken in nanoseconds
+     */
+    default void onFailure(String method, String path, IOException error, long latencyNanos) {
+    }
+}
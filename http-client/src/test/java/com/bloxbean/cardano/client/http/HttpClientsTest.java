@@ -0,0 +1,190 @@
+package com.bloxbean.cardano.client.http;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpClientsTest {
+    private static ExecutorService serverExecutor;
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @BeforeAll
+    static void startExecutor() {
+        serverExecutor = Executors.newFixedThreadPool(10);
+    }
+
+    @AfterAll
+    static void stopExecutor() {
+        serverExecutor.shutdownNow();
+    }
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            requestCount.incrementAndGet();
+            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+            try {
+                if (exchange.getRequestURI().getPath().startsWith("/slow"))
+                    Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inflight.decrementAndGet();
+            }
+
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void latencyListener_calledForEachRequest() throws IOException {
+        List<String> paths = new CopyOnWriteArrayList<>();
+        OkHttpClient client = HttpClients.create(HttpClientConfig.builder()
+                .latencyListener((method, path, statusCode, latencyNanos, cached) -> {
+                    assertThat(latencyNanos).isPositive();
+                    paths.add(method + " " + path + " " + statusCode);
+                })
+                .build());
+
+        get(client, "/txs/abc");
+        get(client, "/epochs/latest");
+
+        assertThat(paths).containsExactly("GET /txs/abc 200", "GET /epochs/latest 200");
+    }
+
+    @Test
+    void immutablePaths_servedFromCache(@TempDir File cacheDir) throws IOException {
+        AtomicInteger cachedResponses = new AtomicInteger();
+        OkHttpClient client = HttpClients.create(HttpClientConfig.builder()
+                .cacheDirectory(cacheDir)
+                .immutablePathPatterns(List.of("/txs/[0-9a-f]+"))
+                .latencyListener((method, path, statusCode, latencyNanos, cached) -> {
+                    if (cached) cachedResponses.incrementAndGet();
+                })
+                .build());
+
+        get(client, "/txs/abcd");
+        get(client, "/txs/abcd");
+        get(client, "/epochs/latest");
+        get(client, "/epochs/latest");
+
+        assertThat(requestCount.get()).isEqualTo(3);
+        assertThat(cachedResponses.get()).isEqualTo(1);
+    }
+
+    @Test
+    void maxRequestsPerHost_appliedToSyncCalls() throws Exception {
+        OkHttpClient client = HttpClients.create(HttpClientConfig.builder()
+                .maxRequestsPerHost(2)
+                .limitSyncRequestsPerHost(true)
+                .build());
+
+        getConcurrently(client, 6);
+
+        assertThat(requestCount.get()).isEqualTo(6);
+        assertThat(maxInflight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void maxRequestsPerHost_notAppliedToSyncCallsByDefault() throws Exception {
+        OkHttpClient client = HttpClients.create(HttpClientConfig.builder()
+                .maxRequestsPerHost(2)
+                .build());
+
+        getConcurrently(client, 6);
+
+        assertThat(requestCount.get()).isEqualTo(6);
+        assertThat(maxInflight.get()).isGreaterThan(2);
+    }
+
+    @Test
+    void maxRequestsPerHost_slotHeldUntilBodyClosed() throws Exception {
+        OkHttpClient client = HttpClients.create(HttpClientConfig.builder()
+                .maxRequestsPerHost(1)
+                .limitSyncRequestsPerHost(true)
+                .build());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Response first = client.newCall(new Request.Builder().url(baseUrl + "/epochs/latest").build()).execute();
+            Future<String> second = executor.submit(() -> get(client, "/epochs/latest"));
+
+            assertThatThrownBy(() -> second.get(300, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            first.close();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("{}");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getDefault_returnsSharedClient() {
+        assertThat(HttpClients.getDefault()).isSameAs(HttpClients.getDefault());
+    }
+
+    private void getConcurrently(OkHttpClient client, int count) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> get(client, "/slow")));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String get(OkHttpClient client, String path) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(baseUrl + path).build()).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            return response.body().string();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bloxbean.cardano.client.plutus.bench;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+import java.math.BigInteger;
+
+@Constr(alternative = 1)
+public class BenchDatum {
+    @PlutusField
+    public String owner;
+    @PlutusField
+    public BigInteger amount;
+    @PlutusField
+    public Long deadline;
+    @PlutusField
+    public byte[] scriptHash;
+}
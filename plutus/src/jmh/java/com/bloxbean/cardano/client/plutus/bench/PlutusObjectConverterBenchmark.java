@@ -0,0 +1,75 @@
+package com.bloxbean.cardano.client.plutus.bench;
+
+import com.bloxbean.cardano.client.plutus.api.PlutusObjectConverter;
+import com.bloxbean.cardano.client.plutus.bench.converter.BenchDatumConverter;
+import com.bloxbean.cardano.client.plutus.impl.DefaultPlutusObjectConverter;
+import com.bloxbean.cardano.client.plutus.spec.PlutusData;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the conversion of a datum with four fields by {@link DefaultPlutusObjectConverter}, with cached field
+ * getters or dispatching to the generated converter, against the previous per call reflection and a direct call of
+ * the generated converter.
+ *
+ * <p>Run with:
+ * <pre>
+ * ./gradlew :plutus:jmh -Pjmh.include=".*PlutusObjectConverterBenchmark.*"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlutusObjectConverterBenchmark {
+    private static final String OWNER = "0x5468697320697320612074657374";
+    private static final BigInteger AMOUNT = BigInteger.valueOf(2_000_000);
+    private static final long DEADLINE = 1_700_000_000_000L;
+    private static final byte[] SCRIPT_HASH = new byte[28];
+
+    private final PlutusObjectConverter defaultConverter = new DefaultPlutusObjectConverter();
+    private final ReflectivePlutusObjectConverter reflectiveConverter = new ReflectivePlutusObjectConverter();
+    private final BenchDatumConverter generatedConverter = new BenchDatumConverter();
+
+    private BenchDatum datum;
+    private UnconvertedBenchDatum unconvertedDatum;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        datum = new BenchDatum();
+        datum.owner = OWNER;
+        datum.amount = AMOUNT;
+        datum.deadline = DEADLINE;
+        datum.scriptHash = SCRIPT_HASH;
+
+        unconvertedDatum = new UnconvertedBenchDatum();
+        unconvertedDatum.owner = OWNER;
+        unconvertedDatum.amount = AMOUNT;
+        unconvertedDatum.deadline = DEADLINE;
+        unconvertedDatum.scriptHash = SCRIPT_HASH;
+    }
+
+    @Benchmark
+    public PlutusData reflective() {
+        return reflectiveConverter.toPlutusData(unconvertedDatum);
+    }
+
+    @Benchmark
+    public PlutusData cachedGetters() {
+        return defaultConverter.toPlutusData(unconvertedDatum);
+    }
+
+    @Benchmark
+    public PlutusData dispatchToGeneratedConverter() {
+        return defaultConverter.toPlutusData(datum);
+    }
+
+    @Benchmark
+    public PlutusData generatedConverter() {
+        return generatedConverter.toPlutusData(datum);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bloxbean.cardano.client.plutus.bench;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+import com.bloxbean.cardano.client.plutus.exception.PlutusDataConvertionException;
+import com.bloxbean.cardano.client.plutus.spec.*;
+import com.bloxbean.cardano.client.util.HexUtil;
+
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Baseline for {@link PlutusObjectConverterBenchmark}. The previous conversion of the default converter, which looked
+ * up the annotations and fields of the class and read the fields through reflection on every call. Only the flat field
+ * types used by the benchmark are supported.
+ */
+class ReflectivePlutusObjectConverter {
+
+    PlutusData toPlutusData(Object obj) {
+        Class<?> clazz = obj.getClass();
+
+        Constr constr = clazz.getAnnotation(Constr.class);
+        if (constr == null)
+            throw new PlutusDataConvertionException("@Contr annotation not found in class : " + clazz.getName());
+
+        List<Field> fields = Arrays.stream(clazz.getDeclaredFields())
+                .filter(field -> field.getAnnotation(PlutusField.class) != null)
+                .collect(Collectors.toList());
+
+        ConstrPlutusData constrPlutusData = ConstrPlutusData.builder()
+                .alternative(constr.alternative())
+                .data(new ListPlutusData())
+                .build();
+
+        for (Field field : fields) {
+            field.setAccessible(true);
+
+            Object value;
+            try {
+                value = field.get(obj);
+            } catch (IllegalAccessException e) {
+                throw new PlutusDataConvertionException("Unable to convert value for field : " + field.getName());
+            }
+
+            constrPlutusData.getData().add(toFieldPlutusData(value));
+        }
+
+        return constrPlutusData;
+    }
+
+    private PlutusData toFieldPlutusData(Object obj) {
+        if (obj instanceof byte[]) {
+            return BytesPlutusData.of((byte[]) obj);
+        } else if (obj instanceof String) {
+            String value = (String) obj;
+            if (value.startsWith("0x") || value.startsWith("0X"))
+                return BytesPlutusData.of(HexUtil.decodeHexString(value));
+            else
+                return BytesPlutusData.of(value);
+        } else if (obj instanceof BigInteger) {
+            return BigIntPlutusData.of((BigInteger) obj);
+        } else if (obj instanceof Long) {
+            return BigIntPlutusData.of((Long) obj);
+        } else if (obj instanceof Integer) {
+            return BigIntPlutusData.of((Integer) obj);
+        }
+
+        throw new PlutusDataConvertionException("Unsupported field type : " + obj.getClass());
+    }
+}
@@ -0,0 +1,21 @@
+package com.bloxbean.cardano.client.plutus.bench;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+import java.math.BigInteger;
+
+/**
+ * Same fields as {@link BenchDatum}, but without a generated converter
+ */
+@Constr(alternative = 1)
+public class UnconvertedBenchDatum {
+    @PlutusField
+    public String owner;
+    @PlutusField
+    public BigInteger amount;
+    @PlutusField
+    public Long deadline;
+    @PlutusField
+    public byte[] scriptHash;
+}
@@ -0,0 +1,20 @@
+package com.bloxbean.cardano.client.plutus.bench.converter;
+
+import com.bloxbean.cardano.client.plutus.annotation.BasePlutusDataConverter;
+import com.bloxbean.cardano.client.plutus.bench.BenchDatum;
+import com.bloxbean.cardano.client.plutus.spec.ConstrPlutusData;
+
+/**
+ * Same shape as the converter generated by the annotation processor for {@link BenchDatum}
+ */
+public class BenchDatumConverter extends BasePlutusDataConverter {
+
+    public ConstrPlutusData toPlutusData(BenchDatum obj) {
+        ConstrPlutusData constr = initConstr(1);
+        constr.getData().add(toPlutusData(obj.owner));
+        constr.getData().add(toPlutusData(obj.amount));
+        constr.getData().add(toPlutusData(obj.deadline));
+        constr.getData().add(toPlutusData(obj.scriptHash));
+        return constr;
+    }
+}
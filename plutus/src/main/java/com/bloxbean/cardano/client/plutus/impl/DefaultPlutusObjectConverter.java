@@ -2,20 +2,42 @@ package com.bloxbean.cardano.client.plutus.impl;
 
 import com.bloxbean.cardano.client.plutus.annotation.Constr;
 import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusIgnore;
 import com.bloxbean.cardano.client.plutus.api.PlutusObjectConverter;
 import com.bloxbean.cardano.client.plutus.exception.PlutusDataConvertionException;
 import com.bloxbean.cardano.client.plutus.spec.*;
 import com.bloxbean.cardano.client.util.HexUtil;
-import com.bloxbean.cardano.client.util.Tuple;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.math.BigInteger;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * Converts objects of {@link Constr} annotated classes, with {@link PlutusField} annotated fields, to {@link PlutusData}.
+ * <p>
+ * The annotations and field accessors of a class are resolved once and cached per class. If the annotation processor
+ * generated a converter for the class, i.e. {@code <package>.converter.<ClassName>Converter}, the conversion is
+ * delegated to it, but only if all fields of the class are {@link PlutusField} fields of a type which both converters
+ * encode the same way, i.e. String, byte[], BigInteger, Long and Integer. Nested objects, collections and maps are
+ * always converted here, as the generated converters encode them differently.
+ */
 @Slf4j
 public class DefaultPlutusObjectConverter implements PlutusObjectConverter {
+    private static final String CONVERTER_PACKAGE = "converter";
+    private static final String CONVERTER_SUFFIX = "Converter";
+
+    private static final ClassValue<ConstrMetadata> CONSTR_METADATA = new ClassValue<>() {
+        @Override
+        protected ConstrMetadata computeValue(Class<?> clazz) {
+            return ConstrMetadata.of(clazz);
+        }
+    };
 
     @Override
     public PlutusData toPlutusData(Object obj) {
@@ -39,39 +61,20 @@ public class DefaultPlutusObjectConverter implements PlutusObjectConverter {
             return convertOptionalType((Optional<?>) obj);
         }
 
-        Class<?> clazz = obj.getClass();
-
-        int alternative;
-        Constr constr = clazz.getAnnotation(Constr.class);
-        if (constr != null) {
-            alternative = constr.alternative();
-        } else {
-            throw new PlutusDataConvertionException("@Contr annotation not found in class : " + clazz.getName());
-        }
-
-        List<Tuple<Field, PlutusField>> fields = Arrays.stream(clazz.getDeclaredFields())
-                .filter(field -> field.getAnnotation(PlutusField.class) != null)
-                .map(field -> new Tuple<>(field, field.getDeclaredAnnotation(PlutusField.class)))
-                .collect(Collectors.toList());
+        ConstrMetadata metadata = CONSTR_METADATA.get(obj.getClass());
+        //Null fields are left to the default conversion, for its error message
+        if (metadata.generatedConverter != null && !metadata.hasNullField(obj))
+            return metadata.convertWithGeneratedConverter(obj);
 
         ListPlutusData listPlutusData = new ListPlutusData();
         ConstrPlutusData constrPlutusData = ConstrPlutusData.builder()
-                .alternative(alternative)
+                .alternative(metadata.alternative)
                 .data(listPlutusData)
                 .build();
 
-        for (Tuple<Field, PlutusField> tuple : fields) {
-            Field field = tuple._1;
-            field.setAccessible(true);
-
-            Object value;
-            try {
-                value = field.get(obj);
-            } catch (IllegalAccessException e) {
-                throw new PlutusDataConvertionException("Unable to convert value for field : " + field.getName());
-            }
-
-            PlutusData plutusData = _toPlutusData(field.getName(), value);
+        for (int i = 0; i < metadata.fieldNames.length; i++) {
+            Object value = metadata.get(i, obj);
+            PlutusData plutusData = _toPlutusData(metadata.fieldNames[i], value);
             constrPlutusData.getData().add(plutusData);
         }
 
@@ -149,4 +152,137 @@ public class DefaultPlutusObjectConverter implements PlutusObjectConverter {
         return plutusData;
 
     }
+    /**
+     * Alternative and field getters of a {@link Constr} class, and the generated converter if any
+     */
+    private static class ConstrMetadata {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        //Field types which the generated converters encode like the default conversion
+        private static final Set<Class<?>> SCALAR_FIELD_TYPES = Set.of(String.class, byte[].class, BigInteger.class,
+                Long.class, long.class, Integer.class, int.class);
+
+        private final long alternative;
+        private final String[] fieldNames;
+        private final MethodHandle[] getters;
+        private final MethodHandle generatedConverter;
+
+        private ConstrMetadata(long alternative, String[] fieldNames, MethodHandle[] getters, MethodHandle generatedConverter) {
+            this.alternative = alternative;
+            this.fieldNames = fieldNames;
+            this.getters = getters;
+            this.generatedConverter = generatedConverter;
+        }
+
+        static ConstrMetadata of(Class<?> clazz) {
+            Constr constr = clazz.getAnnotation(Constr.class);
+            if (constr == null)
+                throw new PlutusDataConvertionException("@Contr annotation not found in class : " + clazz.getName());
+
+            List<Field> fields = Arrays.stream(clazz.getDeclaredFields())
+                    .filter(field -> field.getAnnotation(PlutusField.class) != null)
+                    .collect(Collectors.toList());
+
+            String[] fieldNames = new String[fields.size()];
+            MethodHandle[] getters = new MethodHandle[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                field.setAccessible(true);
+                fieldNames[i] = field.getName();
+                try {
+                    getters[i] = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+                } catch (IllegalAccessException e) {
+                    throw new PlutusDataConvertionException("Unable to convert value for field : " + field.getName());
+                }
+            }
+
+            return new ConstrMetadata(constr.alternative(), fieldNames, getters, findGeneratedConverter(clazz, fields));
+        }
+
+        Object get(int index, Object obj) {
+            try {
+                return getters[index].invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PlutusDataConvertionException("Unable to convert value for field : " + fieldNames[index]);
+            }
+        }
+
+        boolean hasNullField(Object obj) {
+            for (int i = 0; i < getters.length; i++) {
+                if (get(i, obj) == null)
+                    return true;
+            }
+            return false;
+        }
+
+        PlutusData convertWithGeneratedConverter(Object obj) {
+            try {
+                return (PlutusData) generatedConverter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PlutusDataConvertionException("Unable to convert object of class : " + obj.getClass().getName());
+            }
+        }
+
+        /*
+         * The generated converter converts all fields which are not ignored, and nested values differently, so it's
+         * only used if the fields are exactly the PlutusField annotated fields and all of them are scalars.
+         */
+        private static MethodHandle findGeneratedConverter(Class<?> clazz, List<Field> plutusFields) {
+            boolean sameFields = Arrays.stream(clazz.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                    .allMatch(field -> field.getAnnotation(PlutusField.class) != null
+                            && field.getAnnotation(PlutusIgnore.class) == null
+                            && SCALAR_FIELD_TYPES.contains(field.getType()));
+            if (!sameFields || plutusFields.isEmpty())
+                return null;
+
+            for (String converterClassName : converterClassNames(clazz)) {
+                MethodHandle converter = findConverter(clazz, converterClassName);
+                if (converter != null)
+                    return converter;
+            }
+            return null;
+        }
+
+        /*
+         * The annotation processor references the converter of a nested class with the enclosing class names joined,
+         * e.g. OuterInnerConverter, but names the converter it generates for the nested class by the simple name.
+         */
+        private static List<String> converterClassNames(Class<?> clazz) {
+            String packageName = clazz.getPackageName();
+            String converterPackage = (packageName.isEmpty() ? "" : packageName + ".") + CONVERTER_PACKAGE + ".";
+
+            StringBuilder joinedName = new StringBuilder(clazz.getSimpleName());
+            for (Class<?> enclosing = clazz.getEnclosingClass(); enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+                joinedName.insert(0, enclosing.getSimpleName());
+            }
+
+            List<String> names = new ArrayList<>(2);
+            names.add(converterPackage + joinedName + CONVERTER_SUFFIX);
+            if (clazz.getEnclosingClass() != null)
+                names.add(converterPackage + clazz.getSimpleName() + CONVERTER_SUFFIX);
+            return names;
+        }
+
+        private static MethodHandle findConverter(Class<?> clazz, String converterClassName) {
+            try {
+                Class<?> converterClass = Class.forName(converterClassName, true, clazz.getClassLoader());
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Object converter = lookup.findConstructor(converterClass, MethodType.methodType(void.class)).invoke();
+                //toPlutusData with exactly this class, so a converter of another class with the same name is never used
+                MethodHandle toPlutusData = lookup.findVirtual(converterClass, "toPlutusData",
+                        MethodType.methodType(ConstrPlutusData.class, clazz));
+                return toPlutusData.bindTo(converter).asType(MethodType.methodType(PlutusData.class, Object.class));
+            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            } catch (Throwable e) {
+                if (log.isDebugEnabled())
+                    log.debug("Generated converter {} can't be created", converterClassName, e);
+                return null;
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.bloxbean.cardano.client.plutus.spec;
 
 import co.nstant.in.cbor.model.*;
 import co.nstant.in.cbor.model.Number;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.common.cbor.custom.ChunkedByteString;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.plutus.spec.serializers.BigIntDataJsonDeserializer;
@@ -89,6 +90,24 @@ public class BigIntPlutusData implements PlutusData {
         return di;
     }
 
+    @Override
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value.bitLength() <= BYTES_LIMIT) {
+            writer.writeInteger(value);
+        } else {
+            byte[] bytes = value.toByteArray();
+            if (value.signum() < 0) {
+                writer.writeTag(BIG_NINT_TAG);
+                writer.writeChunkedByteString(getChunks(negateBytes(bytes), BYTES_LIMIT));
+            } else {
+                writer.writeTag(BIG_UINT_TAG);
+                writer.writeChunkedByteString(getChunks(bytes, BYTES_LIMIT));
+            }
+        }
+    }
+
     private byte[] negateBytes(byte[] bytes) {
         for (int i = 0; i < bytes.length; i++) {
             bytes[i] = (byte) ~bytes[i];
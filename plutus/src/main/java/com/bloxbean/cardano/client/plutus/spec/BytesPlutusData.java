@@ -1,6 +1,7 @@
 package com.bloxbean.cardano.client.plutus.spec;
 
 import co.nstant.in.cbor.model.*;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.common.cbor.custom.ChunkedByteString;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
@@ -54,6 +55,17 @@ public class BytesPlutusData implements PlutusData {
         return di;
     }
 
+    @Override
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value.length <= BYTES_LIMIT) {
+            writer.writeByteString(value);
+        } else { //More than 64, chunk it
+            writer.writeChunkedByteString(getChunks(value, BYTES_LIMIT));
+        }
+    }
+
     public static BytesPlutusData deserialize(UnicodeString valueDI) throws CborDeserializationException {
         if (valueDI == null)
             return null;
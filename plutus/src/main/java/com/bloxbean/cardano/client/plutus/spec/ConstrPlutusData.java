@@ -4,6 +4,7 @@ import co.nstant.in.cbor.model.Array;
 import co.nstant.in.cbor.model.DataItem;
 import co.nstant.in.cbor.model.Tag;
 import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.plutus.spec.serializers.ConstrDataJsonDeserializer;
@@ -103,4 +104,25 @@ public class ConstrPlutusData implements PlutusData {
 
         return dataItem;
     }
+
+    @Override
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        if (data == null || data.getPlutusDataList() == null) { //Not a valid constr, keep the same failure as serialize()
+            writer.writeDataItem(serialize());
+            return;
+        }
+
+        Long cborTag = alternativeToCompactCborTag(alternative);
+        if (cborTag != null) {
+            // compact form
+            writer.writeTag(cborTag);
+            data.writeTo(writer);
+        } else {
+            //general form
+            writer.writeTag(GENERAL_FORM_TAG);
+            writer.writeArrayStart(2);
+            writer.writeUnsignedInteger(alternative);
+            data.writeTo(writer);
+        }
+    }
 }
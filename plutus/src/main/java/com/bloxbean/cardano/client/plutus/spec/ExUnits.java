@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.plutus.spec;
 import co.nstant.in.cbor.model.Array;
 import co.nstant.in.cbor.model.DataItem;
 import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,6 +29,12 @@ public class ExUnits {
         return array;
     }
 
+    public void writeTo(CborWriter writer) {
+        writer.writeArrayStart(2);
+        writer.writeInteger(mem);
+        writer.writeInteger(steps);
+    }
+
     public static ExUnits deserialize(Array exUnitDI) throws CborDeserializationException {
         List<DataItem> dataItemList = exUnitDI.getDataItems();
         if (dataItemList == null || dataItemList.size() != 2)
@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.plutus.spec;
 import co.nstant.in.cbor.model.Array;
 import co.nstant.in.cbor.model.DataItem;
 import co.nstant.in.cbor.model.Special;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.plutus.spec.serializers.ListDataJsonDeserializer;
@@ -95,4 +96,33 @@ public class ListPlutusData implements PlutusData {
 
         return plutusDataArray;
     }
+
+    @Override
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        if (plutusDataList == null) {
+            writer.writeNull();
+            return;
+        }
+
+        if (plutusDataList.size() == 0) {
+            writer.writeArrayStart(0);
+            return;
+        }
+
+        if (isChunked)
+            writer.writeIndefiniteArrayStart();
+        else
+            writer.writeArrayStart(plutusDataList.size());
+
+        for (PlutusData plutusData : plutusDataList) {
+            if (plutusData == null) {
+                throw new CborSerializationException("Cbor Serialization failed for plutus data. NULL serialized value found in the list");
+            }
+
+            plutusData.writeTo(writer);
+        }
+
+        if (isChunked)
+            writer.writeBreak();
+    }
 }
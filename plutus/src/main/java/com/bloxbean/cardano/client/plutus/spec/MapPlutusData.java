@@ -2,6 +2,7 @@ package com.bloxbean.cardano.client.plutus.spec;
 
 import co.nstant.in.cbor.model.DataItem;
 import co.nstant.in.cbor.model.Map;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.plutus.spec.serializers.MapDataJsonDeserializer;
@@ -70,4 +71,32 @@ public class MapPlutusData implements PlutusData {
 
         return plutusDataMap;
     }
+
+    @Override
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        if (map == null) {
+            writer.writeNull();
+            return;
+        }
+
+        //Keys are sorted in canonical order, same as a cbor Map serialized with canonical = true
+        CborWriter.CanonicalMap canonicalMap = new CborWriter.CanonicalMap();
+        for (java.util.Map.Entry<PlutusData, PlutusData> entry : map.entrySet()) {
+            if (entry.getKey() == null)
+                throw new CborSerializationException("Cbor serialization failed for PlutusData.  NULL serialized value found for key");
+
+            if (entry.getValue() == null)
+                throw new CborSerializationException("Cbor serialization failed for PlutusData.  NULL serialized value found for value");
+
+            CborWriter keyWriter = canonicalMap.scratch();
+            entry.getKey().writeTo(keyWriter);
+            byte[] key = keyWriter.toByteArray();
+
+            CborWriter valueWriter = canonicalMap.scratch();
+            entry.getValue().writeTo(valueWriter);
+            canonicalMap.put(key, valueWriter.toByteArray());
+        }
+
+        canonicalMap.writeTo(writer);
+    }
 }
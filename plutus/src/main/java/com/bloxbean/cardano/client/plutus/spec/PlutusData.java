@@ -5,6 +5,7 @@ import co.nstant.in.cbor.CborException;
 import co.nstant.in.cbor.model.Number;
 import co.nstant.in.cbor.model.*;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.crypto.Blake2bUtil;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborRuntimeException;
@@ -42,6 +43,17 @@ public interface PlutusData {
 
     DataItem serialize() throws CborSerializationException;
 
+    /**
+     * Write this PlutusData directly to a {@link CborWriter}, without building a DataItem tree.
+     * The output is same as the canonical serialization of {@link #serialize()}.
+     *
+     * @param writer CborWriter
+     * @throws CborSerializationException if serialization fails
+     */
+    default void writeTo(CborWriter writer) throws CborSerializationException {
+        writer.writeDataItem(serialize());
+    }
+
     static PlutusData deserialize(DataItem dataItem) throws CborDeserializationException {
         if (dataItem == null)
             return null;
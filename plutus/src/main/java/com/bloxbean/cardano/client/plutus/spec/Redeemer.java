@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.plutus.spec;
 import co.nstant.in.cbor.model.Array;
 import co.nstant.in.cbor.model.DataItem;
 import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.util.Tuple;
@@ -78,6 +79,53 @@ public class Redeemer {
         return new Tuple<>(keyArray, valueArray);
     }
 
+    /**
+     * Write the redeemer in pre-Conway array format to a {@link CborWriter}. Streaming equivalent of {@link #serializePreConway()}
+     *
+     * @param writer CborWriter
+     * @throws CborSerializationException if tag, data or exUnits is not set
+     */
+    public void writePreConwayTo(CborWriter writer) throws CborSerializationException {
+        validate();
+
+        writer.writeArrayStart(4);
+        writer.writeUnsignedInteger(tag.value);
+        writer.writeInteger(index);
+        data.writeTo(writer);
+        exUnits.writeTo(writer);
+    }
+
+    /**
+     * Write the key ([tag, index]) and value ([data, ex_units]) of the redeemer map entry.
+     * Streaming equivalent of {@link #serialize()}
+     *
+     * @param keyWriter CborWriter for the key
+     * @param valueWriter CborWriter for the value
+     * @throws CborSerializationException if tag, data or exUnits is not set
+     */
+    public void writeTo(CborWriter keyWriter, CborWriter valueWriter) throws CborSerializationException {
+        validate();
+
+        keyWriter.writeArrayStart(2);
+        keyWriter.writeUnsignedInteger(tag.value);
+        keyWriter.writeInteger(index);
+
+        valueWriter.writeArrayStart(2);
+        data.writeTo(valueWriter);
+        exUnits.writeTo(valueWriter);
+    }
+
+    private void validate() throws CborSerializationException {
+        if (tag == null)
+            throw new CborSerializationException("Redeemer tag cannot be null");
+
+        if (data == null)
+            throw new CborSerializationException("Redeemer data cannot be null");
+
+        if (exUnits == null)
+            throw new CborSerializationException("Redeemer exUnits cannot be null");
+    }
+
     @Deprecated(forRemoval = true)
     /**
      * This method is deprecated and is there for backward compatibility, but not used in CCL.
@@ -6,6 +6,9 @@ import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.plutus.annotation.Constr;
 import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
 import com.bloxbean.cardano.client.plutus.api.PlutusObjectConverter;
+import com.bloxbean.cardano.client.plutus.converter.EntryConverter;
+import com.bloxbean.cardano.client.plutus.converter.OrderDatumConverter;
+import com.bloxbean.cardano.client.plutus.exception.PlutusDataConvertionException;
 import com.bloxbean.cardano.client.plutus.impl.DefaultPlutusObjectConverter;
 import com.bloxbean.cardano.client.plutus.spec.*;
 import com.bloxbean.cardano.client.util.HexUtil;
@@ -202,6 +205,66 @@ class DefaultPlutusObjectConverterTest {
         Assertions.assertThat(constrPlutusData.serialize()).isEqualTo(expected.serialize());
     }
 
+    @Test
+    void toPlutusData_dispatchesToGeneratedConverter() {
+        OrderDatum order = new OrderDatum();
+        order.owner = "0x5468697320697320612074657374";
+        order.amount = BigInteger.valueOf(1000);
+
+        int invocations = OrderDatumConverter.invocations.get();
+        PlutusData plutusData = plutusObjectConverter.toPlutusData(order);
+
+        Assertions.assertThat(OrderDatumConverter.invocations.get()).isEqualTo(invocations + 1);
+        Assertions.assertThat(plutusData).isEqualTo(ConstrPlutusData.of(2,
+                BytesPlutusData.of(HexUtil.decodeHexString("5468697320697320612074657374")),
+                BigIntPlutusData.of(1000)));
+    }
+
+    @Test
+    void toPlutusData_dispatchesToGeneratedConverterOfNestedClass() {
+        OrderBook.Entry entry = new OrderBook.Entry();
+        entry.owner = "alice";
+
+        int invocations = EntryConverter.invocations.get();
+        PlutusData plutusData = plutusObjectConverter.toPlutusData(entry);
+
+        Assertions.assertThat(EntryConverter.invocations.get()).isEqualTo(invocations + 1);
+        Assertions.assertThat(plutusData).isEqualTo(ConstrPlutusData.of(1, BytesPlutusData.of("alice")));
+    }
+
+    @Test
+    void toPlutusData_generatedConverterNotUsedWhenFieldsDiffer() {
+        OrderDatumWithNote order = new OrderDatumWithNote();
+        order.owner = "alice";
+        order.note = "not converted";
+
+        PlutusData plutusData = plutusObjectConverter.toPlutusData(order);
+
+        Assertions.assertThat(plutusData).isEqualTo(ConstrPlutusData.of(0, BytesPlutusData.of("alice")));
+    }
+
+    @Test
+    void toPlutusData_generatedConverterNotUsedForNullField() {
+        OrderDatum order = new OrderDatum();
+        order.owner = "alice";
+
+        int invocations = OrderDatumConverter.invocations.get();
+
+        Assertions.assertThatThrownBy(() -> plutusObjectConverter.toPlutusData(order))
+                .isInstanceOf(PlutusDataConvertionException.class)
+                .hasMessageContaining("amount");
+        Assertions.assertThat(OrderDatumConverter.invocations.get()).isEqualTo(invocations);
+    }
+
+    @Test
+    void toPlutusData_whenNoConstrAnnotation() {
+        Assertions.assertThatThrownBy(() -> plutusObjectConverter.toPlutusData(new Object()))
+                .isInstanceOf(PlutusDataConvertionException.class);
+        //Not cached as a failure
+        Assertions.assertThatThrownBy(() -> plutusObjectConverter.toPlutusData(new Object()))
+                .isInstanceOf(PlutusDataConvertionException.class);
+    }
+
     @Nested
     class OptionalTests {
         @Test
@@ -0,0 +1,13 @@
+package com.bloxbean.cardano.client.plutus;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+public class OrderBook {
+
+    @Constr(alternative = 1)
+    public static class Entry {
+        @PlutusField
+        public String owner;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bloxbean.cardano.client.plutus;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+import java.math.BigInteger;
+
+@Constr(alternative = 2)
+public class OrderDatum {
+    @PlutusField
+    public String owner;
+
+    @PlutusField
+    public BigInteger amount;
+}
@@ -0,0 +1,13 @@
+package com.bloxbean.cardano.client.plutus;
+
+import com.bloxbean.cardano.client.plutus.annotation.Constr;
+import com.bloxbean.cardano.client.plutus.annotation.PlutusField;
+
+@Constr
+public class OrderDatumWithNote {
+    @PlutusField
+    public String owner;
+
+    //Not a PlutusField, but the generated converter converts it
+    public String note;
+}
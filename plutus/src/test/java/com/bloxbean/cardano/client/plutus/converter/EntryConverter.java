@@ -0,0 +1,21 @@
+package com.bloxbean.cardano.client.plutus.converter;
+
+import com.bloxbean.cardano.client.plutus.OrderBook;
+import com.bloxbean.cardano.client.plutus.annotation.BasePlutusDataConverter;
+import com.bloxbean.cardano.client.plutus.spec.ConstrPlutusData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Same name and shape as the converter generated by the annotation processor for the nested {@link OrderBook.Entry}
+ */
+public class EntryConverter extends BasePlutusDataConverter {
+    public static final AtomicInteger invocations = new AtomicInteger();
+
+    public ConstrPlutusData toPlutusData(OrderBook.Entry obj) {
+        invocations.incrementAndGet();
+        ConstrPlutusData constr = initConstr(1);
+        constr.getData().add(toPlutusData(obj.owner));
+        return constr;
+    }
+}
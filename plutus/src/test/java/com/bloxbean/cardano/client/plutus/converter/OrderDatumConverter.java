@@ -0,0 +1,22 @@
+package com.bloxbean.cardano.client.plutus.converter;
+
+import com.bloxbean.cardano.client.plutus.OrderDatum;
+import com.bloxbean.cardano.client.plutus.annotation.BasePlutusDataConverter;
+import com.bloxbean.cardano.client.plutus.spec.ConstrPlutusData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Same shape as the converter generated by the annotation processor for {@link OrderDatum}
+ */
+public class OrderDatumConverter extends BasePlutusDataConverter {
+    public static final AtomicInteger invocations = new AtomicInteger();
+
+    public ConstrPlutusData toPlutusData(OrderDatum obj) {
+        invocations.incrementAndGet();
+        ConstrPlutusData constr = initConstr(2);
+        constr.getData().add(toPlutusData(obj.owner));
+        constr.getData().add(toPlutusData(obj.amount));
+        return constr;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bloxbean.cardano.client.plutus.converter;
+
+import com.bloxbean.cardano.client.plutus.OrderDatumWithNote;
+import com.bloxbean.cardano.client.plutus.annotation.BasePlutusDataConverter;
+import com.bloxbean.cardano.client.plutus.spec.ConstrPlutusData;
+
+public class OrderDatumWithNoteConverter extends BasePlutusDataConverter {
+
+    public ConstrPlutusData toPlutusData(OrderDatumWithNote obj) {
+        ConstrPlutusData constr = initConstr(0);
+        constr.getData().add(toPlutusData(obj.owner));
+        constr.getData().add(toPlutusData(obj.note));
+        return constr;
+    }
+}
@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.quicktx;
 import com.bloxbean.cardano.client.address.Address;
 import com.bloxbean.cardano.client.api.*;
 import com.bloxbean.cardano.client.api.exception.ApiRuntimeException;
+import com.bloxbean.cardano.client.api.impl.ReservingUtxoSupplier;
 import com.bloxbean.cardano.client.api.model.Amount;
 import com.bloxbean.cardano.client.api.model.Result;
 import com.bloxbean.cardano.client.api.model.Utxo;
@@ -12,6 +13,7 @@ import com.bloxbean.cardano.client.coinselection.impl.DefaultUtxoSelectionStrate
 import com.bloxbean.cardano.client.coinselection.impl.ExcludeUtxoSelectionStrategy;
 import com.bloxbean.cardano.client.coinselection.impl.ExcludeUtxoSelector;
 import com.bloxbean.cardano.client.coinselection.impl.LargestFirstUtxoSelectionStrategy;
+import com.bloxbean.cardano.client.coinselection.impl.ReservingUtxoSelectionStrategy;
 import com.bloxbean.cardano.client.function.TxBuilder;
 import com.bloxbean.cardano.client.function.TxBuilderContext;
 import com.bloxbean.cardano.client.function.TxSigner;
@@ -298,6 +300,9 @@ public class QuickTxBuilder {
         }
         private List<SignerRef> signerRefs;
 
+        // Reservation of the build in progress in complete(), when the utxo supplier is a ReservingUtxoSupplier
+        private ReservingUtxoSupplier.Reservation reservation;
+
         TxContext(AbstractTx... txs) {
             this.txList = txs;
         }
@@ -673,6 +678,12 @@ public class QuickTxBuilder {
                 txBuilderContext.setUtxoSelector(new ExcludeUtxoSelector(txBuilderContext.getUtxoSelector(), collateralInputs));
             }
 
+            //Reserve selected utxos, so that concurrent builds on the same ReservingUtxoSupplier don't select them
+            if (reservation != null) {
+                txBuilderContext.setUtxoSelectionStrategy(
+                        new ReservingUtxoSelectionStrategy(txBuilderContext.getUtxoSelectionStrategy(), reservation));
+            }
+
             //requiredSigners
             if (requiredSigners != null && !requiredSigners.isEmpty()) {
                 txBuilder = txBuilder.andThen(addRequiredSignersBuilder());
@@ -847,21 +858,47 @@ public class QuickTxBuilder {
 //            if(txListContainsWallet && !(utxoSupplier instanceof WalletUtxoSupplier))
 //                throw new TxBuildException("Provide a WalletUtxoSupplier when using a sender wallet");
 
-            Transaction transaction = buildAndSign();
-
-            if (txInspector != null)
-                txInspector.accept(transaction);
+            //With a ReservingUtxoSupplier, inputs are reserved for this build until the transaction is submitted
+            ReservingUtxoSupplier.Reservation reservation = utxoSupplier instanceof ReservingUtxoSupplier
+                    ? ((ReservingUtxoSupplier) utxoSupplier).newReservation() : null;
 
-            if (txVerifier != null)
-                txVerifier.verify(transaction);
+            Transaction transaction;
+            this.reservation = reservation;
+            try {
+                transaction = buildAndSign();
+
+                if (txInspector != null)
+                    txInspector.accept(transaction);
+
+                if (txVerifier != null)
+                    txVerifier.verify(transaction);
+
+                if (reservation != null && !reservation.reserveInputs(transaction))
+                    throw new TxBuildException("Transaction inputs are reserved by another transaction build");
+            } catch (RuntimeException e) {
+                if (reservation != null)
+                    reservation.release();
+                throw e;
+            } finally {
+                this.reservation = null;
+            }
 
             try {
                 Result<String> result = transactionProcessor.submitTransaction(transaction.serialize());
                 if (!result.isSuccessful()) {
                     log.error("Transaction : " + transaction);
                 }
+
+                if (reservation != null) {
+                    if (result.isSuccessful())
+                        reservation.confirm(transaction);
+                    else
+                        reservation.release();
+                }
                 return TxResult.fromResult(result).withTxStatus(TxStatus.SUBMITTED);
             } catch (Exception e) {
+                if (reservation != null)
+                    reservation.release();
                 throw new ApiRuntimeException(e);
             }
         }
@@ -926,11 +963,12 @@ public class QuickTxBuilder {
 
             logConsumer.accept(showStatus(TxStatus.SUBMITTED, result.getValue()));
             String txHash = result.getValue();
+            UtxoSupplier confirmationSupplier = confirmationUtxoSupplier();
             try {
                 if (result.isSuccessful()) { //Wait for transaction to be included in the block
                     int count = 0;
                     while (count < 60) {
-                        Optional<Utxo> utxoOptional = utxoSupplier.getTxOutput(txHash, 0);
+                        Optional<Utxo> utxoOptional = confirmationSupplier.getTxOutput(txHash, 0);
                         if (utxoOptional.isPresent()) {
                             logConsumer.accept(showStatus(TxStatus.CONFIRMED, txHash));
                             return txResult.withTxStatus(TxStatus.CONFIRMED);
@@ -1014,6 +1052,12 @@ public class QuickTxBuilder {
             }
         }
 
+        //A ReservingUtxoSupplier also returns the outputs of submitted transactions, so check its source supplier
+        private UtxoSupplier confirmationUtxoSupplier() {
+            return utxoSupplier instanceof ReservingUtxoSupplier
+                    ? ((ReservingUtxoSupplier) utxoSupplier).getSource() : utxoSupplier;
+        }
+
         private TxResult waitForTxResult(Duration checkInterval, Consumer<String> logConsumer) {
             Result<String> result = complete();
             var txResult = TxResult.fromResult(result);
@@ -1025,8 +1069,9 @@ public class QuickTxBuilder {
             String txHash = result.getValue();
             try {
                 if (result.isSuccessful()) { //Wait for transaction to be included in the block
+                    UtxoSupplier confirmationSupplier = confirmationUtxoSupplier();
                     while (true) {
-                        Optional<Utxo> utxoOptional = utxoSupplier.getTxOutput(txHash, 0);
+                        Optional<Utxo> utxoOptional = confirmationSupplier.getTxOutput(txHash, 0);
                         if (utxoOptional.isPresent()) {
                             logConsumer.accept(showStatus(TxStatus.CONFIRMED, txHash));
                             return txResult.withTxStatus(TxStatus.CONFIRMED);
@@ -0,0 +1,127 @@
+package com.bloxbean.cardano.client.quicktx;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
+import com.bloxbean.cardano.client.api.TransactionProcessor;
+import com.bloxbean.cardano.client.api.impl.IndexedUtxoSupplier;
+import com.bloxbean.cardano.client.api.impl.ReservingUtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.common.model.Networks;
+import com.bloxbean.cardano.client.function.helper.SignerProviders;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class QuickTxBuilderReservationTest {
+    private static final String TX_HASH = "7e1eecf7439fb5119a6762985a61c9fb3ca8158d9fc38361f0c4746430d5e0c7";
+
+    private final Account sender = new Account(Networks.testnet());
+    private final String receiver = new Account(Networks.testnet()).baseAddress();
+
+    private IndexedUtxoSupplier source;
+    private ReservingUtxoSupplier utxoSupplier;
+    private ProtocolParamsSupplier protocolParamsSupplier;
+    private final List<Transaction> submitted = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setup() {
+        source = new IndexedUtxoSupplier();
+        for (int i = 0; i < 20; i++) {
+            source.add(Utxo.builder()
+                    .address(sender.baseAddress())
+                    .txHash(TX_HASH)
+                    .outputIndex(i)
+                    .amount(new ArrayList<>(List.of(Amount.ada(10))))
+                    .build());
+        }
+        utxoSupplier = new ReservingUtxoSupplier(source);
+
+        protocolParamsSupplier = mock(ProtocolParamsSupplier.class);
+        given(protocolParamsSupplier.getProtocolParams())
+                .willReturn(ProtocolParams.builder()
+                        .minFeeA(44)
+                        .minFeeB(155381)
+                        .minUtxo("1000000")
+                        .coinsPerUtxoSize("4312")
+                        .minFeeRefScriptCostPerByte(BigDecimal.valueOf(15))
+                        .build());
+    }
+
+    @Test
+    void concurrentComplete_neverSelectsSameInputs() throws Exception {
+        QuickTxBuilder quickTxBuilder = new QuickTxBuilder(utxoSupplier, protocolParamsSupplier, processor(true));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TxResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> quickTxBuilder.compose(new Tx()
+                                .payToAddress(receiver, Amount.ada(3))
+                                .from(sender.baseAddress()))
+                        .withSigner(SignerProviders.signerFrom(sender))
+                        .complete()));
+            }
+            for (Future<TxResult> future : futures) {
+                assertThat(future.get(60, TimeUnit.SECONDS).isSuccessful()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<TransactionInput> inputs = new HashSet<>();
+        for (Transaction transaction : submitted) {
+            for (TransactionInput input : transaction.getBody().getInputs()) {
+                assertThat(inputs.add(input)).as("input %s spent twice", input).isTrue();
+            }
+        }
+        assertThat(submitted).hasSize(16);
+        assertThat(utxoSupplier.pendingCount()).isEqualTo(16);
+        //Change outputs are spendable while the transactions are pending
+        assertThat(utxoSupplier.getPendingUtxos(sender.baseAddress())).isNotEmpty();
+    }
+
+    @Test
+    void rejectedSubmission_releasesInputs() {
+        QuickTxBuilder quickTxBuilder = new QuickTxBuilder(utxoSupplier, protocolParamsSupplier, processor(false));
+
+        TxResult result = quickTxBuilder.compose(new Tx()
+                        .payToAddress(receiver, Amount.ada(3))
+                        .from(sender.baseAddress()))
+                .withSigner(SignerProviders.signerFrom(sender))
+                .complete();
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(utxoSupplier.heldCount()).isZero();
+        assertThat(utxoSupplier.getAll(sender.baseAddress())).hasSize(20);
+    }
+
+    private TransactionProcessor processor(boolean accept) {
+        TransactionProcessor processor = mock(TransactionProcessor.class);
+        try {
+            given(processor.submitTransaction(any())).willAnswer(invocation -> {
+                byte[] cbor = invocation.getArgument(0);
+                if (!accept)
+                    return Result.error("Rejected");
+                submitted.add(Transaction.deserialize(cbor));
+                return Result.success("OK").withValue(TransactionUtil.getTxHash(cbor));
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return processor;
+    }
+}
@@ -1,16 +1,31 @@
 package com.bloxbean.cardano.client.supplier.kupo;
 
+import com.bloxbean.cardano.client.http.HttpClients;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 @Slf4j
 public class KupoBaseService {
 
     private final String kupoBaseUrl;
+    private final OkHttpClient httpClient;
 
     public KupoBaseService(String kupoBaseUrl) {
+        this(kupoBaseUrl, HttpClients.getDefault());
+    }
+
+    /**
+     * Create a service which uses the given http client. Services created with the same http client share its
+     * connection pool.
+     *
+     * @param kupoBaseUrl Kupo base url
+     * @param httpClient http client
+     */
+    public KupoBaseService(String kupoBaseUrl, @NonNull OkHttpClient httpClient) {
         this.kupoBaseUrl = kupoBaseUrl;
+        this.httpClient = httpClient;
 
         if (log.isDebugEnabled()) {
             log.debug("Kupo URL : " + kupoBaseUrl);
@@ -18,14 +33,15 @@ public class KupoBaseService {
     }
 
     protected Retrofit getRetrofit() {
-        return new Retrofit.Builder()
-                .baseUrl(getKupoBaseUrl())
-                .addConverterFactory(JacksonConverterFactory.create())
-                .build();
+        return HttpClients.retrofit(getKupoBaseUrl(), httpClient);
     }
 
     public String getKupoBaseUrl() {
         return kupoBaseUrl;
     }
 
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
 }
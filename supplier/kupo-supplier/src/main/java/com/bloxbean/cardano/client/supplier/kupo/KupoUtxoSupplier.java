@@ -9,8 +9,10 @@ import com.bloxbean.cardano.client.api.model.Utxo;
 import com.bloxbean.cardano.client.supplier.kupo.http.MatchesApi;
 import com.bloxbean.cardano.client.supplier.kupo.model.KupoDatum;
 import com.bloxbean.cardano.client.supplier.kupo.model.KupoUtxo;
+import com.bloxbean.cardano.client.http.HttpClients;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -26,7 +28,11 @@ public class KupoUtxoSupplier extends KupoBaseService implements UtxoSupplier {
     private final MatchesApi matchesApi;
 
     public KupoUtxoSupplier(String baseUrl) {
-        super(baseUrl);
+        this(baseUrl, HttpClients.getDefault());
+    }
+
+    public KupoUtxoSupplier(String baseUrl, OkHttpClient httpClient) {
+        super(baseUrl, httpClient);
         this.matchesApi = getRetrofit().create(MatchesApi.class);
     }
 
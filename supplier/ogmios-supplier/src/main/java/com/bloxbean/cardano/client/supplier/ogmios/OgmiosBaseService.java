@@ -1,16 +1,31 @@
 package com.bloxbean.cardano.client.supplier.ogmios;
 
+import com.bloxbean.cardano.client.http.HttpClients;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 @Slf4j
 public class OgmiosBaseService {
 
     private final String baseUrl;
+    private final OkHttpClient httpClient;
 
     public OgmiosBaseService(String baseUrl) {
+        this(baseUrl, HttpClients.getDefault());
+    }
+
+    /**
+     * Create a service which uses the given http client. Services created with the same http client share its
+     * connection pool.
+     *
+     * @param baseUrl Ogmios base url
+     * @param httpClient http client
+     */
+    public OgmiosBaseService(String baseUrl, @NonNull OkHttpClient httpClient) {
         this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
 
         if (log.isDebugEnabled()) {
             log.debug("Ogmios URL : " + baseUrl);
@@ -18,13 +33,14 @@ public class OgmiosBaseService {
     }
 
     protected Retrofit getRetrofit() {
-        return new Retrofit.Builder()
-                .baseUrl(getBaseUrl())
-                .addConverterFactory(JacksonConverterFactory.create())
-                .build();
+        return HttpClients.retrofit(getBaseUrl(), httpClient);
     }
 
     public String getBaseUrl() {
         return baseUrl;
     }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
 }
\ No newline at end of file
@@ -4,7 +4,9 @@ import com.bloxbean.cardano.client.api.ProtocolParamsSupplier;
 import com.bloxbean.cardano.client.api.model.ProtocolParams;
 import com.bloxbean.cardano.client.supplier.ogmios.dto.BaseRequestDto;
 import com.bloxbean.cardano.client.supplier.ogmios.dto.ProtocolParametersDto;
+import com.bloxbean.cardano.client.http.HttpClients;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -17,7 +19,11 @@ public class OgmiosProtocolParamSupplier extends OgmiosBaseService implements Pr
     private final OgmiosHTTPApi ogmiosHTTPApi;
 
     public OgmiosProtocolParamSupplier(String baseUrl) {
-        super(baseUrl);
+        this(baseUrl, HttpClients.getDefault());
+    }
+
+    public OgmiosProtocolParamSupplier(String baseUrl, OkHttpClient httpClient) {
+        super(baseUrl, httpClient);
         ogmiosHTTPApi = getRetrofit().create(OgmiosHTTPApi.class);
     }
 
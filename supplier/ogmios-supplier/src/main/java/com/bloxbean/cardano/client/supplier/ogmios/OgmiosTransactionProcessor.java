@@ -10,8 +10,10 @@ import com.bloxbean.cardano.client.supplier.ogmios.dto.BaseRequestDto;
 import com.bloxbean.cardano.client.supplier.ogmios.dto.EvaluateTransactionResponeDto;
 import com.bloxbean.cardano.client.transaction.spec.Transaction;
 import com.bloxbean.cardano.client.util.HexUtil;
+import com.bloxbean.cardano.client.http.HttpClients;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -27,7 +29,11 @@ public class OgmiosTransactionProcessor extends OgmiosBaseService implements Tra
     private ObjectMapper objectMapper = new ObjectMapper();
 
     public OgmiosTransactionProcessor(String baseUrl) {
-        super(baseUrl);
+        this(baseUrl, HttpClients.getDefault());
+    }
+
+    public OgmiosTransactionProcessor(String baseUrl, OkHttpClient httpClient) {
+        super(baseUrl, httpClient);
         this.ogmiosHTTPApi = getRetrofit().create(OgmiosHTTPApi.class);
     }
 
@@ -15,12 +15,20 @@ import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborRuntimeException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.VkeyWitness;
 import com.bloxbean.cardano.client.transaction.util.TransactionBytes;
 import lombok.NonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public enum TransactionSigner {
     INSTANCE();
 
+    //Below this no of signers, signing in a parallel stream is slower than signing sequentially
+    private static final int PARALLEL_SIGNING_THRESHOLD = 4;
+
     TransactionSigner() {
 
     }
@@ -43,6 +51,29 @@ public enum TransactionSigner {
         }
     }
 
+    /**
+     * Sign transaction with multiple HD key pairs. The transaction is serialized and deserialized only once, and all
+     * vkey witnesses are added to the witness set in a single step. The result is same as calling
+     * {@link #sign(Transaction, HdKeyPair)} for each key pair in the given order.
+     *
+     * @param transaction - Transaction to sign
+     * @param hdKeyPairs  - HD key pairs
+     * @return Signed transaction
+     */
+    public Transaction signAll(@NonNull Transaction transaction, @NonNull List<HdKeyPair> hdKeyPairs) {
+        if (hdKeyPairs.isEmpty())
+            return transaction;
+
+        try {
+            byte[] signedTxBytes = signAll(transaction.serialize(), hdKeyPairs);
+            var signedTx = Transaction.deserialize(signedTxBytes);
+            signedTx.setEra(transaction.getEra());
+            return signedTx;
+        } catch (CborSerializationException | CborDeserializationException e) {
+            throw new CborRuntimeException(e);
+        }
+    }
+
     /**
      * Sign transaction with a secret key
      *
@@ -80,6 +111,36 @@ public enum TransactionSigner {
         return signedTransaction;
     }
 
+    /**
+     * Sign transaction bytes with multiple HD key pairs. The transaction body is hashed once, signatures are created
+     * in parallel for larger no of signers, and all vkey witnesses are added to the witness set in a single step.
+     * Other parts of the transaction bytes are kept as they are.
+     *
+     * @param txBytes    - Transaction bytes
+     * @param hdKeyPairs - HD key pairs
+     * @return Signed transaction bytes
+     */
+    public byte[] signAll(@NonNull byte[] txBytes, @NonNull List<HdKeyPair> hdKeyPairs) {
+        if (hdKeyPairs.isEmpty())
+            return txBytes;
+
+        TransactionBytes transactionBytes = new TransactionBytes(txBytes);
+        byte[] txnBodyHash = Blake2bUtil.blake2bHash256(transactionBytes.getTxBodyBytes());
+
+        SigningProvider signingProvider = CryptoConfiguration.INSTANCE.getSigningProvider();
+        Stream<HdKeyPair> keyPairStream = hdKeyPairs.size() >= PARALLEL_SIGNING_THRESHOLD
+                ? hdKeyPairs.parallelStream() : hdKeyPairs.stream();
+
+        List<VkeyWitness> witnesses = keyPairStream
+                .map(hdKeyPair -> {
+                    byte[] vkey = hdKeyPair.getPublicKey().getKeyData();
+                    byte[] signature = signingProvider.signExtended(txnBodyHash, hdKeyPair.getPrivateKey().getKeyData(), vkey);
+                    return new VkeyWitness(vkey, signature);
+                }).collect(Collectors.toList());
+
+        return addWitnessesToTransaction(transactionBytes, witnesses);
+    }
+
     /**
      * Sign transaction bytes with a secret key. Use this method to sign transaction bytes from another
      * transaction builder.
@@ -130,6 +191,18 @@ public enum TransactionSigner {
      * @throws CborRuntimeException If any CBOR serialization or deserialization error occurs during processing.
      */
     public byte[] addWitnessToTransaction(TransactionBytes transactionBytes, byte[] vkey, byte[] signature) {
+        return addWitnessesToTransaction(transactionBytes, List.of(new VkeyWitness(vkey, signature)));
+    }
+
+    /**
+     * Adds multiple witnesses to the given transaction. The witness set is decoded and encoded only once.
+     *
+     * @param transactionBytes The transaction bytes containing the current transaction and witness data.
+     * @param witnesses The vkey witnesses to be added to the witness set, in order.
+     * @return The updated transaction bytes including the new witnesses.
+     * @throws CborRuntimeException If any CBOR serialization or deserialization error occurs during processing.
+     */
+    public byte[] addWitnessesToTransaction(TransactionBytes transactionBytes, List<VkeyWitness> witnesses) {
         try {
             DataItem witnessSetDI = CborSerializationUtil.deserialize(transactionBytes.getTxWitnessBytes());
             Map witnessSetMap = (Map) witnessSetDI;
@@ -143,12 +216,10 @@ public enum TransactionSigner {
                 witnessSetMap.put(new UnsignedInteger(0), vkWitnessArray);
             }
 
-            //Add witness
-            Array vkeyWitness = new Array();
-            vkeyWitness.add(new ByteString(vkey));
-            vkeyWitness.add(new ByteString(signature));
-
-            vkWitnessArray.add(vkeyWitness);
+            //Add witnesses
+            for (VkeyWitness witness : witnesses) {
+                vkWitnessArray.add(witness.serialize());
+            }
 
             byte[] txWitnessBytes = CborSerializationUtil.serialize(witnessSetMap, false);
 
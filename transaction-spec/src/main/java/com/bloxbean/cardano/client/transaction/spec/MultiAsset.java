@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.transaction.spec;
 import co.nstant.in.cbor.model.*;
 import co.nstant.in.cbor.model.Map;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.common.cbor.custom.SortedMap;
 import com.bloxbean.cardano.client.util.HexUtil;
 import lombok.*;
@@ -123,6 +124,38 @@ public class MultiAsset {
         multiAssetMap.put(policyIdByte, assetsMap);
     }
 
+    /**
+     * Write the assets of this MultiAsset as a cbor map (asset name -&gt; quantity) to the {@link CborWriter}.
+     * The policy id key is written by the caller. The output is same as the assets map created by {@link #serialize(Map)}
+     *
+     * @param writer CborWriter
+     */
+    public void writeAssetsTo(CborWriter writer) {
+        List<Asset> cloneAssets = new ArrayList<>(assets);
+        //sorted based on asset name bytes for canonical cbor
+        Collections.sort(cloneAssets, Comparators.assetComparator);
+
+        //Same asset name can appear more than once. Like a cbor Map, keep the position of the first and the value of the last one
+        List<byte[]> names = new ArrayList<>(cloneAssets.size());
+        List<BigInteger> values = new ArrayList<>(cloneAssets.size());
+        for (Asset asset : cloneAssets) {
+            byte[] name = asset.getNameAsBytes();
+            int last = names.size() - 1;
+            if (last >= 0 && Arrays.equals(names.get(last), name)) {
+                values.set(last, asset.getValue());
+            } else {
+                names.add(name);
+                values.add(asset.getValue());
+            }
+        }
+
+        writer.writeMapStart(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            writer.writeByteString(names.get(i));
+            writer.writeInteger(values.get(i));
+        }
+    }
+
     @Override
     public String toString() {
         try {
@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.transaction.spec;
 import co.nstant.in.cbor.CborDecoder;
 import co.nstant.in.cbor.model.*;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.metadata.Metadata;
@@ -114,6 +115,57 @@ public class Transaction {
         }
     }
 
+    /**
+     * Serialize the transaction with the streaming {@link CborWriter}, without building an intermediate cbor DataItem tree.
+     * The output is byte-identical to {@link #serialize()}.
+     *
+     * @return serialized transaction bytes
+     * @throws CborSerializationException if serialization fails
+     */
+    public byte[] serializeStreaming() throws CborSerializationException {
+        CborWriter writer = new CborWriter(1024);
+        writeTo(writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Write the transaction to a {@link CborWriter}. The output is byte-identical to {@link #serialize()}.
+     *
+     * @param writer CborWriter
+     * @throws CborSerializationException if serialization fails
+     */
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        writeTo(writer, era != null? era : EraSerializationConfig.INSTANCE.getEra());
+    }
+
+    private void writeTo(CborWriter writer, Era era) throws CborSerializationException {
+        try {
+            if (auxiliaryData != null && body.getAuxiliaryDataHash() == null) {
+                byte[] auxiliaryDataHash = auxiliaryData.getAuxiliaryDataHash(era);
+                body.setAuxiliaryDataHash(auxiliaryDataHash);
+            }
+
+            writer.writeArrayStart(4);
+            body.writeTo(writer, era);
+
+            //witness
+            if (witnessSet != null)
+                witnessSet.writeTo(writer, era);
+            else
+                writer.writeMapStart(0);
+
+            writer.writeBoolean(isValid);
+
+            //Auxiliary Data
+            if (auxiliaryData != null)
+                writer.writeDataItem(auxiliaryData.serialize(era));
+            else
+                writer.writeNull();
+        } catch (Exception e) {
+            throw new CborSerializationException("CBOR Serialization failed", e);
+        }
+    }
+
     public String serializeToHex() throws CborSerializationException {
         try {
             byte[] bytes = serialize();
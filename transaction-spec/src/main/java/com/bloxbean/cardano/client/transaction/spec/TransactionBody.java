@@ -2,6 +2,8 @@ package com.bloxbean.cardano.client.transaction.spec;
 
 import co.nstant.in.cbor.model.Number;
 import co.nstant.in.cbor.model.*;
+import com.bloxbean.cardano.client.address.util.AddressUtil;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.AddressExcepion;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
@@ -12,6 +14,7 @@ import com.bloxbean.cardano.client.transaction.spec.cert.Certificate;
 import com.bloxbean.cardano.client.transaction.spec.governance.ProposalProcedure;
 import com.bloxbean.cardano.client.transaction.spec.governance.VotingProcedures;
 import com.bloxbean.cardano.client.transaction.util.UniqueList;
+import com.bloxbean.cardano.client.util.HexUtil;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,6 +26,7 @@ import java.util.Collection;
 import java.util.List;
 
 import static com.bloxbean.cardano.client.transaction.util.SerializationUtil.createArray;
+import static com.bloxbean.cardano.client.transaction.util.SerializationUtil.writeSetStart;
 
 @Data
 @AllArgsConstructor
@@ -234,6 +238,193 @@ public class TransactionBody {
         return bodyMap;
     }
 
+    public void writeTo(CborWriter writer) throws CborSerializationException, AddressExcepion {
+        writeTo(writer, EraSerializationConfig.INSTANCE.getEra());
+    }
+
+    /**
+     * Write the transaction body directly to a {@link CborWriter}, without building a DataItem tree.
+     * The output is same as the canonical serialization of {@link #serialize(Era)}. Fields are written in ascending key order,
+     * which is the canonical order for the small integer keys of transaction body.
+     *
+     * @param writer CborWriter
+     * @param era era
+     * @throws CborSerializationException if serialization fails
+     * @throws AddressExcepion if an address is invalid
+     */
+    public void writeTo(CborWriter writer, Era era) throws CborSerializationException, AddressExcepion {
+        if (fee == null)
+            throw new CborSerializationException("Fee cannot be null");
+
+        writer.writeMapStart(fieldCount());
+
+        writer.writeUnsignedInteger(0);
+        writeSetStart(writer, era, inputs.size());
+        for (TransactionInput ti : inputs) {
+            ti.writeTo(writer);
+        }
+
+        writer.writeUnsignedInteger(1);
+        writer.writeArrayStart(outputs.size());
+        for (TransactionOutput to : outputs) {
+            to.writeTo(writer);
+        }
+
+        writer.writeUnsignedInteger(2);
+        writer.writeInteger(fee); //fee
+
+        if (ttl != 0) {
+            writer.writeUnsignedInteger(3);
+            writer.writeUnsignedInteger(ttl); //ttl
+        }
+
+        if (certs != null && certs.size() > 0) { //certs
+            writer.writeUnsignedInteger(4);
+            writeSetStart(writer, era, certs.size());
+            for (Certificate cert : certs) {
+                writer.writeDataItem(cert.serialize(era));
+            }
+        }
+
+        if (withdrawals != null && withdrawals.size() > 0) { //Withdrawals
+            CborWriter.CanonicalMap withdrawalMap = new CborWriter.CanonicalMap();
+            for (Withdrawal withdrawal : withdrawals) {
+                byte[] key = withdrawalMap.scratch().writeByteString(AddressUtil.addressToBytes(withdrawal.getRewardAddress())).toByteArray();
+                byte[] value = withdrawalMap.scratch().writeInteger(withdrawal.getCoin()).toByteArray();
+                withdrawalMap.put(key, value);
+            }
+            writer.writeUnsignedInteger(5);
+            withdrawalMap.writeTo(writer);
+        }
+
+        if (update != null) {
+            writer.writeUnsignedInteger(6);
+            writer.writeDataItem(update.serialize());
+        }
+
+        if (auxiliaryDataHash != null) {
+            writer.writeUnsignedInteger(7);
+            writer.writeByteString(auxiliaryDataHash);
+        }
+
+        if (validityStartInterval != 0) {
+            writer.writeUnsignedInteger(8);
+            writer.writeUnsignedInteger(validityStartInterval); //validityStartInterval
+        }
+
+        if (mint != null && mint.size() > 0) {
+            CborWriter.CanonicalMap mintMap = new CborWriter.CanonicalMap();
+            for (MultiAsset multiAsset : mint) {
+                byte[] key = mintMap.scratch().writeByteString(HexUtil.decodeHexString(multiAsset.getPolicyId())).toByteArray();
+                CborWriter valueWriter = mintMap.scratch();
+                multiAsset.writeAssetsTo(valueWriter);
+                mintMap.put(key, valueWriter.toByteArray());
+            }
+            writer.writeUnsignedInteger(9);
+            mintMap.writeTo(writer);
+        }
+
+        if (scriptDataHash != null) {
+            writer.writeUnsignedInteger(11);
+            writer.writeByteString(scriptDataHash);
+        }
+
+        //collateral
+        if (collateral != null && collateral.size() > 0) {
+            writer.writeUnsignedInteger(13);
+            writeSetStart(writer, era, collateral.size());
+            for (TransactionInput ti : collateral) {
+                ti.writeTo(writer);
+            }
+        }
+
+        //required_signers
+        if (requiredSigners != null && requiredSigners.size() > 0) {
+            writer.writeUnsignedInteger(14);
+            writeSetStart(writer, era, requiredSigners.size());
+            for (byte[] requiredSigner : requiredSigners) {
+                writer.writeByteString(requiredSigner);
+            }
+        }
+
+        //NetworkId
+        if (networkId != null) {
+            writer.writeUnsignedInteger(15);
+            writer.writeUnsignedInteger(networkId == NetworkId.MAINNET ? 1 : 0);
+        }
+
+        //collateral return
+        if (collateralReturn != null) {
+            writer.writeUnsignedInteger(16);
+            collateralReturn.writeTo(writer);
+        }
+
+        //total collateral
+        if (totalCollateral != null) {
+            writer.writeUnsignedInteger(17);
+            writer.writeInteger(totalCollateral);
+        }
+
+        //reference inputs
+        if (referenceInputs != null && referenceInputs.size() > 0) {
+            writer.writeUnsignedInteger(18);
+            writeSetStart(writer, era, referenceInputs.size());
+            for (TransactionInput ti : referenceInputs) {
+                ti.writeTo(writer);
+            }
+        }
+
+        //voting procedures
+        if (votingProcedures != null) {
+            writer.writeUnsignedInteger(19);
+            writer.writeDataItem(votingProcedures.serialize());
+        }
+
+        //proposal procedures
+        if (proposalProcedures != null && proposalProcedures.size() > 0) {
+            writer.writeUnsignedInteger(20);
+            writeSetStart(writer, era, proposalProcedures.size());
+            for (var proposalProcedure : proposalProcedures) {
+                writer.writeDataItem(proposalProcedure.serialize());
+            }
+        }
+
+        //current treasury value
+        if (currentTreasuryValue != null) {
+            writer.writeUnsignedInteger(21);
+            writer.writeInteger(currentTreasuryValue);
+        }
+
+        //donation
+        if (donation != null) {
+            writer.writeUnsignedInteger(22);
+            writer.writeInteger(donation);
+        }
+    }
+
+    private int fieldCount() {
+        int count = 3; //inputs, outputs, fee
+        if (ttl != 0) count++;
+        if (certs != null && certs.size() > 0) count++;
+        if (withdrawals != null && withdrawals.size() > 0) count++;
+        if (update != null) count++;
+        if (auxiliaryDataHash != null) count++;
+        if (validityStartInterval != 0) count++;
+        if (mint != null && mint.size() > 0) count++;
+        if (scriptDataHash != null) count++;
+        if (collateral != null && collateral.size() > 0) count++;
+        if (requiredSigners != null && requiredSigners.size() > 0) count++;
+        if (networkId != null) count++;
+        if (collateralReturn != null) count++;
+        if (totalCollateral != null) count++;
+        if (referenceInputs != null && referenceInputs.size() > 0) count++;
+        if (votingProcedures != null) count++;
+        if (proposalProcedures != null && proposalProcedures.size() > 0) count++;
+        if (currentTreasuryValue != null) count++;
+        if (donation != null) count++;
+        return count;
+    }
+
     public static TransactionBody deserialize(Map bodyMap) throws CborDeserializationException {
         TransactionBody transactionBody = new TransactionBody();
 
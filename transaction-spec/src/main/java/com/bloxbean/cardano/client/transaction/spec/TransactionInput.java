@@ -4,6 +4,7 @@ import co.nstant.in.cbor.model.Array;
 import co.nstant.in.cbor.model.ByteString;
 import co.nstant.in.cbor.model.DataItem;
 import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.util.HexUtil;
@@ -31,6 +32,12 @@ public class TransactionInput {
         return inputArray;
     }
 
+    public void writeTo(CborWriter writer) {
+        writer.writeArrayStart(2);
+        writer.writeByteString(HexUtil.decodeHexString(transactionId));
+        writer.writeUnsignedInteger(index);
+    }
+
     public static TransactionInput deserialize(Array inputItem) throws CborDeserializationException {
         List<DataItem> items = inputItem.getDataItems();
 
@@ -4,6 +4,7 @@ import co.nstant.in.cbor.CborException;
 import co.nstant.in.cbor.model.*;
 import com.bloxbean.cardano.client.address.util.AddressUtil;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.AddressExcepion;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborRuntimeException;
@@ -132,6 +133,80 @@ public class TransactionOutput {
         return array;
     }
 
+    /**
+     * Write this output directly to a {@link CborWriter}. The output is same as the canonical serialization of {@link #serialize()}
+     *
+     * @param writer CborWriter
+     * @throws CborSerializationException if serialization fails
+     * @throws AddressExcepion if the address is invalid
+     */
+    public void writeTo(CborWriter writer) throws CborSerializationException, AddressExcepion {
+        //For now, serialize to legacy format if inlineDatum and scriptRef are not set
+        if (inlineDatum == null && scriptRef == null)
+            writeAlonzoTo(writer);
+        else
+            writePostAlonzoTo(writer);
+    }
+
+    private void writePostAlonzoTo(CborWriter writer) throws AddressExcepion, CborSerializationException {
+        byte[] addressByte = AddressUtil.addressToBytes(address);
+
+        if(value == null)
+            throw new CborSerializationException("Value cannot be null");
+
+        if (datumHash != null && inlineDatum != null)
+            throw new CborSerializationException("Only one can be set. datumHash or datum");
+
+        byte[] inlineDatumBytes = null;
+        if (inlineDatum != null) {
+            CborWriter datumWriter = new CborWriter();
+            inlineDatum.writeTo(datumWriter);
+            inlineDatumBytes = datumWriter.toByteArray();
+        }
+
+        boolean hasDatum = datumHash != null || inlineDatum != null;
+        writer.writeMapStart(2 + (hasDatum ? 1 : 0) + (scriptRef != null ? 1 : 0));
+
+        writer.writeUnsignedInteger(0);
+        writer.writeByteString(addressByte);
+
+        writer.writeUnsignedInteger(1);
+        value.writeTo(writer);
+
+        if (datumHash != null) {
+            writer.writeUnsignedInteger(2);
+            writer.writeArrayStart(2);
+            writer.writeUnsignedInteger(0);
+            writer.writeByteString(datumHash);
+        } else if (inlineDatumBytes != null) {
+            writer.writeUnsignedInteger(2);
+            writer.writeArrayStart(2);
+            writer.writeUnsignedInteger(1);
+            writer.writeTag(24);
+            writer.writeByteString(inlineDatumBytes);
+        }
+
+        if (scriptRef != null) {
+            writer.writeUnsignedInteger(3);
+            writer.writeTag(24); //tag 6.24
+            writer.writeByteString(scriptRef);
+        }
+    }
+
+    private void writeAlonzoTo(CborWriter writer) throws CborSerializationException, AddressExcepion {
+        byte[] addressByte = AddressUtil.addressToBytes(address);
+
+        if(value == null)
+            throw new CborSerializationException("Value cannot be null");
+
+        writer.writeArrayStart(datumHash != null ? 3 : 2);
+        writer.writeByteString(addressByte);
+        value.writeTo(writer);
+
+        if(datumHash != null)
+            writer.writeByteString(datumHash);
+    }
+
     public static TransactionOutput deserialize(DataItem dataItem) throws CborDeserializationException {
         if (MajorType.ARRAY == dataItem.getMajorType()) { //Alonzo (Legacy)
             return deserializeAlonzo((Array) dataItem);
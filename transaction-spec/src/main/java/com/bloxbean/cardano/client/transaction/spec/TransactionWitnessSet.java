@@ -1,6 +1,7 @@
 package com.bloxbean.cardano.client.transaction.spec;
 
 import co.nstant.in.cbor.model.*;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.plutus.spec.*;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.bloxbean.cardano.client.transaction.util.SerializationUtil.createArray;
+import static com.bloxbean.cardano.client.transaction.util.SerializationUtil.writeSetStart;
 
 @Data
 @AllArgsConstructor
@@ -151,6 +153,109 @@ public class TransactionWitnessSet {
         return witnessMap;
     }
 
+    public void writeTo(CborWriter writer) throws CborSerializationException {
+        writeTo(writer, EraSerializationConfig.INSTANCE.getEra());
+    }
+
+    /**
+     * Write the witness set directly to a {@link CborWriter}, without building a DataItem tree.
+     * The output is same as the canonical serialization of {@link #serialize(Era)}
+     *
+     * @param writer CborWriter
+     * @param era era
+     * @throws CborSerializationException if serialization fails
+     */
+    public void writeTo(CborWriter writer, Era era) throws CborSerializationException {
+        int count = 0;
+        if (vkeyWitnesses != null && vkeyWitnesses.size() > 0) count++;
+        if (nativeScripts != null && nativeScripts.size() > 0) count++;
+        if (bootstrapWitnesses != null && bootstrapWitnesses.size() > 0) count++;
+        if (plutusV1Scripts != null && plutusV1Scripts.size() > 0) count++;
+        if (plutusDataList != null && plutusDataList.size() > 0) count++;
+        if (redeemers != null && redeemers.size() > 0) count++;
+        if (plutusV2Scripts != null && plutusV2Scripts.size() > 0) count++;
+        if (plutusV3Scripts != null && plutusV3Scripts.size() > 0) count++;
+
+        writer.writeMapStart(count);
+
+        if (vkeyWitnesses != null && vkeyWitnesses.size() > 0) {
+            writer.writeUnsignedInteger(0);
+            writeSetStart(writer, era, vkeyWitnesses.size());
+            for (VkeyWitness vkeyWitness : vkeyWitnesses) {
+                vkeyWitness.writeTo(writer);
+            }
+        }
+
+        if (nativeScripts != null && nativeScripts.size() > 0) {
+            writer.writeUnsignedInteger(1);
+            writeSetStart(writer, era, nativeScripts.size());
+            for (NativeScript nativeScript : nativeScripts) {
+                writer.writeDataItem(nativeScript.serializeAsDataItem());
+            }
+        }
+
+        if (bootstrapWitnesses != null && bootstrapWitnesses.size() > 0) {
+            writer.writeUnsignedInteger(2);
+            writeSetStart(writer, era, bootstrapWitnesses.size());
+            for (BootstrapWitness bootstrapWitness : bootstrapWitnesses) {
+                writer.writeDataItem(bootstrapWitness.serialize());
+            }
+        }
+
+        if (plutusV1Scripts != null && plutusV1Scripts.size() > 0) {
+            writer.writeUnsignedInteger(3);
+            writeSetStart(writer, era, plutusV1Scripts.size());
+            for (PlutusV1Script plutusScript : plutusV1Scripts) {
+                writer.writeDataItem(plutusScript.serializeAsDataItem());
+            }
+        }
+
+        if (plutusDataList != null && plutusDataList.size() > 0) {
+            writer.writeUnsignedInteger(4);
+            writeSetStart(writer, era, plutusDataList.size());
+            for (PlutusData plutusData : plutusDataList) {
+                plutusData.writeTo(writer);
+            }
+        }
+
+        if (redeemers != null && redeemers.size() > 0) {
+            writer.writeUnsignedInteger(5);
+            if (era == null || era.value >= Era.Conway.value) {
+                CborWriter.CanonicalMap redeemerMap = new CborWriter.CanonicalMap();
+                for (Redeemer redeemer : redeemers) {
+                    CborWriter keyWriter = new CborWriter(16);
+                    CborWriter valueWriter = redeemerMap.scratch();
+                    redeemer.writeTo(keyWriter, valueWriter);
+                    redeemerMap.put(keyWriter.toByteArray(), valueWriter.toByteArray());
+                }
+                redeemerMap.writeTo(writer);
+            } else {
+                writer.writeArrayStart(redeemers.size());
+                for (Redeemer redeemer : redeemers) {
+                    redeemer.writePreConwayTo(writer);
+                }
+            }
+        }
+
+        //Plutus v2 script -- Babbage era
+        if (plutusV2Scripts != null && plutusV2Scripts.size() > 0) {
+            writer.writeUnsignedInteger(6);
+            writeSetStart(writer, era, plutusV2Scripts.size());
+            for (PlutusV2Script plutusV2Script : plutusV2Scripts) {
+                writer.writeDataItem(plutusV2Script.serializeAsDataItem());
+            }
+        }
+
+        //Plutus v3 script -- Conway era
+        if (plutusV3Scripts != null && plutusV3Scripts.size() > 0) {
+            writer.writeUnsignedInteger(7);
+            writeSetStart(writer, era, plutusV3Scripts.size());
+            for (PlutusV3Script plutusV3Script : plutusV3Scripts) {
+                writer.writeDataItem(plutusV3Script.serializeAsDataItem());
+            }
+        }
+    }
+
 //    transaction_witness_set =
 //    { ? 0: [* vkeywitness ]
 //  , ? 1: [* native_script ]
@@ -4,7 +4,9 @@ import co.nstant.in.cbor.model.Map;
 import co.nstant.in.cbor.model.Number;
 import co.nstant.in.cbor.model.*;
 import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.common.cbor.custom.SortedMap;
+import com.bloxbean.cardano.client.util.HexUtil;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -113,6 +115,22 @@ public class Value {
         }
     }
 
+    /**
+     * Write a {@link Value} object to a {@link CborWriter}. The output is same as the canonical serialization of {@link #serialize()}
+     *
+     * @param writer CborWriter
+     */
+    public void writeTo(CborWriter writer) {
+        BigInteger coinValue = this.getCoin() != null ? this.getCoin() : BigInteger.ZERO;
+        if (this.getMultiAssets() != null && this.getMultiAssets().size() > 0) {
+            writer.writeArrayStart(2);
+            writer.writeInteger(coinValue);
+            writeMultiAssetsTo(writer);
+        } else {
+            writer.writeInteger(coinValue);
+        }
+    }
+
     /**
      * Get a {@link java.util.HashMap} of PolicyId to HashMap of assetName and {@link Asset}
      *
@@ -143,6 +161,29 @@ public class Value {
         return map;
     }
 
+    private void writeMultiAssetsTo(CborWriter writer) {
+        List<MultiAsset> cloneMultiAssets = new ArrayList<>(multiAssets);
+        //sorted based on policy id for canonical cbor
+        Collections.sort(cloneMultiAssets, (m1, m2) -> m1.getPolicyId().compareTo(m2.getPolicyId()));
+
+        //Same policy id can appear more than once. Like a cbor Map, keep the position of the first and the value of the last one
+        List<MultiAsset> distinct = new ArrayList<>(cloneMultiAssets.size());
+        for (MultiAsset multiAsset : cloneMultiAssets) {
+            int last = distinct.size() - 1;
+            if (last >= 0 && distinct.get(last).getPolicyId().equals(multiAsset.getPolicyId())) {
+                distinct.set(last, multiAsset);
+            } else {
+                distinct.add(multiAsset);
+            }
+        }
+
+        writer.writeMapStart(distinct.size());
+        for (MultiAsset multiAsset : distinct) {
+            writer.writeByteString(HexUtil.decodeHexString(multiAsset.getPolicyId()));
+            multiAsset.writeAssetsTo(writer);
+        }
+    }
+
     /**
      * Sums arbitrary complex values.
      *
@@ -3,6 +3,7 @@ package com.bloxbean.cardano.client.transaction.spec;
 import co.nstant.in.cbor.model.Array;
 import co.nstant.in.cbor.model.ByteString;
 import co.nstant.in.cbor.model.DataItem;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.util.HexUtil;
 import lombok.AllArgsConstructor;
@@ -28,6 +29,12 @@ public class VkeyWitness {
         return array;
     }
 
+    public void writeTo(CborWriter writer) {
+        writer.writeArrayStart(2);
+        writer.writeByteString(vkey);
+        writer.writeByteString(signature);
+    }
+
     public static VkeyWitness deserialize(Array vkWitness) throws CborDeserializationException {
         List<DataItem> dataItemList = vkWitness.getDataItems();
         if(dataItemList == null || dataItemList.size() != 2)
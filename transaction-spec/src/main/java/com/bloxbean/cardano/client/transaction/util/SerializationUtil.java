@@ -1,6 +1,7 @@
 package com.bloxbean.cardano.client.transaction.util;
 
 import co.nstant.in.cbor.model.Array;
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
 import com.bloxbean.cardano.client.spec.Era;
 
 public final class SerializationUtil {
@@ -15,4 +16,13 @@ public final class SerializationUtil {
         }
         return array;
     }
+
+    //Write the header of an array representing a set in Cardano. Streaming equivalent of createArray(Era)
+    //For Conway era or later, write the tag 258
+    public static void writeSetStart(CborWriter writer, Era era, int size) {
+        if (era == null || era.value >= Era.Conway.value) {
+            writer.writeTag(258);
+        }
+        writer.writeArrayStart(size);
+    }
 }
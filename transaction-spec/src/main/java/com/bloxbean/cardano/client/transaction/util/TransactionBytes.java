@@ -1,15 +1,10 @@
 package com.bloxbean.cardano.client.transaction.util;
 
-import co.nstant.in.cbor.CborDecoder;
-import co.nstant.in.cbor.CborException;
-import co.nstant.in.cbor.model.DataItem;
-import co.nstant.in.cbor.model.SimpleValue;
+import com.bloxbean.cardano.client.common.cbor.CborReader;
 import com.bloxbean.cardano.client.crypto.bip32.util.BytesUtil;
-import com.bloxbean.cardano.client.exception.CborRuntimeException;
-import com.bloxbean.cardano.client.util.Tuple;
 import lombok.Data;
 
-import java.io.ByteArrayInputStream;
+import java.util.Arrays;
 
 /**
  * Utility class to extract different parts of a transaction as raw bytes, without deserializing the entire transaction.
@@ -66,46 +61,29 @@ public class TransactionBytes {
         if (txBytes == null || txBytes.length == 0)
             throw new IllegalArgumentException("Transaction bytes can't be null or empty");
 
-        ByteArrayInputStream bais = new ByteArrayInputStream(txBytes);
-        CborDecoder decoder = new CborDecoder(bais);
+        //Only the item boundaries are needed here, so walk the bytes without decoding into DataItems
+        CborReader reader = new CborReader(txBytes);
+        reader.readArrayStart();
+        initialBytes = Arrays.copyOfRange(txBytes, 0, reader.position());
 
-        //Extract transaction body
-        byte tag = (byte) bais.read(); //Skip the first byte as it is a tag
-        initialBytes = new byte[]{tag};
-
-        txBodyBytes = nextElementBytes(txBytes, 1, decoder, bais)._1;
-        int nextPos = 1 + txBodyBytes.length;
-        txWitnessBytes = nextElementBytes(txBytes, nextPos, decoder, bais)._1;
-        nextPos = nextPos + txWitnessBytes.length;
-        var nextElmTupel = nextElementBytes(txBytes, nextPos, decoder, bais);
+        txBodyBytes = reader.readItemBytes();
+        txWitnessBytes = reader.readItemBytes();
+        byte[] nextElementBytes = reader.readItemBytes();
         validBytes = null;
         auxiliaryDataBytes = null;
         //Babbage era tx
-        if (nextElmTupel._2 == SimpleValue.TRUE || nextElmTupel._2 == SimpleValue.FALSE) {
-            validBytes = nextElmTupel._1;
-            nextPos = nextPos + validBytes.length;
-            auxiliaryDataBytes = nextElementBytes(txBytes, nextPos, decoder, bais)._1;
+        if (isBoolean(nextElementBytes)) {
+            validBytes = nextElementBytes;
+            auxiliaryDataBytes = reader.readItemBytes();
         } else {
-            auxiliaryDataBytes = nextElmTupel._1; //Pre Babbage Era Tx
+            auxiliaryDataBytes = nextElementBytes; //Pre Babbage Era Tx
         }
 
         return this;
     }
 
-    private static Tuple<byte[], DataItem> nextElementBytes(byte[] txBytes, int startPos, CborDecoder decoder, ByteArrayInputStream bais) {
-        DataItem dataItem;
-        try {
-            dataItem = decoder.decodeNext();
-        } catch (CborException e) {
-            throw new CborRuntimeException(e);
-        }
-
-        int available = bais.available();
-        byte[] txBodyRaw = new byte[txBytes.length - available - startPos]; // -1 for the first byte
-
-        //Copy tx body bytes to txBodyRaw
-        System.arraycopy(txBytes,startPos,txBodyRaw,0,txBodyRaw.length);
-        return new Tuple<>(txBodyRaw, dataItem);
+    private static boolean isBoolean(byte[] itemBytes) {
+        return itemBytes.length == 1 && (itemBytes[0] == (byte) 0xf4 || itemBytes[0] == (byte) 0xf5);
     }
 
 }
@@ -0,0 +1,157 @@
+package com.bloxbean.cardano.client.transaction.util;
+
+import com.bloxbean.cardano.client.common.cbor.CborWriter;
+import com.bloxbean.cardano.client.exception.CborSerializationException;
+import com.bloxbean.cardano.client.spec.Era;
+import com.bloxbean.cardano.client.spec.EraSerializationConfig;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionWitnessSet;
+import lombok.NonNull;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Calculates the exact serialized size of a transaction including vkey witnesses of a given no of signers, without
+ * creating a copy of the transaction or adding dummy witnesses to it.
+ * <p>
+ * The transaction is serialized only once when the estimator is created. After that, fee and output coin changes can
+ * be applied through {@link #setFee(BigInteger)} and {@link #setOutputCoin(int, BigInteger)}. These only adjust the size
+ * by the difference in the encoded length of the changed value. Any other change in the transaction requires a new
+ * estimator.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class TransactionSizeEstimator {
+    //Fee used for size calculation when fee is not set in the transaction
+    private static final BigInteger DUMMY_FEE = BigInteger.valueOf(170000);
+
+    //[vkey (32 bytes), signature (64 bytes)]
+    private static final int VKEY_WITNESS_SIZE = 1 + (2 + 32) + (2 + 64);
+    //Encoded length of tag 258 used for sets from Conway era
+    private static final int SET_TAG_SIZE = 3;
+
+    private final BigInteger[] outputCoins;
+    private BigInteger fee;
+    private int size;
+
+    private TransactionSizeEstimator(int size, BigInteger fee, BigInteger[] outputCoins) {
+        this.size = size;
+        this.fee = fee;
+        this.outputCoins = outputCoins;
+    }
+
+    /**
+     * Create an estimator for the given transaction
+     *
+     * @param transaction transaction
+     * @param noOfSigners no of vkey witnesses to be added to the transaction's current vkey witnesses
+     * @return TransactionSizeEstimator
+     * @throws CborSerializationException if the transaction can't be serialized
+     */
+    public static TransactionSizeEstimator of(@NonNull Transaction transaction, int noOfSigners) throws CborSerializationException {
+        BigInteger originalFee = transaction.getBody().getFee();
+        if (originalFee == null)
+            transaction.getBody().setFee(DUMMY_FEE);
+
+        CborWriter writer = new CborWriter(1024);
+        try {
+            transaction.writeTo(writer);
+        } finally {
+            transaction.getBody().setFee(originalFee);
+        }
+
+        Era era = transaction.getEra() != null ? transaction.getEra() : EraSerializationConfig.INSTANCE.getEra();
+        int size = writer.size() + dummyWitnessesSize(transaction.getWitnessSet(), era, noOfSigners);
+
+        List<TransactionOutput> outputs = transaction.getBody().getOutputs();
+        BigInteger[] outputCoins = new BigInteger[outputs.size()];
+        for (int i = 0; i < outputs.size(); i++) {
+            outputCoins[i] = coinOf(outputs.get(i));
+        }
+
+        return new TransactionSizeEstimator(size, originalFee != null ? originalFee : DUMMY_FEE, outputCoins);
+    }
+
+    /**
+     * Returns the serialized size of the transaction with all vkey witnesses
+     *
+     * @return size in bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the fee used for the current size
+     *
+     * @return fee
+     */
+    public BigInteger getFee() {
+        return fee;
+    }
+
+    /**
+     * Update the size for a new fee value
+     *
+     * @param newFee new fee
+     * @return this estimator
+     */
+    public TransactionSizeEstimator setFee(@NonNull BigInteger newFee) {
+        size += integerSize(newFee) - integerSize(fee);
+        fee = newFee;
+        return this;
+    }
+
+    /**
+     * Update the size for a new coin value of an output
+     *
+     * @param index   index of the output in the transaction body
+     * @param newCoin new coin value
+     * @return this estimator
+     */
+    public TransactionSizeEstimator setOutputCoin(int index, @NonNull BigInteger newCoin) {
+        size += integerSize(newCoin) - integerSize(outputCoins[index]);
+        outputCoins[index] = newCoin;
+        return this;
+    }
+
+    /**
+     * Returns the encoded length of an integer
+     *
+     * @param value value
+     * @return size in bytes
+     */
+    static int integerSize(BigInteger value) {
+        BigInteger argument = value.signum() >= 0 ? value : BigInteger.ONE.negate().subtract(value);
+        if (argument.bitLength() <= 64)
+            return CborWriter.headerSize(argument.longValue());
+
+        return new CborWriter(32).writeInteger(value).size(); //bignum
+    }
+
+    private static int dummyWitnessesSize(TransactionWitnessSet witnessSet, Era era, int noOfSigners) {
+        if (noOfSigners <= 0)
+            return 0;
+
+        int existingWitnesses = witnessSet != null && witnessSet.getVkeyWitnesses() != null
+                ? witnessSet.getVkeyWitnesses().size() : 0;
+        int witnessesSize = noOfSigners * VKEY_WITNESS_SIZE;
+
+        if (existingWitnesses > 0) {
+            return CborWriter.headerSize(existingWitnesses + noOfSigners) - CborWriter.headerSize(existingWitnesses)
+                    + witnessesSize;
+        } else {
+            //A new vkey witness entry is added. The witness set map has max 8 entries, so the map header doesn't change.
+            int setTagSize = era == null || era.value >= Era.Conway.value ? SET_TAG_SIZE : 0;
+            return 1 + setTagSize + CborWriter.headerSize(noOfSigners) + witnessesSize;
+        }
+    }
+
+    private static BigInteger coinOf(TransactionOutput output) {
+        if (output.getValue() == null || output.getValue().getCoin() == null)
+            return BigInteger.ZERO;
+        return output.getValue().getCoin();
+    }
+}
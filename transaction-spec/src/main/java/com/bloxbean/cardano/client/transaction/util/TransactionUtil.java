@@ -1,7 +1,6 @@
 package com.bloxbean.cardano.client.transaction.util;
 
-import co.nstant.in.cbor.CborDecoder;
-import co.nstant.in.cbor.CborException;
+import com.bloxbean.cardano.client.common.cbor.CborReader;
 import com.bloxbean.cardano.client.crypto.Blake2bUtil;
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborRuntimeException;
@@ -9,7 +8,6 @@ import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.transaction.spec.Transaction;
 import com.bloxbean.cardano.client.util.HexUtil;
 
-import java.io.ByteArrayInputStream;
 
 public class TransactionUtil {
 
@@ -68,24 +66,10 @@ public class TransactionUtil {
         if (txBytes == null || txBytes.length == 0)
             throw new IllegalArgumentException("Transaction bytes can't be null or empty");
 
-        ByteArrayInputStream bais = new ByteArrayInputStream(txBytes);
-        CborDecoder decoder = new CborDecoder(bais);
-
-        //Extract transaction body
-        bais.read(); //Skip the first byte as it is a tag
-        try {
-            decoder.decodeNext();
-        } catch (CborException e) {
-            throw new CborRuntimeException(e);
-        }
-
-        int available = bais.available();
-        byte[] txBodyRaw = new byte[txBytes.length - available -1]; // -1 for the first byte
-
-        //Copy tx body bytes to txBodyRaw
-        System.arraycopy(txBytes,1,txBodyRaw,0,txBodyRaw.length);
-
-        return txBodyRaw;
+        //Only the boundary of the body is needed, so skip over it without decoding into DataItems
+        CborReader reader = new CborReader(txBytes);
+        reader.readArrayStart();
+        return reader.readItemBytes();
     }
 
     private static String safeGetTxHash(byte[] txBodyBytes) {
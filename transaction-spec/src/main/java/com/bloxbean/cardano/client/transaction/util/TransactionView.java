@@ -0,0 +1,325 @@
+package com.bloxbean.cardano.client.transaction.util;
+
+import co.nstant.in.cbor.model.Array;
+import co.nstant.in.cbor.model.DataItem;
+import co.nstant.in.cbor.model.Map;
+import co.nstant.in.cbor.model.MajorType;
+import co.nstant.in.cbor.model.SimpleValue;
+import com.bloxbean.cardano.client.common.cbor.CborReader;
+import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.crypto.Blake2bUtil;
+import com.bloxbean.cardano.client.exception.CborDeserializationException;
+import com.bloxbean.cardano.client.exception.CborRuntimeException;
+import com.bloxbean.cardano.client.transaction.spec.AuxiliaryData;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionBody;
+import com.bloxbean.cardano.client.transaction.spec.TransactionInput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionOutput;
+import com.bloxbean.cardano.client.transaction.spec.TransactionWitnessSet;
+import com.bloxbean.cardano.client.util.HexUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A lazy, read-only view of a serialized transaction. The raw bytes of transaction body, witness set and auxiliary data
+ * are kept as they are in the original transaction, and each part is only decoded when it's first requested.
+ * <p>
+ * As hashes are always calculated from the original bytes, the transaction hash and auxiliary data hash are the same
+ * as on-chain, even if a re-serialization of the decoded objects would produce different bytes. Individual body fields
+ * like inputs, outputs or fee can also be read without decoding the whole transaction body.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class TransactionView {
+    private static final int INPUTS_KEY = 0;
+    private static final int OUTPUTS_KEY = 1;
+    private static final int FEE_KEY = 2;
+
+    private final TransactionBytes transactionBytes;
+
+    private java.util.Map<Integer, int[]> bodyFieldRanges;
+    private TransactionBody body;
+    private TransactionWitnessSet witnessSet;
+    private boolean witnessSetDecoded;
+    private AuxiliaryData auxiliaryData;
+    private boolean auxiliaryDataDecoded;
+    private List<TransactionInput> inputs;
+    private List<TransactionOutput> outputs;
+    private String txHash;
+
+    private TransactionView(TransactionBytes transactionBytes) {
+        this.transactionBytes = transactionBytes;
+    }
+
+    /**
+     * Create a TransactionView from serialized transaction bytes. Only the boundaries of the top level items are
+     * read at this point.
+     *
+     * @param txBytes transaction bytes
+     * @return TransactionView
+     */
+    public static TransactionView of(byte[] txBytes) {
+        return new TransactionView(new TransactionBytes(txBytes));
+    }
+
+    /**
+     * Create a TransactionView from an existing {@link TransactionBytes}
+     *
+     * @param transactionBytes transaction bytes
+     * @return TransactionView
+     */
+    public static TransactionView of(TransactionBytes transactionBytes) {
+        return new TransactionView(transactionBytes);
+    }
+
+    public TransactionBytes getTransactionBytes() {
+        return transactionBytes;
+    }
+
+    public byte[] getBodyBytes() {
+        return transactionBytes.getTxBodyBytes();
+    }
+
+    public byte[] getWitnessSetBytes() {
+        return transactionBytes.getTxWitnessBytes();
+    }
+
+    /**
+     * Returns the raw auxiliary data bytes
+     *
+     * @return auxiliary data bytes or null if the transaction doesn't have auxiliary data
+     */
+    public byte[] getAuxiliaryDataBytes() {
+        byte[] auxBytes = transactionBytes.getAuxiliaryDataBytes();
+        if (auxBytes == null || isNull(auxBytes))
+            return null;
+        return auxBytes;
+    }
+
+    /**
+     * Returns the transaction bytes. Same as the original bytes, unless the witness set was replaced through
+     * {@link TransactionBytes#withNewWitnessSetBytes(byte[])}
+     *
+     * @return transaction bytes
+     */
+    public byte[] getTxBytes() {
+        return transactionBytes.getTxBytes();
+    }
+
+    /**
+     * Returns the transaction hash calculated from the original transaction body bytes
+     *
+     * @return transaction hash
+     */
+    public String getTxHash() {
+        if (txHash == null)
+            txHash = HexUtil.encodeHexString(Blake2bUtil.blake2bHash256(getBodyBytes()));
+        return txHash;
+    }
+
+    /**
+     * Returns the auxiliary data hash calculated from the original auxiliary data bytes
+     *
+     * @return auxiliary data hash or null if the transaction doesn't have auxiliary data
+     */
+    public byte[] getAuxiliaryDataHash() {
+        byte[] auxBytes = getAuxiliaryDataBytes();
+        return auxBytes != null ? Blake2bUtil.blake2bHash256(auxBytes) : null;
+    }
+
+    /**
+     * Returns the isValid flag of the transaction. Pre Babbage era transactions are always valid.
+     *
+     * @return true if valid
+     */
+    public boolean isValid() {
+        byte[] validBytes = transactionBytes.getValidBytes();
+        return validBytes == null || validBytes[0] != (byte) 0xf4;
+    }
+
+    /**
+     * Returns the raw bytes of a transaction body field
+     *
+     * @param key key of the field in transaction body map
+     * @return encoded field value or null if the field is not present
+     */
+    public byte[] getBodyFieldBytes(int key) {
+        int[] range = bodyFieldRanges().get(key);
+        if (range == null)
+            return null;
+        return Arrays.copyOfRange(getBodyBytes(), range[0], range[1]);
+    }
+
+    /**
+     * Returns transaction inputs, decoded from the inputs field only
+     *
+     * @return list of inputs
+     */
+    public List<TransactionInput> getInputs() {
+        if (body != null)
+            return body.getInputs();
+
+        if (inputs == null) {
+            List<TransactionInput> list = new ArrayList<>();
+            for (DataItem item : decodeBodyFieldItems(INPUTS_KEY)) {
+                try {
+                    list.add(TransactionInput.deserialize((Array) item));
+                } catch (CborDeserializationException e) {
+                    throw new CborRuntimeException("Transaction input deserialization failed", e);
+                }
+            }
+            inputs = list;
+        }
+        return inputs;
+    }
+
+    /**
+     * Returns transaction outputs, decoded from the outputs field only
+     *
+     * @return list of outputs
+     */
+    public List<TransactionOutput> getOutputs() {
+        if (body != null)
+            return body.getOutputs();
+
+        if (outputs == null) {
+            List<TransactionOutput> list = new ArrayList<>();
+            for (DataItem item : decodeBodyFieldItems(OUTPUTS_KEY)) {
+                try {
+                    list.add(TransactionOutput.deserialize(item));
+                } catch (CborDeserializationException e) {
+                    throw new CborRuntimeException("Transaction output deserialization failed", e);
+                }
+            }
+            outputs = list;
+        }
+        return outputs;
+    }
+
+    /**
+     * Returns the transaction fee, read from the fee field only
+     *
+     * @return fee or null if not present
+     */
+    public BigInteger getFee() {
+        if (body != null)
+            return body.getFee();
+
+        int[] range = bodyFieldRanges().get(FEE_KEY);
+        if (range == null)
+            return null;
+        return CborSerializationUtil.getBigInteger(decode(getBodyBytes(), range[0], range[1]));
+    }
+
+    /**
+     * Returns the fully decoded transaction body. The result is cached.
+     *
+     * @return TransactionBody
+     */
+    public TransactionBody getBody() {
+        if (body == null) {
+            try {
+                body = TransactionBody.deserialize((Map) CborSerializationUtil.deserialize(getBodyBytes()));
+            } catch (CborDeserializationException e) {
+                throw new CborRuntimeException("Transaction body deserialization failed", e);
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Returns the decoded witness set. The result is cached.
+     *
+     * @return TransactionWitnessSet or null if the witness set is empty
+     */
+    public TransactionWitnessSet getWitnessSet() {
+        if (!witnessSetDecoded) {
+            try {
+                witnessSet = TransactionWitnessSet.deserialize((Map) CborSerializationUtil.deserialize(getWitnessSetBytes()));
+            } catch (CborDeserializationException e) {
+                throw new CborRuntimeException("Witness set deserialization failed", e);
+            }
+            witnessSetDecoded = true;
+        }
+        return witnessSet;
+    }
+
+    /**
+     * Returns the decoded auxiliary data. The result is cached.
+     *
+     * @return AuxiliaryData or null if the transaction doesn't have auxiliary data
+     */
+    public AuxiliaryData getAuxiliaryData() {
+        if (!auxiliaryDataDecoded) {
+            byte[] auxBytes = getAuxiliaryDataBytes();
+            if (auxBytes != null) {
+                DataItem auxDI = CborSerializationUtil.deserialize(auxBytes);
+                if (MajorType.MAP.equals(auxDI.getMajorType())) {
+                    try {
+                        auxiliaryData = AuxiliaryData.deserialize((Map) auxDI);
+                    } catch (CborDeserializationException e) {
+                        throw new CborRuntimeException("Auxiliary data deserialization failed", e);
+                    }
+                }
+            }
+            auxiliaryDataDecoded = true;
+        }
+        return auxiliaryData;
+    }
+
+    /**
+     * Decode the full transaction from the current transaction bytes
+     *
+     * @return Transaction
+     * @throws CborDeserializationException if deserialization fails
+     */
+    public Transaction toTransaction() throws CborDeserializationException {
+        return Transaction.deserialize(getTxBytes());
+    }
+
+    private java.util.Map<Integer, int[]> bodyFieldRanges() {
+        if (bodyFieldRanges != null)
+            return bodyFieldRanges;
+
+        byte[] bodyBytes = getBodyBytes();
+        CborReader reader = new CborReader(bodyBytes);
+        long size = reader.readMapStart();
+
+        java.util.Map<Integer, int[]> ranges = new HashMap<>();
+        for (long i = 0; size < 0 ? !reader.isBreak() : i < size; i++) {
+            long key = reader.readUnsignedInteger();
+            int start = reader.position();
+            int end = reader.skipItem();
+            ranges.putIfAbsent((int) key, new int[]{start, end});
+        }
+
+        bodyFieldRanges = Collections.unmodifiableMap(ranges);
+        return bodyFieldRanges;
+    }
+
+    private List<DataItem> decodeBodyFieldItems(int key) {
+        int[] range = bodyFieldRanges().get(key);
+        if (range == null)
+            return Collections.emptyList();
+
+        List<DataItem> items = new ArrayList<>();
+        for (DataItem item : ((Array) decode(getBodyBytes(), range[0], range[1])).getDataItems()) {
+            if (item == SimpleValue.BREAK) continue;
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static DataItem decode(byte[] bytes, int start, int end) {
+        return CborSerializationUtil.deserialize(Arrays.copyOfRange(bytes, start, end));
+    }
+
+    private static boolean isNull(byte[] itemBytes) {
+        return itemBytes.length == 1 && itemBytes[0] == (byte) 0xf6;
+    }
+}
@@ -11,9 +11,13 @@ import com.bloxbean.cardano.client.exception.CborDeserializationException;
 import com.bloxbean.cardano.client.exception.CborSerializationException;
 import com.bloxbean.cardano.client.transaction.spec.Transaction;
 import com.bloxbean.cardano.client.transaction.spec.VkeyWitness;
+import com.bloxbean.cardano.client.transaction.util.TransactionUtil;
 import com.bloxbean.cardano.client.util.HexUtil;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class TransactionSignerTest {
@@ -92,6 +96,39 @@ class TransactionSignerTest {
         assertThat(signedTransaction.getAuxiliaryData().serialize()).isEqualTo(originalTransaction.getAuxiliaryData().serialize());
     }
 
+    @Test
+    void signAll_sameAsSequentialSign() throws Exception {
+        String txHex = "84a50082825820bf23db27c0f908de9cab0087867cc3457396cc30fe04d11219e2e9cf010747db0182582097cec126d14f763197d8b6411d1f2f6045e30919b822a4cf56ea3e734b2b6e88010184825839001c1ffaf141ebbb8e3a7072bb15f50f938b994c82de2d175f358fc942441f00edfe1b8d6a84f0d19c25a9c8829442160c0b5c758094c42344821a0016e360a1581c2474352285a03c836fd6e54836f6e8281494803410ab7c02bd95c427a1474d7941737365741907d0825839007d1fcb835da61dd128c9283510bd26c2d8c6d0439e938f14b5ef941e248d073c7065dc990d6a98455f4514f4190a310b60ccda5801cfc36d1a01143fdd8258390000c906a94e1a04453b33ec71bbbb9cdfa704f9a7a82c30ed7ee2b94d5bde4d09d8c1f745ef568a56335bc410aae4128cd296eba026312b4b1a0020805082583900a89c059647839b018c2fdaf8ae90329cac293dc6bc917fa6750f5ac0f1fd43a58e272fee8c0735f17d65f8d6c180cc62bdd0250b8a1b5f4f821b0000000fc7509273a1581c3a888d65f16790950a72daee1f63aa05add6d268434107cfa5b67712a24d000de14043495036382d4e4654014f506c757475734d696e74546f6b656e190fa0021a00031d0d0758203a99497a4e5cdeb32dabe52e34ce5aa64297dbe1be481951d048109c5a0875eb09a1581c2474352285a03c836fd6e54836f6e8281494803410ab7c02bd95c427a1474d7941737365741907d0a20083825820f8c12a466dfc1e8665ad1b50f434578cb6f89f23ac4bae8f152f5524955ff829584094c72c56f4ee376eba182129fee894789fad36da9870d103a7a115f22e7a0fa548b3ac8f6aa39cd9fec4fa11942426e61606c20be168e5da37d1b8b00d1a2e0e825820212cc53581b27abeee3f564588ded10f46161320285d57426c9c85ea071e97d458400624999ef4f13497bab552bd1d814441da55bafef3065be43646f57f3fdc04afbba848363fed9edc650333c2fa64d6cd94ce1bcd1d47ffabe03aae43971c290982582006e717f015593822e7d0fccd38c3e2cc88ae8794d5ab3c0968bc1beb20330f295840308788613e31d536f480544798e38ad86e9e2bd3e8e7bd055a16493f6700b64b501f28aadc25071048c945b273339e21f5399b10060586e91cf4f2183a3dee090181830301818200581c6e0374dbd346ab7f40ad5f86bab8cd41e62787bace376bacab2c696cf5a11902a2a1636d7367816a4d696e74696e67207478";
+        byte[] txBytes = HexUtil.decodeHexString(txHex);
+
+        String mnemonicPhrase = "indicate traffic belt syrup chief accident put upset present short drink bus glide warm roof";
+        byte[] entropy = MnemonicCode.INSTANCE.toEntropy(mnemonicPhrase);
+        HdKeyGenerator hdKeyGenerator = new HdKeyGenerator();
+        HdKeyPair rootKeyPair = hdKeyGenerator.getRootKeyPairFromEntropy(entropy);
+
+        List<HdKeyPair> keyPairs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keyPairs.add(hdKeyGenerator.getChildKeyPair(rootKeyPair, i, false));
+        }
+
+        byte[] sequentiallySigned = txBytes;
+        for (HdKeyPair keyPair : keyPairs) {
+            sequentiallySigned = TransactionSigner.INSTANCE.sign(sequentiallySigned, keyPair);
+        }
+
+        byte[] batchSigned = TransactionSigner.INSTANCE.signAll(txBytes, keyPairs);
+
+        assertThat(batchSigned).isEqualTo(sequentiallySigned);
+        assertThat(TransactionUtil.getTxHash(batchSigned)).isEqualTo(TransactionUtil.getTxHash(txBytes));
+
+        var signedTransaction = TransactionSigner.INSTANCE.signAll(Transaction.deserialize(txBytes), keyPairs);
+        List<VkeyWitness> vkeyWitnesses = signedTransaction.getWitnessSet().getVkeyWitnesses();
+        assertThat(vkeyWitnesses).hasSize(13);
+        for (int i = 0; i < keyPairs.size(); i++) {
+            assertThat(vkeyWitnesses.get(3 + i).getVkey()).isEqualTo(keyPairs.get(i).getPublicKey().getKeyData());
+        }
+    }
+
     @Test
     void sign_withAdditionalKey_transaction() throws Exception {
         String txHex = "84a50082825820bf23db27c0f908de9cab0087867cc3457396cc30fe04d11219e2e9cf010747db0182582097cec126d14f763197d8b6411d1f2f6045e30919b822a4cf56ea3e734b2b6e88010184825839001c1ffaf141ebbb8e3a7072bb15f50f938b994c82de2d175f358fc942441f00edfe1b8d6a84f0d19c25a9c8829442160c0b5c758094c42344821a0016e360a1581c2474352285a03c836fd6e54836f6e8281494803410ab7c02bd95c427a1474d7941737365741907d0825839007d1fcb835da61dd128c9283510bd26c2d8c6d0439e938f14b5ef941e248d073c7065dc990d6a98455f4514f4190a310b60ccda5801cfc36d1a01143fdd8258390000c906a94e1a04453b33ec71bbbb9cdfa704f9a7a82c30ed7ee2b94d5bde4d09d8c1f745ef568a56335bc410aae4128cd296eba026312b4b1a0020805082583900a89c059647839b018c2fdaf8ae90329cac293dc6bc917fa6750f5ac0f1fd43a58e272fee8c0735f17d65f8d6c180cc62bdd0250b8a1b5f4f821b0000000fc7509273a1581c3a888d65f16790950a72daee1f63aa05add6d268434107cfa5b67712a24d000de14043495036382d4e4654014f506c757475734d696e74546f6b656e190fa0021a00031d0d0758203a99497a4e5cdeb32dabe52e34ce5aa64297dbe1be481951d048109c5a0875eb09a1581c2474352285a03c836fd6e54836f6e8281494803410ab7c02bd95c427a1474d7941737365741907d0a20083825820f8c12a466dfc1e8665ad1b50f434578cb6f89f23ac4bae8f152f5524955ff829584094c72c56f4ee376eba182129fee894789fad36da9870d103a7a115f22e7a0fa548b3ac8f6aa39cd9fec4fa11942426e61606c20be168e5da37d1b8b00d1a2e0e825820212cc53581b27abeee3f564588ded10f46161320285d57426c9c85ea071e97d458400624999ef4f13497bab552bd1d814441da55bafef3065be43646f57f3fdc04afbba848363fed9edc650333c2fa64d6cd94ce1bcd1d47ffabe03aae43971c290982582006e717f015593822e7d0fccd38c3e2cc88ae8794d5ab3c0968bc1beb20330f295840308788613e31d536f480544798e38ad86e9e2bd3e8e7bd055a16493f6700b64b501f28aadc25071048c945b273339e21f5399b10060586e91cf4f2183a3dee090181830301818200581c6e0374dbd346ab7f40ad5f86bab8cd41e62787bace376bacab2c696cf5a11902a2a1636d7367816a4d696e74696e67207478";
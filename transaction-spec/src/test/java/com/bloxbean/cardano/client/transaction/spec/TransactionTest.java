@@ -1,6 +1,8 @@
 package com.bloxbean.cardano.client.transaction.spec;
 
 import com.bloxbean.cardano.client.exception.CborDeserializationException;
+import com.bloxbean.cardano.client.plutus.spec.*;
+import com.bloxbean.cardano.client.spec.Era;
 import com.bloxbean.cardano.client.util.HexUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeAll;
@@ -10,6 +12,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -61,4 +64,62 @@ public class TransactionTest {
     static Stream<String> deserTxnWithInfiniteArray() throws CborDeserializationException{
         return infiniteArrayTxs.stream();
     }
+
+    @ParameterizedTest
+    @MethodSource("deserTxnWithInfiniteArray")
+    void serializeStreaming_sameAsSerialize(String txHex) throws Exception {
+        for (Era era : List.of(Era.Babbage, Era.Conway)) {
+            Transaction transaction = Transaction.deserialize(HexUtil.decodeHexString(txHex));
+            transaction.setEra(era);
+
+            assertThat(transaction.serializeStreaming()).isEqualTo(transaction.serialize());
+        }
+    }
+
+    @Test
+    void serializeStreaming_unsortedMultiAssetsAndPlutusData() throws Exception {
+        String policy1 = "d195ca7db29f0f13a00cac7fca70426ff60bad4e1e87d3757fae8484";
+        String policy2 = "0d9b39474eb05f95af7ea93ac6bcf3e4fcb64159a1eb0823efe85824";
+        Value value = Value.builder()
+                .coin(BigInteger.valueOf(2000000))
+                .multiAssets(List.of(
+                        new MultiAsset(policy1, List.of(new Asset("0x0102", BigInteger.TEN), new Asset("0x01", BigInteger.ONE))),
+                        new MultiAsset(policy2, List.of(new Asset("token", BigInteger.valueOf(Long.MAX_VALUE))))))
+                .build();
+
+        MapPlutusData mapPlutusData = new MapPlutusData();
+        mapPlutusData.put(BytesPlutusData.of("zz"), BigIntPlutusData.of(BigInteger.TWO.pow(80)));
+        mapPlutusData.put(BytesPlutusData.of("a"), BigIntPlutusData.of(BigInteger.TWO.pow(80).negate()));
+        ConstrPlutusData datum = ConstrPlutusData.of(200, mapPlutusData, BytesPlutusData.of(new byte[100]));
+
+        TransactionOutput output = TransactionOutput.builder()
+                .address("addr_test1qz3s0c370u8zzqn302nppuxl840gm6qdmjwqnxmqxme657ze964mar2m3r5jjv4qrsf62yduqns0tsw0hvzwar07qasqeamp0c")
+                .value(value)
+                .inlineDatum(datum)
+                .build();
+
+        TransactionBody body = TransactionBody.builder()
+                .inputs(List.of(new TransactionInput("9b465fa08b5b7365d482a2cccebfb43cf2f094fbcf62f672947feb5d131e29a3", 1)))
+                .outputs(List.of(output, new TransactionOutput(output.getAddress(), value)))
+                .mint(List.of(new MultiAsset(policy1, List.of(new Asset("abc", BigInteger.valueOf(-5))))))
+                .fee(BigInteger.valueOf(180000))
+                .ttl(1000)
+                .build();
+
+        TransactionWitnessSet witnessSet = new TransactionWitnessSet();
+        witnessSet.setPlutusDataList(List.of(datum));
+        witnessSet.setRedeemers(List.of(
+                Redeemer.builder().tag(RedeemerTag.Spend).index(BigInteger.ONE).data(datum).exUnits(new ExUnits(BigInteger.ONE, BigInteger.TEN)).build(),
+                Redeemer.builder().tag(RedeemerTag.Mint).index(BigInteger.ZERO).data(BigIntPlutusData.of(1)).exUnits(new ExUnits(BigInteger.TWO, BigInteger.TWO)).build()));
+
+        for (Era era : List.of(Era.Babbage, Era.Conway)) {
+            Transaction transaction = Transaction.builder()
+                    .era(era)
+                    .body(body)
+                    .witnessSet(witnessSet)
+                    .build();
+
+            assertThat(transaction.serializeStreaming()).isEqualTo(transaction.serialize());
+        }
+    }
 }
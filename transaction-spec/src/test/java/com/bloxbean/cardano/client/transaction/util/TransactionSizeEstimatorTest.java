@@ -0,0 +1,127 @@
+package com.bloxbean.cardano.client.transaction.util;
+
+import com.bloxbean.cardano.client.spec.Era;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.transaction.spec.TransactionWitnessSet;
+import com.bloxbean.cardano.client.transaction.spec.VkeyWitness;
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionSizeEstimatorTest {
+    private static List<String> txs;
+
+    @BeforeAll
+    static void init() throws IOException {
+        txs = new ObjectMapper().readValue(TransactionSizeEstimatorTest.class.getClassLoader().getResourceAsStream("txs_infinite_array_parsing.json"), List.class);
+    }
+
+    static Stream<Arguments> txIndexesAndSigners() throws IOException {
+        init();
+        List<Arguments> args = new ArrayList<>();
+        for (int i = 0; i < txs.size(); i++) {
+            for (int noOfSigners : new int[]{0, 1, 3, 30}) {
+                args.add(Arguments.of(i, noOfSigners, Era.Babbage));
+                args.add(Arguments.of(i, noOfSigners, Era.Conway));
+            }
+        }
+        return args.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("txIndexesAndSigners")
+    void size_sameAsSerializedSizeWithDummyWitnesses(int index, int noOfSigners, Era era) throws Exception {
+        Transaction transaction = Transaction.deserialize(HexUtil.decodeHexString(txs.get(index)));
+        transaction.setEra(era);
+
+        TransactionSizeEstimator estimator = TransactionSizeEstimator.of(transaction, noOfSigners);
+
+        assertThat(estimator.getSize()).isEqualTo(sizeWithDummyWitnesses(transaction, noOfSigners));
+    }
+
+    @Test
+    void size_whenNoWitnessSet() throws Exception {
+        Transaction transaction = Transaction.deserialize(HexUtil.decodeHexString(txs.get(0)));
+        transaction.setWitnessSet(null);
+        transaction.getBody().setFee(null);
+
+        TransactionSizeEstimator estimator = TransactionSizeEstimator.of(transaction, 2);
+
+        assertThat(transaction.getBody().getFee()).isNull();
+        transaction.getBody().setFee(estimator.getFee());
+        assertThat(estimator.getSize()).isEqualTo(sizeWithDummyWitnesses(transaction, 2));
+    }
+
+    @Test
+    void setFee_updatesSizeIncrementally() throws Exception {
+        Transaction transaction = Transaction.deserialize(HexUtil.decodeHexString(txs.get(0)));
+        TransactionSizeEstimator estimator = TransactionSizeEstimator.of(transaction, 2);
+
+        List<BigInteger> values = List.of(BigInteger.valueOf(10), BigInteger.valueOf(200), BigInteger.valueOf(60000),
+                BigInteger.valueOf(170000), BigInteger.valueOf(5_000_000_000L), BigInteger.TWO.pow(70));
+        for (BigInteger value : values) {
+            estimator.setFee(value);
+            transaction.getBody().setFee(value);
+            assertThat(estimator.getSize()).isEqualTo(sizeWithDummyWitnesses(transaction, 2));
+        }
+    }
+
+    @Test
+    void setFeeAndOutputCoin_sameAsSerializedSize() throws Exception {
+        Transaction transaction = Transaction.deserialize(HexUtil.decodeHexString(txs.get(0)));
+        TransactionSizeEstimator estimator = TransactionSizeEstimator.of(transaction, 2);
+
+        BigInteger coin = BigInteger.valueOf(4_295_000_000L); //just above 2^32
+        List<BigInteger> fees = List.of(BigInteger.valueOf(200), BigInteger.valueOf(170000), BigInteger.valueOf(40_000),
+                BigInteger.valueOf(5_000_000_000L), BigInteger.valueOf(23));
+        for (BigInteger fee : fees) {
+            //Fee is deducted from the change output as in balancing
+            estimator.setFee(fee).setOutputCoin(1, coin.subtract(fee));
+            transaction.getBody().setFee(fee);
+            transaction.getBody().getOutputs().get(1).getValue().setCoin(coin.subtract(fee));
+            assertThat(estimator.getSize()).isEqualTo(sizeWithDummyWitnesses(transaction, 2));
+        }
+    }
+
+    private int sizeWithDummyWitnesses(Transaction transaction, int noOfSigners) throws Exception {
+        TransactionWitnessSet originalWitnessSet = transaction.getWitnessSet();
+
+        TransactionWitnessSet witnessSet = new TransactionWitnessSet();
+        if (originalWitnessSet != null) {
+            witnessSet.setNativeScripts(originalWitnessSet.getNativeScripts());
+            witnessSet.setBootstrapWitnesses(originalWitnessSet.getBootstrapWitnesses());
+            witnessSet.setPlutusV1Scripts(originalWitnessSet.getPlutusV1Scripts());
+            witnessSet.setPlutusV2Scripts(originalWitnessSet.getPlutusV2Scripts());
+            witnessSet.setPlutusV3Scripts(originalWitnessSet.getPlutusV3Scripts());
+            witnessSet.setPlutusDataList(originalWitnessSet.getPlutusDataList());
+            witnessSet.setRedeemers(originalWitnessSet.getRedeemers());
+            if (originalWitnessSet.getVkeyWitnesses() != null)
+                witnessSet.getVkeyWitnesses().addAll(originalWitnessSet.getVkeyWitnesses());
+        }
+
+        for (int i = 0; i < noOfSigners; i++) {
+            byte[] vkey = new byte[32];
+            vkey[31] = (byte) i;
+            witnessSet.getVkeyWitnesses().add(new VkeyWitness(vkey, new byte[64]));
+        }
+
+        transaction.setWitnessSet(witnessSet);
+        try {
+            return transaction.serialize().length;
+        } finally {
+            transaction.setWitnessSet(originalWitnessSet);
+        }
+    }
+}
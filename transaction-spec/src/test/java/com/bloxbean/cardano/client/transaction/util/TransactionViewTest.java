@@ -0,0 +1,84 @@
+package com.bloxbean.cardano.client.transaction.util;
+
+import com.bloxbean.cardano.client.common.cbor.CborSerializationUtil;
+import com.bloxbean.cardano.client.crypto.Blake2bUtil;
+import com.bloxbean.cardano.client.transaction.spec.Transaction;
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionViewTest {
+    private static List<String> txs;
+
+    @BeforeAll
+    static void init() throws IOException {
+        txs = new ObjectMapper().readValue(TransactionViewTest.class.getClassLoader().getResourceAsStream("txs_infinite_array_parsing.json"), List.class);
+    }
+
+    static Stream<Integer> txIndexes() throws IOException {
+        init();
+        return Stream.iterate(0, i -> i + 1).limit(txs.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("txIndexes")
+    void view_sameAsFullDeserialization(int index) throws Exception {
+        byte[] txBytes = HexUtil.decodeHexString(txs.get(index));
+        Transaction transaction = Transaction.deserialize(txBytes);
+
+        TransactionView view = TransactionView.of(txBytes);
+
+        assertThat(view.getTxHash()).isEqualTo(TransactionUtil.getTxHash(txBytes));
+        assertThat(view.getTxBytes()).isEqualTo(txBytes);
+        assertThat(view.isValid()).isEqualTo(transaction.isValid());
+        assertThat(view.getInputs()).isEqualTo(transaction.getBody().getInputs());
+        assertThat(view.getOutputs()).isEqualTo(transaction.getBody().getOutputs());
+        assertThat(view.getFee()).isEqualTo(transaction.getBody().getFee());
+        assertThat(CborSerializationUtil.serialize(view.getBody().serialize()))
+                .isEqualTo(CborSerializationUtil.serialize(transaction.getBody().serialize()));
+        assertThat(CborSerializationUtil.serialize(view.getWitnessSet().serialize()))
+                .isEqualTo(CborSerializationUtil.serialize(transaction.getWitnessSet().serialize()));
+
+        if (transaction.getAuxiliaryData() != null) {
+            assertThat(CborSerializationUtil.serialize(view.getAuxiliaryData().serialize()))
+                    .isEqualTo(CborSerializationUtil.serialize(transaction.getAuxiliaryData().serialize()));
+            assertThat(view.getAuxiliaryDataHash()).isEqualTo(transaction.getBody().getAuxiliaryDataHash());
+        } else {
+            assertThat(view.getAuxiliaryData()).isNull();
+            assertThat(view.getAuxiliaryDataHash()).isNull();
+        }
+    }
+
+    @Test
+    void bodyFieldBytes_slicedFromOriginalBody() {
+        byte[] txBytes = HexUtil.decodeHexString(txs.get(0));
+        TransactionView view = TransactionView.of(txBytes);
+
+        //fee (key 2) in the first tx is 0x1a00093565
+        assertThat(HexUtil.encodeHexString(view.getBodyFieldBytes(2))).isEqualTo("1a00093565");
+        assertThat(view.getBodyFieldBytes(19)).isNull();
+        assertThat(HexUtil.encodeHexString(Blake2bUtil.blake2bHash256(view.getBodyBytes()))).isEqualTo(view.getTxHash());
+    }
+
+    @Test
+    void withNewWitnessSet_keepsBodyAndHash() throws Exception {
+        byte[] txBytes = HexUtil.decodeHexString(txs.get(0));
+        TransactionView view = TransactionView.of(txBytes);
+
+        TransactionView newView = TransactionView.of(view.getTransactionBytes().withNewWitnessSetBytes(new byte[]{(byte) 0xa0}));
+
+        assertThat(newView.getTxHash()).isEqualTo(view.getTxHash());
+        assertThat(newView.getWitnessSet()).isNull();
+        assertThat(newView.getBodyBytes()).isEqualTo(view.getBodyBytes());
+        assertThat(newView.toTransaction().getBody().getInputs()).isEqualTo(view.getInputs());
+    }
+}
@@ -21,6 +21,7 @@ import java.time.Duration;
  *   <tr><th>Parameter</th><th>Value</th><th>Reasoning</th></tr>
  *   <tr><td>minConfirmations</td><td>10 blocks</td><td>~200 seconds, practical safety threshold</td></tr>
  *   <tr><td>checkInterval</td><td>5 seconds</td><td>Balance between responsiveness and API load</td></tr>
+ *   <tr><td>minCheckInterval / maxCheckInterval</td><td>1 / 30 seconds</td><td>Bounds of adaptive polling</td></tr>
  *   <tr><td>timeout</td><td>30 minutes</td><td>Maximum time to wait for confirmation</td></tr>
  * </table>
  *
@@ -60,6 +61,27 @@ public class ConfirmationConfig {
     @Builder.Default
     private final Duration checkInterval = Duration.ofSeconds(5);
 
+    /**
+     * Lower bound of the adaptive polling interval used by {@link ConfirmationService}.
+     * <p>
+     * The service polls about four times per observed block interval, within
+     * {@code minCheckInterval} and {@code maxCheckInterval}. Until a block interval has been
+     * observed, it polls at {@link #checkInterval}.
+     * <p>
+     * Default: 1 second.
+     */
+    @Builder.Default
+    private final Duration minCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound of the adaptive polling interval used by {@link ConfirmationService}, also the
+     * cap of its backoff when the chain data supplier fails.
+     * <p>
+     * Default: 30 seconds.
+     */
+    @Builder.Default
+    private final Duration maxCheckInterval = Duration.ofSeconds(30);
+
     /**
      * Maximum time to wait for a transaction to reach the target confirmation status.
      * <p>
@@ -0,0 +1,444 @@
+package com.bloxbean.cardano.client.txflow.exec;
+
+import com.bloxbean.cardano.client.api.ChainDataSupplier;
+import com.bloxbean.cardano.client.api.model.ChainTip;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Shared, scheduler-driven confirmation polling for many in-flight transactions.
+ * <p>
+ * Where {@link ConfirmationTracker#waitForConfirmation} polls each transaction from its own thread,
+ * ConfirmationService keeps all watched transactions in one place and checks them together on each tick:
+ * the chain tip is fetched once and the transactions are looked up with one
+ * {@link ChainDataSupplier#getTransactionInfos(java.util.Collection)} call. Transactions already in a block
+ * are only looked up again when the tip has moved, i.e. its height or, if the supplier returns it, its hash
+ * changed. Each watch completes a {@link CompletableFuture}. Once no watch of a transaction is left, its
+ * rollback detection state is removed from the {@link #getTracker() tracker}.
+ *
+ * <h2>Adaptive Polling</h2>
+ * The service measures the interval between observed blocks and polls about four times per block, within
+ * {@link ConfirmationConfig#getMinCheckInterval()} and {@link ConfirmationConfig#getMaxCheckInterval()}.
+ * Until a block interval is known it polls at {@link ConfirmationConfig#getCheckInterval()}. When the tip
+ * cannot be fetched, the interval doubles per failure up to the maximum. No requests are made while
+ * nothing is watched.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * ConfirmationService service = new ConfirmationService(chainDataSupplier, ConfirmationConfig.defaults());
+ *
+ * // Shared by any number of executors
+ * FlowExecutor executor = FlowExecutor.create(backendService)
+ *     .withConfirmationService(service);
+ *
+ * // Or watch transactions directly
+ * service.track(txHash).thenAccept(result -> System.out.println(result.getStatus()));
+ * }</pre>
+ * <p>
+ * Progress callbacks and future completions run on the polling thread and should return quickly.
+ * This class is thread-safe.
+ */
+@Slf4j
+public class ConfirmationService implements AutoCloseable {
+
+    private final ConfirmationTracker tracker;
+    private final ConfirmationConfig config;
+    private final ChainDataSupplier chainDataSupplier;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Integer> watchCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    // Tip observation, only accessed from the polling thread
+    private long lastTip = -1;
+    private long lastTipChangeMillis;
+    private boolean tipChangeObserved;
+    private int consecutiveFailures;
+    private volatile long blockIntervalMillis;
+    private volatile long pollIntervalMillis;
+
+    /**
+     * Create a ConfirmationService polling on its own daemon thread.
+     *
+     * @param chainDataSupplier the chain data supplier for chain queries
+     * @param config the confirmation configuration
+     */
+    public ConfirmationService(ChainDataSupplier chainDataSupplier, ConfirmationConfig config) {
+        this(chainDataSupplier, config, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "txflow-confirmation");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Create a ConfirmationService polling on the given scheduler.
+     * <p>
+     * The scheduler is not shut down by {@link #close()}.
+     *
+     * @param chainDataSupplier the chain data supplier for chain queries
+     * @param config the confirmation configuration
+     * @param scheduler the scheduler running the polling ticks
+     */
+    public ConfirmationService(ChainDataSupplier chainDataSupplier, ConfirmationConfig config,
+                               ScheduledExecutorService scheduler) {
+        this(chainDataSupplier, config, scheduler, false);
+    }
+
+    private ConfirmationService(ChainDataSupplier chainDataSupplier, ConfirmationConfig config,
+                                ScheduledExecutorService scheduler, boolean ownsScheduler) {
+        this.chainDataSupplier = Objects.requireNonNull(chainDataSupplier, "chainDataSupplier");
+        this.config = config != null ? config : ConfirmationConfig.defaults();
+        this.tracker = new ConfirmationTracker(chainDataSupplier, this.config);
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.pollIntervalMillis = this.config.getCheckInterval().toMillis();
+    }
+
+    /**
+     * Watch a transaction until it is confirmed.
+     *
+     * @param txHash the transaction hash to monitor
+     * @return a future completed with the final confirmation result
+     */
+    public CompletableFuture<ConfirmationResult> track(String txHash) {
+        return track(txHash, ConfirmationStatus.CONFIRMED, null, () -> false);
+    }
+
+    /**
+     * Watch a transaction until it reaches the target status.
+     * <p>
+     * The returned future completes when the target status is reached, when the transaction is
+     * rolled back, when {@code isCancelledCheck} returns true (with a "Flow cancelled" error) or when
+     * {@link ConfirmationConfig#getTimeout()} expires (with a {@link ConfirmationTimeoutException} error).
+     * Cancelling the future stops watching the transaction.
+     *
+     * @param txHash the transaction hash to monitor
+     * @param targetStatus the status to wait for
+     * @param onProgress optional callback invoked when the confirmation depth changes (txHash, result)
+     * @param isCancelledCheck supplier that returns true when the caller is no longer interested
+     * @return a future completed with the final confirmation result
+     */
+    public CompletableFuture<ConfirmationResult> track(String txHash, ConfirmationStatus targetStatus,
+                                                       BiConsumer<String, ConfirmationResult> onProgress,
+                                                       BooleanSupplier isCancelledCheck) {
+        if (closed) {
+            throw new IllegalStateException("ConfirmationService is closed");
+        }
+        Watch watch = new Watch(txHash, targetStatus, onProgress,
+                isCancelledCheck != null ? isCancelledCheck : () -> false,
+                System.currentTimeMillis() + config.getTimeout().toMillis());
+        watchCounts.merge(txHash, 1, Integer::sum);
+        watch.future.whenComplete((result, error) -> {
+            watches.remove(watch);
+            release(txHash);
+        });
+        watches.add(watch);
+        if (scheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::tick);
+        }
+        return watch.future;
+    }
+
+    /**
+     * Wait for a transaction to reach the target status, blocking the calling thread.
+     * <p>
+     * Equivalent to {@link ConfirmationTracker#waitForConfirmation(String, ConfirmationStatus, BiConsumer, BooleanSupplier)},
+     * except that the transaction is polled together with all other watched transactions.
+     *
+     * @param txHash the transaction hash to monitor
+     * @param targetStatus the status to wait for
+     * @param onProgress optional callback invoked when the confirmation depth changes (txHash, result)
+     * @param isCancelledCheck supplier that returns true when the flow has been cancelled
+     * @return the final confirmation result
+     */
+    public ConfirmationResult awaitConfirmation(String txHash, ConfirmationStatus targetStatus,
+                                                BiConsumer<String, ConfirmationResult> onProgress,
+                                                BooleanSupplier isCancelledCheck) {
+        CompletableFuture<ConfirmationResult> future = track(txHash, targetStatus, onProgress, isCancelledCheck);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            return ConfirmationResult.builder()
+                    .txHash(txHash)
+                    .status(ConfirmationStatus.SUBMITTED)
+                    .confirmationDepth(-1)
+                    .error(e)
+                    .build();
+        } catch (ExecutionException e) {
+            // A failing progress callback fails the wait, as it does with ConfirmationTracker
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            return ConfirmationResult.builder()
+                    .txHash(txHash)
+                    .status(ConfirmationStatus.SUBMITTED)
+                    .confirmationDepth(-1)
+                    .error(e.getCause())
+                    .build();
+        } catch (CancellationException e) {
+            return ConfirmationResult.builder()
+                    .txHash(txHash)
+                    .status(ConfirmationStatus.SUBMITTED)
+                    .confirmationDepth(-1)
+                    .error(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Get the tracker holding the rollback detection state of watched transactions.
+     *
+     * @return the confirmation tracker
+     */
+    public ConfirmationTracker getTracker() {
+        return tracker;
+    }
+
+    /**
+     * Get the configuration used by this service.
+     *
+     * @return the confirmation config
+     */
+    public ConfirmationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the number of transactions currently watched.
+     *
+     * @return the count of watched transactions
+     */
+    public int getWatchedCount() {
+        return watches.size();
+    }
+
+    /**
+     * Get the average interval between blocks observed so far.
+     *
+     * @return the observed block interval, or null if none has been observed yet
+     */
+    public Duration getObservedBlockInterval() {
+        long millis = blockIntervalMillis;
+        return millis > 0 ? Duration.ofMillis(millis) : null;
+    }
+
+    /**
+     * Get the delay before the next poll, as chosen by the adaptive polling.
+     *
+     * @return the current polling interval
+     */
+    public Duration getPollInterval() {
+        return Duration.ofMillis(pollIntervalMillis);
+    }
+
+    /**
+     * Stop polling. Pending futures are cancelled and an internally created scheduler is shut down.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Watch watch : watches) {
+            watch.future.cancel(false);
+        }
+        watches.clear();
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Stop tracking a transaction when its last watch completes, another watch may still need the state
+    private void release(String txHash) {
+        watchCounts.compute(txHash, (hash, count) -> {
+            if (count == null || count <= 1) {
+                tracker.stopTracking(hash);
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private void tick() {
+        try {
+            poll();
+        } catch (Throwable t) {
+            log.error("Confirmation polling failed", t);
+        } finally {
+            scheduled.set(false);
+            // Re-check after clearing the flag, so a watch added concurrently is never left unpolled
+            if (!closed && !watches.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    scheduler.schedule(this::tick, pollIntervalMillis, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    log.warn("Confirmation polling stopped, scheduler rejected the next tick");
+                }
+            }
+        }
+    }
+
+    private void poll() {
+        long now = System.currentTimeMillis();
+        List<Watch> active = new ArrayList<>();
+        for (Watch watch : watches) {
+            if (watch.future.isDone()) {
+                continue;
+            }
+            if (watch.isCancelledCheck.getAsBoolean()) {
+                log.info("Cancellation detected while waiting for confirmation of tx {}", watch.txHash);
+                watch.future.complete(watch.finalResult(new RuntimeException("Flow cancelled"), null));
+            } else if (now >= watch.deadline) {
+                log.warn("Timeout waiting for tx {} to reach status {}", watch.txHash, watch.targetStatus);
+                watch.future.complete(watch.finalResult(new ConfirmationTimeoutException(watch.txHash),
+                        watch.lastResult != null ? watch.lastResult.getCurrentTipHeight() : null));
+            } else {
+                active.add(watch);
+            }
+        }
+        if (active.isEmpty()) {
+            return;
+        }
+
+        ChainTip chainTip;
+        try {
+            chainTip = chainDataSupplier.getChainTip();
+        } catch (Exception e) {
+            consecutiveFailures++;
+            pollIntervalMillis = nextPollInterval();
+            log.warn("Failed to get latest block for confirmation check: {}", e.getMessage());
+            return;
+        }
+        consecutiveFailures = 0;
+        long tip = chainTip.getHeight();
+        String tipHash = chainTip.getHash();
+        observeTip(tip, now);
+        pollIntervalMillis = nextPollInterval();
+
+        // In-block transactions cannot change while the tip stays put; pending ones may show up late in indexers.
+        // A new tip at the same height is a fork, which may have dropped them.
+        Set<String> hashes = new HashSet<>();
+        for (Watch watch : active) {
+            if (watch.checkedAtTip != tip || !Objects.equals(watch.checkedAtTipHash, tipHash)
+                    || watch.lastResult == null || watch.lastResult.getStatus() == ConfirmationStatus.SUBMITTED) {
+                hashes.add(watch.txHash);
+            }
+        }
+        Map<String, ConfirmationResult> results = tracker.checkStatuses(hashes, tip);
+
+        for (Watch watch : active) {
+            ConfirmationResult result = results.get(watch.txHash);
+            if (result != null) {
+                watch.update(result, tip, tipHash);
+            }
+        }
+
+        // A watch completed by another thread during the lookup leaves no state behind
+        for (String txHash : hashes) {
+            watchCounts.compute(txHash, (hash, count) -> {
+                if (count == null) {
+                    tracker.stopTracking(hash);
+                }
+                return count;
+            });
+        }
+    }
+
+    private void observeTip(long tip, long now) {
+        if (tip == lastTip) {
+            return;
+        }
+        if (tip > lastTip && tipChangeObserved) {
+            long perBlock = (now - lastTipChangeMillis) / (tip - lastTip);
+            long previous = blockIntervalMillis;
+            blockIntervalMillis = previous == 0 ? perBlock : (previous * 3 + perBlock) / 4;
+        }
+        tipChangeObserved = lastTip >= 0;
+        lastTip = tip;
+        lastTipChangeMillis = now;
+    }
+
+    private long nextPollInterval() {
+        long min = config.getMinCheckInterval().toMillis();
+        long max = Math.max(min, config.getMaxCheckInterval().toMillis());
+        if (consecutiveFailures > 0) {
+            long base = Math.max(min, pollIntervalMillis);
+            return Math.min(max, base << Math.min(consecutiveFailures, 6));
+        }
+        long blockInterval = blockIntervalMillis;
+        if (blockInterval == 0) {
+            return config.getCheckInterval().toMillis();
+        }
+        return Math.max(min, Math.min(max, blockInterval / 4));
+    }
+
+    /**
+     * A watched transaction. Mutable state is only accessed from the polling thread.
+     */
+    private static final class Watch {
+        final String txHash;
+        final ConfirmationStatus targetStatus;
+        final BiConsumer<String, ConfirmationResult> onProgress;
+        final BooleanSupplier isCancelledCheck;
+        final long deadline;
+        final CompletableFuture<ConfirmationResult> future = new CompletableFuture<>();
+
+        ConfirmationResult lastResult;
+        long checkedAtTip = -1;
+        String checkedAtTipHash;
+        int lastDepth = -2; // Invalid value to ensure first callback fires
+
+        Watch(String txHash, ConfirmationStatus targetStatus, BiConsumer<String, ConfirmationResult> onProgress,
+              BooleanSupplier isCancelledCheck, long deadline) {
+            this.txHash = txHash;
+            this.targetStatus = targetStatus;
+            this.onProgress = onProgress;
+            this.isCancelledCheck = isCancelledCheck;
+            this.deadline = deadline;
+        }
+
+        void update(ConfirmationResult result, long tip, String tipHash) {
+            lastResult = result;
+            checkedAtTip = tip;
+            checkedAtTipHash = tipHash;
+
+            if (onProgress != null && result.getConfirmationDepth() != lastDepth) {
+                try {
+                    onProgress.accept(txHash, result);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                    return;
+                }
+                lastDepth = result.getConfirmationDepth();
+            }
+
+            if (result.isRolledBack()) {
+                log.warn("Transaction {} rolled back during confirmation wait", txHash);
+                future.complete(result);
+            } else if (result.hasReached(targetStatus)) {
+                log.debug("Transaction {} reached target status {}", txHash, targetStatus);
+                future.complete(result);
+            }
+        }
+
+        ConfirmationResult finalResult(Throwable error, Long tipHeight) {
+            return ConfirmationResult.builder()
+                    .txHash(txHash)
+                    .status(lastResult != null ? lastResult.getStatus() : ConfirmationStatus.SUBMITTED)
+                    .confirmationDepth(lastResult != null ? lastResult.getConfirmationDepth() : -1)
+                    .currentTipHeight(tipHeight)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -6,6 +6,9 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
@@ -76,96 +79,163 @@ public class ConfirmationTracker {
      * @return the confirmation result
      */
     public ConfirmationResult checkStatus(String txHash) {
+        // Get current chain tip
+        long tipHeight;
         try {
-            // Get current chain tip
-            long tipHeight;
-            try {
-                tipHeight = chainDataSupplier.getChainTipHeight();
-            } catch (Exception e) {
-                log.warn("Failed to get latest block for confirmation check: {}", e.getMessage());
-                return ConfirmationResult.builder()
-                        .txHash(txHash)
-                        .status(ConfirmationStatus.SUBMITTED)
-                        .confirmationDepth(-1)
-                        .error(new RuntimeException("Failed to get latest block", e))
-                        .build();
-            }
+            tipHeight = chainDataSupplier.getChainTipHeight();
+        } catch (Exception e) {
+            log.warn("Failed to get latest block for confirmation check: {}", e.getMessage());
+            return tipUnavailable(txHash, e);
+        }
 
+        try {
             // Get transaction details
-            var txInfo = chainDataSupplier.getTransactionInfo(txHash);
-
-            TrackedTransaction previousState = trackedTransactions.get(txHash);
-
-            if (txInfo.isEmpty()) {
-                // Transaction not found in chain
-                if (previousState != null && previousState.getBlockHeight() != null) {
-                    // Previously tracked in a block but now missing - ROLLBACK detected
-                    log.warn("Rollback detected for tx {}: was in block {} but now not found",
-                            txHash, previousState.getBlockHeight());
-                    return ConfirmationResult.rolledBack(txHash, previousState.getBlockHeight(), tipHeight,
-                            new RuntimeException("Transaction disappeared from chain (rollback detected)"));
-                }
-                // Not yet in any block
-                return ConfirmationResult.submitted(txHash, tipHeight);
+            return evaluate(txHash, tipHeight, chainDataSupplier.getTransactionInfo(txHash).orElse(null));
+        } catch (Exception e) {
+            log.error("Error checking confirmation status for tx {}", txHash, e);
+            return checkFailed(txHash, e);
+        }
+    }
+
+    /**
+     * Check the current confirmation status of several transactions at once.
+     * <p>
+     * The chain tip is fetched once and the transactions are looked up with a single
+     * {@link ChainDataSupplier#getTransactionInfos(Collection)} call, so the number of requests
+     * does not grow with the number of transactions (as far as the supplier supports bulk lookups).
+     *
+     * @param txHashes the transaction hashes to check
+     * @return the confirmation result of each transaction, by transaction hash
+     */
+    public Map<String, ConfirmationResult> checkStatuses(Collection<String> txHashes) {
+        long tipHeight;
+        try {
+            tipHeight = chainDataSupplier.getChainTipHeight();
+        } catch (Exception e) {
+            log.warn("Failed to get latest block for confirmation check: {}", e.getMessage());
+            Map<String, ConfirmationResult> results = new HashMap<>();
+            for (String txHash : txHashes) {
+                results.put(txHash, tipUnavailable(txHash, e));
             }
+            return results;
+        }
+        return checkStatuses(txHashes, tipHeight);
+    }
 
-            TransactionInfo tx = txInfo.get();
-            Long txBlockHeight = tx.getBlockHeight();
-            String txBlockHash = tx.getBlockHash();
+    /**
+     * Check the status of several transactions against an already known chain tip.
+     */
+    Map<String, ConfirmationResult> checkStatuses(Collection<String> txHashes, long tipHeight) {
+        Map<String, ConfirmationResult> results = new HashMap<>();
+        if (txHashes.isEmpty()) {
+            return results;
+        }
 
-            if (txBlockHeight == null) {
-                // Transaction found but block height not available (unusual)
-                return ConfirmationResult.submitted(txHash, tipHeight);
+        Map<String, TransactionInfo> infos;
+        try {
+            infos = chainDataSupplier.getTransactionInfos(txHashes);
+        } catch (Exception e) {
+            log.error("Error checking confirmation status for {} transactions", txHashes.size(), e);
+            for (String txHash : txHashes) {
+                results.put(txHash, checkFailed(txHash, e));
             }
+            return results;
+        }
 
-            // Check for block hash change (possible rollback and re-inclusion)
-            if (previousState != null && previousState.getBlockHash() != null
-                    && !previousState.getBlockHash().equals(txBlockHash)) {
-                log.info("Transaction {} was re-included: old block={}, new block={}",
-                        txHash, previousState.getBlockHash(), txBlockHash);
-            }
+        for (String txHash : txHashes) {
+            results.put(txHash, evaluate(txHash, tipHeight, infos.get(txHash)));
+        }
+        return results;
+    }
 
-            // Calculate confirmation depth
-            int depth = (int) (tipHeight - txBlockHeight);
-
-            // Determine status based on depth
-            ConfirmationStatus status;
-            if (depth < 0) {
-                // This shouldn't happen normally (tx in block ahead of tip)
-                // Could indicate timing issue or node sync problem
-                log.warn("Transaction {} has negative depth: block={}, tip={}",
-                        txHash, txBlockHeight, tipHeight);
-                status = ConfirmationStatus.IN_BLOCK;
-                depth = 0;
-            } else if (depth < config.getMinConfirmations()) {
-                status = ConfirmationStatus.IN_BLOCK;
-            } else {
-                status = ConfirmationStatus.CONFIRMED;
+    /**
+     * Derive the confirmation status of a transaction from the chain tip and its on-chain details.
+     *
+     * @param txHash the transaction hash
+     * @param tipHeight the current chain tip height
+     * @param tx the transaction details, or null if the transaction is not on chain
+     * @return the confirmation result
+     */
+    private ConfirmationResult evaluate(String txHash, long tipHeight, TransactionInfo tx) {
+        TrackedTransaction previousState = trackedTransactions.get(txHash);
+
+        if (tx == null) {
+            // Transaction not found in chain
+            if (previousState != null && previousState.getBlockHeight() != null) {
+                // Previously tracked in a block but now missing - ROLLBACK detected
+                log.warn("Rollback detected for tx {}: was in block {} but now not found",
+                        txHash, previousState.getBlockHeight());
+                return ConfirmationResult.rolledBack(txHash, previousState.getBlockHeight(), tipHeight,
+                        new RuntimeException("Transaction disappeared from chain (rollback detected)"));
             }
+            // Not yet in any block
+            return ConfirmationResult.submitted(txHash, tipHeight);
+        }
 
-            // Update tracking state
-            TrackedTransaction newState = new TrackedTransaction(
-                    txHash, txBlockHeight, txBlockHash, status, Instant.now());
-            trackedTransactions.put(txHash, newState);
+        Long txBlockHeight = tx.getBlockHeight();
+        String txBlockHash = tx.getBlockHash();
 
-            return ConfirmationResult.builder()
-                    .txHash(txHash)
-                    .status(status)
-                    .confirmationDepth(depth)
-                    .blockHeight(txBlockHeight)
-                    .blockHash(txBlockHash)
-                    .currentTipHeight(tipHeight)
-                    .build();
+        if (txBlockHeight == null) {
+            // Transaction found but block height not available (unusual)
+            return ConfirmationResult.submitted(txHash, tipHeight);
+        }
 
-        } catch (Exception e) {
-            log.error("Error checking confirmation status for tx {}", txHash, e);
-            return ConfirmationResult.builder()
-                    .txHash(txHash)
-                    .status(ConfirmationStatus.SUBMITTED)
-                    .confirmationDepth(-1)
-                    .error(e)
-                    .build();
+        // Check for block hash change (possible rollback and re-inclusion)
+        if (previousState != null && previousState.getBlockHash() != null
+                && !previousState.getBlockHash().equals(txBlockHash)) {
+            log.info("Transaction {} was re-included: old block={}, new block={}",
+                    txHash, previousState.getBlockHash(), txBlockHash);
         }
+
+        // Calculate confirmation depth
+        int depth = (int) (tipHeight - txBlockHeight);
+
+        // Determine status based on depth
+        ConfirmationStatus status;
+        if (depth < 0) {
+            // This shouldn't happen normally (tx in block ahead of tip)
+            // Could indicate timing issue or node sync problem
+            log.warn("Transaction {} has negative depth: block={}, tip={}",
+                    txHash, txBlockHeight, tipHeight);
+            status = ConfirmationStatus.IN_BLOCK;
+            depth = 0;
+        } else if (depth < config.getMinConfirmations()) {
+            status = ConfirmationStatus.IN_BLOCK;
+        } else {
+            status = ConfirmationStatus.CONFIRMED;
+        }
+
+        // Update tracking state
+        TrackedTransaction newState = new TrackedTransaction(
+                txHash, txBlockHeight, txBlockHash, status, Instant.now());
+        trackedTransactions.put(txHash, newState);
+
+        return ConfirmationResult.builder()
+                .txHash(txHash)
+                .status(status)
+                .confirmationDepth(depth)
+                .blockHeight(txBlockHeight)
+                .blockHash(txBlockHash)
+                .currentTipHeight(tipHeight)
+                .build();
+    }
+
+    private static ConfirmationResult tipUnavailable(String txHash, Exception e) {
+        return ConfirmationResult.builder()
+                .txHash(txHash)
+                .status(ConfirmationStatus.SUBMITTED)
+                .confirmationDepth(-1)
+                .error(new RuntimeException("Failed to get latest block", e))
+                .build();
+    }
+
+    private static ConfirmationResult checkFailed(String txHash, Exception e) {
+        return ConfirmationResult.builder()
+                .txHash(txHash)
+                .status(ConfirmationStatus.SUBMITTED)
+                .confirmationDepth(-1)
+                .error(e)
+                .build();
     }
 
     /**
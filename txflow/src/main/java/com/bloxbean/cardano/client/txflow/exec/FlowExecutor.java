@@ -43,6 +43,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -104,6 +105,8 @@ public class FlowExecutor implements AutoCloseable {
     private volatile RetryPolicy defaultRetryPolicy;
     private volatile ConfirmationConfig confirmationConfig;
     private volatile ConfirmationTracker confirmationTracker;
+    private volatile ConfirmationService confirmationService;
+    private volatile boolean ownsConfirmationTracker;
     private volatile RollbackStrategy rollbackStrategy = RollbackStrategy.FAIL_IMMEDIATELY;
     private volatile FlowRegistry flowRegistry;
     private volatile FlowStateStore flowStateStore;
@@ -287,6 +290,32 @@ public class FlowExecutor implements AutoCloseable {
         this.confirmationConfig = config;
         if (config != null) {
             this.confirmationTracker = new ConfirmationTracker(chainDataSupplier, config);
+            this.ownsConfirmationTracker = true;
+        }
+        return this;
+    }
+
+    /**
+     * Use a shared {@link ConfirmationService} for confirmation tracking.
+     * <p>
+     * Instead of polling each transaction from its flow thread, all transactions awaiting confirmation
+     * are polled together by the service: one chain tip request and one bulk transaction lookup per tick,
+     * with an interval adapted to the observed block time. The same service can be shared by several
+     * executors. This also enables confirmation tracking with the service's configuration, as
+     * {@link #withConfirmationConfig(ConfirmationConfig)} does.
+     * <p>
+     * The service is not closed by {@link #close()}, and its tracker state is left to the service, which
+     * removes the state of a transaction once no executor waits for it.
+     *
+     * @param service the confirmation service
+     * @return this executor
+     */
+    public FlowExecutor withConfirmationService(ConfirmationService service) {
+        this.confirmationService = service;
+        if (service != null) {
+            this.confirmationConfig = service.getConfig();
+            this.confirmationTracker = service.getTracker();
+            this.ownsConfirmationTracker = false;
         }
         return this;
     }
@@ -1213,29 +1242,31 @@ public class FlowExecutor implements AutoCloseable {
             if (cancelCheck.getAsBoolean() || Thread.currentThread().isInterrupted()) {
                 return Optional.empty();
             }
-            ConfirmationResult result = confirmationTracker.waitForConfirmation(txHash, targetStatus,
-                    (hash, confirmResult) -> {
-                        if (step == null) return;
-
-                        ConfirmationStatus currentStatus = confirmResult.getStatus();
-                        int depth = confirmResult.getConfirmationDepth();
-
-                        // Fire callbacks on status transitions
-                        if (lastStatus[0] != currentStatus) {
-                            // Transition: SUBMITTED -> IN_BLOCK
-                            if (currentStatus == ConfirmationStatus.IN_BLOCK && lastStatus[0] == ConfirmationStatus.SUBMITTED) {
-                                firstBlockHeight[0] = confirmResult.getBlockHeight();
-                                if (confirmResult.getBlockHeight() != null) {
-                                    listener.onTransactionInBlock(step, txHash, confirmResult.getBlockHeight());
-                                }
-                            }
-                            lastStatus[0] = currentStatus;
+            BiConsumer<String, ConfirmationResult> onProgress = (hash, confirmResult) -> {
+                if (step == null) return;
+
+                ConfirmationStatus currentStatus = confirmResult.getStatus();
+                int depth = confirmResult.getConfirmationDepth();
+
+                // Fire callbacks on status transitions
+                if (lastStatus[0] != currentStatus) {
+                    // Transition: SUBMITTED -> IN_BLOCK
+                    if (currentStatus == ConfirmationStatus.IN_BLOCK && lastStatus[0] == ConfirmationStatus.SUBMITTED) {
+                        firstBlockHeight[0] = confirmResult.getBlockHeight();
+                        if (confirmResult.getBlockHeight() != null) {
+                            listener.onTransactionInBlock(step, txHash, confirmResult.getBlockHeight());
                         }
+                    }
+                    lastStatus[0] = currentStatus;
+                }
 
-                        // Always fire depth changed callback when depth changes
-                        listener.onConfirmationDepthChanged(step, txHash, depth, currentStatus);
-                    },
-                    cancelCheck);
+                // Always fire depth changed callback when depth changes
+                listener.onConfirmationDepthChanged(step, txHash, depth, currentStatus);
+            };
+            ConfirmationService service = confirmationService;
+            ConfirmationResult result = service != null
+                    ? service.awaitConfirmation(txHash, targetStatus, onProgress, cancelCheck)
+                    : confirmationTracker.waitForConfirmation(txHash, targetStatus, onProgress, cancelCheck);
 
             // Handle rollback
             if (result.isRolledBack()) {
@@ -2876,7 +2907,8 @@ public class FlowExecutor implements AutoCloseable {
     /**
      * Close this executor and release associated resources.
      * <p>
-     * Cancels all running flows, clears active flow tracking and confirmation tracker state.
+     * Cancels all running flows, clears active flow tracking and the confirmation tracker state. The tracker
+     * of a shared {@link ConfirmationService} is not cleared, as other executors may be waiting on it.
      */
     @Override
     public void close() {
@@ -2885,7 +2917,7 @@ public class FlowExecutor implements AutoCloseable {
         }
         activeHandles.clear();
         activeFlowIds.clear();
-        if (confirmationTracker != null) {
+        if (confirmationTracker != null && ownsConfirmationTracker) {
             confirmationTracker.clearTracking();
         }
     }
@@ -0,0 +1,288 @@
+package com.bloxbean.cardano.client.txflow.exec;
+
+import com.bloxbean.cardano.client.api.ChainDataSupplier;
+import com.bloxbean.cardano.client.api.exception.ApiException;
+import com.bloxbean.cardano.client.api.model.ChainTip;
+import com.bloxbean.cardano.client.api.model.TransactionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfirmationServiceTest {
+
+    private final FakeChain chain = new FakeChain();
+    private ConfirmationService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    void pollsAllWatchedTransactionsTogether() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 100;
+
+        List<CompletableFuture<ConfirmationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            chain.txs.put("tx" + i, info("tx" + i, 95));
+            futures.add(service.track("tx" + i));
+        }
+
+        for (CompletableFuture<ConfirmationResult> future : futures) {
+            ConfirmationResult result = future.get(5, TimeUnit.SECONDS);
+            assertEquals(ConfirmationStatus.CONFIRMED, result.getStatus());
+        }
+        assertEquals(0, chain.singleLookups.get(), "no per-transaction lookups");
+        assertEquals(chain.tipCalls.get(), chain.bulkLookups.get(), "one bulk lookup per tick");
+        assertTrue(chain.tipCalls.get() < 50, "tip fetched once per tick, not per transaction");
+        assertEquals(0, service.getWatchedCount());
+    }
+
+    @Test
+    void reportsProgressUntilTargetReached() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 100;
+        chain.txs.put("tx1", info("tx1", 100));
+
+        List<Integer> depths = new CopyOnWriteArrayList<>();
+        CompletableFuture<ConfirmationResult> future = service.track("tx1", ConfirmationStatus.CONFIRMED,
+                (hash, result) -> depths.add(result.getConfirmationDepth()), () -> false);
+
+        waitUntil(() -> !depths.isEmpty());
+        chain.tip = 103;
+
+        ConfirmationResult result = future.get(5, TimeUnit.SECONDS);
+        assertEquals(ConfirmationStatus.CONFIRMED, result.getStatus());
+        assertEquals(List.of(0, 3), depths);
+    }
+
+    @Test
+    void detectsRollback() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 100;
+        chain.txs.put("tx1", info("tx1", 100));
+
+        AtomicBoolean seenInBlock = new AtomicBoolean();
+        CompletableFuture<ConfirmationResult> future = service.track("tx1", ConfirmationStatus.CONFIRMED,
+                (hash, result) -> seenInBlock.set(result.getStatus() == ConfirmationStatus.IN_BLOCK), () -> false);
+
+        waitUntil(seenInBlock::get);
+        chain.txs.remove("tx1");
+        chain.tip = 101;
+
+        ConfirmationResult result = future.get(5, TimeUnit.SECONDS);
+        assertTrue(result.isRolledBack());
+    }
+
+    @Test
+    void detectsRollbackByForkAtSameHeight() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 100;
+        chain.tipHash = "block100";
+        chain.txs.put("tx1", info("tx1", 100));
+
+        AtomicBoolean seenInBlock = new AtomicBoolean();
+        CompletableFuture<ConfirmationResult> future = service.track("tx1", ConfirmationStatus.CONFIRMED,
+                (hash, result) -> seenInBlock.set(result.getStatus() == ConfirmationStatus.IN_BLOCK), () -> false);
+
+        waitUntil(seenInBlock::get);
+        chain.txs.remove("tx1");
+        chain.tipHash = "fork100";
+
+        ConfirmationResult result = future.get(5, TimeUnit.SECONDS);
+        assertTrue(result.isRolledBack());
+    }
+
+    @Test
+    void stopsTrackingWhenLastWatchCompletes() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 100;
+        chain.txs.put("tx1", info("tx1", 100));
+
+        AtomicBoolean seenInBlock = new AtomicBoolean();
+        CompletableFuture<ConfirmationResult> first = service.track("tx1");
+        CompletableFuture<ConfirmationResult> second = service.track("tx1", ConfirmationStatus.CONFIRMED,
+                (hash, result) -> seenInBlock.set(result.getStatus() == ConfirmationStatus.IN_BLOCK), () -> false);
+        waitUntil(seenInBlock::get);
+
+        // The other watch still needs the state for rollback detection
+        first.cancel(false);
+        assertEquals(1, service.getTracker().getTrackedCount());
+        chain.txs.remove("tx1");
+        chain.tip = 101;
+        assertTrue(second.get(5, TimeUnit.SECONDS).isRolledBack());
+
+        waitUntil(() -> service.getTracker().getTrackedCount() == 0);
+        chain.txs.put("tx2", info("tx2", 95));
+        assertEquals(ConfirmationStatus.CONFIRMED, service.track("tx2").get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(0, service.getTracker().getTrackedCount());
+    }
+
+    @Test
+    void timesOut() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMillis(100)));
+        chain.tip = 100;
+
+        ConfirmationResult result = service.track("missing").get(5, TimeUnit.SECONDS);
+
+        assertEquals(ConfirmationStatus.SUBMITTED, result.getStatus());
+        assertInstanceOf(ConfirmationTimeoutException.class, result.getError());
+    }
+
+    @Test
+    void stopsOnCancellation() throws Exception {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 100;
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        CompletableFuture<ConfirmationResult> future = service.track("missing", ConfirmationStatus.CONFIRMED,
+                null, cancelled::get);
+        waitUntil(() -> chain.bulkLookups.get() > 0);
+        cancelled.set(true);
+
+        ConfirmationResult result = future.get(5, TimeUnit.SECONDS);
+        assertNotNull(result.getError());
+        assertEquals("Flow cancelled", result.getError().getMessage());
+        assertEquals(0, service.getWatchedCount());
+    }
+
+    @Test
+    void awaitConfirmationBlocksUntilDone() {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        chain.tip = 200;
+        chain.txs.put("tx1", info("tx1", 150));
+
+        ConfirmationResult result = service.awaitConfirmation("tx1", ConfirmationStatus.IN_BLOCK, null, () -> false);
+
+        assertEquals(ConfirmationStatus.CONFIRMED, result.getStatus());
+        assertTrue(result.hasReached(ConfirmationStatus.IN_BLOCK));
+    }
+
+    @Test
+    void adaptsPollIntervalToObservedBlockTime() throws Exception {
+        ConfirmationConfig config = ConfirmationConfig.builder()
+                .minConfirmations(3)
+                .checkInterval(Duration.ofMillis(10))
+                .minCheckInterval(Duration.ofMillis(20))
+                .maxCheckInterval(Duration.ofMillis(50))
+                .timeout(Duration.ofMinutes(1))
+                .build();
+        service = new ConfirmationService(chain, config);
+        chain.tip = 100;
+        chain.autoAdvanceEvery = 2; // a "block" every two polls, i.e. shorter than the minimum
+
+        service.track("missing");
+        waitUntil(() -> service.getObservedBlockInterval() != null);
+        waitUntil(() -> Duration.ofMillis(20).equals(service.getPollInterval()));
+
+        chain.autoAdvanceEvery = 0;
+        chain.failTip = true;
+        int failures = chain.tipCalls.get();
+        waitUntil(() -> chain.tipCalls.get() > failures + 3);
+        // Backs off to the maximum on failures
+        waitUntil(() -> Duration.ofMillis(50).equals(service.getPollInterval()));
+    }
+
+    @Test
+    void closeCancelsPendingWatches() {
+        service = new ConfirmationService(chain, config(Duration.ofMinutes(1)));
+        CompletableFuture<ConfirmationResult> future = service.track("missing");
+
+        service.close();
+
+        assertTrue(future.isCancelled());
+        assertThrows(IllegalStateException.class, () -> service.track("other"));
+    }
+
+    // Helpers
+
+    private static ConfirmationConfig config(Duration timeout) {
+        return ConfirmationConfig.builder()
+                .minConfirmations(3)
+                .checkInterval(Duration.ofMillis(10))
+                .minCheckInterval(Duration.ofMillis(10))
+                .maxCheckInterval(Duration.ofMillis(50))
+                .timeout(timeout)
+                .build();
+    }
+
+    private static TransactionInfo info(String txHash, long height) {
+        return TransactionInfo.builder()
+                .txHash(txHash)
+                .blockHeight(height)
+                .blockHash("block" + height)
+                .build();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Chain data supplier counting the calls made by the service.
+     */
+    private static class FakeChain implements ChainDataSupplier {
+        final Map<String, TransactionInfo> txs = new ConcurrentHashMap<>();
+        final AtomicInteger tipCalls = new AtomicInteger();
+        final AtomicInteger bulkLookups = new AtomicInteger();
+        final AtomicInteger singleLookups = new AtomicInteger();
+        volatile long tip;
+        volatile String tipHash;
+        volatile boolean failTip;
+        volatile int autoAdvanceEvery;
+
+        @Override
+        public long getChainTipHeight() throws ApiException {
+            int calls = tipCalls.incrementAndGet();
+            if (failTip) {
+                throw new ApiException("tip unavailable");
+            }
+            int every = autoAdvanceEvery;
+            if (every > 0 && calls % every == 0) {
+                tip++;
+            }
+            return tip;
+        }
+
+        @Override
+        public ChainTip getChainTip() throws ApiException {
+            return new ChainTip(getChainTipHeight(), tipHash);
+        }
+
+        @Override
+        public Optional<TransactionInfo> getTransactionInfo(String txHash) {
+            singleLookups.incrementAndGet();
+            return Optional.ofNullable(txs.get(txHash));
+        }
+
+        @Override
+        public Map<String, TransactionInfo> getTransactionInfos(Collection<String> txHashes) {
+            bulkLookups.incrementAndGet();
+            Map<String, TransactionInfo> result = new HashMap<>();
+            for (String txHash : txHashes) {
+                TransactionInfo info = txs.get(txHash);
+                if (info != null) {
+                    result.put(txHash, info);
+                }
+            }
+            return result;
+        }
+    }
+}
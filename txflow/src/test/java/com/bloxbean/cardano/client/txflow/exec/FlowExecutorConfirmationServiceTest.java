@@ -0,0 +1,146 @@
+package com.bloxbean.cardano.client.txflow.exec;
+
+import com.bloxbean.cardano.client.account.Account;
+import com.bloxbean.cardano.client.api.ChainDataSupplier;
+import com.bloxbean.cardano.client.api.TransactionProcessor;
+import com.bloxbean.cardano.client.api.UtxoSupplier;
+import com.bloxbean.cardano.client.api.model.Amount;
+import com.bloxbean.cardano.client.api.model.ProtocolParams;
+import com.bloxbean.cardano.client.api.model.Result;
+import com.bloxbean.cardano.client.api.model.TransactionInfo;
+import com.bloxbean.cardano.client.api.model.Utxo;
+import com.bloxbean.cardano.client.function.helper.SignerProviders;
+import com.bloxbean.cardano.client.quicktx.Tx;
+import com.bloxbean.cardano.client.txflow.FlowStep;
+import com.bloxbean.cardano.client.txflow.TxFlow;
+import com.bloxbean.cardano.client.txflow.result.FlowResult;
+import com.bloxbean.cardano.client.txflow.result.FlowStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for FlowExecutors sharing a {@link ConfirmationService}.
+ */
+class FlowExecutorConfirmationServiceTest {
+    private static final String TX_HASH = "a6cbe6cadecd3f89b60e08e68e5e6c7d72d730aaa1ad21431590f7e6643438ef";
+
+    @Mock
+    private UtxoSupplier utxoSupplier;
+    @Mock
+    private TransactionProcessor transactionProcessor;
+
+    private final Account senderAccount = new Account();
+    private final String sender = senderAccount.baseAddress();
+    private final String receiver = new Account().baseAddress();
+    private final FakeChain chain = new FakeChain();
+    private ProtocolParams protocolParams;
+    private ConfirmationService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        protocolParams = new ObjectMapper().readValue(
+                getClass().getClassLoader().getResourceAsStream("protocol-params.json"), ProtocolParams.class);
+
+        Utxo utxo = Utxo.builder()
+                .address(sender)
+                .txHash("5c6e2d88f7eeff25871e3572fdb994df65170aa406b211652537ee0c2c360a3f")
+                .outputIndex(0)
+                .amount(List.of(Amount.ada(100)))
+                .build();
+        when(utxoSupplier.getPage(anyString(), anyInt(), any(), any())).thenReturn(List.of(utxo));
+        when(utxoSupplier.getTxOutput(eq(TX_HASH), anyInt())).thenReturn(Optional.of(utxo));
+        when(transactionProcessor.submitTransaction(any(byte[].class)))
+                .thenReturn(Result.success(TX_HASH).withValue(TX_HASH));
+
+        service = new ConfirmationService(chain, ConfirmationConfig.builder()
+                .minConfirmations(3)
+                .checkInterval(Duration.ofMillis(10))
+                .minCheckInterval(Duration.ofMillis(10))
+                .maxCheckInterval(Duration.ofMillis(50))
+                .timeout(Duration.ofSeconds(30))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void closingOneExecutor_keepsRollbackDetectionOfOthers() throws Exception {
+        chain.tip = 100;
+        chain.txs.put(TX_HASH, TransactionInfo.builder().txHash(TX_HASH).blockHeight(100L).blockHash("block100").build());
+
+        CountDownLatch inBlock = new CountDownLatch(1);
+        CountDownLatch rolledBack = new CountDownLatch(1);
+        FlowExecutor other = FlowExecutor.create(utxoSupplier, () -> protocolParams, transactionProcessor, chain)
+                .withConfirmationService(service);
+        FlowExecutor executor = FlowExecutor.create(utxoSupplier, () -> protocolParams, transactionProcessor, chain)
+                .withConfirmationService(service)
+                .withListener(new FlowListener() {
+                    @Override
+                    public void onConfirmationDepthChanged(FlowStep step, String transactionHash, int depth,
+                                                           ConfirmationStatus status) {
+                        if (status == ConfirmationStatus.IN_BLOCK) {
+                            inBlock.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void onTransactionRolledBack(FlowStep step, String transactionHash, long previousBlockHeight) {
+                        rolledBack.countDown();
+                    }
+                });
+
+        FlowHandle handle = executor.execute(TxFlow.builder("shared-service")
+                .addStep(FlowStep.builder("pay")
+                        .withTxContext(builder -> builder.compose(new Tx()
+                                .payToAddress(receiver, Amount.ada(10))
+                                .from(sender))
+                                .withSigner(SignerProviders.signerFrom(senderAccount)))
+                        .build())
+                .build());
+        assertTrue(inBlock.await(10, TimeUnit.SECONDS), "transaction should reach IN_BLOCK");
+
+        other.close();
+        chain.txs.remove(TX_HASH);
+        chain.tip = 101;
+
+        assertTrue(rolledBack.await(5, TimeUnit.SECONDS), "rollback should still be detected");
+        FlowResult result = handle.await(Duration.ofSeconds(5));
+        assertEquals(FlowStatus.FAILED, result.getStatus());
+        executor.close();
+    }
+
+    private static class FakeChain implements ChainDataSupplier {
+        final Map<String, TransactionInfo> txs = new ConcurrentHashMap<>();
+        volatile long tip;
+
+        @Override
+        public long getChainTipHeight() {
+            return tip;
+        }
+
+        @Override
+        public Optional<TransactionInfo> getTransactionInfo(String txHash) {
+            return Optional.ofNullable(txs.get(txHash));
+        }
+    }
+}
@@ -10,13 +10,16 @@ import com.bloxbean.cardano.vds.rdbms.common.KeyCodec;
 import com.bloxbean.cardano.vds.rdbms.dialect.SqlDialect;
 
 import javax.sql.DataSource;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,6 +38,10 @@ public class RdbmsJmtStore implements JmtStore {
     private final byte keyPrefix;
     private final KeyCodec keyCodec;
     private static final byte NODE_KEY_PREFIX = 0x4E; // 'N'
+    // Rows per multi-row insert of a bulk load; 5 parameters per row stay below SQLite's limit of 999
+    private static final int BULK_INSERT_ROWS = 128;
+    // Paths per multi-path floor lookup, a power of two; 4 parameters per path stay below SQLite's limit of 999
+    private static final int MULTI_GET_PATHS = 64;
 
     /**
      * Creates a JMT store with the specified configuration and namespace.
@@ -106,36 +113,15 @@ public class RdbmsJmtStore implements JmtStore {
 
     @Override
     public Optional<NodeEntry> getNode(long version, NibblePath path) {
-        // Floor lookup: newest node on path with version <= requested version
         // CRITICAL: Must filter stale nodes like InMemoryJmtStore does
-        String sql = "SELECT node_path, version, node_data FROM " + schema.nodesTable() +
-                     " WHERE namespace = ? AND node_path = ? AND version <= ? " +
-                     "  AND NOT EXISTS (" +
-                     "    SELECT 1 FROM " + schema.staleTable() +
-                     "    WHERE " + schema.staleTable() + ".namespace = " + schema.nodesTable() + ".namespace" +
-                     "      AND " + schema.staleTable() + ".node_path = " + schema.nodesTable() + ".node_path" +
-                     "      AND " + schema.staleTable() + ".node_version = " + schema.nodesTable() + ".version" +
-                     "      AND " + schema.staleTable() + ".stale_since <= ?" +
-                     "  )" +
-                     " ORDER BY version DESC LIMIT 1";
-
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(floorNodeSql())) {
 
-            stmt.setInt(1, keyPrefix & 0xFF);
-            keyCodec.setKey(stmt, 2, encodePath(path));
-            stmt.setLong(3, version);
-            stmt.setLong(4, version); // stale_since parameter
+            bindFloorNode(stmt, 1, version, path);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    byte[] pathBytes = keyCodec.getKey(rs, "node_path");
-                    long nodeVersion = rs.getLong("version");
-                    byte[] nodeData = keyCodec.getKey(rs, "node_data");
-
-                    NodeKey nodeKey = NodeKey.of(decodePath(pathBytes), nodeVersion);
-                    JmtNode node = JmtEncoding.decode(nodeData);
-                    return Optional.of(new NodeEntry(nodeKey, node));
+                    return Optional.of(readNodeEntry(rs));
                 }
                 return Optional.empty();
             }
@@ -144,6 +130,95 @@ public class RdbmsJmtStore implements JmtStore {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs the floor lookups of up to {@value #MULTI_GET_PATHS} paths as one {@code UNION ALL}
+     * query, so fetching the children of an internal node takes one round trip.</p>
+     */
+    @Override
+    public List<Optional<NodeEntry>> getNodes(long version, List<NibblePath> paths) {
+        if (paths.size() <= 1) {
+            return JmtStore.super.getNodes(version, paths);
+        }
+        List<Optional<NodeEntry>> nodes = new ArrayList<>(Collections.nCopies(paths.size(), Optional.empty()));
+        Map<ByteBuffer, List<Integer>> positions = new HashMap<>();
+        List<NibblePath> distinct = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i++) {
+            ByteBuffer pathKey = ByteBuffer.wrap(encodePath(paths.get(i)));
+            List<Integer> at = positions.get(pathKey);
+            if (at == null) {
+                at = new ArrayList<>(1);
+                positions.put(pathKey, at);
+                distinct.add(paths.get(i));
+            }
+            at.add(i);
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (int from = 0; from < distinct.size(); from += MULTI_GET_PATHS) {
+                int count = Math.min(MULTI_GET_PATHS, distinct.size() - from);
+                // Round up to a power of two, repeating the last path, so few distinct statements are prepared
+                int slots = Integer.bitCount(count) == 1 ? count : Integer.highestOneBit(count) << 1;
+                String sql = String.join(" UNION ALL ",
+                        Collections.nCopies(slots, "SELECT * FROM (" + floorNodeSql() + ") f"));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < slots; i++) {
+                        bindFloorNode(stmt, 1 + i * 4, version, distinct.get(from + Math.min(i, count - 1)));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            ByteBuffer pathKey = ByteBuffer.wrap(keyCodec.getKey(rs, "node_path"));
+                            List<Integer> at = positions.get(pathKey);
+                            if (at == null) continue;
+                            Optional<NodeEntry> entry = Optional.of(readNodeEntry(rs));
+                            for (int index : at) {
+                                nodes.set(index, entry);
+                            }
+                        }
+                    }
+                }
+            }
+            return nodes;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to get nodes", e);
+        }
+    }
+
+    /**
+     * Floor lookup: newest node on a path with version <= requested version, skipping nodes
+     * stale as of that version. Parameters: namespace, node_path, version, version.
+     */
+    private String floorNodeSql() {
+        return "SELECT node_path, version, node_data FROM " + schema.nodesTable() +
+               " WHERE namespace = ? AND node_path = ? AND version <= ? " +
+               "  AND NOT EXISTS (" +
+               "    SELECT 1 FROM " + schema.staleTable() +
+               "    WHERE " + schema.staleTable() + ".namespace = " + schema.nodesTable() + ".namespace" +
+               "      AND " + schema.staleTable() + ".node_path = " + schema.nodesTable() + ".node_path" +
+               "      AND " + schema.staleTable() + ".node_version = " + schema.nodesTable() + ".version" +
+               "      AND " + schema.staleTable() + ".stale_since <= ?" +
+               "  )" +
+               " ORDER BY version DESC LIMIT 1";
+    }
+
+    private void bindFloorNode(PreparedStatement stmt, int index, long version, NibblePath path) throws SQLException {
+        stmt.setInt(index, keyPrefix & 0xFF);
+        keyCodec.setKey(stmt, index + 1, encodePath(path));
+        stmt.setLong(index + 2, version);
+        stmt.setLong(index + 3, version); // stale_since parameter
+    }
+
+    private NodeEntry readNodeEntry(ResultSet rs) throws SQLException {
+        byte[] pathBytes = keyCodec.getKey(rs, "node_path");
+        long nodeVersion = rs.getLong("version");
+        byte[] nodeData = keyCodec.getKey(rs, "node_data");
+
+        NodeKey nodeKey = NodeKey.of(decodePath(pathBytes), nodeVersion);
+        return new NodeEntry(nodeKey, JmtEncoding.decode(nodeData));
+    }
+
     @Override
     public Optional<JmtNode> getNode(NodeKey nodeKey) {
         // NO stale filtering here - this is exact lookup by NodeKey
@@ -240,6 +315,18 @@ public class RdbmsJmtStore implements JmtStore {
         return new RdbmsCommitBatch(version);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Nodes and values are streamed to the database with multi-row INSERT statements of
+     * {@value #BULK_INSERT_ROWS} rows in one transaction, instead of being buffered until
+     * {@link CommitBatch#commit()}. Closing an uncommitted batch rolls the transaction back.</p>
+     */
+    @Override
+    public CommitBatch beginBulkLoad(long version) {
+        return new RdbmsBulkLoadBatch(version);
+    }
+
     @Override
     public List<NodeKey> staleNodesUpTo(long versionInclusive) {
         String sql = "SELECT node_path, node_version FROM " + schema.staleTable() +
@@ -348,6 +435,39 @@ public class RdbmsJmtStore implements JmtStore {
         // DataSource is managed externally, no cleanup needed here
     }
 
+    private void storeRootHash(Connection conn, long version, byte[] rootHash) throws SQLException {
+        // Insert into roots table
+        String insertRootSql = "INSERT INTO " + schema.rootsTable() +
+                               " (namespace, version, root_hash) VALUES (?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(insertRootSql)) {
+            stmt.setInt(1, keyPrefix & 0xFF);
+            stmt.setLong(2, version);
+            keyCodec.setKey(stmt, 3, rootHash);
+            stmt.executeUpdate();
+        }
+
+        // Upsert into latest table
+        String upsertSql = dialect.upsertLatestSql(schema.latestTable());
+        try (PreparedStatement stmt = conn.prepareStatement(upsertSql)) {
+            stmt.setInt(1, keyPrefix & 0xFF);
+            stmt.setLong(2, version);
+            keyCodec.setKey(stmt, 3, rootHash);
+            stmt.executeUpdate();
+        }
+    }
+
+    private void insertStaleMarker(Connection conn, long version, NodeKey nodeKey) throws SQLException {
+        String sql = "INSERT INTO " + schema.staleTable() +
+                     " (namespace, stale_since, node_path, node_version) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, keyPrefix & 0xFF);
+            stmt.setLong(2, version);
+            keyCodec.setKey(stmt, 3, encodePath(nodeKey.path()));
+            stmt.setLong(4, nodeKey.version());
+            stmt.executeUpdate();
+        }
+    }
+
     private byte[] encodePath(NibblePath path) {
         return NodeKey.of(path, 0L).toBytes();
     }
@@ -447,15 +567,7 @@ public class RdbmsJmtStore implements JmtStore {
 
                     // Write stale markers
                     for (NodeKey nodeKey : staleNodes) {
-                        String sql = "INSERT INTO " + schema.staleTable() +
-                                     " (namespace, stale_since, node_path, node_version) VALUES (?, ?, ?, ?)";
-                        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                            stmt.setInt(1, keyPrefix & 0xFF);
-                            stmt.setLong(2, version);
-                            keyCodec.setKey(stmt, 3, encodePath(nodeKey.path()));
-                            stmt.setLong(4, nodeKey.version());
-                            stmt.executeUpdate();
-                        }
+                        insertStaleMarker(conn, version, nodeKey);
                     }
 
                     // Write value updates
@@ -492,7 +604,7 @@ public class RdbmsJmtStore implements JmtStore {
 
                     // Store root hash
                     if (rootHash != null) {
-                        storeRootHash(conn);
+                        storeRootHash(conn, version, rootHash);
                     }
 
                     conn.commit();
@@ -506,31 +618,206 @@ public class RdbmsJmtStore implements JmtStore {
             }
         }
 
-        private void storeRootHash(Connection conn) throws SQLException {
-            // Insert into roots table
-            String insertRootSql = "INSERT INTO " + schema.rootsTable() +
-                                   " (namespace, version, root_hash) VALUES (?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(insertRootSql)) {
-                stmt.setInt(1, keyPrefix & 0xFF);
-                stmt.setLong(2, version);
-                keyCodec.setKey(stmt, 3, rootHash);
-                stmt.executeUpdate();
+        @Override
+        public void close() {
+            operations.clear();
+        }
+    }
+
+    // ========== Inner Class: Bulk Load Implementation ==========
+
+    private class RdbmsBulkLoadBatch implements CommitBatch {
+        private final long version;
+        private final Connection conn;
+        private final MultiRowInsert nodes;
+        private final MultiRowInsert values;
+        private final MultiRowInsert tombstones;
+        private final List<NodeKey> staleNodes = new ArrayList<>();
+        private byte[] rootHash;
+        private boolean committed;
+
+        private RdbmsBulkLoadBatch(long version) {
+            this.version = version;
+            Connection c = null;
+            try {
+                c = dataSource.getConnection();
+                c.setAutoCommit(false);
+            } catch (SQLException e) {
+                if (c != null) {
+                    try {
+                        c.close();
+                    } catch (SQLException closeEx) {
+                        e.addSuppressed(closeEx);
+                    }
+                }
+                throw new RuntimeException("Failed to start bulk load", e);
             }
+            this.conn = c;
+            this.nodes = new MultiRowInsert(conn, schema.nodesTable(),
+                    "namespace, node_path, version, node_data", "?, ?, ?, ?");
+            this.values = new MultiRowInsert(conn, schema.valuesTable(),
+                    "namespace, key_hash, version, value_data, is_tombstone", "?, ?, ?, ?, FALSE");
+            this.tombstones = new MultiRowInsert(conn, schema.valuesTable(),
+                    "namespace, key_hash, version, value_data, is_tombstone", "?, ?, ?, NULL, TRUE");
+        }
 
-            // Upsert into latest table
-            String upsertSql = dialect.upsertLatestSql(schema.latestTable());
-            try (PreparedStatement stmt = conn.prepareStatement(upsertSql)) {
-                stmt.setInt(1, keyPrefix & 0xFF);
-                stmt.setLong(2, version);
-                keyCodec.setKey(stmt, 3, rootHash);
-                stmt.executeUpdate();
+        @Override
+        public void putNode(NodeKey nodeKey, JmtNode node) {
+            nodes.add((stmt, idx) -> {
+                stmt.setInt(idx++, keyPrefix & 0xFF);
+                keyCodec.setKey(stmt, idx++, encodePath(nodeKey.path()));
+                stmt.setLong(idx++, nodeKey.version());
+                keyCodec.setKey(stmt, idx++, node.encode());
+                return idx;
+            });
+        }
+
+        @Override
+        public void markStale(NodeKey nodeKey) {
+            staleNodes.add(nodeKey);
+        }
+
+        @Override
+        public void putValue(byte[] keyHash, byte[] value) {
+            values.add((stmt, idx) -> {
+                stmt.setInt(idx++, keyPrefix & 0xFF);
+                keyCodec.setKey(stmt, idx++, keyHash);
+                stmt.setLong(idx++, version);
+                keyCodec.setKey(stmt, idx++, value);
+                return idx;
+            });
+        }
+
+        @Override
+        public void deleteValue(byte[] keyHash) {
+            tombstones.add((stmt, idx) -> {
+                stmt.setInt(idx++, keyPrefix & 0xFF);
+                keyCodec.setKey(stmt, idx++, keyHash);
+                stmt.setLong(idx++, version);
+                return idx;
+            });
+        }
+
+        @Override
+        public void setRootHash(byte[] rootHash) {
+            this.rootHash = rootHash;
+        }
+
+        @Override
+        public void commit() {
+            if (committed) {
+                throw new IllegalStateException("Commit already applied");
+            }
+            try {
+                nodes.finish();
+                values.finish();
+                tombstones.finish();
+                for (NodeKey nodeKey : staleNodes) {
+                    insertStaleMarker(conn, version, nodeKey);
+                }
+                if (rootHash != null) {
+                    storeRootHash(conn, version, rootHash);
+                }
+                conn.commit();
+                committed = true;
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to commit bulk load", e);
+            } finally {
+                close();
             }
         }
 
         @Override
         public void close() {
-            operations.clear();
+            try {
+                if (!committed && !conn.isClosed()) {
+                    conn.rollback();
+                }
+            } catch (SQLException e) {
+                // Nothing to roll back to; the connection is closed below
+            } finally {
+                nodes.close();
+                values.close();
+                tombstones.close();
+                try {
+                    conn.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Buffers rows and inserts them {@value #BULK_INSERT_ROWS} at a time with one statement.
+     */
+    private final class MultiRowInsert {
+        private final Connection conn;
+        private final String table;
+        private final String columns;
+        private final String placeholders;
+        private final List<RowBinder> rows = new ArrayList<>(BULK_INSERT_ROWS);
+        private PreparedStatement fullInsert;
+
+        private MultiRowInsert(Connection conn, String table, String columns, String placeholders) {
+            this.conn = conn;
+            this.table = table;
+            this.columns = columns;
+            this.placeholders = placeholders;
+        }
+
+        void add(RowBinder row) {
+            rows.add(row);
+            if (rows.size() == BULK_INSERT_ROWS) {
+                try {
+                    if (fullInsert == null) {
+                        fullInsert = conn.prepareStatement(sql(BULK_INSERT_ROWS));
+                    }
+                    execute(fullInsert);
+                } catch (SQLException e) {
+                    throw new RuntimeException("Bulk insert into " + table + " failed", e);
+                }
+            }
         }
+
+        void finish() throws SQLException {
+            if (!rows.isEmpty()) {
+                try (PreparedStatement stmt = conn.prepareStatement(sql(rows.size()))) {
+                    execute(stmt);
+                }
+            }
+        }
+
+        void close() {
+            if (fullInsert != null) {
+                try {
+                    fullInsert.close();
+                } catch (SQLException ignored) {
+                }
+            }
+            rows.clear();
+        }
+
+        private void execute(PreparedStatement stmt) throws SQLException {
+            int idx = 1;
+            for (RowBinder row : rows) {
+                idx = row.bind(stmt, idx);
+            }
+            stmt.executeUpdate();
+            rows.clear();
+        }
+
+        private String sql(int count) {
+            return "INSERT INTO " + table + " (" + columns + ") VALUES (" +
+                   String.join("), (", Collections.nCopies(count, placeholders)) + ")";
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        /**
+         * Binds the parameters of one row starting at {@code idx} and returns the next index.
+         */
+        int bind(PreparedStatement stmt, int idx) throws SQLException;
     }
 
     @FunctionalInterface
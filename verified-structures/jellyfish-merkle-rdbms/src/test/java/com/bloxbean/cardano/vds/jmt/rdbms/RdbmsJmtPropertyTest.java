@@ -1,5 +1,6 @@
 package com.bloxbean.cardano.vds.jmt.rdbms;
 
+import com.bloxbean.cardano.vds.core.NibblePath;
 import com.bloxbean.cardano.vds.core.api.HashFunction;
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
 import com.bloxbean.cardano.vds.core.util.Bytes;
@@ -8,6 +9,7 @@ import com.bloxbean.cardano.vds.jmt.JmtProof;
 import com.bloxbean.cardano.vds.jmt.JmtProofVerifier;
 import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
 import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.JmtStore;
 import com.bloxbean.cardano.vds.rdbms.common.DbConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -247,6 +249,17 @@ class RdbmsJmtPropertyTest {
             // Verify multi-level proofs exist
             assertTrue(existsMultiLevelProof(tree, latestSnapshot.version, keyPool),
                     "Expected at least one multi-level proof with SQLite backend");
+
+            // Multi-path floor lookups agree with single lookups
+            List<NibblePath> paths = new ArrayList<>();
+            for (int nibble = 0; nibble < 16; nibble++) {
+                paths.add(NibblePath.of(nibble));
+            }
+            List<Optional<JmtStore.NodeEntry>> nodes = store.getNodes(latestSnapshot.version, paths);
+            for (int i = 0; i < paths.size(); i++) {
+                assertEquals(store.getNode(latestSnapshot.version, paths.get(i)).map(JmtStore.NodeEntry::nodeKey),
+                        nodes.get(i).map(JmtStore.NodeEntry::nodeKey), "path " + paths.get(i));
+            }
         }
     }
 
@@ -1,10 +1,13 @@
 package com.bloxbean.cardano.vds.jmt.rdbms;
 
+import com.bloxbean.cardano.vds.core.NibblePath;
 import com.bloxbean.cardano.vds.core.api.HashFunction;
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
 import com.bloxbean.cardano.vds.jmt.JellyfishMerkleTree;
+import com.bloxbean.cardano.vds.jmt.JmtBulkLoader;
 import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
 import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
 import com.bloxbean.cardano.vds.jmt.store.JmtStore;
 import com.bloxbean.cardano.vds.rdbms.common.DbConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -14,8 +17,11 @@ import org.junit.jupiter.api.Test;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -242,6 +248,72 @@ class RdbmsJmtStoreTest {
         }
     }
 
+    @Test
+    void bulkLoadMatchesIncrementalTree() {
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put(bytes("key-" + i), bytes("v" + i));
+        }
+        JellyfishMerkleTree incremental = new JellyfishMerkleTree(new InMemoryJmtStore(), COMMITMENTS, HASH);
+        byte[] expectedV0 = incremental.put(0, entries).rootHash();
+        Map<byte[], byte[]> v1 = new LinkedHashMap<>();
+        v1.put(bytes("key-0"), bytes("updated"));
+        byte[] expectedV1 = incremental.put(1, v1).rootHash();
+
+        try (JmtBulkLoader loader = new JmtBulkLoader(store, COMMITMENTS, HASH, 0)) {
+            assertArrayEquals(expectedV0, loader.load(entries).rootHash());
+        }
+        assertArrayEquals(expectedV0, store.rootHash(0).orElseThrow());
+
+        JellyfishMerkleTree tree = new JellyfishMerkleTree(store, COMMITMENTS, HASH);
+        assertArrayEquals(bytes("v999"), tree.get(bytes("key-999"), 0).orElseThrow());
+        assertArrayEquals(expectedV1, tree.put(1, v1).rootHash());
+        assertEquals(1000, tree.stream(1).count());
+    }
+
+    @Test
+    void bulkLoadClosedWithoutCommitIsRolledBack() {
+        try (JmtStore.CommitBatch batch = store.beginBulkLoad(0)) {
+            batch.putValue(HASH.digest(bytes("alice")), bytes("100"));
+            batch.setRootHash(new byte[32]);
+        }
+        assertTrue(store.latestRoot().isEmpty());
+        assertTrue(store.getValue(HASH.digest(bytes("alice"))).isEmpty());
+    }
+
+    @Test
+    void getNodesMatchesSingleLookups() {
+        JellyfishMerkleTree tree = new JellyfishMerkleTree(store, COMMITMENTS, HASH);
+        for (int version = 0; version < 4; version++) {
+            Map<byte[], byte[]> updates = new LinkedHashMap<>();
+            for (int i = version * 50; i < version * 50 + 200; i++) {
+                updates.put(bytes("key-" + i), bytes("v" + version + "-" + i));
+            }
+            tree.put(version, updates);
+        }
+
+        // All one- and two-nibble paths, more than one query's worth, with a duplicate
+        List<NibblePath> paths = new ArrayList<>();
+        paths.add(NibblePath.EMPTY);
+        for (int a = 0; a < 16; a++) {
+            paths.add(NibblePath.of(a));
+            for (int b = 0; b < 16; b++) {
+                paths.add(NibblePath.of(a, b));
+            }
+        }
+        paths.add(NibblePath.of(3));
+
+        for (long version = 0; version < 4; version++) {
+            List<Optional<JmtStore.NodeEntry>> nodes = store.getNodes(version, paths);
+            assertEquals(paths.size(), nodes.size());
+            for (int i = 0; i < paths.size(); i++) {
+                Optional<JmtStore.NodeEntry> expected = store.getNode(version, paths.get(i));
+                assertEquals(expected.map(e -> e.nodeKey()), nodes.get(i).map(e -> e.nodeKey()),
+                    "path " + paths.get(i) + " at version " + version);
+            }
+        }
+    }
+
     private static byte[] bytes(String value) {
         return value.getBytes(StandardCharsets.UTF_8);
     }
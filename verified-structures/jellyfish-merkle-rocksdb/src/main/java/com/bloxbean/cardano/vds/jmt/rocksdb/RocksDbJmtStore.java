@@ -5,6 +5,7 @@ import com.bloxbean.cardano.vds.jmt.JmtEncoding;
 import com.bloxbean.cardano.vds.jmt.JmtNode;
 import com.bloxbean.cardano.vds.jmt.NodeKey;
 import com.bloxbean.cardano.vds.jmt.store.JmtStore;
+import com.bloxbean.cardano.vds.rocksdb.bulk.SstBulkWriter;
 import com.bloxbean.cardano.vds.rocksdb.namespace.KeyPrefixer;
 import com.bloxbean.cardano.vds.rocksdb.namespace.NamespaceOptions;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -616,25 +617,42 @@ public final class RocksDbJmtStore implements JmtStore {
     @Override
     public Optional<NodeEntry> getNode(long version, NibblePath path) {
         Objects.requireNonNull(path, "path");
-        byte[] searchKey = keyPrefixer.prefix(NodeKey.of(path, version).toBytes());
         try (ReadOptions options = keyPrefixer.createPrefixReadOptions();
              RocksIterator iterator = db.newIterator(cfNodes, options)) {
-            iterator.seekForPrev(searchKey);
-            while (iterator.isValid()) {
-                byte[] keyBytes = keyPrefixer.unprefix(iterator.key());
-                NodeKey nodeKey = NodeKey.fromBytes(keyBytes);
-                int cmp = comparePath(nodeKey.path(), path);
-                if (cmp < 0) {
-                    break;
-                }
-                if (cmp == 0 && Long.compareUnsigned(nodeKey.version(), version) <= 0) {
-                    byte[] value = iterator.value();
-                    JmtNode node = JmtEncoding.decode(value);
-                    return Optional.of(new NodeEntry(nodeKey, node));
-                }
-                iterator.prev();
+            return seekNode(iterator, version, path);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All lookups share one RocksDB iterator instead of opening one per path.</p>
+     */
+    @Override
+    public List<Optional<NodeEntry>> getNodes(long version, List<NibblePath> paths) {
+        List<Optional<NodeEntry>> nodes = new ArrayList<>(paths.size());
+        try (ReadOptions options = keyPrefixer.createPrefixReadOptions();
+             RocksIterator iterator = db.newIterator(cfNodes, options)) {
+            for (NibblePath path : paths) {
+                nodes.add(seekNode(iterator, version, path));
             }
         }
+        return nodes;
+    }
+
+    private Optional<NodeEntry> seekNode(RocksIterator iterator, long version, NibblePath path) {
+        iterator.seekForPrev(keyPrefixer.prefix(NodeKey.of(path, version).toBytes()));
+        while (iterator.isValid()) {
+            NodeKey nodeKey = NodeKey.fromBytes(keyPrefixer.unprefix(iterator.key()));
+            int cmp = comparePath(nodeKey.path(), path);
+            if (cmp < 0) {
+                break;
+            }
+            if (cmp == 0 && Long.compareUnsigned(nodeKey.version(), version) <= 0) {
+                return Optional.of(new NodeEntry(nodeKey, JmtEncoding.decode(iterator.value())));
+            }
+            iterator.prev();
+        }
         return Optional.empty();
     }
 
@@ -726,6 +744,19 @@ public final class RocksDbJmtStore implements JmtStore {
         return new RocksCommitBatch(version);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Nodes, values and their version indexes are written to sorted SST files and ingested on
+     * {@link CommitBatch#commit()}, bypassing the memtable and the write-ahead log. Stale markers and
+     * the root are written afterwards in a regular batch, so the version becomes visible only once all
+     * files are ingested.</p>
+     */
+    @Override
+    public CommitBatch beginBulkLoad(long version) {
+        return new RocksBulkLoadBatch(version);
+    }
+
 
     @Override
     public List<NodeKey> staleNodesUpTo(long versionInclusive) {
@@ -1067,6 +1098,95 @@ public final class RocksDbJmtStore implements JmtStore {
         }
     }
 
+    private final class RocksBulkLoadBatch implements CommitBatch {
+
+        private final long version;
+        private final SstBulkWriter nodes = new SstBulkWriter(db, cfNodes);
+        private final SstBulkWriter values = new SstBulkWriter(db, cfValues);
+        private final SstBulkWriter nodesByVersion = cfNodesByVersion != null ? new SstBulkWriter(db, cfNodesByVersion) : null;
+        private final SstBulkWriter valuesByVersion = cfValuesByVersion != null ? new SstBulkWriter(db, cfValuesByVersion) : null;
+        private final RocksCommitBatch tail;
+        private boolean committed;
+
+        private RocksBulkLoadBatch(long version) {
+            this.version = version;
+            this.tail = new RocksCommitBatch(version);
+        }
+
+        @Override
+        public void putNode(NodeKey nodeKey, JmtNode node) {
+            Objects.requireNonNull(nodeKey, "nodeKey");
+            Objects.requireNonNull(node, "node");
+            byte[] nodeBytes = nodeKey.toBytes();
+            nodes.put(keyPrefixer.prefix(nodeBytes), node.encode());
+            if (nodesByVersion != null) {
+                nodesByVersion.put(nodeVersionKey(nodeKey.version(), nodeBytes), INDEX_PLACEHOLDER);
+            }
+        }
+
+        @Override
+        public void markStale(NodeKey nodeKey) {
+            tail.markStale(nodeKey);
+        }
+
+        @Override
+        public void putValue(byte[] keyHash, byte[] value) {
+            Objects.requireNonNull(keyHash, "keyHash");
+            Objects.requireNonNull(value, "value");
+            values.put(valueKey(keyHash, version), encodeValue(value));
+            if (valuesByVersion != null) {
+                valuesByVersion.put(valueVersionKey(version, keyHash), INDEX_PLACEHOLDER);
+            }
+        }
+
+        @Override
+        public void deleteValue(byte[] keyHash) {
+            Objects.requireNonNull(keyHash, "keyHash");
+            values.put(valueKey(keyHash, version), tombstoneValue());
+            if (valuesByVersion != null) {
+                valuesByVersion.put(valueVersionKey(version, keyHash), INDEX_PLACEHOLDER);
+            }
+        }
+
+        @Override
+        public void setRootHash(byte[] rootHash) {
+            tail.setRootHash(rootHash);
+        }
+
+        @Override
+        public void commit() {
+            if (committed) {
+                throw new IllegalStateException("Commit already applied");
+            }
+            committed = true;
+            try {
+                values.finish();
+                if (valuesByVersion != null) valuesByVersion.finish();
+                nodes.finish();
+                if (nodesByVersion != null) nodesByVersion.finish();
+                tail.commit();
+            } finally {
+                closeWriters();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!committed) {
+                committed = true;
+                closeWriters();
+            }
+        }
+
+        private void closeWriters() {
+            nodes.close();
+            values.close();
+            if (nodesByVersion != null) nodesByVersion.close();
+            if (valuesByVersion != null) valuesByVersion.close();
+            tail.close();
+        }
+    }
+
     private static Init openStandalone(String dbPath, Options options) {
         RocksDB.loadLibrary();
         File directory = new File(dbPath);
@@ -1,18 +1,25 @@
 package com.bloxbean.cardano.vds.jmt.rocksdb;
 
 import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.NibblePath;
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
 import com.bloxbean.cardano.vds.jmt.JellyfishMerkleTree;
+import com.bloxbean.cardano.vds.jmt.JmtBulkLoader;
 import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
 import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
 import com.bloxbean.cardano.vds.jmt.store.JmtStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -136,6 +143,91 @@ class RocksDbJmtStoreTest {
         }
     }
 
+    @Test
+    void getNodesMatchesGetNodeAndDrivesStreaming() {
+        try (RocksDbJmtStore store = new RocksDbJmtStore(tempDir.resolve("jmt-iter-db").toString())) {
+            JellyfishMerkleTree tree = new JellyfishMerkleTree(store, COMMITMENTS, HASH);
+
+            Map<byte[], byte[]> v1 = new LinkedHashMap<>();
+            for (int i = 0; i < 300; i++) {
+                v1.put(bytes("key-" + i), bytes("v" + i));
+            }
+            tree.put(1, v1);
+            Map<byte[], byte[]> v2 = new LinkedHashMap<>();
+            v2.put(bytes("key-0"), bytes("updated"));
+            tree.put(2, v2);
+
+            List<NibblePath> paths = new ArrayList<>();
+            paths.add(NibblePath.EMPTY);
+            for (int i = 0; i < 16; i++) {
+                paths.add(NibblePath.of(i));
+                paths.add(NibblePath.of(i, 15 - i));
+            }
+            for (long version = 1; version <= 2; version++) {
+                List<Optional<JmtStore.NodeEntry>> batch = store.getNodes(version, paths);
+                for (int i = 0; i < paths.size(); i++) {
+                    Optional<JmtStore.NodeEntry> single = store.getNode(version, paths.get(i));
+                    assertEquals(single.isPresent(), batch.get(i).isPresent());
+                    if (single.isPresent()) {
+                        assertEquals(single.get().nodeKey(), batch.get(i).get().nodeKey());
+                    }
+                }
+            }
+
+            assertEquals(300, tree.stream(1).count());
+            assertEquals(300, tree.stream(2).count());
+            assertTrue(tree.stream(2).anyMatch(e -> Arrays.equals(bytes("updated"), e.value())));
+            assertTrue(tree.stream(1).noneMatch(e -> Arrays.equals(bytes("updated"), e.value())));
+        }
+    }
+
+    @Test
+    void bulkLoadIngestsSstFilesAndSupportsLaterVersions() {
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            entries.put(bytes("key-" + i), bytes("v" + i));
+        }
+        JellyfishMerkleTree incremental = new JellyfishMerkleTree(new InMemoryJmtStore(), COMMITMENTS, HASH);
+        byte[] expectedV0 = incremental.put(0, entries).rootHash();
+        Map<byte[], byte[]> v1 = new LinkedHashMap<>();
+        v1.put(bytes("key-0"), bytes("updated"));
+        v1.put(bytes("key-new"), bytes("new"));
+        byte[] expectedV1 = incremental.put(1, v1).rootHash();
+
+        String path = tempDir.resolve("jmt-bulk-db").toString();
+        RocksDbJmtStore.Options options = RocksDbJmtStore.Options.builder().enableRollbackIndex(true).build();
+        try (RocksDbJmtStore store = RocksDbJmtStore.open(path, options)) {
+            try (JmtBulkLoader loader = new JmtBulkLoader(store, COMMITMENTS, HASH, 0)) {
+                assertArrayEquals(expectedV0, loader.load(entries).rootHash());
+            }
+            JellyfishMerkleTree tree = new JellyfishMerkleTree(store, COMMITMENTS, HASH);
+            assertArrayEquals(expectedV1, tree.put(1, v1).rootHash());
+        }
+
+        try (RocksDbJmtStore reopened = RocksDbJmtStore.open(path, options)) {
+            JellyfishMerkleTree tree = new JellyfishMerkleTree(reopened, COMMITMENTS, HASH);
+            assertArrayEquals(bytes("v2999"), tree.get(bytes("key-2999"), 0).orElseThrow());
+            assertArrayEquals(bytes("updated"), tree.get(bytes("key-0"), 1).orElseThrow());
+            assertEquals(3000, tree.stream(0).count());
+
+            reopened.truncateAfter(0);
+            assertEquals(0, reopened.latestRoot().orElseThrow().version());
+            assertArrayEquals(bytes("v0"), tree.get(bytes("key-0")).orElseThrow());
+        }
+    }
+
+    @Test
+    void bulkLoadClosedWithoutCommitLeavesStoreEmpty() {
+        try (RocksDbJmtStore store = new RocksDbJmtStore(tempDir.resolve("jmt-bulk-abort").toString())) {
+            try (JmtStore.CommitBatch batch = store.beginBulkLoad(0)) {
+                batch.putValue(HASH.digest(bytes("alice")), bytes("100"));
+                batch.setRootHash(new byte[32]);
+            }
+            assertTrue(store.latestRoot().isEmpty());
+            assertTrue(store.getValue(HASH.digest(bytes("alice"))).isEmpty());
+        }
+    }
+
     private static byte[] bytes(String value) {
         return value.getBytes(StandardCharsets.UTF_8);
     }
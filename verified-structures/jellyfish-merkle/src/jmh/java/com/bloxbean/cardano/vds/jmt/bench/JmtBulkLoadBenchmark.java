@@ -0,0 +1,76 @@
+package com.bloxbean.cardano.vds.jmt.bench;
+
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.JellyfishMerkleTree;
+import com.bloxbean.cardano.vds.jmt.JmtBulkLoader;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building version 0 of a tree with {@link JellyfishMerkleTree#put(long, Map)} against
+ * {@link JmtBulkLoader} fed with entries pre-sorted by key hash.
+ *
+ * <p>Run with:
+ * <pre>
+ * ./gradlew :verified-structures:jellyfish-merkle:jmh -Pjmh.include=".*JmtBulkLoadBenchmark.*"
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JmtBulkLoadBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private final HashFunction hashFn = Blake2b256::digest;
+    private final CommitmentScheme commitments = new ClassicJmtCommitmentScheme(hashFn);
+
+    private Map<byte[], byte[]> entries;
+    private List<byte[]> sortedKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        entries = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            byte[] key = new byte[16];
+            byte[] value = new byte[32];
+            random.nextBytes(key);
+            random.nextBytes(value);
+            entries.put(key, value);
+        }
+        sortedKeys = new ArrayList<>(entries.keySet());
+        sortedKeys.sort((a, b) -> Arrays.compareUnsigned(hashFn.digest(a), hashFn.digest(b)));
+    }
+
+    @Benchmark
+    public byte[] incrementalPut() {
+        JellyfishMerkleTree tree = new JellyfishMerkleTree(new InMemoryJmtStore(), commitments, hashFn);
+        return tree.put(0, entries).rootHash();
+    }
+
+    @Benchmark
+    public byte[] bulkLoad() {
+        try (JmtBulkLoader loader = new JmtBulkLoader(new InMemoryJmtStore(), commitments, hashFn, 0)) {
+            for (byte[] key : sortedKeys) {
+                loader.add(key, entries.get(key));
+            }
+            return loader.finish().rootHash();
+        }
+    }
+}
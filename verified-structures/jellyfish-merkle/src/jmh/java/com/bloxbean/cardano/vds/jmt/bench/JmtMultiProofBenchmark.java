@@ -0,0 +1,121 @@
+package com.bloxbean.cardano.vds.jmt.bench;
+
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.JellyfishMerkleTree;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one multiproof for N keys against N single proofs.
+ *
+ * <p>Generation and verification time are measured by the benchmarks. The proof sizes don't depend on
+ * the run and are printed once per trial:
+ * <pre>
+ * proof bytes [treeSize=100000, keyCount=100]: single=..., multi=... (...%)
+ * </pre>
+ *
+ * <p>Run with:
+ * <pre>
+ * ./gradlew :verified-structures:jellyfish-merkle:jmh -Pjmh.include=".*JmtMultiProofBenchmark.*"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JmtMultiProofBenchmark {
+
+    @Param({"10000", "100000"})
+    public int treeSize;
+
+    @Param({"10", "100", "1000"})
+    public int keyCount;
+
+    private final HashFunction hashFn = Blake2b256::digest;
+    private final CommitmentScheme commitments = new ClassicJmtCommitmentScheme(hashFn);
+
+    private JellyfishMerkleTree tree;
+    private byte[] rootHash;
+    private List<byte[]> proofKeys;
+    private Map<byte[], byte[]> proofEntries;
+    private List<byte[]> singleProofs;
+    private byte[] multiProof;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        tree = new JellyfishMerkleTree(new InMemoryJmtStore(), commitments, hashFn);
+
+        List<byte[]> keys = new ArrayList<>(treeSize);
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = 0; i < treeSize; i++) {
+            byte[] key = new byte[16];
+            byte[] value = new byte[32];
+            random.nextBytes(key);
+            random.nextBytes(value);
+            keys.add(key);
+            updates.put(key, value);
+        }
+        rootHash = tree.put(0, updates).rootHash();
+
+        proofKeys = new ArrayList<>(keyCount);
+        proofEntries = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            byte[] key = keys.get(random.nextInt(treeSize));
+            proofKeys.add(key);
+            proofEntries.put(key, updates.get(key));
+        }
+
+        singleProofs = new ArrayList<>(keyCount);
+        long singleBytes = 0;
+        for (byte[] key : proofKeys) {
+            byte[] proof = tree.getProofWire(key, 0).orElseThrow();
+            singleProofs.add(proof);
+            singleBytes += proof.length;
+        }
+        multiProof = tree.getMultiProofWire(proofKeys, 0).orElseThrow();
+
+        System.out.printf("%nproof bytes [treeSize=%d, keyCount=%d]: single=%d, multi=%d (%.1f%%)%n",
+                treeSize, keyCount, singleBytes, multiProof.length, 100.0 * multiProof.length / singleBytes);
+    }
+
+    @Benchmark
+    public void generateSingleProofs(Blackhole bh) {
+        for (byte[] key : proofKeys) {
+            bh.consume(tree.getProofWire(key, 0));
+        }
+    }
+
+    @Benchmark
+    public Object generateMultiProof() {
+        return tree.getMultiProofWire(proofKeys, 0);
+    }
+
+    @Benchmark
+    public boolean verifySingleProofs() {
+        boolean valid = true;
+        for (int i = 0; i < proofKeys.size(); i++) {
+            byte[] key = proofKeys.get(i);
+            valid &= tree.verifyProofWire(rootHash, key, proofEntries.get(key), true, singleProofs.get(i));
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean verifyMultiProof() {
+        return tree.verifyMultiProofWire(rootHash, proofEntries, multiProof);
+    }
+}
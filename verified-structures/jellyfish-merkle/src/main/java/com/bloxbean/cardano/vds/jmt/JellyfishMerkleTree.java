@@ -2,6 +2,7 @@ package com.bloxbean.cardano.vds.jmt;
 
 import com.bloxbean.cardano.vds.core.api.HashFunction;
 import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.StateChange;
 import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
 import com.bloxbean.cardano.vds.jmt.TreeCache.NodeEntry;
 import com.bloxbean.cardano.vds.jmt.TreeCache.StaleNodeIndex;
@@ -14,6 +15,9 @@ import com.bloxbean.cardano.vds.jmt.proof.JmtProofCodec;
 import com.bloxbean.cardano.vds.jmt.store.JmtStore;
 
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Jellyfish Merkle Tree implementation inspired by Diem's JMT implementation.
@@ -35,6 +39,11 @@ import java.util.*;
  */
 public final class JellyfishMerkleTree {
 
+    /**
+     * Minimum no of updates for {@link #putParallel(long, Map)} to build subtrees in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
     private final JmtStore store;
     private final CommitmentScheme commitments;
     private final HashFunction hashFn;
@@ -129,28 +138,45 @@ public final class JellyfishMerkleTree {
      * @throws NullPointerException if updates is null, any key is null, or any value is null
      */
     public CommitResult put(long version, Map<byte[], byte[]> updates) {
+        return commit(version, updates, false);
+    }
+
+    /**
+     * Applies a batch of key-value updates and commits them as a new version, building the
+     * subtrees under the root in parallel.
+     *
+     * <p>Keys and values are hashed in parallel, and the updates are partitioned by the first
+     * nibble of the key hash. Each of the 16 root child subtrees is updated concurrently in its
+     * own {@link TreeCache} fork, and the forks are merged into a new root internal node.
+     * Tasks run on the common fork-join pool, so the hash function, commitment scheme and
+     * the store's read methods must be thread-safe.</p>
+     *
+     * <p>The result is identical to {@link #put(long, Map)}: same root hash, nodes, stale
+     * nodes and value operations. Batches smaller than {@value #PARALLEL_THRESHOLD} updates
+     * are applied sequentially.</p>
+     *
+     * @param version the version number for this commit (must be monotonically increasing)
+     * @param updates map of key → value (values must be non-null)
+     * @return commit result with root hash, nodes, and stale markers
+     * @throws NullPointerException if updates is null, any key is null, or any value is null
+     */
+    public CommitResult putParallel(long version, Map<byte[], byte[]> updates) {
+        return commit(version, updates, true);
+    }
+
+    private CommitResult commit(long version, Map<byte[], byte[]> updates, boolean parallel) {
         Objects.requireNonNull(updates, "updates");
 
         long startTime = System.currentTimeMillis();
 
         // 1. Create TreeCache for this version
         TreeCache cache = new TreeCache(store, version);
-        NodeKey initialRoot = cache.getRootNodeKey();
-
-        // 2. Track value operations for the result
-        List<ValueOperation> valueOps = new ArrayList<>(updates.size());
-
-        // 3. Apply each update (Diem-inspired: no deletes, all values must be non-null)
-        for (Map.Entry<byte[], byte[]> entry : updates.entrySet()) {
-            byte[] key = Objects.requireNonNull(entry.getKey(), "key");
-            byte[] value = Objects.requireNonNull(entry.getValue(), "value"); // Null not supported
 
-            byte[] keyHash = hashFn.digest(key);
-            byte[] valueHash = hashFn.digest(value);
-
-            putValue(keyHash, valueHash, cache);
-            valueOps.add(ValueOperation.put(keyHash, value));
-        }
+        // 2-3. Apply each update (Diem-inspired: no deletes, all values must be non-null)
+        // and track value operations for the result
+        List<ValueOperation> valueOps = parallel && updates.size() >= PARALLEL_THRESHOLD
+                ? applyParallel(updates, cache)
+                : applySequential(updates, cache);
 
         // 4. Compute root hash before freezing
         NodeKey finalRoot = cache.getRootNodeKey();
@@ -194,6 +220,111 @@ public final class JellyfishMerkleTree {
         return new CommitResult(version, rootHash, nodes, staleNodes, valueOps);
     }
 
+    private List<ValueOperation> applySequential(Map<byte[], byte[]> updates, TreeCache cache) {
+        List<ValueOperation> valueOps = new ArrayList<>(updates.size());
+        for (Map.Entry<byte[], byte[]> entry : updates.entrySet()) {
+            byte[] key = Objects.requireNonNull(entry.getKey(), "key");
+            byte[] value = Objects.requireNonNull(entry.getValue(), "value"); // Null not supported
+
+            byte[] keyHash = hashFn.digest(key);
+            byte[] valueHash = hashFn.digest(value);
+
+            putValue(keyHash, valueHash, cache);
+            valueOps.add(ValueOperation.put(keyHash, value));
+        }
+        return valueOps;
+    }
+
+    /**
+     * Applies the updates with one task per root child subtree.
+     *
+     * <p>The tree structure only depends on the set of keys, and updates under different root
+     * children never touch the same nodes. So each subtree can be built in its own cache fork,
+     * with the same nodes and stale markers as applying the updates one by one.</p>
+     */
+    private List<ValueOperation> applyParallel(Map<byte[], byte[]> updates, TreeCache cache) {
+        int size = updates.size();
+        byte[][] keys = new byte[size][];
+        byte[][] values = new byte[size][];
+
+        int index = 0;
+        for (Map.Entry<byte[], byte[]> entry : updates.entrySet()) {
+            keys[index] = Objects.requireNonNull(entry.getKey(), "key");
+            values[index] = Objects.requireNonNull(entry.getValue(), "value"); // Null not supported
+            index++;
+        }
+
+        byte[][] keyHashes = new byte[size][];
+        byte[][] valueHashes = new byte[size][];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            keyHashes[i] = hashFn.digest(keys[i]);
+            valueHashes[i] = hashFn.digest(values[i]);
+        });
+
+        List<ValueOperation> valueOps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            valueOps.add(ValueOperation.put(keyHashes[i], values[i]));
+        }
+
+        // Subtrees can only be split off an internal root. An empty tree or a single leaf
+        // root becomes an internal node with the first updates.
+        int next = 0;
+        while (next < size && !isInternalNode(cache.getNode(cache.getRootNodeKey()))) {
+            putValue(keyHashes[next], valueHashes[next], cache);
+            next++;
+        }
+        if (next == size) {
+            return valueOps;
+        }
+
+        // Partition the remaining updates by the first nibble, keeping their order
+        List<List<Integer>> shards = new ArrayList<>(16);
+        for (int nibble = 0; nibble < 16; nibble++) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = next; i < size; i++) {
+            shards.get((keyHashes[i][0] >> 4) & 0x0F).add(i);
+        }
+
+        TreeCache[] forks = new TreeCache[16];
+        NodeKey[] childKeys = new NodeKey[16];
+        IntStream.range(0, 16).parallel()
+                .filter(nibble -> !shards.get(nibble).isEmpty())
+                .forEach(nibble -> {
+                    TreeCache fork = cache.forkSubtree(nibble);
+                    long version = fork.nextVersion();
+                    NibblePath childPath = NibblePath.of(nibble);
+                    NodeKey childKey = null;
+                    for (int i : shards.get(nibble)) {
+                        childKey = NodeKey.of(childPath, findChildVersion(childPath, fork, version));
+                        childKey = insertAt(childKey, Nibbles.toNibbles(keyHashes[i]), 1, keyHashes[i], valueHashes[i], fork);
+                    }
+                    forks[nibble] = fork;
+                    childKeys[nibble] = childKey;
+                });
+
+        // Replace the root with a new version pointing to the updated subtrees
+        NodeKey rootKey = cache.getRootNodeKey();
+        JmtInternalNode root = (JmtInternalNode) cache.getNode(rootKey).get().node();
+        cache.deleteNode(rootKey, false /* not a leaf */);
+        for (int nibble = 0; nibble < 16; nibble++) {
+            if (forks[nibble] != null) {
+                cache.mergeSubtree(nibble, forks[nibble]);
+                root = updateInternalNodeChild(root, nibble, childKeys[nibble], cache);
+            }
+        }
+
+        NodeKey newRootKey = NodeKey.of(NibblePath.EMPTY, cache.nextVersion());
+        cache.putNode(newRootKey, root);
+        cache.setRootNodeKey(newRootKey);
+
+        return valueOps;
+    }
+
+    private static boolean isInternalNode(Optional<NodeEntry> entry) {
+        return entry.isPresent() && entry.get().node() instanceof JmtInternalNode;
+    }
+
     /**
      * Retrieves the value for a key at the latest version.
      *
@@ -593,6 +724,208 @@ public final class JellyfishMerkleTree {
         return proofCodec.verify(expectedRoot, key, value, including, wire, hashFn, commitments);
     }
 
+    /**
+     * Generates a single proof for a set of keys at a specific version.
+     *
+     * <p>The proof contains each node on the lookup paths of the keys once, with the other children
+     * pruned to their hashes. When the keys share upper levels of the tree, it is smaller and faster
+     * to build than one {@link #getProof(byte[], long)} per key. It proves inclusion of present keys and
+     * non-inclusion of absent keys alike.
+     *
+     * @param keys    the keys to prove (will be hashed)
+     * @param version the tree version to query
+     * @return the multiproof, or empty if the version doesn't exist
+     * @see JmtProofVerifier#verifyMultiProof(byte[], Map, JmtMultiProof, HashFunction, CommitmentScheme)
+     */
+    public Optional<JmtMultiProof> getMultiProof(Collection<byte[]> keys, long version) {
+        Objects.requireNonNull(keys, "keys");
+        if (store.rootHash(version).isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<int[]> paths = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            paths.add(Nibbles.toNibbles(hashFn.digest(Objects.requireNonNull(key, "key"))));
+        }
+
+        Optional<JmtStore.NodeEntry> rootEntry = store.getNode(version, NibblePath.EMPTY);
+        if (rootEntry.isEmpty()) {
+            return Optional.of(JmtMultiProof.of(null));
+        }
+        return Optional.of(JmtMultiProof.of(multiProofNode(rootEntry.get().node(), paths, 0, version)));
+    }
+
+    /**
+     * Generates a multiproof in CBOR wire format. See {@link #getMultiProof(Collection, long)}.
+     *
+     * @param keys    the keys to prove (will be hashed)
+     * @param version the tree version to query
+     * @return CBOR-encoded multiproof, or empty if the version doesn't exist
+     * @see #verifyMultiProofWire(byte[], Map, byte[])
+     */
+    public Optional<byte[]> getMultiProofWire(Collection<byte[]> keys, long version) {
+        return getMultiProof(keys, version).map(JmtMultiProof::toCbor);
+    }
+
+    /**
+     * Verifies a CBOR wire format multiproof against a root hash.
+     *
+     * @param expectedRoot the expected root hash to verify against
+     * @param entries      the keys mapped to their expected values, or null for non-inclusion
+     * @param wire         the CBOR-encoded multiproof
+     * @return true if the proof is valid for all entries
+     * @throws IllegalArgumentException if the wire bytes are not a valid multiproof
+     * @see #getMultiProofWire(Collection, long)
+     */
+    public boolean verifyMultiProofWire(byte[] expectedRoot, Map<byte[], byte[]> entries, byte[] wire) {
+        Objects.requireNonNull(expectedRoot, "expectedRoot");
+        Objects.requireNonNull(wire, "wire");
+
+        return JmtProofVerifier.verifyMultiProof(expectedRoot, entries, JmtMultiProof.fromCbor(wire),
+                hashFn, commitments);
+    }
+
+    /**
+     * Returns a lazy iterator over all entries of a version in ascending key hash order.
+     * See {@link #iterator(long, byte[], byte[])}.
+     *
+     * @param version the tree version to iterate
+     * @return iterator over the entries, empty if the version doesn't exist
+     */
+    public Iterator<Entry> iterator(long version) {
+        return iterator(version, null, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the entries of a version in ascending key hash order.
+     *
+     * <p>The tree is walked depth-first and nodes are loaded on demand, so memory stays bounded by the
+     * tree depth rather than the number of entries. The children of each internal node are fetched with
+     * one {@link JmtStore#getNodes(long, List)} call. Subtrees outside the bounds are not loaded.
+     *
+     * <p>Passing the key hash of the last entry of a page as {@code startAfterKeyHash} resumes the
+     * iteration after it, which allows paging through a large tree:
+     * <pre>{@code
+     * byte[] last = null;
+     * do {
+     *     Iterator<Entry> it = tree.iterator(version, null, last);
+     *     last = null;
+     *     for (int i = 0; i < pageSize && it.hasNext(); i++) {
+     *         Entry e = it.next();
+     *         process(e);
+     *         last = e.keyHash();
+     *     }
+     * } while (last != null);
+     * }</pre>
+     *
+     * @param version           the tree version to iterate
+     * @param keyHashPrefix     prefix the key hashes must start with, or null for all entries
+     * @param startAfterKeyHash only entries with a key hash greater than this are returned, or null
+     * @return iterator over the entries, empty if the version doesn't exist
+     */
+    public Iterator<Entry> iterator(long version, byte[] keyHashPrefix, byte[] startAfterKeyHash) {
+        if (store.rootHash(version).isEmpty()) {
+            return Collections.emptyIterator();
+        }
+        return new JmtEntryIterator(store, version, keyHashPrefix, startAfterKeyHash);
+    }
+
+    /**
+     * Returns a lazy, ordered stream over all entries of a version. See {@link #iterator(long, byte[], byte[])}.
+     *
+     * @param version the tree version to iterate
+     * @return stream of the entries
+     */
+    public Stream<Entry> stream(long version) {
+        return stream(version, null, null);
+    }
+
+    /**
+     * Returns a lazy, ordered stream over the entries of a version within the bounds.
+     * See {@link #iterator(long, byte[], byte[])}.
+     *
+     * @param version           the tree version to iterate
+     * @param keyHashPrefix     prefix the key hashes must start with, or null for all entries
+     * @param startAfterKeyHash only entries with a key hash greater than this are returned, or null
+     * @return stream of the entries
+     */
+    public Stream<Entry> stream(long version, byte[] keyHashPrefix, byte[] startAfterKeyHash) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                iterator(version, keyHashPrefix, startAfterKeyHash),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the changes between two versions in ascending key hash order.
+     *
+     * <p>Both versions are walked together and subtrees with the same hash at the same path are skipped
+     * without being loaded, so the cost is proportional to the number of changed keys, not the tree size.
+     * Values are read only for the changes returned. A version that doesn't exist is treated as an empty
+     * tree, so diffing from an unknown version lists every entry as added.</p>
+     *
+     * <p>Both versions must not be pruned while the stream is consumed.</p>
+     *
+     * <p>Example, shipping the changes of one block to a follower:
+     * <pre>{@code
+     * try (Stream<StateChange> changes = tree.diff(height - 1, height)) {
+     *     changes.forEach(follower::apply);
+     * }
+     * }</pre>
+     *
+     * @param fromVersion the older version
+     * @param toVersion   the newer version
+     * @return lazy stream of the keys added, removed or modified from {@code fromVersion} to {@code toVersion};
+     *         {@link StateChange#key()} is always null as the tree only stores key hashes
+     * @throws IllegalStateException while consuming the stream, if a node of either version is missing
+     */
+    public Stream<StateChange> diff(long fromVersion, long toVersion) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new JmtDiffIterator(store, fromVersion, toVersion),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Expands the node and the children on the given paths; other children are pruned to their hashes.
+     */
+    private JmtMultiProof.Item multiProofNode(JmtNode node, List<int[]> paths, int depth, long version) {
+        if (node instanceof JmtLeafNode) {
+            JmtLeafNode leaf = (JmtLeafNode) node;
+            return JmtMultiProof.leaf(leaf.keyHash(), leaf.valueHash());
+        }
+        if (!(node instanceof JmtInternalNode)) {
+            throw new IllegalStateException("Unknown node type: " + node.getClass());
+        }
+
+        JmtInternalNode internal = (JmtInternalNode) node;
+        byte[][] childHashes = expandChildHashes(internal.bitmap(), internal.childHashes());
+        List<List<int[]>> groups = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int[] path : paths) {
+            if (depth >= path.length) {
+                throw new IllegalStateException("Depth exceeds key length");
+            }
+            groups.get(path[depth]).add(path);
+        }
+
+        JmtMultiProof.Item[] children = new JmtMultiProof.Item[16];
+        for (int i = 0; i < 16; i++) {
+            if (childHashes[i] == null) continue;
+            List<int[]> group = groups.get(i);
+            if (group.isEmpty()) {
+                children[i] = JmtMultiProof.pruned(childHashes[i]);
+                continue;
+            }
+            NibblePath childPath = NibblePath.fromRange(group.get(0), 0, depth + 1);
+            JmtNode child = store.getNode(version, childPath)
+                    .orElseThrow(() -> new IllegalStateException("Missing node at " + childPath + " for version " + version))
+                    .node();
+            children[i] = multiProofNode(child, group, depth + 1, version);
+        }
+        return JmtMultiProof.internal(children, internal.compressedPath());
+    }
+
     /**
      * Inserts or updates a single key-value pair in the tree.
      *
@@ -1247,4 +1580,28 @@ public final class JellyfishMerkleTree {
             return value != null ? Arrays.copyOf(value, value.length) : null;
         }
     }
+
+    /**
+     * An entry of the tree returned by {@link #iterator(long, byte[], byte[])}.
+     */
+    public static final class Entry {
+        private final byte[] keyHash;
+        private final byte[] value;
+
+        Entry(byte[] keyHash, byte[] value) {
+            this.keyHash = keyHash;
+            this.value = value;
+        }
+
+        /**
+         * Returns the hash of the key. The original key is not stored in the tree.
+         */
+        public byte[] keyHash() {
+            return Arrays.copyOf(keyHash, keyHash.length);
+        }
+
+        public byte[] value() {
+            return value != null ? Arrays.copyOf(value, value.length) : null;
+        }
+    }
 }
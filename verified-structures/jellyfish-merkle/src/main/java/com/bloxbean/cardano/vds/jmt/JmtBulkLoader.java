@@ -0,0 +1,224 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.BulkLoadResult;
+import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.JmtStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds a tree version bottom-up from entries sorted by key hash, writing only the final nodes.
+ *
+ * <p>Importing a dataset with {@link JellyfishMerkleTree#put(long, Map)} inserts the keys one by one
+ * into a {@link TreeCache}, creating and marking stale the intermediate nodes of every split. The bulk
+ * loader instead streams the entries in ascending order of their key hash: once the next entry leaves
+ * a subtree, the subtree is complete and its nodes are hashed and written exactly once. Only the
+ * internal nodes on the path of the current entry are kept in memory.</p>
+ *
+ * <p>Nodes and values are written through {@link JmtStore#beginBulkLoad(long)}, so RocksDB stores
+ * ingest them as SST files and RDBMS stores use multi-row inserts. The root hash and nodes are identical
+ * to {@code tree.put(version, entries)} on an empty store, and the tree can be updated with
+ * {@link JellyfishMerkleTree} afterwards.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * try (JmtBulkLoader loader = new JmtBulkLoader(store, commitments, hashFn, 0)) {
+ *     // keys must be added in ascending order of hashFn(key)
+ *     for (Entry e : sortedEntries) {
+ *         loader.add(e.key(), e.value());
+ *     }
+ *     BulkLoadResult result = loader.finish();
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe and load a single version.</p>
+ */
+public final class JmtBulkLoader implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JmtBulkLoader.class);
+
+    private final CommitmentScheme commitments;
+    private final HashFunction hashFn;
+    private final long version;
+    private final JmtStore.CommitBatch batch;
+    private final List<byte[][]> stack = new ArrayList<>(); // child hashes of the internal node at each depth
+    private final long startNanos = System.nanoTime();
+
+    private byte[] previousKeyHash;
+    private int[] previousNibbles;
+    private byte[] previousValueHash;
+    private long entries;
+    private long nodes;
+    private long bytes;
+    private boolean finished;
+
+    /**
+     * Creates a bulk loader for the given version.
+     *
+     * @param store       the store to load; must not contain any version yet
+     * @param commitments the commitment scheme, must match the one of the tree reading the store
+     * @param hashFn      the hash function for keys and values
+     * @param version     the version to create
+     * @throws IllegalStateException if the store already contains a version
+     */
+    public JmtBulkLoader(JmtStore store, CommitmentScheme commitments, HashFunction hashFn, long version) {
+        Objects.requireNonNull(store, "store");
+        this.commitments = Objects.requireNonNull(commitments, "commitments");
+        this.hashFn = Objects.requireNonNull(hashFn, "hashFn");
+        if (store.latestRoot().isPresent()) {
+            throw new IllegalStateException("Bulk load requires an empty store");
+        }
+        this.version = version;
+        this.batch = store.beginBulkLoad(version);
+    }
+
+    /**
+     * Adds an entry. Entries must be added in strictly ascending order of their key hash.
+     *
+     * @param key   the original key
+     * @param value the value, must not be null
+     * @throws IllegalArgumentException if the key hash is not greater than the previous one
+     * @throws IllegalStateException    if the loader is already finished
+     */
+    public void add(byte[] key, byte[] value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        if (finished) {
+            throw new IllegalStateException("Bulk load already finished");
+        }
+
+        byte[] keyHash = hashFn.digest(key);
+        if (previousKeyHash != null && Arrays.compareUnsigned(previousKeyHash, keyHash) >= 0) {
+            throw new IllegalArgumentException("Keys must be added in ascending order of their hash");
+        }
+        batch.putValue(keyHash, value);
+        bytes += value.length;
+        int[] nibbles = Nibbles.toNibbles(keyHash);
+
+        if (previousKeyHash != null) {
+            // The previous leaf sits below the deeper of its common prefixes with both neighbours
+            int common = Nibbles.commonPrefixLen(previousNibbles, nibbles);
+            int top = stack.size() - 1;
+            if (common >= top) {
+                while (stack.size() <= common) {
+                    stack.add(new byte[16][]);
+                }
+                stack.get(common)[previousNibbles[common]] = writeLeaf(common + 1);
+            } else {
+                byte[] completed = writeLeaf(top + 1);
+                for (int depth = top; depth > common; depth--) {
+                    stack.get(depth)[previousNibbles[depth]] = completed;
+                    completed = writeInternal(depth);
+                }
+                stack.get(common)[previousNibbles[common]] = completed;
+            }
+        }
+
+        previousKeyHash = keyHash;
+        previousNibbles = nibbles;
+        previousValueHash = hashFn.digest(value);
+        entries++;
+    }
+
+    /**
+     * Writes the remaining nodes and the root, and commits the version.
+     *
+     * @return the root hash (all zeros if no entries were added) and throughput figures
+     * @throws IllegalStateException if the loader is already finished
+     */
+    public BulkLoadResult finish() {
+        if (finished) {
+            throw new IllegalStateException("Bulk load already finished");
+        }
+        finished = true;
+
+        byte[] root;
+        if (previousKeyHash == null) {
+            root = new byte[32]; // Empty tree, as JellyfishMerkleTree#put
+        } else {
+            root = writeLeaf(stack.size());
+            for (int depth = stack.size() - 1; depth >= 0; depth--) {
+                stack.get(depth)[previousNibbles[depth]] = root;
+                root = writeInternal(depth);
+            }
+        }
+        batch.setRootHash(root);
+        batch.commit();
+
+        BulkLoadResult result = new BulkLoadResult(root, entries, nodes, bytes, System.nanoTime() - startNanos);
+        log.info("JMT bulk load of version {} finished: {}", version, result);
+        return result;
+    }
+
+    /**
+     * Loads all entries of a map, sorting them by key hash first.
+     *
+     * @param entries the entries to load, values must not be null
+     * @return the root hash and throughput figures
+     */
+    public BulkLoadResult load(Map<byte[], byte[]> entries) {
+        List<byte[][]> sorted = new ArrayList<>(entries.size());
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            byte[] key = Objects.requireNonNull(entry.getKey(), "key");
+            sorted.add(new byte[][]{hashFn.digest(key), key, entry.getValue()});
+        }
+        sorted.sort((a, b) -> Arrays.compareUnsigned(a[0], b[0]));
+        for (byte[][] entry : sorted) {
+            add(entry[1], entry[2]);
+        }
+        return finish();
+    }
+
+    /**
+     * Closes the underlying batch. An unfinished load is discarded.
+     */
+    @Override
+    public void close() {
+        batch.close();
+    }
+
+    /**
+     * Writes the leaf of the previous entry at the given path length and returns its hash.
+     */
+    private byte[] writeLeaf(int pathLength) {
+        write(NodeKey.of(path(pathLength), version), JmtLeafNode.of(previousKeyHash, previousValueHash));
+        NibblePath suffix = NibblePath.fromRange(previousNibbles, pathLength, previousNibbles.length - pathLength);
+        return commitments.commitLeaf(suffix, previousValueHash);
+    }
+
+    /**
+     * Writes the internal node at the given depth, which must be the deepest one, and returns its hash.
+     */
+    private byte[] writeInternal(int depth) {
+        byte[][] children = stack.remove(depth);
+        int bitmap = 0;
+        List<byte[]> childHashes = new ArrayList<>(16);
+        for (int nibble = 0; nibble < 16; nibble++) {
+            if (children[nibble] != null) {
+                bitmap |= 1 << nibble;
+                childHashes.add(children[nibble]);
+            }
+        }
+        write(NodeKey.of(path(depth), version),
+                JmtInternalNode.of(bitmap, childHashes.toArray(new byte[0][]), null));
+        return commitments.commitBranch(NibblePath.EMPTY, children);
+    }
+
+    private void write(NodeKey nodeKey, JmtNode node) {
+        batch.putNode(nodeKey, node);
+        nodes++;
+        bytes += node.encode().length;
+    }
+
+    private NibblePath path(int length) {
+        return length == 0 ? NibblePath.EMPTY : NibblePath.fromRange(previousNibbles, 0, length);
+    }
+}
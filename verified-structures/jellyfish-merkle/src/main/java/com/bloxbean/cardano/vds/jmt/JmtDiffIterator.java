@@ -0,0 +1,185 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.StateChange;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.jmt.store.JmtStore;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the changes between two tree versions in ascending key hash order.
+ *
+ * <p>Both versions are walked at once, each with an explicit stack of pending subtrees sorted by path.
+ * Two subtrees at the same path with the same hash are identical and skipped without being loaded, so
+ * the number of nodes read is proportional to the number of changes times the tree depth. Leaves are
+ * compared by key hash and value hash; values are only read for the changes returned.
+ */
+final class JmtDiffIterator implements Iterator<StateChange> {
+    private static final int[] EMPTY = new int[0];
+
+    private final JmtStore store;
+    private final Side from;
+    private final Side to;
+    private StateChange next;
+
+    JmtDiffIterator(JmtStore store, long fromVersion, long toVersion) {
+        this.store = store;
+        this.from = new Side(fromVersion);
+        this.to = new Side(toVersion);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public StateChange next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        StateChange change = next;
+        next = null;
+        return change;
+    }
+
+    private StateChange advance() {
+        while (true) {
+            Item a = from.stack.peek();
+            Item b = to.stack.peek();
+            if (a == null && b == null) {
+                return null;
+            }
+
+            if (a != null && b != null && Arrays.equals(a.path, b.path)) {
+                if (!a.isLeaf() && !b.isLeaf() && Arrays.equals(a.hash, b.hash)) {
+                    // Same position and hash: identical subtrees
+                    from.stack.pop();
+                    to.stack.pop();
+                    continue;
+                }
+                if (a.isLeaf() && b.isLeaf()) {
+                    from.stack.pop();
+                    to.stack.pop();
+                    if (!Arrays.equals(a.valueHash, b.valueHash)) {
+                        return new StateChange(StateChange.Type.MODIFIED, a.keyHash, null,
+                                from.value(a.keyHash), to.value(b.keyHash));
+                    }
+                    continue;
+                }
+            }
+
+            Side side = b == null || (a != null && precedes(a, b)) ? from : to;
+            Item item = side.stack.pop();
+            if (item.isLeaf()) {
+                byte[] value = side.value(item.keyHash);
+                return side == from
+                        ? new StateChange(StateChange.Type.REMOVED, item.keyHash, null, value, null)
+                        : new StateChange(StateChange.Type.ADDED, item.keyHash, null, null, value);
+            }
+            side.expand(item);
+        }
+    }
+
+    /**
+     * Returns whether {@code a} must be handled before {@code b}: it covers {@code b} or sorts before it.
+     */
+    private static boolean precedes(Item a, Item b) {
+        if (!a.isLeaf() && isPrefix(a.path, b.path)) return true;
+        if (!b.isLeaf() && isPrefix(b.path, a.path)) return false;
+        int n = Math.min(a.path.length, b.path.length);
+        for (int i = 0; i < n; i++) {
+            if (a.path[i] != b.path[i]) return a.path[i] < b.path[i];
+        }
+        return a.path.length < b.path.length;
+    }
+
+    private static boolean isPrefix(int[] prefix, int[] path) {
+        if (prefix.length > path.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (prefix[i] != path[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The pending subtrees and leaves of one version, smallest path on top.
+     */
+    private final class Side {
+        final long version;
+        final Deque<Item> stack = new ArrayDeque<>();
+
+        Side(long version) {
+            this.version = version;
+            store.rootHash(version)
+                    .filter(root -> !Arrays.equals(root, new byte[root.length])) // all zeros: empty tree
+                    .ifPresent(root -> stack.push(Item.subtree(EMPTY, root)));
+        }
+
+        void expand(Item subtree) {
+            JmtNode node = store.getNode(version, NibblePath.fromRaw(subtree.path))
+                    .map(JmtStore.NodeEntry::node)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Missing node at " + NibblePath.fromRaw(subtree.path) + " for version " + version));
+
+            if (node instanceof JmtLeafNode) {
+                JmtLeafNode leaf = (JmtLeafNode) node;
+                stack.push(Item.leaf(leaf.keyHash(), leaf.valueHash()));
+            } else if (node instanceof JmtInternalNode) {
+                JmtInternalNode internal = (JmtInternalNode) node;
+                byte[][] childHashes = internal.childHashes();
+                int bitmap = internal.bitmap();
+                int index = Integer.bitCount(bitmap) - 1;
+                for (int nibble = 15; nibble >= 0; nibble--) {
+                    if ((bitmap & (1 << nibble)) == 0) continue;
+                    int[] childPath = Arrays.copyOf(subtree.path, subtree.path.length + 1);
+                    childPath[subtree.path.length] = nibble;
+                    stack.push(Item.subtree(childPath, childHashes[index--]));
+                }
+            } else {
+                throw new IllegalStateException("Unknown node type: " + node.getClass());
+            }
+        }
+
+        byte[] value(byte[] keyHash) {
+            return store.getValueAt(keyHash, version).orElse(null);
+        }
+    }
+
+    /**
+     * A pending subtree, not loaded yet, or a leaf.
+     */
+    private static final class Item {
+        final int[] path;
+        final byte[] hash;      // subtree only
+        final byte[] keyHash;   // leaf only
+        final byte[] valueHash; // leaf only
+
+        private Item(int[] path, byte[] hash, byte[] keyHash, byte[] valueHash) {
+            this.path = path;
+            this.hash = hash;
+            this.keyHash = keyHash;
+            this.valueHash = valueHash;
+        }
+
+        static Item subtree(int[] path, byte[] hash) {
+            return new Item(path, hash, null, null);
+        }
+
+        static Item leaf(byte[] keyHash, byte[] valueHash) {
+            return new Item(Nibbles.toNibbles(keyHash), null, keyHash, valueHash);
+        }
+
+        boolean isLeaf() {
+            return hash == null;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.jmt.store.JmtStore;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Lazy iterator over the leaves of one tree version in ascending key hash order.
+ *
+ * <p>The tree is walked depth-first with an explicit stack holding the pending siblings of the
+ * nodes on the current path, so memory is bounded by the tree depth rather than its size. The
+ * children of an internal node are fetched with one {@link JmtStore#getNodes(long, List)} call.
+ * Subtrees outside the prefix or before the start-after key hash are skipped without being loaded.
+ */
+final class JmtEntryIterator implements Iterator<JellyfishMerkleTree.Entry> {
+    private static final int[] EMPTY = new int[0];
+
+    private final JmtStore store;
+    private final long version;
+    private final int[] prefix;
+    private final int[] startAfter; // nullable => from the first leaf
+    private final Deque<Pending> stack = new ArrayDeque<>();
+    private JellyfishMerkleTree.Entry next;
+
+    JmtEntryIterator(JmtStore store, long version, byte[] keyHashPrefix, byte[] startAfterKeyHash) {
+        this.store = store;
+        this.version = version;
+        this.prefix = keyHashPrefix == null ? EMPTY : Nibbles.toNibbles(keyHashPrefix);
+        this.startAfter = startAfterKeyHash == null ? null : Nibbles.toNibbles(startAfterKeyHash);
+        store.getNode(version, NibblePath.EMPTY)
+                .ifPresent(root -> stack.push(new Pending(EMPTY, root.node())));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public JellyfishMerkleTree.Entry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JellyfishMerkleTree.Entry entry = next;
+        next = null;
+        return entry;
+    }
+
+    private JellyfishMerkleTree.Entry advance() {
+        while (!stack.isEmpty()) {
+            Pending pending = stack.pop();
+            if (pending.node instanceof JmtLeafNode) {
+                JmtLeafNode leaf = (JmtLeafNode) pending.node;
+                byte[] keyHash = leaf.keyHash();
+                if (accepts(Nibbles.toNibbles(keyHash))) {
+                    return new JellyfishMerkleTree.Entry(keyHash, store.getValueAt(keyHash, version).orElse(null));
+                }
+            } else if (pending.node instanceof JmtInternalNode) {
+                pushChildren((JmtInternalNode) pending.node, pending.path);
+            } else {
+                throw new IllegalStateException("Unknown node type: " + pending.node.getClass());
+            }
+        }
+        return null;
+    }
+
+    private void pushChildren(JmtInternalNode internal, int[] path) {
+        int bitmap = internal.bitmap();
+        List<int[]> childPaths = new ArrayList<>(16);
+        List<NibblePath> lookups = new ArrayList<>(16);
+        for (int nibble = 0; nibble < 16; nibble++) {
+            if ((bitmap & (1 << nibble)) == 0) continue;
+            int[] childPath = new int[path.length + 1];
+            System.arraycopy(path, 0, childPath, 0, path.length);
+            childPath[path.length] = nibble;
+            if (mayContain(childPath)) {
+                childPaths.add(childPath);
+                lookups.add(NibblePath.fromRaw(childPath));
+            }
+        }
+        if (lookups.isEmpty()) return;
+
+        List<Optional<JmtStore.NodeEntry>> children = store.getNodes(version, lookups);
+        for (int i = children.size() - 1; i >= 0; i--) {
+            int[] childPath = childPaths.get(i);
+            JmtStore.NodeEntry child = children.get(i).orElseThrow(() -> new IllegalStateException(
+                    "Missing node at " + NibblePath.fromRaw(childPath) + " for version " + version));
+            stack.push(new Pending(childPath, child.node()));
+        }
+    }
+
+    /**
+     * Returns whether the subtree below the path may hold leaves within the bounds.
+     */
+    private boolean mayContain(int[] path) {
+        int n = Math.min(path.length, prefix.length);
+        for (int i = 0; i < n; i++) {
+            if (path[i] != prefix[i]) return false;
+        }
+        if (startAfter == null) return true;
+        n = Math.min(path.length, startAfter.length);
+        for (int i = 0; i < n; i++) {
+            if (path[i] != startAfter[i]) return path[i] > startAfter[i];
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a leaf with the given key hash nibbles is within the bounds.
+     */
+    private boolean accepts(int[] keyNibbles) {
+        if (keyNibbles.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (keyNibbles[i] != prefix[i]) return false;
+        }
+        if (startAfter == null) return true;
+        int n = Math.min(keyNibbles.length, startAfter.length);
+        for (int i = 0; i < n; i++) {
+            if (keyNibbles[i] != startAfter[i]) return keyNibbles[i] > startAfter[i];
+        }
+        return keyNibbles.length > startAfter.length;
+    }
+
+    private static final class Pending {
+        final int[] path;
+        final JmtNode node;
+
+        Pending(int[] path, JmtNode node) {
+            this.path = path;
+            this.node = node;
+        }
+    }
+}
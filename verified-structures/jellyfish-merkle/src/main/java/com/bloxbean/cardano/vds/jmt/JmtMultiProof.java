@@ -0,0 +1,278 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import co.nstant.in.cbor.CborDecoder;
+import co.nstant.in.cbor.CborEncoder;
+import co.nstant.in.cbor.CborException;
+import co.nstant.in.cbor.model.Array;
+import co.nstant.in.cbor.model.ByteString;
+import co.nstant.in.cbor.model.DataItem;
+import co.nstant.in.cbor.model.SimpleValue;
+import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Proof for a set of keys against a single JMT root.
+ *
+ * <p>The proof is the part of the tree covering the union of the lookup paths of all keys. Every node
+ * on those paths appears exactly once, and children which are not on a lookup path are pruned to their
+ * hash. The verifier recomputes the hashes bottom-up, so the hashes of expanded children are not sent.</p>
+ *
+ * <p><b>Wire Format:</b>
+ * <pre>
+ * proof    = node / null                            ; null for the empty tree
+ * node     = internal / leaf
+ * internal = [0, [16 * child], compressedPath / null]
+ * leaf     = [1, keyHash, valueHash]
+ * child    = node / bstr(hash) / null               ; null for an empty slot
+ * </pre>
+ *
+ * @see JellyfishMerkleTree#getMultiProof(java.util.Collection, long)
+ * @see JmtProofVerifier#verifyMultiProof(byte[], java.util.Map, JmtMultiProof, com.bloxbean.cardano.vds.core.api.HashFunction, CommitmentScheme)
+ * @since 0.8.0
+ */
+public final class JmtMultiProof {
+
+    private static final int TYPE_INTERNAL = 0;
+    private static final int TYPE_LEAF = 1;
+
+    private final Item root;
+
+    private JmtMultiProof(Item root) {
+        this.root = root;
+    }
+
+    static JmtMultiProof of(Item root) {
+        return new JmtMultiProof(root);
+    }
+
+    static Item pruned(byte[] hash) {
+        return new Pruned(hash);
+    }
+
+    static Item internal(Item[] children, byte[] compressedPath) {
+        return new Internal(children, compressedPath);
+    }
+
+    static Item leaf(byte[] keyHash, byte[] valueHash) {
+        return new Leaf(keyHash, valueHash);
+    }
+
+    /**
+     * Returns whether the proof is for the empty tree.
+     *
+     * @return true if the proven tree is empty
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Computes the root hash of the proven tree.
+     *
+     * @param commitments the commitment scheme of the tree
+     * @return the root hash, or null for the empty tree
+     * @throws IllegalArgumentException if the proof is malformed
+     */
+    public byte[] computeRoot(CommitmentScheme commitments) {
+        return root == null ? null : hash(root, 0, commitments);
+    }
+
+    /**
+     * Looks up a key hash in the proven tree.
+     *
+     * @param keyHash the hashed key
+     * @return the value hash if the key is present, empty if the proof shows it is absent
+     * @throws IllegalArgumentException if the lookup path of the key is not covered by the proof
+     */
+    public Optional<byte[]> lookup(byte[] keyHash) {
+        int[] nibbles = Nibbles.toNibbles(keyHash);
+        Item item = root;
+        int depth = 0;
+        while (item instanceof Internal) {
+            if (depth >= nibbles.length) {
+                throw new IllegalArgumentException("Depth exceeds key length");
+            }
+            item = ((Internal) item).children[nibbles[depth++]];
+        }
+        if (item == null) {
+            return Optional.empty();
+        }
+        if (item instanceof Pruned) {
+            throw new IllegalArgumentException("Key is not covered by the proof");
+        }
+
+        // The leaf hash commits to the suffix below the leaf's position only
+        Leaf leaf = (Leaf) item;
+        int[] leafNibbles = Nibbles.toNibbles(leaf.keyHash);
+        boolean matches = leafNibbles.length == nibbles.length
+                && Arrays.equals(leafNibbles, depth, leafNibbles.length, nibbles, depth, nibbles.length);
+        return matches ? Optional.of(Arrays.copyOf(leaf.valueHash, leaf.valueHash.length)) : Optional.empty();
+    }
+
+    private static byte[] hash(Item item, int depth, CommitmentScheme commitments) {
+        if (item instanceof Pruned) {
+            return ((Pruned) item).hash;
+        }
+        if (item instanceof Leaf) {
+            Leaf leaf = (Leaf) item;
+            int[] keyNibbles = Nibbles.toNibbles(leaf.keyHash);
+            NibblePath suffix = depth >= keyNibbles.length
+                    ? NibblePath.EMPTY
+                    : NibblePath.fromRange(keyNibbles, depth, keyNibbles.length - depth);
+            return commitments.commitLeaf(suffix, leaf.valueHash);
+        }
+
+        Internal internal = (Internal) item;
+        byte[][] childHashes = new byte[16][];
+        for (int i = 0; i < 16; i++) {
+            Item child = internal.children[i];
+            childHashes[i] = child == null ? null : hash(child, depth + 1, commitments);
+        }
+        NibblePath prefix = internal.compressedPath != null
+                ? NibblePath.of(Nibbles.toNibbles(internal.compressedPath))
+                : NibblePath.EMPTY;
+        return commitments.commitBranch(prefix, childHashes);
+    }
+
+    // ======================================
+    // CBOR encoding
+    // ======================================
+
+    /**
+     * Encodes the proof to CBOR.
+     *
+     * @return the CBOR-encoded proof
+     */
+    public byte[] toCbor() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            new CborEncoder(baos).encode(encode(root));
+        } catch (CborException e) {
+            throw new IllegalStateException("Failed to encode JMT multiproof", e);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Decodes a proof produced by {@link #toCbor()}.
+     *
+     * @param cbor the CBOR-encoded proof
+     * @return the decoded proof
+     * @throws IllegalArgumentException if the bytes are not a valid multiproof
+     */
+    public static JmtMultiProof fromCbor(byte[] cbor) {
+        Objects.requireNonNull(cbor, "cbor");
+        try {
+            List<DataItem> items = new CborDecoder(new ByteArrayInputStream(cbor)).decode();
+            if (items.size() != 1) {
+                throw new IllegalArgumentException("Invalid JMT multiproof CBOR encoding");
+            }
+            return new JmtMultiProof(decode(items.get(0), false));
+        } catch (CborException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed to decode JMT multiproof", e);
+        }
+    }
+
+    private static DataItem encode(Item item) {
+        if (item == null) {
+            return SimpleValue.NULL;
+        }
+        if (item instanceof Pruned) {
+            return new ByteString(((Pruned) item).hash);
+        }
+        Array array = new Array();
+        if (item instanceof Internal) {
+            Internal internal = (Internal) item;
+            Array children = new Array();
+            for (Item child : internal.children) {
+                children.add(encode(child));
+            }
+            array.add(new UnsignedInteger(TYPE_INTERNAL));
+            array.add(children);
+            array.add(internal.compressedPath == null ? SimpleValue.NULL : new ByteString(internal.compressedPath));
+        } else {
+            Leaf leaf = (Leaf) item;
+            array.add(new UnsignedInteger(TYPE_LEAF));
+            array.add(new ByteString(leaf.keyHash));
+            array.add(new ByteString(leaf.valueHash));
+        }
+        return array;
+    }
+
+    private static Item decode(DataItem di, boolean allowPruned) {
+        if (SimpleValue.NULL.equals(di)) {
+            return null;
+        }
+        if (di instanceof ByteString) {
+            if (!allowPruned) {
+                throw new IllegalArgumentException("Unexpected pruned node");
+            }
+            return new Pruned(((ByteString) di).getBytes());
+        }
+        if (!(di instanceof Array)) {
+            throw new IllegalArgumentException("Invalid JMT multiproof node: " + di);
+        }
+        List<DataItem> fields = ((Array) di).getDataItems();
+        int type = ((UnsignedInteger) fields.get(0)).getValue().intValueExact();
+        if (type == TYPE_INTERNAL) {
+            List<DataItem> encodedChildren = ((Array) fields.get(1)).getDataItems();
+            if (encodedChildren.size() != 16) {
+                throw new IllegalArgumentException("Internal node must have 16 children");
+            }
+            Item[] children = new Item[16];
+            for (int i = 0; i < 16; i++) {
+                children[i] = decode(encodedChildren.get(i), true);
+            }
+            DataItem path = fields.get(2);
+            return new Internal(children, path instanceof ByteString ? ((ByteString) path).getBytes() : null);
+        }
+        if (type == TYPE_LEAF) {
+            return new Leaf(((ByteString) fields.get(1)).getBytes(), ((ByteString) fields.get(2)).getBytes());
+        }
+        throw new IllegalArgumentException("Unknown JMT multiproof node type: " + type);
+    }
+
+    // ======================================
+    // Proof nodes
+    // ======================================
+
+    abstract static class Item {
+    }
+
+    private static final class Pruned extends Item {
+        final byte[] hash;
+
+        Pruned(byte[] hash) {
+            this.hash = hash;
+        }
+    }
+
+    private static final class Internal extends Item {
+        final Item[] children;
+        final byte[] compressedPath;
+
+        Internal(Item[] children, byte[] compressedPath) {
+            this.children = children;
+            this.compressedPath = compressedPath;
+        }
+    }
+
+    private static final class Leaf extends Item {
+        final byte[] keyHash;
+        final byte[] valueHash;
+
+        Leaf(byte[] keyHash, byte[] valueHash) {
+            this.keyHash = keyHash;
+            this.valueHash = valueHash;
+        }
+    }
+}
@@ -7,7 +7,9 @@ import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Verifies {@link JmtProof} instances against a root commitment.
@@ -43,6 +45,49 @@ public final class JmtProofVerifier {
         }
     }
 
+    /**
+     * Verifies a {@link JmtMultiProof} for a set of keys.
+     *
+     * <p>The proof is valid if it hashes to the root and, for every entry, shows the key with the given
+     * value or, for a null value, shows that the key is absent. A key whose lookup path is not covered
+     * by the proof fails verification.</p>
+     *
+     * @param rootHash    the expected root hash
+     * @param entries     the keys mapped to their expected values, or null for non-inclusion
+     * @param proof       the multiproof
+     * @param hashFn      the hash function of the tree
+     * @param commitments the commitment scheme of the tree
+     * @return true if the proof is valid for all entries
+     */
+    public static boolean verifyMultiProof(byte[] rootHash, Map<byte[], byte[]> entries, JmtMultiProof proof,
+                                           HashFunction hashFn, CommitmentScheme commitments) {
+        Objects.requireNonNull(rootHash, "rootHash");
+        Objects.requireNonNull(entries, "entries");
+        Objects.requireNonNull(proof, "proof");
+        Objects.requireNonNull(hashFn, "hashFn");
+        Objects.requireNonNull(commitments, "commitments");
+
+        byte[] computed = proof.computeRoot(commitments);
+        if (!Arrays.equals(rootHash, computed == null ? commitments.nullHash() : computed)) {
+            return false;
+        }
+
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            Optional<byte[]> valueHash;
+            try {
+                valueHash = proof.lookup(hashFn.digest(entry.getKey()));
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+            byte[] value = entry.getValue();
+            if (value == null ? valueHash.isPresent()
+                    : valueHash.isEmpty() || !Arrays.equals(hashFn.digest(value), valueHash.get())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean verifyInclusion(byte[] rootHash, byte[] value, JmtProof proof,
                                            HashFunction hashFn, CommitmentScheme commitments,
                                            byte[] keyHash, int[] nibbles) {
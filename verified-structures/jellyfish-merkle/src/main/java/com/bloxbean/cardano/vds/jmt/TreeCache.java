@@ -268,6 +268,78 @@ public class TreeCache {
         return nextVersion;
     }
 
+    // ===== Subtree Forking (parallel commits) =====
+
+    /**
+     * Private constructor for {@link #forkSubtree(int)}. Shares the store and frozen state,
+     * which are only read by the fork.
+     */
+    private TreeCache(TreeCache parent) {
+        this.store = parent.store;
+        this.nextVersion = parent.nextVersion;
+        this.baseVersion = parent.baseVersion;
+        this.nodeCache = new HashMap<>();
+        this.staleNodeIndexCache = new HashSet<>();
+        this.frozenCache = parent.frozenCache;
+        this.rootNodeKey = parent.rootNodeKey;
+    }
+
+    /**
+     * Creates a cache for updating the subtree under the root's child at the given nibble,
+     * independently of the other subtrees.
+     *
+     * <p>The fork starts with the staged nodes of this cache under that child. It must only
+     * be used for nodes under that child, and can be used from another thread as long as this
+     * cache is not modified until the fork is merged back with {@link #mergeSubtree(int, TreeCache)}.
+     *
+     * @param nibble the root child nibble (0-15)
+     * @return the fork
+     */
+    TreeCache forkSubtree(int nibble) {
+        TreeCache fork = new TreeCache(this);
+        for (Map.Entry<NibblePath, NodeEntry> entry : nodeCache.entrySet()) {
+            if (isUnderChild(entry.getKey(), nibble)) {
+                fork.nodeCache.put(entry.getKey(), entry.getValue());
+                if (entry.getValue().node() instanceof JmtLeafNode) {
+                    fork.numNewLeaves++;
+                }
+            }
+        }
+        return fork;
+    }
+
+    /**
+     * Replaces the staged state under the root's child at the given nibble with the state of a fork.
+     *
+     * @param nibble the root child nibble the fork was created for
+     * @param fork   the fork created with {@link #forkSubtree(int)}
+     */
+    void mergeSubtree(int nibble, TreeCache fork) {
+        Iterator<Map.Entry<NibblePath, NodeEntry>> it = nodeCache.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<NibblePath, NodeEntry> entry = it.next();
+            if (isUnderChild(entry.getKey(), nibble)) {
+                if (entry.getValue().node() instanceof JmtLeafNode) {
+                    numNewLeaves--;
+                }
+                it.remove();
+            }
+        }
+        nodeCache.putAll(fork.nodeCache);
+        numNewLeaves += fork.numNewLeaves;
+
+        for (NodeKey staleKey : fork.staleNodeIndexCache) {
+            if (!staleNodeIndexCache.add(staleKey)) {
+                throw new IllegalStateException("Node " + staleKey + " marked stale twice");
+            }
+        }
+        numStaleLeaves += fork.numStaleLeaves;
+    }
+
+    private static boolean isUnderChild(NibblePath path, int nibble) {
+        return !path.isEmpty() && path.get(0) == nibble;
+    }
+
     /**
      * Freezes the current transaction state, moving it to the frozen cache.
      *
@@ -4,6 +4,7 @@ import com.bloxbean.cardano.vds.core.NibblePath;
 import com.bloxbean.cardano.vds.jmt.JmtNode;
 import com.bloxbean.cardano.vds.jmt.NodeKey;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +36,20 @@ public interface JmtStore extends AutoCloseable {
      */
     Optional<NodeEntry> getNode(long version, NibblePath path);
 
+    /**
+     * Fetches the nodes on several paths as of {@code version}, e.g. the children of an
+     * internal node. Results are in the order of the paths. The default implementation calls
+     * {@link #getNode(long, NibblePath)} for each path; stores should override it when the
+     * lookups can share work.
+     */
+    default List<Optional<NodeEntry>> getNodes(long version, List<NibblePath> paths) {
+        List<Optional<NodeEntry>> nodes = new ArrayList<>(paths.size());
+        for (NibblePath path : paths) {
+            nodes.add(getNode(version, path));
+        }
+        return nodes;
+    }
+
     /**
      * Loads a node by its exact {@link NodeKey}.
      */
@@ -79,6 +94,16 @@ public interface JmtStore extends AutoCloseable {
      */
     CommitBatch beginCommit(long version, CommitConfig config);
 
+    /**
+     * Begins a bulk load of a complete tree as version {@code version}, e.g. when importing an
+     * existing dataset into an empty store. Nodes and values may be written in any order and can
+     * far exceed what a regular commit holds. Stores should override this with their fastest bulk
+     * path; the default implementation uses {@link #beginCommit(long, CommitConfig)}.
+     */
+    default CommitBatch beginBulkLoad(long version) {
+        return beginCommit(version, CommitConfig.of(false));
+    }
+
     /**
      * Lists stale nodes whose deletion version is less than or equal to the
      * supplied version.
@@ -0,0 +1,128 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.JellyfishMerkleTree.CommitResult;
+import com.bloxbean.cardano.vds.jmt.JellyfishMerkleTree.ValueOperation;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that {@link JellyfishMerkleTree#putParallel(long, Map)} produces the same
+ * commit results as the sequential {@link JellyfishMerkleTree#put(long, Map)}.
+ */
+class JellyfishMerkleTreeParallelPutTest {
+
+    private static final HashFunction HASH = Blake2b256::digest;
+    private static final CommitmentScheme COMMITMENTS = new ClassicJmtCommitmentScheme(HASH);
+
+    private final InMemoryJmtStore sequentialStore = new InMemoryJmtStore();
+    private final InMemoryJmtStore parallelStore = new InMemoryJmtStore();
+    private final JellyfishMerkleTree sequential = new JellyfishMerkleTree(sequentialStore, COMMITMENTS, HASH);
+    private final JellyfishMerkleTree parallel = new JellyfishMerkleTree(parallelStore, COMMITMENTS, HASH);
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> updates(int from, int to, String valuePrefix) {
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            updates.put(bytes("key-" + i), bytes(valuePrefix + i));
+        }
+        return updates;
+    }
+
+    private void putAndCompare(long version, Map<byte[], byte[]> updates) {
+        CommitResult expected = sequential.put(version, updates);
+        CommitResult actual = parallel.putParallel(version, updates);
+        assertSameResult(expected, actual);
+    }
+
+    private static void assertSameResult(CommitResult expected, CommitResult actual) {
+        assertEquals(expected.version(), actual.version());
+        assertArrayEquals(expected.rootHash(), actual.rootHash(), "root hash");
+
+        assertEquals(new ArrayList<>(expected.nodes().keySet()), new ArrayList<>(actual.nodes().keySet()), "node keys");
+        for (Map.Entry<NodeKey, JmtNode> entry : expected.nodes().entrySet()) {
+            assertArrayEquals(entry.getValue().encode(), actual.nodes().get(entry.getKey()).encode(),
+                    "node " + entry.getKey());
+        }
+
+        assertEquals(expected.staleNodes(), actual.staleNodes(), "stale nodes");
+
+        assertEquals(expected.valueOperations().size(), actual.valueOperations().size());
+        for (int i = 0; i < expected.valueOperations().size(); i++) {
+            ValueOperation e = expected.valueOperations().get(i);
+            ValueOperation a = actual.valueOperations().get(i);
+            assertEquals(e.type(), a.type());
+            assertArrayEquals(e.keyHash(), a.keyHash());
+            assertArrayEquals(e.value(), a.value());
+        }
+    }
+
+    @Test
+    void genesisBatch_matchesSequential() {
+        putAndCompare(0, updates(0, 2000, "v"));
+    }
+
+    @Test
+    void multipleVersions_matchSequential() {
+        putAndCompare(0, updates(0, 1000, "v"));
+        // Updates of existing keys and new keys
+        putAndCompare(1, updates(500, 1800, "w"));
+        // Small batch, applied sequentially
+        putAndCompare(2, updates(1790, 1810, "x"));
+        putAndCompare(3, updates(0, 3000, "y"));
+
+        assertArrayEquals(sequential.get(bytes("key-42")).orElseThrow(), parallel.get(bytes("key-42")).orElseThrow());
+    }
+
+    @Test
+    void singleLeafRoot_thenLargeBatch_matchesSequential() {
+        putAndCompare(0, updates(0, 1, "v"));
+        putAndCompare(1, updates(0, 1500, "w"));
+    }
+
+    @Test
+    void randomizedBatches_matchSequential() {
+        Random random = new Random(7);
+        for (long version = 0; version < 5; version++) {
+            Map<byte[], byte[]> updates = new LinkedHashMap<>();
+            int size = JellyfishMerkleTree.PARALLEL_THRESHOLD + random.nextInt(1500);
+            for (int i = 0; i < size; i++) {
+                byte[] key = new byte[1 + random.nextInt(16)];
+                random.nextBytes(key);
+                byte[] value = new byte[1 + random.nextInt(32)];
+                random.nextBytes(value);
+                updates.put(key, value);
+            }
+            putAndCompare(version, updates);
+        }
+    }
+
+    @Test
+    void proofsFromParallelCommit_verify() {
+        Map<byte[], byte[]> updates = updates(0, 1000, "v");
+        CommitResult result = parallel.putParallel(0, updates);
+
+        byte[] key = bytes("key-123");
+        byte[] wire = parallel.getProofWire(key, 0).orElseThrow();
+        assertTrue(parallel.verifyProofWire(result.rootHash(), key, bytes("v123"), true, wire));
+    }
+
+    @Test
+    void nullValue_throws() {
+        Map<byte[], byte[]> updates = updates(0, 500, "v");
+        updates.put(bytes("null-value"), null);
+
+        assertThrows(NullPointerException.class, () -> parallel.putParallel(0, updates));
+    }
+}
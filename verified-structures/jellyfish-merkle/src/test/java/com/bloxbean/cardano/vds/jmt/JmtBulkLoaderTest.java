@@ -0,0 +1,134 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.BulkLoadResult;
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmtBulkLoaderTest {
+
+    private static final HashFunction HASH = Blake2b256::digest;
+    private static final CommitmentScheme COMMITMENTS = new ClassicJmtCommitmentScheme(HASH);
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> updates(int from, int to, String valuePrefix) {
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            updates.put(bytes("key-" + i), bytes(valuePrefix + i));
+        }
+        return updates;
+    }
+
+    private static JellyfishMerkleTree tree(InMemoryJmtStore store) {
+        return new JellyfishMerkleTree(store, COMMITMENTS, HASH);
+    }
+
+    @Test
+    void bulkLoad_matchesIncrementalRootAndProofs() {
+        for (int size : new int[]{1, 2, 3, 17, 256, 5000}) {
+            Map<byte[], byte[]> entries = updates(0, size, "v");
+            JellyfishMerkleTree incremental = tree(new InMemoryJmtStore());
+            byte[] expectedRoot = incremental.put(0, entries).rootHash();
+
+            InMemoryJmtStore store = new InMemoryJmtStore();
+            BulkLoadResult result;
+            try (JmtBulkLoader loader = new JmtBulkLoader(store, COMMITMENTS, HASH, 0)) {
+                result = loader.load(entries);
+            }
+
+            assertArrayEquals(expectedRoot, result.rootHash(), "size " + size);
+            assertEquals(size, result.entries());
+            JellyfishMerkleTree loaded = tree(store);
+            assertArrayEquals(expectedRoot, store.rootHash(0).orElseThrow());
+            for (int i = 0; i < size; i += Math.max(1, size / 50)) {
+                byte[] key = bytes("key-" + i);
+                assertArrayEquals(bytes("v" + i), loaded.get(key, 0).orElseThrow());
+                assertArrayEquals(incremental.getProofWire(key, 0).orElseThrow(),
+                        loaded.getProofWire(key, 0).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void bulkLoadedTree_acceptsFurtherVersions() {
+        JellyfishMerkleTree incremental = tree(new InMemoryJmtStore());
+        incremental.put(0, updates(0, 2000, "v"));
+
+        InMemoryJmtStore store = new InMemoryJmtStore();
+        try (JmtBulkLoader loader = new JmtBulkLoader(store, COMMITMENTS, HASH, 0)) {
+            loader.load(updates(0, 2000, "v"));
+        }
+        JellyfishMerkleTree loaded = tree(store);
+
+        Map<byte[], byte[]> next = updates(1500, 2500, "w");
+        byte[] expected = incremental.put(1, next).rootHash();
+        assertArrayEquals(expected, loaded.put(1, next).rootHash());
+        assertArrayEquals(bytes("v5"), loaded.get(bytes("key-5"), 1).orElseThrow());
+        assertArrayEquals(bytes("w2400"), loaded.get(bytes("key-2400"), 1).orElseThrow());
+    }
+
+    @Test
+    void add_streamsSortedEntries() {
+        Map<byte[], byte[]> entries = updates(0, 300, "v");
+        List<byte[]> keys = new ArrayList<>(entries.keySet());
+        keys.sort((a, b) -> Arrays.compareUnsigned(HASH.digest(a), HASH.digest(b)));
+
+        InMemoryJmtStore store = new InMemoryJmtStore();
+        BulkLoadResult result;
+        try (JmtBulkLoader loader = new JmtBulkLoader(store, COMMITMENTS, HASH, 7)) {
+            for (byte[] key : keys) {
+                loader.add(key, entries.get(key));
+            }
+            result = loader.finish();
+        }
+
+        assertArrayEquals(tree(new InMemoryJmtStore()).put(7, entries).rootHash(), result.rootHash());
+        assertEquals(7, store.latestRoot().orElseThrow().version());
+        assertTrue(result.nodes() > 300);
+    }
+
+    @Test
+    void add_rejectsUnsortedOrDuplicateKeys() {
+        byte[] a = bytes("a");
+        byte[] b = bytes("b");
+        boolean aFirst = Arrays.compareUnsigned(HASH.digest(a), HASH.digest(b)) < 0;
+        byte[] first = aFirst ? a : b;
+        byte[] second = aFirst ? b : a;
+
+        try (JmtBulkLoader loader = new JmtBulkLoader(new InMemoryJmtStore(), COMMITMENTS, HASH, 0)) {
+            loader.add(second, bytes("1"));
+            assertThrows(IllegalArgumentException.class, () -> loader.add(first, bytes("2")));
+            assertThrows(IllegalArgumentException.class, () -> loader.add(second, bytes("3")));
+        }
+    }
+
+    @Test
+    void constructor_rejectsNonEmptyStore() {
+        InMemoryJmtStore store = new InMemoryJmtStore();
+        tree(store).put(0, updates(0, 10, "v"));
+
+        assertThrows(IllegalStateException.class, () -> new JmtBulkLoader(store, COMMITMENTS, HASH, 1));
+    }
+
+    @Test
+    void finish_emptyLoadCommitsEmptyRoot() {
+        InMemoryJmtStore store = new InMemoryJmtStore();
+        try (JmtBulkLoader loader = new JmtBulkLoader(store, COMMITMENTS, HASH, 0)) {
+            BulkLoadResult result = loader.finish();
+            assertArrayEquals(new byte[32], result.rootHash());
+            assertEquals(0, result.nodes());
+            assertThrows(IllegalStateException.class, loader::finish);
+        }
+    }
+}
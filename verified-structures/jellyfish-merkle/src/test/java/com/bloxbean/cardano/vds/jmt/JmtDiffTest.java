@@ -0,0 +1,98 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.StateChange;
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmtDiffTest {
+
+    private static final HashFunction HASH = Blake2b256::digest;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final TestCountingStore store = new TestCountingStore();
+    private final JellyfishMerkleTree tree =
+            new JellyfishMerkleTree(store, new ClassicJmtCommitmentScheme(HASH), HASH);
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> updates(int from, int to, String valuePrefix) {
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            updates.put(bytes("key-" + i), bytes(valuePrefix + i));
+        }
+        return updates;
+    }
+
+    private static String describe(StateChange change) {
+        return change.type() + " " + HEX.formatHex(change.keyHash()) + " "
+                + (change.oldValue() == null ? "-" : new String(change.oldValue(), StandardCharsets.UTF_8)) + " "
+                + (change.newValue() == null ? "-" : new String(change.newValue(), StandardCharsets.UTF_8));
+    }
+
+    private static String line(String type, int i, String old, String now) {
+        return type + " " + HEX.formatHex(HASH.digest(bytes("key-" + i))) + " " + old + " " + now;
+    }
+
+    @Test
+    void diff_returnsAddedAndModifiedInKeyHashOrder() {
+        tree.put(1, updates(0, 2000, "v"));
+        Map<byte[], byte[]> v2 = updates(2000, 2040, "v");
+        for (int i = 3; i < 2000; i += 53) {
+            v2.put(bytes("key-" + i), bytes("w" + i));
+        }
+        v2.put(bytes("key-7"), bytes("v7")); // rewritten with the same value: not a change
+        tree.put(2, v2);
+
+        TreeMap<String, String> expected = new TreeMap<>();
+        for (int i = 2000; i < 2040; i++) {
+            expected.put(HEX.formatHex(HASH.digest(bytes("key-" + i))), line("ADDED", i, "-", "v" + i));
+        }
+        for (int i = 3; i < 2000; i += 53) {
+            expected.put(HEX.formatHex(HASH.digest(bytes("key-" + i))), line("MODIFIED", i, "v" + i, "w" + i));
+        }
+
+        List<String> actual = tree.diff(1, 2).map(JmtDiffTest::describe).collect(Collectors.toList());
+        assertEquals(new ArrayList<>(expected.values()), actual);
+
+        // Reversed direction: added keys are removed, modifications swap values
+        List<StateChange> reversed = tree.diff(2, 1).collect(Collectors.toList());
+        assertEquals(expected.size(), reversed.size());
+        assertEquals(40, reversed.stream().filter(c -> c.type() == StateChange.Type.REMOVED).count());
+        assertTrue(reversed.stream().allMatch(c -> c.key() == null));
+    }
+
+    @Test
+    void diff_missingVersionIsEmptyTree() {
+        tree.put(1, updates(0, 100, "v"));
+
+        assertEquals(100, tree.diff(0, 1).filter(c -> c.type() == StateChange.Type.ADDED).count());
+        assertEquals(100, tree.diff(1, 0).filter(c -> c.type() == StateChange.Type.REMOVED).count());
+        assertEquals(0, tree.diff(1, 1).count());
+    }
+
+    @Test
+    void diff_readsNodesProportionalToChanges() {
+        tree.put(1, updates(0, 20000, "v"));
+        Map<byte[], byte[]> v2 = new LinkedHashMap<>();
+        v2.put(bytes("key-42"), bytes("changed"));
+        tree.put(2, v2);
+
+        store.nodeLookups = 0;
+        List<StateChange> changes = tree.diff(1, 2).collect(Collectors.toList());
+
+        assertEquals(List.of(line("MODIFIED", 42, "v42", "changed")),
+                changes.stream().map(JmtDiffTest::describe).collect(Collectors.toList()));
+        // One path per version, a handful of levels deep
+        assertTrue(store.nodeLookups <= 20, "lookups: " + store.nodeLookups);
+    }
+}
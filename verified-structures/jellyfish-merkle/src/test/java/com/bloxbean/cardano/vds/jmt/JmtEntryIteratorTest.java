@@ -0,0 +1,118 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmtEntryIteratorTest {
+
+    private static final HashFunction HASH = Blake2b256::digest;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final JellyfishMerkleTree tree =
+            new JellyfishMerkleTree(new InMemoryJmtStore(), new ClassicJmtCommitmentScheme(HASH), HASH);
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> updates(int from, int to, String valuePrefix) {
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            updates.put(bytes("key-" + i), bytes(valuePrefix + i));
+        }
+        return updates;
+    }
+
+    /** Expected key hashes (hex) mapped to values, in key hash order. */
+    private static TreeMap<String, String> expected(int from, int to, String valuePrefix) {
+        TreeMap<String, String> expected = new TreeMap<>();
+        for (int i = from; i < to; i++) {
+            expected.put(HEX.formatHex(HASH.digest(bytes("key-" + i))), valuePrefix + i);
+        }
+        return expected;
+    }
+
+    private static LinkedHashMap<String, String> collect(Iterator<JellyfishMerkleTree.Entry> it) {
+        LinkedHashMap<String, String> actual = new LinkedHashMap<>();
+        while (it.hasNext()) {
+            JellyfishMerkleTree.Entry entry = it.next();
+            actual.put(HEX.formatHex(entry.keyHash()), new String(entry.value(), StandardCharsets.UTF_8));
+        }
+        return actual;
+    }
+
+    @Test
+    void iterator_returnsAllEntriesInKeyHashOrder() {
+        tree.put(0, updates(0, 1000, "v"));
+
+        LinkedHashMap<String, String> actual = collect(tree.iterator(0));
+
+        assertEquals(new ArrayList<>(expected(0, 1000, "v").entrySet()), new ArrayList<>(actual.entrySet()));
+    }
+
+    @Test
+    void historicalVersion_returnsItsOwnValues() {
+        tree.put(0, updates(0, 300, "v"));
+        tree.put(1, updates(0, 300, "w"));
+        tree.put(2, updates(300, 400, "w"));
+
+        assertEquals(expected(0, 300, "v"), collect(tree.iterator(0)));
+        assertEquals(expected(0, 300, "w"), collect(tree.iterator(1)));
+        assertEquals(400, tree.stream(2).count());
+    }
+
+    @Test
+    void prefixAndStartAfter_limitTheRange() {
+        tree.put(0, updates(0, 1000, "v"));
+
+        List<String> byPrefix = tree.stream(0, new byte[]{(byte) 0xc1}, null)
+                .map(e -> HEX.formatHex(e.keyHash()))
+                .collect(Collectors.toList());
+        List<String> expectedByPrefix = expected(0, 1000, "v").keySet().stream()
+                .filter(k -> k.startsWith("c1"))
+                .collect(Collectors.toList());
+        assertFalse(expectedByPrefix.isEmpty());
+        assertEquals(expectedByPrefix, byPrefix);
+
+        List<String> afterBound = tree.stream(0, null, new byte[]{(byte) 0xf0})
+                .map(e -> HEX.formatHex(e.keyHash()))
+                .collect(Collectors.toList());
+        assertEquals(new ArrayList<>(expected(0, 1000, "v").tailMap("f0", false).keySet()), afterBound);
+    }
+
+    @Test
+    void startAfter_pagesThroughAllEntries() {
+        tree.put(0, updates(0, 500, "v"));
+
+        List<String> paged = new ArrayList<>();
+        byte[] last = null;
+        do {
+            Iterator<JellyfishMerkleTree.Entry> it = tree.iterator(0, null, last);
+            last = null;
+            for (int i = 0; i < 41 && it.hasNext(); i++) {
+                JellyfishMerkleTree.Entry entry = it.next();
+                paged.add(HEX.formatHex(entry.keyHash()));
+                last = entry.keyHash();
+            }
+        } while (last != null);
+
+        assertEquals(new ArrayList<>(expected(0, 500, "v").keySet()), paged);
+    }
+
+    @Test
+    void missingVersion_hasNoEntries() {
+        assertFalse(tree.iterator(5).hasNext());
+
+        tree.put(0, updates(0, 1, "v"));
+        assertEquals(1, tree.stream(0).count());
+    }
+}
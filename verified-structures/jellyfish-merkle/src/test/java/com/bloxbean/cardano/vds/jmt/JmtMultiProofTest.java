@@ -0,0 +1,127 @@
+package com.bloxbean.cardano.vds.jmt;
+
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.jmt.commitment.ClassicJmtCommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.jmt.store.InMemoryJmtStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmtMultiProofTest {
+
+    private static final HashFunction HASH = Blake2b256::digest;
+    private static final CommitmentScheme COMMITMENTS = new ClassicJmtCommitmentScheme(HASH);
+
+    private final InMemoryJmtStore store = new InMemoryJmtStore();
+    private final JellyfishMerkleTree tree = new JellyfishMerkleTree(store, COMMITMENTS, HASH);
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> updates(int from, int to, String valuePrefix) {
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            updates.put(bytes("key-" + i), bytes(valuePrefix + i));
+        }
+        return updates;
+    }
+
+    private static List<byte[]> keys(int... ids) {
+        List<byte[]> keys = new ArrayList<>();
+        for (int id : ids) {
+            keys.add(bytes("key-" + id));
+        }
+        return keys;
+    }
+
+    @Test
+    void inclusionAndNonInclusion_verify() {
+        byte[] root = tree.put(0, updates(0, 1000, "v")).rootHash();
+
+        JmtMultiProof proof = tree.getMultiProof(keys(1, 42, 999, 5000, 5001), 0).orElseThrow();
+
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        entries.put(bytes("key-1"), bytes("v1"));
+        entries.put(bytes("key-42"), bytes("v42"));
+        entries.put(bytes("key-999"), bytes("v999"));
+        entries.put(bytes("key-5000"), null);
+        entries.put(bytes("key-5001"), null);
+        assertTrue(JmtProofVerifier.verifyMultiProof(root, entries, proof, HASH, COMMITMENTS));
+
+        byte[] wire = tree.getMultiProofWire(keys(1, 42, 999, 5000, 5001), 0).orElseThrow();
+        assertTrue(tree.verifyMultiProofWire(root, entries, wire));
+    }
+
+    @Test
+    void wrongValueOrAbsentClaim_fails() {
+        byte[] root = tree.put(0, updates(0, 500, "v")).rootHash();
+        JmtMultiProof proof = tree.getMultiProof(keys(7, 8), 0).orElseThrow();
+
+        assertFalse(JmtProofVerifier.verifyMultiProof(root, Map.of(bytes("key-7"), bytes("other")),
+                proof, HASH, COMMITMENTS));
+
+        Map<byte[], byte[]> absent = new HashMap<>();
+        absent.put(bytes("key-8"), null);
+        assertFalse(JmtProofVerifier.verifyMultiProof(root, absent, proof, HASH, COMMITMENTS));
+    }
+
+    @Test
+    void keyNotCoveredByProof_fails() {
+        byte[] root = tree.put(0, updates(0, 500, "v")).rootHash();
+        JmtMultiProof proof = tree.getMultiProof(keys(7), 0).orElseThrow();
+
+        assertFalse(JmtProofVerifier.verifyMultiProof(root, Map.of(bytes("key-123"), bytes("v123")),
+                proof, HASH, COMMITMENTS));
+    }
+
+    @Test
+    void historicalVersion_verifiesAgainstItsRoot() {
+        byte[] root0 = tree.put(0, updates(0, 300, "v")).rootHash();
+        byte[] root1 = tree.put(1, updates(0, 300, "w")).rootHash();
+
+        byte[] wire = tree.getMultiProofWire(keys(3, 4), 0).orElseThrow();
+        Map<byte[], byte[]> entries = Map.of(bytes("key-3"), bytes("v3"), bytes("key-4"), bytes("v4"));
+
+        assertTrue(tree.verifyMultiProofWire(root0, entries, wire));
+        assertFalse(tree.verifyMultiProofWire(root1, entries, wire));
+    }
+
+    @Test
+    void singleLeafTree_verifies() {
+        byte[] root = tree.put(0, updates(0, 1, "v")).rootHash();
+        byte[] wire = tree.getMultiProofWire(keys(0, 1), 0).orElseThrow();
+
+        Map<byte[], byte[]> entries = new HashMap<>();
+        entries.put(bytes("key-0"), bytes("v0"));
+        entries.put(bytes("key-1"), null);
+        assertTrue(tree.verifyMultiProofWire(root, entries, wire));
+    }
+
+    @Test
+    void missingVersion_returnsEmpty() {
+        assertTrue(tree.getMultiProof(keys(1), 3).isEmpty());
+    }
+
+    @Test
+    void multiProof_isSmallerThanSingleProofs() {
+        tree.put(0, updates(0, 2000, "v"));
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            keys.add(bytes("key-" + (i * 7)));
+        }
+
+        int singleBytes = 0;
+        for (byte[] key : keys) {
+            singleBytes += tree.getProofWire(key, 0).orElseThrow().length;
+        }
+        int multiBytes = tree.getMultiProofWire(keys, 0).orElseThrow().length;
+
+        assertTrue(multiBytes < singleBytes, multiBytes + " >= " + singleBytes);
+    }
+}
@@ -50,6 +50,12 @@ final class TestCountingStore implements JmtStore {
         return delegate.getValue(keyHash);
     }
 
+    @Override
+    public Optional<byte[]> getValueAt(byte[] keyHash, long version) {
+        valueLookups++;
+        return delegate.getValueAt(keyHash, version);
+    }
+
     @Override
     public CommitBatch beginCommit(long version, CommitConfig config) {
         return delegate.beginCommit(version, config);
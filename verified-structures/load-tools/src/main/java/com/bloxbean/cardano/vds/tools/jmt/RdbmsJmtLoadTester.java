@@ -17,6 +17,9 @@ import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -39,6 +42,12 @@ import java.util.concurrent.ThreadLocalRandom;
  * ./gradlew :verified-structures:load-tools:run \
  *     --args="jmt-rdbms --records=100000 --batch=1000 --jdbc-url=jdbc:postgresql://localhost/testdb?user=postgres"
  *
+ * # Concurrent proof serving, pooled vs. a new connection per call
+ * ./gradlew :verified-structures:load-tools:run \
+ *     --args="jmt-rdbms --records=100000 --db=h2 --path=/tmp/jmt-h2 --read-proofs=20000 --readers=8"
+ * ./gradlew :verified-structures:load-tools:run \
+ *     --args="jmt-rdbms --records=100000 --db=h2 --path=/tmp/jmt-h2b --read-proofs=20000 --readers=8 --no-pool"
+ *
  * # In-memory performance baseline
  * ./gradlew :verified-structures:load-tools:run --args="jmt-rdbms --records=100000 --batch=1000 --memory"
  * </pre>
@@ -66,21 +75,15 @@ public final class RdbmsJmtLoadTester {
 
             if (options.jdbcUrl != null) {
                 // Custom JDBC URL with user/password
-                dbConfig = DbConfig.builder()
-                        .jdbcUrl(options.jdbcUrl, options.dbUser, options.dbPassword)
-                    .build();
+                dbConfig = buildDbConfig(options.jdbcUrl, options.dbUser, options.dbPassword, options);
             } else if (options.dbType.equalsIgnoreCase("postgresql") || options.dbType.equalsIgnoreCase("postgres")) {
                 // PostgreSQL with separate host/database/user/password
                 String jdbcUrl = buildPostgreSqlJdbcUrl(options);
-                dbConfig = DbConfig.builder()
-                        .jdbcUrl(jdbcUrl, options.dbUser, options.dbPassword)
-                    .build();
+                dbConfig = buildDbConfig(jdbcUrl, options.dbUser, options.dbPassword, options);
             } else {
-                // H2/SQLite - simpleJdbcUrl (no user/password needed)
+                // H2/SQLite - no user/password needed
                 String jdbcUrl = buildJdbcUrl(options);
-                dbConfig = DbConfig.builder()
-                    .simpleJdbcUrl(jdbcUrl)
-                    .build();
+                dbConfig = buildDbConfig(jdbcUrl, null, null, options);
             }
 
             // Create schema
@@ -88,10 +91,28 @@ public final class RdbmsJmtLoadTester {
 
             try (RdbmsJmtStore store = new RdbmsJmtStore(dbConfig)) {
                 runLoad(store, hashFn, commitments, options);
+            } finally {
+                if (dbConfig.dataSource() instanceof AutoCloseable) {
+                    ((AutoCloseable) dbConfig.dataSource()).close();
+                }
             }
         }
     }
 
+    private static DbConfig buildDbConfig(String jdbcUrl, String user, String password, LoadOptions options) {
+        if (options.noPool) {
+            // Baseline: a new JDBC connection per store call
+            return DbConfig.builder()
+                .simpleJdbcUrl(jdbcUrl)
+                .build();
+        }
+        return DbConfig.builder()
+                .jdbcUrl(jdbcUrl, user, password)
+                .poolSize(options.poolSize)
+                .statementCacheSize(options.statementCacheSize)
+            .build();
+    }
+
     private static String buildJdbcUrl(LoadOptions options) {
         switch (options.dbType.toLowerCase()) {
             case "h2":
@@ -155,7 +176,7 @@ public final class RdbmsJmtLoadTester {
     private static final int MAX_UPDATE_POOL = 100_000;  // Cap update key pool to 100K keys
 
     private static void runLoad(JmtStore store, HashFunction hashFn,
-                                 CommitmentScheme commitments, LoadOptions options) {
+                                 CommitmentScheme commitments, LoadOptions options) throws Exception {
         JellyfishMerkleTree tree = new JellyfishMerkleTree(store, commitments, hashFn);
         Random random = new SecureRandom();
 
@@ -173,6 +194,9 @@ public final class RdbmsJmtLoadTester {
         List<byte[]> liveKeys = options.updateRatio > 0.0 ? new ArrayList<>(MAX_UPDATE_POOL) : null;
         Map<ByteArrayWrapper, Integer> liveIndex = options.updateRatio > 0.0 ? new HashMap<>(MAX_UPDATE_POOL) : null;
 
+        // Uniform sample of inserted keys for the read phase
+        List<byte[]> readKeys = options.readProofs > 0 ? new ArrayList<>(READ_SAMPLE_KEYS) : null;
+
         // Statistics accumulators
         long totalCommitTimeMs = 0;
         long totalProofTimeMs = 0;
@@ -228,6 +252,9 @@ public final class RdbmsJmtLoadTester {
                 random.nextBytes(value);
                 updates.put(key, value);
                 totalInserts++;
+                if (readKeys != null) {
+                    sampleKey(readKeys, key, totalInserts);
+                }
             }
 
             // Commit batch
@@ -353,9 +380,72 @@ public final class RdbmsJmtLoadTester {
             System.out.println("Live keys tracked: 0 (tracking disabled, insert-only mode)");
         }
 
+        if (readKeys != null && !readKeys.isEmpty()) {
+            runReads(store, hashFn, commitments, version, readKeys, options);
+        }
+
         System.out.println("\n==== Test Complete ====");
     }
 
+    private static final int READ_SAMPLE_KEYS = 10_000;
+
+    private static void sampleKey(List<byte[]> sample, byte[] key, long seen) {
+        if (sample.size() < READ_SAMPLE_KEYS) {
+            sample.add(key);
+        } else {
+            long slot = ThreadLocalRandom.current().nextLong(seen);
+            if (slot < READ_SAMPLE_KEYS) {
+                sample.set((int) slot, key);
+            }
+        }
+    }
+
+    /**
+     * Serves proofs for sampled keys from several threads, as a proof server would, and reports
+     * throughput and latency. Compare runs with and without {@code --no-pool}.
+     */
+    private static void runReads(JmtStore store, HashFunction hashFn, CommitmentScheme commitments,
+                                 long version, List<byte[]> keys, LoadOptions options) throws Exception {
+        int perReader = (int) Math.max(1, options.readProofs / options.readers);
+        ExecutorService executor = Executors.newFixedThreadPool(options.readers);
+        List<Future<long[]>> futures = new ArrayList<>();
+        Instant start = Instant.now();
+        try {
+            for (int r = 0; r < options.readers; r++) {
+                futures.add(executor.submit(() -> {
+                    JellyfishMerkleTree tree = new JellyfishMerkleTree(store, commitments, hashFn);
+                    long[] nanos = new long[perReader];
+                    for (int i = 0; i < perReader; i++) {
+                        byte[] key = keys.get(ThreadLocalRandom.current().nextInt(keys.size()));
+                        long t0 = System.nanoTime();
+                        tree.getProof(hashFn.digest(key), version);
+                        nanos[i] = System.nanoTime() - t0;
+                    }
+                    return nanos;
+                }));
+            }
+            long[] all = new long[perReader * options.readers];
+            for (int r = 0; r < futures.size(); r++) {
+                System.arraycopy(futures.get(r).get(), 0, all, r * perReader, perReader);
+            }
+            double seconds = Math.max(0.001, Duration.between(start, Instant.now()).toMillis() / 1000.0);
+            Arrays.sort(all);
+
+            System.out.println();
+            System.out.println("==== Concurrent Proof Serving ====");
+            System.out.printf("Connections: %s%n", options.noPool ? "new per call (--no-pool)"
+                    : "pooled, max " + options.poolSize + ", statement cache " + options.statementCacheSize);
+            System.out.printf("Proofs: %,d on %d threads in %.2f s (%.0f proofs/s)%n",
+                    all.length, options.readers, seconds, all.length / seconds);
+            System.out.printf("Latency: avg=%.3fms p50=%.3fms p99=%.3fms%n",
+                    Arrays.stream(all).average().orElse(0) / 1e6,
+                    all[all.length / 2] / 1e6,
+                    all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static final class LoadOptions {
         final long totalRecords;
         final int batchSize;
@@ -371,6 +461,11 @@ public final class RdbmsJmtLoadTester {
         final String dbName;
         final long progressPeriod;
         final long proofEvery;
+        final boolean noPool;
+        final int poolSize;
+        final int statementCacheSize;
+        final long readProofs;
+        final int readers;
         final double updateRatio;
         final long pruneEvery;
         final int keepLatest;
@@ -389,6 +484,11 @@ public final class RdbmsJmtLoadTester {
                             String dbName,
                             long progressPeriod,
                             long proofEvery,
+                            boolean noPool,
+                            int poolSize,
+                            int statementCacheSize,
+                            long readProofs,
+                            int readers,
                             double updateRatio,
                             long pruneEvery,
                             int keepLatest) {
@@ -406,6 +506,11 @@ public final class RdbmsJmtLoadTester {
             this.dbName = dbName;
             this.progressPeriod = progressPeriod;
             this.proofEvery = proofEvery;
+            this.noPool = noPool;
+            this.poolSize = poolSize;
+            this.statementCacheSize = statementCacheSize;
+            this.readProofs = readProofs;
+            this.readers = readers;
             this.updateRatio = updateRatio;
             this.pruneEvery = pruneEvery;
             this.keepLatest = keepLatest;
@@ -426,6 +531,11 @@ public final class RdbmsJmtLoadTester {
             String dbName = null;
             long progress = 10_000L;
             long proofEvery = 0L;
+            boolean noPool = false;
+            int poolSize = DbConfig.DEFAULT_POOL_SIZE;
+            int statementCacheSize = DbConfig.DEFAULT_STATEMENT_CACHE_SIZE;
+            long readProofs = 0L;
+            int readers = 4;
             double updateRatio = 0.2; // 20% updates by default
             long pruneEvery = 0L;     // No pruning by default
             int keepLatest = 1000;    // Keep 1000 versions when pruning
@@ -465,6 +575,16 @@ public final class RdbmsJmtLoadTester {
                     pruneEvery = Long.parseLong(arg.substring("--prune-every=".length()));
                 } else if (arg.startsWith("--keep-latest=")) {
                     keepLatest = Integer.parseInt(arg.substring("--keep-latest=".length()));
+                } else if (arg.equals("--no-pool")) {
+                    noPool = true;
+                } else if (arg.startsWith("--pool-size=")) {
+                    poolSize = Integer.parseInt(arg.substring("--pool-size=".length()));
+                } else if (arg.startsWith("--statement-cache=")) {
+                    statementCacheSize = Integer.parseInt(arg.substring("--statement-cache=".length()));
+                } else if (arg.startsWith("--read-proofs=")) {
+                    readProofs = Long.parseLong(arg.substring("--read-proofs=".length()));
+                } else if (arg.startsWith("--readers=")) {
+                    readers = Integer.parseInt(arg.substring("--readers=".length()));
                 } else if (arg.equals("--help") || arg.equals("-h")) {
                     printUsageAndExit();
                 }
@@ -476,7 +596,7 @@ public final class RdbmsJmtLoadTester {
 
             return new LoadOptions(records, batch, valueSize, inMemory, dbType, dbPath, jdbcUrl,
                     dbUser, dbPassword, dbHost, dbPort, dbName,
-                    progress, proofEvery, updateRatio, pruneEvery, keepLatest);
+                    progress, proofEvery, noPool, poolSize, statementCacheSize, readProofs, readers, updateRatio, pruneEvery, keepLatest);
         }
 
         private static void printUsageAndExit() {
@@ -501,6 +621,12 @@ public final class RdbmsJmtLoadTester {
             System.out.println("  --db-port=PORT        Database port for PostgreSQL (default: 5432)");
             System.out.println("  --db-name=NAME        Database name for PostgreSQL (default: testdb)");
             System.out.println();
+            System.out.println("Connection Options:");
+            System.out.println("  --pool-size=N         Maximum pooled connections (default: " + DbConfig.DEFAULT_POOL_SIZE + ")");
+            System.out.println("  --statement-cache=N   Prepared statements cached per connection (default: "
+                    + DbConfig.DEFAULT_STATEMENT_CACHE_SIZE + ", 0 = off)");
+            System.out.println("  --no-pool             New connection per call, as a baseline (credentials must be in the URL)");
+            System.out.println();
             System.out.println("Pruning Options:");
             System.out.println("  --prune-every=N       Run pruning every N batches (default: 0 = disabled)");
             System.out.println("  --keep-latest=N       Retention window: keep N latest versions (default: 1000)");
@@ -508,6 +634,8 @@ public final class RdbmsJmtLoadTester {
             System.out.println("Testing & Monitoring Options:");
             System.out.println("  --progress=N          Progress reporting interval in operations (default: 10,000)");
             System.out.println("  --proof-every=N       Generate proof every N batches (default: 0 = disabled)");
+            System.out.println("  --read-proofs=N       After loading, serve N proofs concurrently (default: 0 = disabled)");
+            System.out.println("  --readers=N           Threads serving proofs (default: 4)");
             System.out.println();
             System.out.println("Examples:");
             System.out.println();
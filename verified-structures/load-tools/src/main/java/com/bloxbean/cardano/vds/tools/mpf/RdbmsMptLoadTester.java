@@ -13,6 +13,9 @@ import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -35,6 +38,12 @@ import java.util.concurrent.ThreadLocalRandom;
  * ./gradlew :verified-structures:load-tools:run \
  *     --args="mpt-rdbms --records=100000 --batch=1000 --jdbc-url=jdbc:postgresql://localhost/testdb?user=postgres"
  *
+ * # Concurrent proof serving, pooled vs. a new connection per call
+ * ./gradlew :verified-structures:load-tools:run \
+ *     --args="mpt-rdbms --records=100000 --db=h2 --path=/tmp/mpt-h2 --read-proofs=20000 --readers=8"
+ * ./gradlew :verified-structures:load-tools:run \
+ *     --args="mpt-rdbms --records=100000 --db=h2 --path=/tmp/mpt-h2b --read-proofs=20000 --readers=8 --no-pool"
+ *
  * # In-memory performance baseline
  * ./gradlew :verified-structures:load-tools:run --args="mpt-rdbms --records=100000 --batch=1000 --memory"
  * </pre>
@@ -59,21 +68,15 @@ public final class RdbmsMptLoadTester {
 
             if (options.jdbcUrl != null) {
                 // Custom JDBC URL with user/password
-                dbConfig = DbConfig.builder()
-                        .jdbcUrl(options.jdbcUrl, options.dbUser, options.dbPassword)
-                    .build();
+                dbConfig = buildDbConfig(options.jdbcUrl, options.dbUser, options.dbPassword, options);
             } else if (options.dbType.equalsIgnoreCase("postgresql") || options.dbType.equalsIgnoreCase("postgres")) {
                 // PostgreSQL with separate host/database/user/password
                 String jdbcUrl = buildPostgreSqlJdbcUrl(options);
-                dbConfig = DbConfig.builder()
-                        .jdbcUrl(jdbcUrl, options.dbUser, options.dbPassword)
-                    .build();
+                dbConfig = buildDbConfig(jdbcUrl, options.dbUser, options.dbPassword, options);
             } else {
-                // H2/SQLite - simpleJdbcUrl (no user/password needed)
+                // H2/SQLite - no user/password needed
                 String jdbcUrl = buildJdbcUrl(options);
-                dbConfig = DbConfig.builder()
-                    .simpleJdbcUrl(jdbcUrl)
-                    .build();
+                dbConfig = buildDbConfig(jdbcUrl, null, null, options);
             }
 
             // Create schema
@@ -81,10 +84,28 @@ public final class RdbmsMptLoadTester {
 
             try (RdbmsNodeStore nodeStore = new RdbmsNodeStore(dbConfig)) {
                 runLoad(nodeStore, hash, options);
+            } finally {
+                if (dbConfig.dataSource() instanceof AutoCloseable) {
+                    ((AutoCloseable) dbConfig.dataSource()).close();
+                }
             }
         }
     }
 
+    private static DbConfig buildDbConfig(String jdbcUrl, String user, String password, LoadOptions options) {
+        if (options.noPool) {
+            // Baseline: a new JDBC connection per store call
+            return DbConfig.builder()
+                .simpleJdbcUrl(jdbcUrl)
+                .build();
+        }
+        return DbConfig.builder()
+                .jdbcUrl(jdbcUrl, user, password)
+                .poolSize(options.poolSize)
+                .statementCacheSize(options.statementCacheSize)
+            .build();
+    }
+
     private static String buildJdbcUrl(LoadOptions options) {
         switch (options.dbType.toLowerCase()) {
             case "h2":
@@ -131,7 +152,7 @@ public final class RdbmsMptLoadTester {
         }
     }
 
-    private static void runLoad(NodeStore nodeStore, HashFunction hash, LoadOptions options) {
+    private static void runLoad(NodeStore nodeStore, HashFunction hash, LoadOptions options) throws Exception {
         MpfTrie trie = new MpfTrie(nodeStore);
 
         Random random = new SecureRandom();
@@ -146,6 +167,10 @@ public final class RdbmsMptLoadTester {
         ArrayList<byte[]> liveKeys = trackLiveKeys ? new ArrayList<>() : null;
         Map<ByteArrayWrapper, Integer> liveIndex = trackLiveKeys ? new HashMap<>() : null;
 
+        // Uniform sample of inserted keys for the read phase
+        List<byte[]> readKeys = options.readProofs > 0 ? new ArrayList<>(READ_SAMPLE_KEYS) : null;
+        long inserts = 0;
+
         // Statistics accumulators
         long totalCommitTimeMs = 0;
         long totalProofTimeMs = 0;
@@ -185,6 +210,9 @@ public final class RdbmsMptLoadTester {
                 byte[] value = new byte[options.valueSize];
                 random.nextBytes(value);
                 updates.put(key, value);
+                if (readKeys != null) {
+                    sampleKey(readKeys, key, ++inserts);
+                }
             }
 
             // Apply updates
@@ -302,9 +330,72 @@ public final class RdbmsMptLoadTester {
         System.out.println("==== Memory Usage ====");
         System.out.printf("Heap used: %.2f MB%n", usedHeap / 1024.0 / 1024.0);
 
+        if (readKeys != null && !readKeys.isEmpty()) {
+            runReads(nodeStore, trie.getRootHash(), readKeys, options);
+        }
+
         System.out.println("\n==== Test Complete ====");
     }
 
+    private static final int READ_SAMPLE_KEYS = 10_000;
+
+    private static void sampleKey(List<byte[]> sample, byte[] key, long seen) {
+        if (sample.size() < READ_SAMPLE_KEYS) {
+            sample.add(key);
+        } else {
+            long slot = ThreadLocalRandom.current().nextLong(seen);
+            if (slot < READ_SAMPLE_KEYS) {
+                sample.set((int) slot, key);
+            }
+        }
+    }
+
+    /**
+     * Serves proofs for sampled keys from several threads, as a proof server would, and reports
+     * throughput and latency. Compare runs with and without {@code --no-pool}.
+     */
+    private static void runReads(NodeStore nodeStore, byte[] root, List<byte[]> keys,
+                                 LoadOptions options) throws Exception {
+        int perReader = (int) Math.max(1, options.readProofs / options.readers);
+        ExecutorService executor = Executors.newFixedThreadPool(options.readers);
+        List<Future<long[]>> futures = new ArrayList<>();
+        Instant start = Instant.now();
+        try {
+            for (int r = 0; r < options.readers; r++) {
+                futures.add(executor.submit(() -> {
+                    MpfTrie trie = new MpfTrie(nodeStore, root);
+                    long[] nanos = new long[perReader];
+                    for (int i = 0; i < perReader; i++) {
+                        byte[] key = keys.get(ThreadLocalRandom.current().nextInt(keys.size()));
+                        long t0 = System.nanoTime();
+                        trie.getProofWire(key);
+                        nanos[i] = System.nanoTime() - t0;
+                    }
+                    return nanos;
+                }));
+            }
+            long[] all = new long[perReader * options.readers];
+            for (int r = 0; r < futures.size(); r++) {
+                System.arraycopy(futures.get(r).get(), 0, all, r * perReader, perReader);
+            }
+            double seconds = Math.max(0.001, Duration.between(start, Instant.now()).toMillis() / 1000.0);
+            Arrays.sort(all);
+
+            System.out.println();
+            System.out.println("==== Concurrent Proof Serving ====");
+            System.out.printf("Connections: %s%n", options.noPool ? "new per call (--no-pool)"
+                    : "pooled, max " + options.poolSize + ", statement cache " + options.statementCacheSize);
+            System.out.printf("Proofs: %,d on %d threads in %.2f s (%.0f proofs/s)%n",
+                    all.length, options.readers, seconds, all.length / seconds);
+            System.out.printf("Latency: avg=%.3fms p50=%.3fms p99=%.3fms%n",
+                    Arrays.stream(all).average().orElse(0) / 1e6,
+                    all[all.length / 2] / 1e6,
+                    all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static final class LoadOptions {
         final long totalRecords;
         final int batchSize;
@@ -320,6 +411,11 @@ public final class RdbmsMptLoadTester {
         final String dbName;
         final long progressPeriod;
         final long proofEvery;
+        final boolean noPool;
+        final int poolSize;
+        final int statementCacheSize;
+        final long readProofs;
+        final int readers;
         final double deleteRatio;
 
         private LoadOptions(long totalRecords,
@@ -336,6 +432,11 @@ public final class RdbmsMptLoadTester {
                             String dbName,
                             long progressPeriod,
                             long proofEvery,
+                            boolean noPool,
+                            int poolSize,
+                            int statementCacheSize,
+                            long readProofs,
+                            int readers,
                             double deleteRatio) {
             this.totalRecords = totalRecords;
             this.batchSize = batchSize;
@@ -351,6 +452,11 @@ public final class RdbmsMptLoadTester {
             this.dbName = dbName;
             this.progressPeriod = progressPeriod;
             this.proofEvery = proofEvery;
+            this.noPool = noPool;
+            this.poolSize = poolSize;
+            this.statementCacheSize = statementCacheSize;
+            this.readProofs = readProofs;
+            this.readers = readers;
             this.deleteRatio = deleteRatio;
         }
 
@@ -369,6 +475,11 @@ public final class RdbmsMptLoadTester {
             String dbName = null;
             long progress = 10_000L;
             long proofEvery = 0L;
+            boolean noPool = false;
+            int poolSize = DbConfig.DEFAULT_POOL_SIZE;
+            int statementCacheSize = DbConfig.DEFAULT_STATEMENT_CACHE_SIZE;
+            long readProofs = 0L;
+            int readers = 4;
             double deleteRatio = 0.0d;
 
             for (String arg : args) {
@@ -402,6 +513,16 @@ public final class RdbmsMptLoadTester {
                     proofEvery = Long.parseLong(arg.substring("--proof-every=".length()));
                 } else if (arg.startsWith("--delete-ratio=")) {
                     deleteRatio = Double.parseDouble(arg.substring("--delete-ratio=".length()));
+                } else if (arg.equals("--no-pool")) {
+                    noPool = true;
+                } else if (arg.startsWith("--pool-size=")) {
+                    poolSize = Integer.parseInt(arg.substring("--pool-size=".length()));
+                } else if (arg.startsWith("--statement-cache=")) {
+                    statementCacheSize = Integer.parseInt(arg.substring("--statement-cache=".length()));
+                } else if (arg.startsWith("--read-proofs=")) {
+                    readProofs = Long.parseLong(arg.substring("--read-proofs=".length()));
+                } else if (arg.startsWith("--readers=")) {
+                    readers = Integer.parseInt(arg.substring("--readers=".length()));
                 } else if (arg.equals("--help") || arg.equals("-h")) {
                     printUsageAndExit();
                 }
@@ -413,7 +534,7 @@ public final class RdbmsMptLoadTester {
 
             return new LoadOptions(records, batch, valueSize, inMemory, dbType, dbPath, jdbcUrl,
                     dbUser, dbPassword, dbHost, dbPort, dbName,
-                    progress, proofEvery, deleteRatio);
+                    progress, proofEvery, noPool, poolSize, statementCacheSize, readProofs, readers, deleteRatio);
         }
 
         private static void printUsageAndExit() {
@@ -438,9 +559,17 @@ public final class RdbmsMptLoadTester {
             System.out.println("  --db-port=PORT        Database port for PostgreSQL (default: 5432)");
             System.out.println("  --db-name=NAME        Database name for PostgreSQL (default: testdb)");
             System.out.println();
+            System.out.println("Connection Options:");
+            System.out.println("  --pool-size=N         Maximum pooled connections (default: " + DbConfig.DEFAULT_POOL_SIZE + ")");
+            System.out.println("  --statement-cache=N   Prepared statements cached per connection (default: "
+                    + DbConfig.DEFAULT_STATEMENT_CACHE_SIZE + ", 0 = off)");
+            System.out.println("  --no-pool             New connection per call, as a baseline (credentials must be in the URL)");
+            System.out.println();
             System.out.println("Testing & Monitoring Options:");
             System.out.println("  --progress=N          Progress reporting interval in operations (default: 10,000)");
             System.out.println("  --proof-every=N       Generate proof every N batches (default: 0 = disabled)");
+            System.out.println("  --read-proofs=N       After loading, serve N proofs concurrently (default: 0 = disabled)");
+            System.out.println("  --readers=N           Threads serving proofs (default: 4)");
             System.out.println();
             System.out.println("Examples:");
             System.out.println();
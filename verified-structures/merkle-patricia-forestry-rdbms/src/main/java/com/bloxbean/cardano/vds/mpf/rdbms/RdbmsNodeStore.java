@@ -1,5 +1,6 @@
 package com.bloxbean.cardano.vds.mpf.rdbms;
 
+import com.bloxbean.cardano.vds.core.api.BulkWriter;
 import com.bloxbean.cardano.vds.core.api.NodeStore;
 import com.bloxbean.cardano.vds.rdbms.common.DbConfig;
 import com.bloxbean.cardano.vds.rdbms.common.KeyCodec;
@@ -12,7 +13,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,6 +40,11 @@ public class RdbmsNodeStore implements NodeStore, AutoCloseable {
     private final byte keyPrefix;
     private final KeyCodec keyCodec;
 
+    // Rows per multi-row insert of a bulk load; 3 parameters per row stay below SQLite's limit of 999
+    private static final int BULK_INSERT_ROWS = 256;
+    // Hashes per multi-key read, a power of two; padded to the next power of two to reuse statements
+    private static final int MULTI_GET_KEYS = 256;
+
     // ThreadLocal for batch operations (matches RocksDB pattern)
     private static final ThreadLocal<Connection> TL_CONNECTION = new ThreadLocal<>();
     private static final ThreadLocal<Map<String, byte[]>> TL_STAGED = new ThreadLocal<>();
@@ -110,6 +119,83 @@ public class RdbmsNodeStore implements NodeStore, AutoCloseable {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads the nodes with {@code node_hash IN (...)} queries of up to {@value #MULTI_GET_KEYS}
+     * hashes. Within {@link #withTransaction(TransactionCallback)}, staged writes are seen as
+     * by {@link #get(byte[])}.</p>
+     */
+    @Override
+    public List<byte[]> getAll(List<byte[]> hashes) {
+        List<byte[]> nodes = new ArrayList<>(Collections.nCopies(hashes.size(), null));
+        Map<String, byte[]> staged = TL_STAGED.get();
+        // Positions of each distinct hash still to read
+        Map<String, List<Integer>> positions = new HashMap<>();
+        List<byte[]> missing = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            byte[] hash = hashes.get(i);
+            String key = keyToString(hash);
+            if (staged != null && staged.containsKey(key)) {
+                nodes.set(i, staged.get(key));
+                continue;
+            }
+            List<Integer> at = positions.get(key);
+            if (at == null) {
+                at = new ArrayList<>(1);
+                positions.put(key, at);
+                missing.add(hash);
+            }
+            at.add(i);
+        }
+        if (missing.isEmpty()) {
+            return nodes;
+        }
+
+        Connection batchConn = TL_CONNECTION.get();
+        if (batchConn != null) {
+            getAllFromConnection(batchConn, missing, positions, nodes);
+            return nodes;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            getAllFromConnection(conn, missing, positions, nodes);
+            return nodes;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to get nodes", e);
+        }
+    }
+
+    private void getAllFromConnection(Connection conn, List<byte[]> hashes,
+                                      Map<String, List<Integer>> positions, List<byte[]> nodes) {
+        for (int from = 0; from < hashes.size(); from += MULTI_GET_KEYS) {
+            int count = Math.min(MULTI_GET_KEYS, hashes.size() - from);
+            // Round up to a power of two, repeating the last hash, so few distinct statements are prepared
+            int slots = Integer.bitCount(count) == 1 ? count : Integer.highestOneBit(count) << 1;
+            String sql = "SELECT node_hash, node_data FROM " + schema.nodesTable() +
+                         " WHERE namespace = ? AND " + dialect.inListSql("node_hash", slots);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, keyPrefix & 0xFF);
+                for (int i = 0; i < slots; i++) {
+                    keyCodec.setKey(stmt, 2 + i, hashes.get(from + Math.min(i, count - 1)));
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        List<Integer> at = positions.get(keyToString(keyCodec.getKey(rs, "node_hash")));
+                        if (at == null) continue;
+                        byte[] nodeData = keyCodec.getKey(rs, "node_data");
+                        for (int index : at) {
+                            nodes.set(index, nodeData);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to get nodes", e);
+            }
+        }
+    }
+
     @Override
     public void put(byte[] hash, byte[] nodeBytes) {
         Connection batchConn = TL_CONNECTION.get();
@@ -306,6 +392,115 @@ public class RdbmsNodeStore implements NodeStore, AutoCloseable {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Nodes are inserted with multi-row INSERT OR IGNORE statements of {@value #BULK_INSERT_ROWS}
+     * rows on a dedicated connection in one transaction. {@link BulkWriter#finish()} commits the
+     * transaction; closing an unfinished writer rolls it back.</p>
+     */
+    @Override
+    public BulkWriter bulkWriter() {
+        return new RdbmsBulkWriter();
+    }
+
+    private final class RdbmsBulkWriter implements BulkWriter {
+        private final Connection conn;
+        private final PreparedStatement fullInsert;
+        private final byte[][] keys = new byte[BULK_INSERT_ROWS][];
+        private final byte[][] values = new byte[BULK_INSERT_ROWS][];
+        private int buffered;
+        private boolean finished;
+
+        RdbmsBulkWriter() {
+            Connection c = null;
+            try {
+                c = dataSource.getConnection();
+                c.setAutoCommit(false);
+                this.fullInsert = c.prepareStatement(insertSql(BULK_INSERT_ROWS));
+                this.conn = c;
+            } catch (SQLException e) {
+                if (c != null) {
+                    try {
+                        c.close();
+                    } catch (SQLException closeEx) {
+                        e.addSuppressed(closeEx);
+                    }
+                }
+                throw new RuntimeException("Failed to start bulk load", e);
+            }
+        }
+
+        @Override
+        public void put(byte[] key, byte[] value) {
+            if (finished) {
+                throw new IllegalStateException("Writer already finished");
+            }
+            keys[buffered] = key;
+            values[buffered] = value;
+            if (++buffered == BULK_INSERT_ROWS) {
+                try {
+                    flush(fullInsert);
+                } catch (SQLException e) {
+                    throw new RuntimeException("Bulk insert failed", e);
+                }
+            }
+        }
+
+        @Override
+        public void finish() {
+            if (finished) {
+                throw new IllegalStateException("Writer already finished");
+            }
+            try {
+                if (buffered > 0) {
+                    try (PreparedStatement stmt = conn.prepareStatement(insertSql(buffered))) {
+                        flush(stmt);
+                    }
+                }
+                conn.commit();
+                finished = true;
+            } catch (SQLException e) {
+                throw new RuntimeException("Bulk insert failed", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                fullInsert.close();
+                if (!finished) {
+                    conn.rollback();
+                }
+            } catch (SQLException e) {
+                log.warn("Failed to roll back bulk load", e);
+            } finally {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    log.warn("Failed to close connection after bulk load", e);
+                }
+            }
+        }
+
+        private void flush(PreparedStatement stmt) throws SQLException {
+            int idx = 1;
+            for (int i = 0; i < buffered; i++) {
+                stmt.setInt(idx++, keyPrefix & 0xFF);
+                keyCodec.setKey(stmt, idx++, keys[i]);
+                keyCodec.setKey(stmt, idx++, values[i]);
+                keys[i] = null;
+                values[i] = null;
+            }
+            stmt.executeUpdate();
+            buffered = 0;
+        }
+
+        private String insertSql(int rows) {
+            return dialect.insertOrIgnoreRowsSql(schema.nodesTable(), "namespace, node_hash, node_data", "?, ?, ?", rows);
+        }
+    }
+
     /**
      * Returns the DataSource used by this store.
      *
@@ -1,6 +1,7 @@
 package com.bloxbean.cardano.vds.mpf.rdbms;
 
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.mpf.MpfBulkLoader;
 import com.bloxbean.cardano.vds.mpf.MpfTrie;
 import com.bloxbean.cardano.vds.rdbms.common.DbConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -337,6 +338,56 @@ class RdbmsNodeStoreSqliteTest {
             "SQLite should handle special binary characters correctly");
     }
 
+    @Test
+    void sqlite_bulkLoadMatchesIncrementalRoot() {
+        java.util.Map<byte[], byte[]> entries = new java.util.LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put(bytes("key-" + i), bytes("value-" + i));
+        }
+        MpfTrie incremental = new MpfTrie(store);
+        incremental.putAll(entries);
+
+        RdbmsNodeStore bulkStore = new RdbmsNodeStore(dbConfig, (byte) 1);
+        byte[] root;
+        try (MpfBulkLoader loader = new MpfBulkLoader(bulkStore)) {
+            root = loader.load(entries).rootHash();
+        }
+
+        assertArrayEquals(incremental.getRootHash(), root);
+        MpfTrie loaded = new MpfTrie(bulkStore, root);
+        for (java.util.Map.Entry<byte[], byte[]> e : entries.entrySet()) {
+            assertArrayEquals(e.getValue(), loaded.get(e.getKey()));
+        }
+
+        // An unfinished bulk load is rolled back
+        try (com.bloxbean.cardano.vds.core.api.BulkWriter writer = bulkStore.bulkWriter()) {
+            writer.put(bytes("discarded"), bytes("node"));
+        }
+        assertNull(bulkStore.get(bytes("discarded")));
+    }
+
+    @Test
+    void getAllOnSqlite() {
+        java.util.List<byte[]> hashes = new java.util.ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            byte[] hash = Blake2b256.digest(bytes("node-" + i));
+            if (i % 2 == 0) {
+                store.put(hash, bytes("data-" + i));
+            }
+            hashes.add(hash);
+        }
+
+        java.util.List<byte[]> nodes = store.getAll(hashes);
+
+        for (int i = 0; i < 300; i++) {
+            if (i % 2 == 0) {
+                assertArrayEquals(bytes("data-" + i), nodes.get(i), "node " + i);
+            } else {
+                assertNull(nodes.get(i), "missing node " + i);
+            }
+        }
+    }
+
     private static byte[] bytes(String value) {
         return value.getBytes(StandardCharsets.UTF_8);
     }
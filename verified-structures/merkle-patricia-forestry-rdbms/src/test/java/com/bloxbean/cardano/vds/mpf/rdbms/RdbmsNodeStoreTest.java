@@ -1,6 +1,7 @@
 package com.bloxbean.cardano.vds.mpf.rdbms;
 
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.mpf.MpfBulkLoader;
 import com.bloxbean.cardano.vds.mpf.MpfTrie;
 import com.bloxbean.cardano.vds.rdbms.common.DbConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -242,6 +243,100 @@ class RdbmsNodeStoreTest {
             "Root should return to null after deleting all data");
     }
 
+    @Test
+    void bulkLoadMatchesIncrementalRoot() {
+        java.util.Map<byte[], byte[]> entries = new java.util.LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put(bytes("key-" + i), bytes("value-" + i));
+        }
+        MpfTrie incremental = new MpfTrie(store);
+        incremental.putAll(entries);
+
+        RdbmsNodeStore bulkStore = new RdbmsNodeStore(dbConfig, (byte) 1);
+        byte[] root;
+        try (MpfBulkLoader loader = new MpfBulkLoader(bulkStore)) {
+            root = loader.load(entries).rootHash();
+        }
+
+        assertArrayEquals(incremental.getRootHash(), root);
+        MpfTrie loaded = new MpfTrie(bulkStore, root);
+        for (java.util.Map.Entry<byte[], byte[]> e : entries.entrySet()) {
+            assertArrayEquals(e.getValue(), loaded.get(e.getKey()));
+        }
+
+        // An unfinished bulk load is rolled back
+        try (com.bloxbean.cardano.vds.core.api.BulkWriter writer = bulkStore.bulkWriter()) {
+            writer.put(bytes("discarded"), bytes("node"));
+        }
+        assertNull(bulkStore.get(bytes("discarded")));
+    }
+
+    @Test
+    void getAllReturnsNodesInRequestOrder() {
+        java.util.List<byte[]> hashes = new java.util.ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            byte[] hash = Blake2b256.digest(bytes("node-" + i));
+            if (i % 3 != 0) {
+                store.put(hash, bytes("data-" + i));
+            }
+            hashes.add(hash);
+        }
+        hashes.add(hashes.get(1)); // duplicates are answered too
+
+        java.util.List<byte[]> nodes = store.getAll(hashes);
+
+        assertEquals(hashes.size(), nodes.size());
+        for (int i = 0; i < 600; i++) {
+            if (i % 3 == 0) {
+                assertNull(nodes.get(i), "missing node " + i);
+            } else {
+                assertArrayEquals(bytes("data-" + i), nodes.get(i), "node " + i);
+            }
+        }
+        assertArrayEquals(bytes("data-1"), nodes.get(600));
+    }
+
+    @Test
+    void getAllSeesWritesStagedInTransaction() {
+        byte[] committed = Blake2b256.digest(bytes("committed"));
+        byte[] staged = Blake2b256.digest(bytes("staged"));
+        store.put(committed, bytes("old"));
+
+        java.util.List<byte[]> nodes = store.withTransaction(() -> {
+            store.put(staged, bytes("new"));
+            store.delete(committed);
+            return store.getAll(java.util.List.of(committed, staged));
+        });
+
+        assertNull(nodes.get(0));
+        assertArrayEquals(bytes("new"), nodes.get(1));
+    }
+
+    @Test
+    void pooledDataSourceFromJdbcUrl() throws Exception {
+        String jdbcUrl = "jdbc:h2:mem:test_mpt_pool_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        DbConfig pooled = DbConfig.builder()
+            .jdbcUrl(jdbcUrl, null, null)
+            .poolSize(4)
+            .statementCacheSize(64)
+            .build();
+        createSchema(pooled);
+
+        MpfTrie trie = new MpfTrie(new RdbmsNodeStore(pooled));
+        trie.put(bytes("key"), bytes("value"));
+        assertArrayEquals(bytes("value"), trie.get(bytes("key")));
+
+        try (Connection conn = pooled.dataSource().getConnection();
+             Statement stmt = conn.createStatement();
+             java.sql.ResultSet rs = stmt.executeQuery(
+                 "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = 'QUERY_CACHE_SIZE'")) {
+            assertTrue(rs.next());
+            assertEquals("64", rs.getString(1));
+        } finally {
+            ((AutoCloseable) pooled.dataSource()).close();
+        }
+    }
+
     private static byte[] bytes(String value) {
         return value.getBytes(StandardCharsets.UTF_8);
     }
@@ -1,7 +1,9 @@
 package com.bloxbean.cardano.vds.mpf.rocksdb;
 
 import com.bloxbean.cardano.client.util.HexUtil;
+import com.bloxbean.cardano.vds.core.api.BulkWriter;
 import com.bloxbean.cardano.vds.core.api.NodeStore;
+import com.bloxbean.cardano.vds.rocksdb.bulk.SstBulkWriter;
 import com.bloxbean.cardano.vds.rocksdb.namespace.KeyPrefixer;
 import com.bloxbean.cardano.vds.rocksdb.namespace.NamespaceOptions;
 import org.rocksdb.*;
@@ -62,6 +64,7 @@ public class RocksDbNodeStore implements NodeStore, AutoCloseable {
     private final List<AutoCloseable> closeables;
     private static final ThreadLocal<WriteBatch> TL_BATCH = new ThreadLocal<>();
     private static final ThreadLocal<java.util.Map<String, byte[]>> TL_STAGED = new ThreadLocal<>();
+    private volatile java.util.function.Consumer<byte[]> writeObserver;
 
     public static final String CF_NODES = "nodes";
 
@@ -175,6 +178,41 @@ public class RocksDbNodeStore implements NodeStore, AutoCloseable {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Staged writes of the current thread are served first; the remaining hashes are read
+     * with a single RocksDB {@code multiGetAsList} call.</p>
+     */
+    @Override
+    public List<byte[]> getAll(List<byte[]> hashes) {
+        java.util.Map<String, byte[]> stagedWrites = TL_STAGED.get();
+        List<byte[]> result = new java.util.ArrayList<>(java.util.Collections.nCopies(hashes.size(), (byte[]) null));
+        List<Integer> missing = new java.util.ArrayList<>(hashes.size());
+        List<byte[]> missingKeys = new java.util.ArrayList<>(hashes.size());
+        for (int i = 0; i < hashes.size(); i++) {
+            byte[] hash = hashes.get(i);
+            byte[] staged = stagedWrites != null ? stagedWrites.get(HexUtil.encodeHexString(hash)) : null;
+            if (staged != null) {
+                result.set(i, staged);
+            } else {
+                missing.add(i);
+                missingKeys.add(keyPrefixer.prefix(hash));
+            }
+        }
+        if (missingKeys.isEmpty()) return result;
+
+        try {
+            List<byte[]> values = db.multiGetAsList(java.util.Collections.nCopies(missingKeys.size(), cfNodes), missingKeys);
+            for (int i = 0; i < values.size(); i++) {
+                result.set(missing.get(i), values.get(i));
+            }
+            return result;
+        } catch (RocksDBException e) {
+            throw new RuntimeException("Failed to read nodes from RocksDB", e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -184,6 +222,7 @@ public class RocksDbNodeStore implements NodeStore, AutoCloseable {
      */
     @Override
     public void put(byte[] hash, byte[] nodeBytes) {
+        notifyWrite(hash);
         try {
             WriteBatch currentBatch = TL_BATCH.get();
             if (currentBatch != null) {
@@ -224,6 +263,34 @@ public class RocksDbNodeStore implements NodeStore, AutoCloseable {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Nodes are written to sorted SST files and ingested into the nodes column family on
+     * {@link BulkWriter#finish()}, bypassing the memtable and the write-ahead log.</p>
+     */
+    @Override
+    public BulkWriter bulkWriter() {
+        SstBulkWriter sst = new SstBulkWriter(db, cfNodes);
+        return new BulkWriter() {
+            @Override
+            public void put(byte[] key, byte[] value) {
+                notifyWrite(key);
+                sst.put(keyPrefixer.prefix(key), value);
+            }
+
+            @Override
+            public void finish() {
+                sst.finish();
+            }
+
+            @Override
+            public void close() {
+                sst.close();
+            }
+        };
+    }
+
     /**
      * Returns the underlying RocksDB database instance.
      *
@@ -260,6 +327,25 @@ public class RocksDbNodeStore implements NodeStore, AutoCloseable {
         return keyPrefixer;
     }
 
+    /**
+     * Registers an observer called with the hash of every node written through this store,
+     * before the write is staged or applied.
+     *
+     * <p>Used by incremental garbage collection as a write barrier, so that nodes written
+     * while a collection cycle is running are never swept. Only one observer is supported;
+     * pass {@code null} to remove it.</p>
+     *
+     * @param observer the observer, or null
+     */
+    public void setWriteObserver(java.util.function.Consumer<byte[]> observer) {
+        this.writeObserver = observer;
+    }
+
+    private void notifyWrite(byte[] hash) {
+        java.util.function.Consumer<byte[]> observer = writeObserver;
+        if (observer != null) observer.accept(hash);
+    }
+
     /**
      * Executes the provided work within a batch context.
      *
@@ -41,6 +41,11 @@ import com.bloxbean.cardano.vds.mpf.rocksdb.RocksDbRootsIndex;
  * });
  * }</pre>
  *
+ * <p>For large stores, prefer the
+ * {@link com.bloxbean.cardano.vds.mpf.rocksdb.gc.strategy.IncrementalMarkSweepStrategy}: it works in short,
+ * rate-limited slices next to regular commits and reuses marks from earlier cycles, so it can be
+ * run periodically with {@link #runAsync} without stalling writers.</p>
+ *
  * <p><b>Thread Safety:</b> This class is thread-safe. Multiple GC operations
  * can be executed concurrently, though individual strategies may have their
  * own concurrency characteristics.</p>
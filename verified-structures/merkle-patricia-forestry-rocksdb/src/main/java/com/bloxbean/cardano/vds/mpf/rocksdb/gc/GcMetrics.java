@@ -0,0 +1,105 @@
+package com.bloxbean.cardano.vds.mpf.rocksdb.gc;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative counters for incremental garbage collection.
+ *
+ * <p>Pass an instance through {@link GcOptions#metrics} and read it from any thread, e.g. to export
+ * it to a monitoring system. Counters accumulate over all runs and cycles using the same instance.</p>
+ *
+ * @since 0.8.0
+ */
+public final class GcMetrics {
+    private final LongAdder cycles = new LongAdder();
+    private final LongAdder slices = new LongAdder();
+    private final LongAdder marked = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder scanned = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder throttledMillis = new LongAdder();
+    private final AtomicLong currentCycle = new AtomicLong();
+
+    public void recordCycleStarted(long cycle) {
+        currentCycle.set(cycle);
+    }
+
+    public void recordCycleCompleted() {
+        cycles.increment();
+    }
+
+    public void recordSlice() {
+        slices.increment();
+    }
+
+    public void recordMarked(long count) {
+        marked.add(count);
+    }
+
+    public void recordReused(long count) {
+        reused.add(count);
+    }
+
+    public void recordScanned(long count) {
+        scanned.add(count);
+    }
+
+    public void recordDeleted(long count) {
+        deleted.add(count);
+    }
+
+    public void recordBytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    public void recordThrottled(long millis) {
+        throttledMillis.add(millis);
+    }
+
+    /** @return the number of completed cycles */
+    public long cycles() {
+        return cycles.sum();
+    }
+
+    /** @return the number of the cycle started last */
+    public long currentCycle() {
+        return currentCycle.get();
+    }
+
+    /** @return the number of slices executed */
+    public long slices() {
+        return slices.sum();
+    }
+
+    /** @return the number of nodes marked by walking them */
+    public long marked() {
+        return marked.sum();
+    }
+
+    /** @return the number of subtrees skipped thanks to earlier marks */
+    public long reused() {
+        return reused.sum();
+    }
+
+    /** @return the number of nodes scanned by sweeps */
+    public long scanned() {
+        return scanned.sum();
+    }
+
+    /** @return the number of nodes deleted */
+    public long deleted() {
+        return deleted.sum();
+    }
+
+    /** @return the number of bytes read */
+    public long bytesRead() {
+        return bytesRead.sum();
+    }
+
+    /** @return the time spent waiting on rate limits, in milliseconds */
+    public long throttledMillis() {
+        return throttledMillis.sum();
+    }
+}
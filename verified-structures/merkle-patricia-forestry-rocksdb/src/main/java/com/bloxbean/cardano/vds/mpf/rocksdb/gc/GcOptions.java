@@ -7,5 +7,13 @@ public class GcOptions {
     public int deleteBatchSize = 10_000;
     public boolean useSnapshot = true;
     public LongConsumer progress = null; // called with deleted count
-}
 
+    // Incremental collection (IncrementalMarkSweepStrategy); other strategies ignore these
+    public long sliceMillis = 50;       // work per slice before yielding
+    public long pauseMillis = 10;       // pause between slices
+    public int maxSlices = 0;           // slices per run() call, 0 = until the cycle completes
+    public long maxOpsPerSecond = 0;    // RocksDB reads + writes, 0 = unlimited
+    public long maxBytesPerSecond = 0;  // bytes read + written, 0 = unlimited
+    public int markReuseCycles = 4;     // how many cycles a fully marked subtree may be skipped
+    public GcMetrics metrics = null;    // optional cumulative counters
+}
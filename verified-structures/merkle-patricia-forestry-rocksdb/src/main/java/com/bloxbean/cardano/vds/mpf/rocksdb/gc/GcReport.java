@@ -5,5 +5,11 @@ public class GcReport {
     public long total;
     public long deleted;
     public long durationMillis;
-}
 
+    // Incremental collection progress
+    public long cycle;               // collection cycle number
+    public long reused;              // subtrees skipped thanks to marks of earlier cycles
+    public long slices;              // time slices executed
+    public long bytesRead;           // node and mark bytes read
+    public boolean complete = true;  // false while a cycle is still pending
+}
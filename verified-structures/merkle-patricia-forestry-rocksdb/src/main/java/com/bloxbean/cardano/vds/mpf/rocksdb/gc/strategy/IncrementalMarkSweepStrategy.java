@@ -0,0 +1,421 @@
+package com.bloxbean.cardano.vds.mpf.rocksdb.gc.strategy;
+
+import com.bloxbean.cardano.client.util.HexUtil;
+import com.bloxbean.cardano.vds.mpf.internal.NodeRefParser;
+import com.bloxbean.cardano.vds.mpf.rocksdb.RocksDbNodeStore;
+import com.bloxbean.cardano.vds.mpf.rocksdb.RocksDbRootsIndex;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.GcMetrics;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.GcOptions;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.GcReport;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.GcStrategy;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.RetentionPolicy;
+import com.bloxbean.cardano.vds.rocksdb.namespace.KeyPrefixer;
+import org.rocksdb.*;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incremental mark-sweep GC running in bounded time slices next to regular commits.
+ * <p>
+ * Marks are kept in the nodes column family under a 0xF1 key prefix (next to the 0xF0 refcount entries) and
+ * survive between cycles. A mark records the last cycle that reached the node and a floor: the oldest mark of
+ * any node in its subtree. A cycle skips subtrees whose floor lies within the last {@link GcOptions#markReuseCycles}
+ * cycles and its sweep only deletes nodes with older marks, so unchanged subtrees are walked once every few cycles
+ * rather than every time. Garbage is reclaimed at most {@code markReuseCycles} cycles after it became unreachable.
+ * <p>
+ * Slices are bounded by {@link GcOptions#sliceMillis} and separated by {@link GcOptions#pauseMillis}; reads and
+ * writes are throttled to {@link GcOptions#maxOpsPerSecond} and {@link GcOptions#maxBytesPerSecond}. With
+ * {@link GcOptions#maxSlices} set, {@code run} returns early with {@link GcReport#complete} false and the next call
+ * resumes the cycle.
+ * <p>
+ * Commits may run concurrently: the sweep only visits nodes of a snapshot taken when the cycle started, nodes
+ * written through the store during a cycle are marked by a write barrier, and roots added to the index during the
+ * mark phase are marked before the sweep starts. Nodes written before the cycle started must be reachable from a
+ * retained root by then. An instance serves a single store and keeps its write barrier installed until
+ * {@link #close()}. Do not run other strategies on the same store, they drop the persisted marks.
+ */
+public class IncrementalMarkSweepStrategy implements GcStrategy, AutoCloseable {
+    private static final byte MARK_PREFIX = (byte) 0xF1;
+    private static final int HASH_LENGTH = 32;
+    private static final long UNWALKED = -1; // floor of nodes marked by the write barrier
+
+    private final ReentrantReadWriteLock sweepLock = new ReentrantReadWriteLock();
+    private volatile long activeCycle; // 0 when no cycle is running
+    private RocksDbNodeStore store;
+    private Cycle cycle;
+
+    @Override
+    public synchronized GcReport run(RocksDbNodeStore store, RocksDbRootsIndex index, RetentionPolicy policy, GcOptions options) throws Exception {
+        attach(store);
+        if (cycle == null) cycle = startCycle(index, policy, options);
+        Cycle c = cycle;
+        Throttle throttle = new Throttle(options);
+        try {
+            int slices = 0;
+            while (!c.done) {
+                long deadline = System.nanoTime() + options.sliceMillis * 1_000_000L;
+                if (c.sweeping) sweepSlice(c, options, throttle, deadline);
+                else markSlice(c, options, throttle, deadline);
+                slices++;
+                c.report.slices++;
+                if (options.metrics != null) options.metrics.recordSlice();
+                if (c.done || (options.maxSlices > 0 && slices >= options.maxSlices)) break;
+                if (options.pauseMillis > 0) Thread.sleep(options.pauseMillis);
+            }
+        } catch (Exception e) {
+            // Marks of the current slice may be missing, so the cycle cannot resume safely
+            endCycle();
+            throw e;
+        }
+
+        c.report.durationMillis = System.currentTimeMillis() - c.startMillis;
+        c.report.complete = c.done;
+        if (c.done) {
+            endCycle();
+            if (options.metrics != null) options.metrics.recordCycleCompleted();
+        }
+        return copy(c.report);
+    }
+
+    /**
+     * Abandons the pending cycle, if any, releases its snapshot and removes the write barrier.
+     */
+    @Override
+    public synchronized void close() {
+        endCycle();
+        if (store != null) {
+            store.setWriteObserver(null);
+            store = null;
+        }
+    }
+
+    private void attach(RocksDbNodeStore store) {
+        if (this.store == null) {
+            this.store = store;
+            store.setWriteObserver(this::onWrite);
+        } else if (this.store != store) {
+            throw new IllegalStateException("IncrementalMarkSweepStrategy is bound to another node store");
+        }
+    }
+
+    /** Write barrier: nodes written during a cycle survive its sweep. */
+    private void onWrite(byte[] hash) {
+        long n = activeCycle;
+        if (n == 0 || hash.length != HASH_LENGTH) return;
+        sweepLock.readLock().lock();
+        try {
+            store.db().put(store.nodesHandle(), markKey(store.keyPrefixer(), hash), markValue(n, UNWALKED));
+        } catch (RocksDBException e) {
+            throw new RuntimeException("Failed to write GC mark", e);
+        } finally {
+            sweepLock.readLock().unlock();
+        }
+    }
+
+    private Cycle startCycle(RocksDbRootsIndex index, RetentionPolicy policy, GcOptions options) throws RocksDBException {
+        RocksDB db = store.db();
+        byte[] stateKey = store.keyPrefixer().prefix(new byte[]{MARK_PREFIX});
+        byte[] last = db.get(store.nodesHandle(), stateKey);
+        long number = (last == null ? 0 : ByteBuffer.wrap(last).getLong()) + 1;
+        db.put(store.nodesHandle(), stateKey, ByteBuffer.allocate(8).putLong(number).array());
+
+        // Barrier first: nodes written before the snapshot are either marked or not in the snapshot
+        activeCycle = number;
+        Snapshot snapshot = options.useSnapshot ? db.getSnapshot() : null;
+        Cycle c = new Cycle(number, number - Math.max(0, options.markReuseCycles), snapshot, index, policy);
+        c.roots.addAll(policy.resolveRoots(index));
+        c.report.cycle = number;
+        if (options.metrics != null) options.metrics.recordCycleStarted(number);
+        return c;
+    }
+
+    private void endCycle() {
+        activeCycle = 0;
+        if (cycle != null) {
+            if (cycle.snapshot != null) store.db().releaseSnapshot(cycle.snapshot);
+            cycle = null;
+        }
+    }
+
+    // ---- mark phase: iterative post-order walk, marks of a slice are written in one batch
+
+    private void markSlice(Cycle c, GcOptions options, Throttle throttle, long deadline) throws Exception {
+        Map<String, long[]> pending = new HashMap<>();
+        try (WriteBatch wb = new WriteBatch(); WriteOptions wo = new WriteOptions()) {
+            while (System.nanoTime() < deadline) {
+                Frame top = c.stack.peek();
+                if (top == null) {
+                    byte[] root = c.roots.poll();
+                    if (root == null) {
+                        if (!c.rootsRefreshed) {
+                            // Roots committed during the mark phase
+                            c.rootsRefreshed = true;
+                            c.roots.addAll(c.policy.resolveRoots(c.index));
+                            continue;
+                        }
+                        c.sweeping = true;
+                        break;
+                    }
+                    if (root.length == HASH_LENGTH) visit(c, null, root, pending, wb, options, throttle);
+                } else if (top.next < top.children.size()) {
+                    visit(c, top, top.children.get(top.next++), pending, wb, options, throttle);
+                } else {
+                    c.stack.pop();
+                    putMark(top.hash, c.number, top.floor, pending, wb);
+                    Frame parent = c.stack.peek();
+                    if (parent != null) parent.floor = Math.min(parent.floor, top.floor);
+                    c.report.marked++;
+                    if (options.metrics != null) options.metrics.recordMarked(1);
+                }
+            }
+            if (!pending.isEmpty()) {
+                store.db().write(wo, wb);
+                throttle.acquire(pending.size(), pending.size() * (HASH_LENGTH + 18L));
+            }
+        }
+    }
+
+    private void visit(Cycle c, Frame parent, byte[] hash, Map<String, long[]> pending, WriteBatch wb,
+                       GcOptions options, Throttle throttle) throws Exception {
+        long[] mark = readMark(hash, pending, c, options, throttle);
+        long floor;
+        if (mark != null && mark[1] != UNWALKED && mark[0] == c.number) {
+            floor = mark[1]; // walked earlier in this cycle
+        } else if (mark != null && mark[1] != UNWALKED && mark[1] >= c.threshold) {
+            // Every node below carries a mark not older than the floor: skip the subtree
+            floor = mark[1];
+            putMark(hash, c.number, floor, pending, wb);
+            c.report.reused++;
+            if (options.metrics != null) options.metrics.recordReused(1);
+        } else {
+            byte[] enc = store.db().get(store.nodesHandle(), store.keyPrefixer().prefix(hash));
+            read(c, options, throttle, enc == null ? 0 : enc.length);
+            if (enc != null) {
+                c.stack.push(new Frame(hash, NodeRefParser.childRefs(enc), c.number));
+                return;
+            }
+            floor = c.number; // missing node: nothing to keep below
+        }
+        if (parent != null) parent.floor = Math.min(parent.floor, floor);
+    }
+
+    private long[] readMark(byte[] hash, Map<String, long[]> pending, Cycle c, GcOptions options, Throttle throttle) throws Exception {
+        long[] staged = pending.get(HexUtil.encodeHexString(hash));
+        if (staged != null) return staged;
+        byte[] v = store.db().get(store.nodesHandle(), markKey(store.keyPrefixer(), hash));
+        read(c, options, throttle, v == null ? 0 : v.length);
+        return v == null ? null : decodeMark(v);
+    }
+
+    private void putMark(byte[] hash, long cycleNumber, long floor, Map<String, long[]> pending, WriteBatch wb) throws RocksDBException {
+        wb.put(store.nodesHandle(), markKey(store.keyPrefixer(), hash), markValue(cycleNumber, floor));
+        pending.put(HexUtil.encodeHexString(hash), new long[]{cycleNumber, floor});
+    }
+
+    // ---- sweep phase: scan the snapshot in key order, delete nodes whose mark is too old
+
+    private void sweepSlice(Cycle c, GcOptions options, Throttle throttle, long deadline) throws Exception {
+        KeyPrefixer keyPrefixer = store.keyPrefixer();
+        ByteBuffer sizeOnly = ByteBuffer.allocateDirect(0);
+        try (ReadOptions ro = keyPrefixer.createPrefixReadOptions()) {
+            if (c.snapshot != null) ro.setSnapshot(c.snapshot);
+            try (RocksIterator it = store.db().newIterator(store.nodesHandle(), ro)) {
+                if (c.sweepCursor == null) {
+                    it.seek(keyPrefixer.prefix(new byte[0]));
+                } else {
+                    it.seek(c.sweepCursor);
+                    if (it.isValid() && Arrays.equals(it.key(), c.sweepCursor)) it.next();
+                }
+                while (System.nanoTime() < deadline) {
+                    List<byte[]> keys = new ArrayList<>();
+                    long bytes = 0;
+                    while (keys.size() < options.deleteBatchSize && it.isValid() && keyPrefixer.hasCorrectPrefix(it.key())) {
+                        byte[] key = it.key();
+                        if (isNodeKey(key) || isMarkKey(key)) keys.add(key);
+                        bytes += key.length + it.value(sizeOnly);
+                        c.sweepCursor = key;
+                        it.next();
+                    }
+                    it.status();
+                    read(c, options, throttle, bytes);
+                    sweepBatch(c, keys, options, throttle);
+                    if (!it.isValid() || !keyPrefixer.hasCorrectPrefix(it.key())) {
+                        c.done = true;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void sweepBatch(Cycle c, List<byte[]> keys, GcOptions options, Throttle throttle) throws Exception {
+        if (keys.isEmpty()) return;
+        long nodes = keys.stream().filter(IncrementalMarkSweepStrategy::isNodeKey).count();
+        c.report.total += nodes;
+        if (options.metrics != null) options.metrics.recordScanned(nodes);
+
+        // First pass without the lock, then re-check the few candidates under it
+        List<byte[]> candidates = garbage(c, keys, options, throttle);
+        if (candidates.isEmpty()) return;
+
+        long deleted = 0;
+        sweepLock.writeLock().lock();
+        try (WriteBatch wb = new WriteBatch(); WriteOptions wo = new WriteOptions()) {
+            for (byte[] key : garbage(c, candidates, options, throttle)) {
+                if (isNodeKey(key)) {
+                    deleted++;
+                    if (!options.dryRun) {
+                        wb.delete(store.nodesHandle(), key);
+                        wb.delete(store.nodesHandle(), markKey(store.keyPrefixer(), store.keyPrefixer().unprefix(key)));
+                    }
+                } else if (!options.dryRun) {
+                    wb.delete(store.nodesHandle(), key);
+                }
+            }
+            if (!options.dryRun && wb.count() > 0) {
+                store.db().write(wo, wb);
+                throttle.acquire(wb.count(), wb.getDataSize());
+            }
+        } finally {
+            sweepLock.writeLock().unlock();
+        }
+
+        c.report.deleted += deleted;
+        if (options.metrics != null) options.metrics.recordDeleted(deleted);
+        if (options.progress != null && deleted > 0) options.progress.accept(c.report.deleted);
+    }
+
+    /** Returns the node and mark keys whose mark is missing or older than the reuse window. */
+    private List<byte[]> garbage(Cycle c, List<byte[]> keys, GcOptions options, Throttle throttle) throws Exception {
+        KeyPrefixer keyPrefixer = store.keyPrefixer();
+        List<byte[]> markKeys = new ArrayList<>(keys.size());
+        for (byte[] key : keys) markKeys.add(isNodeKey(key) ? markKey(keyPrefixer, keyPrefixer.unprefix(key)) : key);
+        List<byte[]> marks = store.db().multiGetAsList(Collections.nCopies(markKeys.size(), store.nodesHandle()), markKeys);
+
+        List<byte[]> result = new ArrayList<>();
+        long bytes = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] v = marks.get(i);
+            if (v != null) bytes += v.length;
+            if (v == null ? isNodeKey(keys.get(i)) : decodeMark(v)[0] < c.threshold) result.add(keys.get(i));
+        }
+        read(c, options, throttle, bytes);
+        return result;
+    }
+
+    private void read(Cycle c, GcOptions options, Throttle throttle, long bytes) throws InterruptedException {
+        c.report.bytesRead += bytes;
+        if (options.metrics != null) options.metrics.recordBytesRead(bytes);
+        throttle.acquire(1, bytes);
+    }
+
+    // ---- encoding
+
+    private static byte[] markKey(KeyPrefixer keyPrefixer, byte[] hash) {
+        byte[] key = new byte[1 + hash.length];
+        key[0] = MARK_PREFIX;
+        System.arraycopy(hash, 0, key, 1, hash.length);
+        return keyPrefixer.prefix(key);
+    }
+
+    private static boolean isNodeKey(byte[] prefixedKey) {
+        return prefixedKey.length == 1 + HASH_LENGTH;
+    }
+
+    private static boolean isMarkKey(byte[] prefixedKey) {
+        return prefixedKey.length == 2 + HASH_LENGTH && prefixedKey[1] == MARK_PREFIX;
+    }
+
+    private static byte[] markValue(long cycleNumber, long floor) {
+        return ByteBuffer.allocate(16).putLong(cycleNumber).putLong(floor).array();
+    }
+
+    private static long[] decodeMark(byte[] v) {
+        ByteBuffer bb = ByteBuffer.wrap(v);
+        return new long[]{bb.getLong(), bb.getLong()};
+    }
+
+    private static GcReport copy(GcReport r) {
+        GcReport out = new GcReport();
+        out.marked = r.marked;
+        out.total = r.total;
+        out.deleted = r.deleted;
+        out.durationMillis = r.durationMillis;
+        out.cycle = r.cycle;
+        out.reused = r.reused;
+        out.slices = r.slices;
+        out.bytesRead = r.bytesRead;
+        out.complete = r.complete;
+        return out;
+    }
+
+    /** State of the cycle in progress, kept between {@code run} calls. */
+    private static final class Cycle {
+        final long number;
+        final long threshold; // marks older than this are garbage
+        final Snapshot snapshot;
+        final RocksDbRootsIndex index;
+        final RetentionPolicy policy;
+        final Deque<byte[]> roots = new ArrayDeque<>();
+        final Deque<Frame> stack = new ArrayDeque<>();
+        final GcReport report = new GcReport();
+        final long startMillis = System.currentTimeMillis();
+        boolean rootsRefreshed;
+        boolean sweeping;
+        byte[] sweepCursor;
+        boolean done;
+
+        Cycle(long number, long threshold, Snapshot snapshot, RocksDbRootsIndex index, RetentionPolicy policy) {
+            this.number = number;
+            this.threshold = threshold;
+            this.snapshot = snapshot;
+            this.index = index;
+            this.policy = policy;
+        }
+    }
+
+    /** A node being walked; its mark is written once all children are done. */
+    private static final class Frame {
+        final byte[] hash;
+        final List<byte[]> children;
+        int next;
+        long floor;
+
+        Frame(byte[] hash, List<byte[]> children, long floor) {
+            this.hash = hash;
+            this.children = children;
+            this.floor = floor;
+        }
+    }
+
+    /** Sleeps whenever the work done since the start of a run exceeds the configured rates. */
+    private static final class Throttle {
+        private final long maxOps;
+        private final long maxBytes;
+        private final GcMetrics metrics;
+        private final long start = System.nanoTime();
+        private long ops;
+        private long bytes;
+
+        Throttle(GcOptions options) {
+            this.maxOps = options.maxOpsPerSecond;
+            this.maxBytes = options.maxBytesPerSecond;
+            this.metrics = options.metrics;
+        }
+
+        void acquire(long ops, long bytes) throws InterruptedException {
+            this.ops += ops;
+            this.bytes += bytes;
+            if (maxOps <= 0 && maxBytes <= 0) return;
+            double dueSeconds = Math.max(maxOps > 0 ? (double) this.ops / maxOps : 0,
+                    maxBytes > 0 ? (double) this.bytes / maxBytes : 0);
+            long waitMillis = (long) (dueSeconds * 1000) - (System.nanoTime() - start) / 1_000_000L;
+            if (waitMillis > 0) {
+                Thread.sleep(waitMillis);
+                if (metrics != null) metrics.recordThrottled(waitMillis);
+            }
+        }
+    }
+}
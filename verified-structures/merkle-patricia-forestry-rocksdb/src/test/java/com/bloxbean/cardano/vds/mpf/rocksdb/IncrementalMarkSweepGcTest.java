@@ -0,0 +1,224 @@
+package com.bloxbean.cardano.vds.mpf.rocksdb;
+
+import com.bloxbean.cardano.vds.mpf.MpfTrie;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.*;
+import com.bloxbean.cardano.vds.mpf.rocksdb.gc.strategy.IncrementalMarkSweepStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.RocksIterator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for IncrementalMarkSweepStrategy: sliced cycles, mark reuse across cycles
+ * and commits running while a cycle is pending.
+ */
+public class IncrementalMarkSweepGcTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RocksDbStateTrees stateTrees;
+    private MpfTrie trie;
+    private IncrementalMarkSweepStrategy strategy;
+    private final Map<String, String> state = new HashMap<>();
+    private long version;
+
+    @BeforeEach
+    public void setUp() {
+        stateTrees = new RocksDbStateTrees(tempDir.resolve("test-db").toString());
+        trie = new MpfTrie(stateTrees.nodeStore());
+        strategy = new IncrementalMarkSweepStrategy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        strategy.close();
+        stateTrees.close();
+    }
+
+    @Test
+    public void cycleDeletesGarbageAndKeepsRetainedRoots() throws Exception {
+        commit(0, 2000, "v1");
+        commit(0, 500, "v2");
+        long nodesBefore = countNodes();
+
+        GcReport report = run(RetentionPolicy.keepLatestN(1), options());
+
+        assertTrue(report.complete);
+        assertEquals(1, report.cycle);
+        assertTrue(report.deleted > 0, "should delete nodes of version 1");
+        assertEquals(nodesBefore, report.total);
+        assertEquals(nodesBefore - report.deleted, countNodes());
+        assertLatestReadable();
+
+        // Nothing left to collect
+        GcReport again = run(RetentionPolicy.keepLatestN(1), options());
+        assertEquals(2, again.cycle);
+        assertEquals(0, again.deleted);
+    }
+
+    @Test
+    public void laterCyclesReuseMarksOfUnchangedSubtrees() throws Exception {
+        commit(0, 5000, "v1");
+        GcReport first = run(RetentionPolicy.keepLatestN(1), options());
+        assertEquals(0, first.reused);
+
+        commit(0, 5, "v2");
+        GcReport second = run(RetentionPolicy.keepLatestN(1), options());
+
+        assertTrue(second.reused > 0, "unchanged subtrees should be skipped");
+        assertTrue(second.marked * 10 < first.marked,
+                "walked " + second.marked + " nodes, first cycle walked " + first.marked);
+        assertTrue(second.deleted > 0, "replaced nodes should be deleted");
+        assertLatestReadable();
+    }
+
+    @Test
+    public void reuseWindowDelaysReclaimingMarkedGarbage() throws Exception {
+        GcOptions options = options();
+        options.markReuseCycles = 1;
+        commit(0, 300, "v1");
+        byte[] root1 = trie.getRootHash();
+        Map<String, String> state1 = new HashMap<>(state);
+        run(RetentionPolicy.keepLatestN(1), options); // marks version 1 in cycle 1
+
+        commit(0, 300, "v2");
+        run(RetentionPolicy.keepLatestN(1), options);
+        assertReadable(root1, state1); // marks of cycle 1 are still within the window
+
+        GcReport third = run(RetentionPolicy.keepLatestN(1), options);
+        assertTrue(third.deleted > 0);
+        assertNull(stateTrees.nodeStore().get(root1));
+        assertLatestReadable();
+    }
+
+    @Test
+    public void slicedRunsResumePendingCycle() throws Exception {
+        commit(0, 3000, "v1");
+        commit(0, 3000, "v2");
+
+        GcOptions options = options();
+        options.sliceMillis = 1;
+        options.deleteBatchSize = 100;
+        options.maxSlices = 1;
+        options.metrics = new GcMetrics();
+
+        GcReport report;
+        int runs = 0;
+        do {
+            report = run(RetentionPolicy.keepLatestN(1), options);
+            runs++;
+            assertEquals(1, report.cycle, "slices should resume the same cycle");
+        } while (!report.complete);
+
+        assertTrue(runs > 1, "cycle should span several runs");
+        assertEquals(runs, report.slices);
+        assertTrue(report.deleted > 0);
+        assertEquals(report.deleted, options.metrics.deleted());
+        assertEquals(1, options.metrics.cycles());
+        assertTrue(options.metrics.bytesRead() > 0);
+        assertLatestReadable();
+    }
+
+    @Test
+    public void commitsDuringPendingCycleSurvive() throws Exception {
+        commit(0, 2000, "a");
+        commit(0, 2000, "b");
+
+        GcOptions options = options();
+        options.sliceMillis = 1;
+        options.maxSlices = 1;
+        assertFalse(run(RetentionPolicy.keepLatestN(1), options).complete);
+
+        // Revert to the values of the dropped version without registering the root: re-creates
+        // nodes that are garbage in the cycle's snapshot, only the write barrier keeps them
+        for (int i = 0; i < 2000; i++) put(i, "a");
+        for (int i = 2000; i < 2100; i++) put(i, "c");
+
+        options.maxSlices = 0;
+        GcReport report = run(RetentionPolicy.keepLatestN(1), options);
+        assertTrue(report.complete);
+        assertLatestReadable();
+    }
+
+    @Test
+    public void rateLimitThrottlesWork() throws Exception {
+        commit(0, 200, "v1");
+        GcOptions options = options();
+        options.maxOpsPerSecond = 2000;
+        options.metrics = new GcMetrics();
+
+        GcReport report = run(RetentionPolicy.keepLatestN(1), options);
+
+        assertTrue(report.complete);
+        assertTrue(options.metrics.throttledMillis() > 0);
+        assertTrue(report.durationMillis >= report.marked * 1000 / 2000);
+    }
+
+    @Test
+    public void dryRunDeletesNothing() throws Exception {
+        commit(0, 500, "v1");
+        commit(0, 500, "v2");
+        long nodesBefore = countNodes();
+
+        GcOptions options = options();
+        options.dryRun = true;
+        GcReport report = run(RetentionPolicy.keepLatestN(1), options);
+
+        assertTrue(report.deleted > 0);
+        assertEquals(nodesBefore, countNodes());
+    }
+
+    // Helpers
+
+    private static GcOptions options() {
+        GcOptions options = new GcOptions();
+        options.pauseMillis = 0;
+        return options;
+    }
+
+    private GcReport run(RetentionPolicy policy, GcOptions options) throws Exception {
+        return new GcManager(stateTrees.nodeStore(), stateTrees.rootsIndex()).runSync(strategy, policy, options);
+    }
+
+    private void put(int i, String prefix) {
+        trie.put(("key-" + i).getBytes(StandardCharsets.UTF_8), (prefix + i).getBytes(StandardCharsets.UTF_8));
+        state.put("key-" + i, prefix + i);
+    }
+
+    private void commit(int from, int to, String prefix) {
+        for (int i = from; i < to; i++) put(i, prefix);
+        stateTrees.rootsIndex().put(++version, trie.getRootHash());
+    }
+
+    private void assertLatestReadable() {
+        assertReadable(trie.getRootHash(), state);
+    }
+
+    private void assertReadable(byte[] root, Map<String, String> expected) {
+        MpfTrie snapshot = new MpfTrie(stateTrees.nodeStore(), root);
+        for (Map.Entry<String, String> e : expected.entrySet()) {
+            byte[] value = snapshot.get(e.getKey().getBytes(StandardCharsets.UTF_8));
+            assertNotNull(value, "missing " + e.getKey());
+            assertEquals(e.getValue(), new String(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    private long countNodes() {
+        long count = 0;
+        try (RocksIterator it = stateTrees.nodeStore().db().newIterator(stateTrees.nodeStore().nodesHandle())) {
+            for (it.seekToFirst(); it.isValid(); it.next()) {
+                if (it.key().length == 33) count++; // skip GC marks
+            }
+        }
+        return count;
+    }
+}
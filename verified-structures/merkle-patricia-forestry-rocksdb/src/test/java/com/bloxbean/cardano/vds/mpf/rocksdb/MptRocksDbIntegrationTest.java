@@ -1,9 +1,12 @@
 package com.bloxbean.cardano.vds.mpf.rocksdb;
 
+import com.bloxbean.cardano.vds.core.api.BulkWriter;
 import com.bloxbean.cardano.vds.core.api.HashFunction;
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.mpf.MpfBulkLoader;
 import com.bloxbean.cardano.vds.mpf.MpfTrie;
 import com.bloxbean.cardano.vds.mpf.rocksdb.gc.internal.RocksDbGc;
+import com.bloxbean.cardano.vds.rocksdb.bulk.SstBulkWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,6 +106,85 @@ class MptRocksDbIntegrationTest {
         }
     }
 
+    @Test
+    void stream_readsEntriesInPathOrderWithBatchedLoads() {
+        MpfTrie trie = new MpfTrie(stateTrees.nodeStore());
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            entries.put(b("key-" + i), b("value-" + i));
+        }
+        trie.putAll(entries);
+
+        MpfTrie reloaded = new MpfTrie(stateTrees.nodeStore(), trie.getRootHash());
+        List<MpfTrie.Entry> streamed = reloaded.stream().collect(java.util.stream.Collectors.toList());
+
+        assertEquals(500, streamed.size());
+        for (int i = 1; i < streamed.size(); i++) {
+            assertTrue(Arrays.compareUnsigned(streamed.get(i - 1).getPath(), streamed.get(i).getPath()) < 0);
+        }
+        for (MpfTrie.Entry entry : streamed) {
+            assertArrayEquals(trie.get(entry.getKey()), entry.getValue());
+        }
+
+        // Batched reads agree with single reads, including misses
+        List<byte[]> hashes = List.of(trie.getRootHash(), new byte[32]);
+        List<byte[]> nodes = stateTrees.nodeStore().getAll(hashes);
+        assertArrayEquals(stateTrees.nodeStore().get(trie.getRootHash()), nodes.get(0));
+        assertNull(nodes.get(1));
+    }
+
+    @Test
+    void bulkLoad_ingestsSstFilesWithIncrementalRoot() throws IOException {
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            entries.put(b("key-" + i), b("value-" + i));
+        }
+        MpfTrie incremental = new MpfTrie(new TestNodeStore());
+        incremental.putAll(entries);
+
+        byte[] root;
+        try (MpfBulkLoader loader = new MpfBulkLoader(stateTrees.nodeStore())) {
+            root = loader.load(entries).rootHash();
+        }
+
+        assertArrayEquals(incremental.getRootHash(), root);
+        MpfTrie loaded = new MpfTrie(stateTrees.nodeStore(), root);
+        for (Map.Entry<byte[], byte[]> e : entries.entrySet()) {
+            assertArrayEquals(e.getValue(), loaded.get(e.getKey()));
+        }
+        assertEquals(2000, loaded.stream().count());
+        try (java.util.stream.Stream<Path> files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(p -> p.getFileName().toString().startsWith("sst-bulk-")));
+        }
+    }
+
+    @Test
+    void sstBulkWriter_lastWriteWinsAcrossChunks() throws Exception {
+        RocksDbNodeStore store = stateTrees.nodeStore();
+        try (SstBulkWriter writer = new SstBulkWriter(store.db(), store.nodesHandle(), 256)) {
+            for (int round = 0; round < 3; round++) {
+                for (int i = 99; i >= 0; i--) {
+                    writer.put(b("bulk-" + i), b("round-" + round));
+                }
+            }
+            assertNull(stateTrees.db().get(store.nodesHandle(), b("bulk-0")));
+            writer.finish();
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(b("round-2"), stateTrees.db().get(store.nodesHandle(), b("bulk-" + i)));
+        }
+    }
+
+    @Test
+    void bulkWriter_closeWithoutFinishDiscardsNodes() {
+        RocksDbNodeStore store = stateTrees.nodeStore();
+        try (BulkWriter writer = store.bulkWriter()) {
+            writer.put(b("discarded"), b("node"));
+        }
+        assertNull(store.get(b("discarded")));
+    }
+
     private static long countNodes(RocksDB db, org.rocksdb.ColumnFamilyHandle cf) {
         long count = 0;
         try (RocksIterator it = db.newIterator(cf)) {
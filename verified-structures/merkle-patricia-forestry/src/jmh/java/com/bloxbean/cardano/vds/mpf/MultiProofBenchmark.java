@@ -0,0 +1,116 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.mpf.internal.TestNodeStore;
+import com.bloxbean.cardano.vds.mpf.proof.ProofVerifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one multiproof for N keys against N single proofs.
+ *
+ * <p>Generation and verification time are measured by the benchmarks. The proof sizes don't depend on
+ * the run and are printed once per trial:</p>
+ * <pre>
+ * proof bytes [treeSize=100000, keyCount=100]: single=..., multi=... (...%)
+ * </pre>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ./gradlew :verified-structures:merkle-patricia-forestry:jmh -Pjmh.include=".*MultiProofBenchmark.*"
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class MultiProofBenchmark {
+
+    @Param({"10000", "100000"})
+    private int treeSize;
+
+    @Param({"10", "100", "1000"})
+    private int keyCount;
+
+    private MpfTrie trie;
+    private List<byte[]> proofKeys;
+    private Map<byte[], byte[]> proofEntries;
+    private List<byte[]> singleProofs;
+    private byte[] multiProof;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        trie = new MpfTrie(new TestNodeStore());
+
+        List<byte[]> keys = new ArrayList<>(treeSize);
+        List<byte[]> values = new ArrayList<>(treeSize);
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < treeSize; i++) {
+            byte[] key = new byte[16];
+            byte[] value = new byte[32];
+            random.nextBytes(key);
+            random.nextBytes(value);
+            keys.add(key);
+            values.add(value);
+            entries.put(key, value);
+        }
+        trie.putAll(entries);
+
+        proofKeys = new ArrayList<>(keyCount);
+        proofEntries = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            int index = random.nextInt(treeSize);
+            proofKeys.add(keys.get(index));
+            proofEntries.put(keys.get(index), values.get(index));
+        }
+
+        singleProofs = new ArrayList<>(keyCount);
+        long singleBytes = 0;
+        for (byte[] key : proofKeys) {
+            byte[] proof = trie.getProofWire(key).orElseThrow();
+            singleProofs.add(proof);
+            singleBytes += proof.length;
+        }
+        multiProof = trie.getMultiProofWire(proofKeys);
+
+        System.out.printf("%nproof bytes [treeSize=%d, keyCount=%d]: single=%d, multi=%d (%.1f%%)%n",
+                treeSize, keyCount, singleBytes, multiProof.length, 100.0 * multiProof.length / singleBytes);
+    }
+
+    @Benchmark
+    public void generateSingleProofs(Blackhole bh) {
+        for (byte[] key : proofKeys) {
+            bh.consume(trie.getProofWire(key));
+        }
+    }
+
+    @Benchmark
+    public byte[] generateMultiProof() {
+        return trie.getMultiProofWire(proofKeys);
+    }
+
+    @Benchmark
+    public boolean verifySingleProofs() {
+        byte[] root = trie.getRootHash();
+        boolean valid = true;
+        for (int i = 0; i < proofKeys.size(); i++) {
+            byte[] key = proofKeys.get(i);
+            valid &= ProofVerifier.verify(root, key, proofEntries.get(key), true, singleProofs.get(i));
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean verifyMultiProof() {
+        return ProofVerifier.verifyMulti(trie.getRootHash(), proofEntries, multiProof);
+    }
+}
@@ -0,0 +1,503 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.NodeHash;
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.core.util.Bytes;
+import com.bloxbean.cardano.vds.mpf.commitment.CommitmentScheme;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Applies a batch of put/delete operations to the trie with deferred hashing.
+ *
+ * <p>Unlike {@link PutOperationVisitor} and {@link DeleteOperationVisitor}, which encode, hash and persist
+ * every node on the path for each key, the batch updater works in two phases:</p>
+ * <ol>
+ *   <li><b>Apply:</b> Operations are sorted by path and applied to a mutable in-memory copy of the
+ *       affected part of the trie. Untouched subtrees are kept as references to their stored hashes and
+ *       are never loaded.</li>
+ *   <li><b>Commit:</b> The modified nodes are hashed bottom-up. For large batches, the subtrees of the
+ *       top branch levels are hashed in parallel on the common fork-join pool. Only the final nodes are
+ *       written to the store.</li>
+ * </ol>
+ *
+ * <p>The resulting trie structure and root hash are identical to applying the operations one by one
+ * with the visitors. All store access happens on the calling thread, so thread-bound store batches
+ * (e.g. RocksDB write batches) work as with single operations. The hash function and commitment
+ * scheme must be thread-safe when the batch is large enough to be hashed in parallel.</p>
+ *
+ * <p>Instances are not thread-safe and are meant to be used for a single batch.</p>
+ */
+final class BatchUpdater {
+    private static final Logger log = LoggerFactory.getLogger(BatchUpdater.class);
+
+    /**
+     * Minimum no of operations in a batch to hash subtrees in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 1024;
+
+    /**
+     * No of branch levels from the root whose subtrees are hashed in parallel.
+     */
+    private static final int PARALLEL_LEVELS = 2;
+
+    private final NodePersistence persistence;
+    private final HashFunction hashFn;
+    private final CommitmentScheme commitments;
+
+    // Set when the current delete operation removed a value
+    private boolean deleted;
+    private boolean parallel;
+
+    BatchUpdater(NodePersistence persistence, HashFunction hashFn, CommitmentScheme commitments) {
+        this.persistence = persistence;
+        this.hashFn = hashFn;
+        this.commitments = commitments;
+    }
+
+    /**
+     * Applies the operations and persists the updated nodes.
+     *
+     * @param root       current root hash, or null for an empty trie
+     * @param operations operations in application order. For the same path, the last operation wins.
+     * @return the new root hash, or null if the trie is empty after the batch
+     */
+    byte[] apply(byte[] root, List<Operation> operations) {
+        // Keep only the last operation per path, then apply in path order for locality
+        Map<ByteBuffer, Operation> lastOps = new LinkedHashMap<>();
+        for (Operation op : operations) {
+            lastOps.put(ByteBuffer.wrap(op.path), op);
+        }
+        List<Operation> sorted = new ArrayList<>(lastOps.values());
+        sorted.sort((a, b) -> Arrays.compareUnsigned(a.path, b.path));
+
+        MNode rootNode = root == null ? null : new Ref(root);
+        for (Operation op : sorted) {
+            int[] nibbles = Nibbles.toNibbles(op.path);
+            if (op.value != null) {
+                rootNode = put(rootNode, nibbles, 0, op.value, op.key);
+            } else {
+                deleted = false;
+                rootNode = delete(rootNode, nibbles, 0);
+            }
+        }
+
+        if (rootNode == null) {
+            return null;
+        }
+        if (rootNode instanceof Ref) {
+            return ((Ref) rootNode).hash;
+        }
+
+        parallel = sorted.size() >= PARALLEL_THRESHOLD;
+        List<Write> writes = new ArrayList<>();
+        Committed committed = commit(rootNode, 0, writes);
+
+        for (Write write : writes) {
+            persistence.write(write.hash, write.node, write.encoded);
+        }
+
+        return committed.hash;
+    }
+
+    // ======================================
+    // Apply phase
+    // ======================================
+
+    private MNode put(MNode node, int[] keyNibbles, int position, byte[] value, byte[] key) {
+        if (node == null) {
+            return new MLeaf(NibbleArrays.slice(keyNibbles, position, keyNibbles.length), value, key);
+        }
+
+        if (node instanceof Ref) {
+            MNode expanded = expand((Ref) node, position);
+            if (expanded == null) {
+                log.warn("Node hash {} referenced but not found in storage — creating replacement leaf",
+                        Bytes.toHex(((Ref) node).hash));
+                return new MLeaf(NibbleArrays.slice(keyNibbles, position, keyNibbles.length), value, key);
+            }
+            node = expanded;
+        }
+
+        int[] remainingKey = NibbleArrays.slice(keyNibbles, position, keyNibbles.length);
+
+        if (node instanceof MLeaf) {
+            MLeaf leaf = (MLeaf) node;
+            int common = Nibbles.commonPrefixLen(remainingKey, leaf.nibbles);
+            if (common == leaf.nibbles.length && common == remainingKey.length) {
+                leaf.value = value;
+                if (key != null) {
+                    leaf.key = key;
+                }
+                return leaf;
+            }
+
+            MBranch branch = new MBranch();
+            int[] leafRemainder = NibbleArrays.slice(leaf.nibbles, common, leaf.nibbles.length);
+            if (leafRemainder.length == 0) {
+                branch.value = leaf.value;
+            } else {
+                branch.children[leafRemainder[0]] = new MLeaf(NibbleArrays.slice(leafRemainder, 1, leafRemainder.length),
+                        leaf.value, leaf.key);
+            }
+            addNewKey(branch, remainingKey, common, value, key);
+            return common > 0 ? new MExt(NibbleArrays.slice(remainingKey, 0, common), branch) : branch;
+        }
+
+        if (node instanceof MBranch) {
+            MBranch branch = (MBranch) node;
+            if (position == keyNibbles.length) {
+                branch.value = value;
+            } else {
+                int childIndex = keyNibbles[position];
+                branch.children[childIndex] = put(branch.children[childIndex], keyNibbles, position + 1, value, key);
+            }
+            return branch;
+        }
+
+        MExt extension = (MExt) node;
+        int common = Nibbles.commonPrefixLen(remainingKey, extension.nibbles);
+        if (common == extension.nibbles.length) {
+            extension.child = put(extension.child, keyNibbles, position + common, value, key);
+            return extension;
+        }
+
+        MBranch branch = new MBranch();
+        int[] extensionRemainder = NibbleArrays.slice(extension.nibbles, common, extension.nibbles.length);
+        if (extensionRemainder.length == 1) {
+            branch.children[extensionRemainder[0]] = extension.child;
+        } else {
+            branch.children[extensionRemainder[0]] = new MExt(
+                    NibbleArrays.slice(extensionRemainder, 1, extensionRemainder.length), extension.child);
+        }
+        addNewKey(branch, remainingKey, common, value, key);
+        return common > 0 ? new MExt(NibbleArrays.slice(remainingKey, 0, common), branch) : branch;
+    }
+
+    private static void addNewKey(MBranch branch, int[] remainingKey, int common, byte[] value, byte[] key) {
+        int[] keyRemainder = NibbleArrays.slice(remainingKey, common, remainingKey.length);
+        if (keyRemainder.length == 0) {
+            branch.value = value;
+        } else {
+            branch.children[keyRemainder[0]] = new MLeaf(NibbleArrays.slice(keyRemainder, 1, keyRemainder.length), value, key);
+        }
+    }
+
+    private MNode delete(MNode node, int[] keyNibbles, int position) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node instanceof Ref) {
+            MNode expanded = expand((Ref) node, position);
+            if (expanded == null) {
+                return node;
+            }
+            MNode result = delete(expanded, keyNibbles, position);
+            // Keep the reference if the key was not found, so the subtree is not rewritten
+            return deleted ? result : node;
+        }
+
+        if (node instanceof MLeaf) {
+            MLeaf leaf = (MLeaf) node;
+            int[] target = NibbleArrays.slice(keyNibbles, position, keyNibbles.length);
+            if (Arrays.equals(leaf.nibbles, target)) {
+                deleted = true;
+                return null;
+            }
+            return leaf;
+        }
+
+        if (node instanceof MBranch) {
+            MBranch branch = (MBranch) node;
+            if (position == keyNibbles.length) {
+                if (branch.value == null) {
+                    return branch;
+                }
+                deleted = true;
+                branch.value = null;
+            } else {
+                int childIndex = keyNibbles[position];
+                if (branch.children[childIndex] == null) {
+                    return branch;
+                }
+                MNode newChild = delete(branch.children[childIndex], keyNibbles, position + 1);
+                if (!deleted) {
+                    return branch;
+                }
+                branch.children[childIndex] = newChild;
+            }
+            return compress(branch);
+        }
+
+        MExt extension = (MExt) node;
+        int[] target = NibbleArrays.slice(keyNibbles, position, keyNibbles.length);
+        if (Nibbles.commonPrefixLen(target, extension.nibbles) < extension.nibbles.length) {
+            return extension;
+        }
+
+        MNode newChild = delete(extension.child, keyNibbles, position + extension.nibbles.length);
+        if (!deleted) {
+            return extension;
+        }
+        if (newChild == null) {
+            return null;
+        }
+        return mergePrefix(extension.nibbles, resolve(newChild, position + extension.nibbles.length));
+    }
+
+    /**
+     * Compresses a branch after a delete, following the same rules as {@link DeleteOperationVisitor}.
+     */
+    private MNode compress(MBranch branch) {
+        int childCount = 0;
+        int firstChild = -1;
+        for (int i = 0; i < 16; i++) {
+            if (branch.children[i] != null) {
+                if (firstChild < 0) {
+                    firstChild = i;
+                }
+                childCount++;
+            }
+        }
+
+        if (childCount == 0) {
+            return branch.value == null ? null : new MLeaf(new int[0], branch.value, null);
+        }
+
+        if (childCount == 1 && branch.value == null) {
+            MNode child = resolve(branch.children[firstChild], -1);
+            if (child instanceof Ref) {
+                log.warn("Child node hash {} referenced in branch during compression but not found in storage",
+                        Bytes.toHex(((Ref) child).hash));
+                return branch;
+            }
+            return mergePrefix(new int[]{firstChild}, child);
+        }
+
+        return branch;
+    }
+
+    /**
+     * Puts the prefix in front of the node: merged into an extension or leaf, otherwise as a new extension.
+     */
+    private static MNode mergePrefix(int[] prefix, MNode node) {
+        if (node instanceof MExt) {
+            MExt extension = (MExt) node;
+            return new MExt(NibbleArrays.concat(prefix, extension.nibbles), extension.child);
+        }
+        if (node instanceof MLeaf) {
+            MLeaf leaf = (MLeaf) node;
+            return new MLeaf(NibbleArrays.concat(prefix, leaf.nibbles), leaf.value, leaf.key);
+        }
+        return new MExt(prefix, node);
+    }
+
+    private MNode resolve(MNode node, int depth) {
+        if (node instanceof Ref) {
+            MNode expanded = expand((Ref) node, depth);
+            return expanded != null ? expanded : node;
+        }
+        return node;
+    }
+
+    /**
+     * Loads a stored node as a mutable node. Children of branches stay references. The child of an extension
+     * is expanded too, as its structure is needed for the extension's commitment.
+     */
+    private MNode expand(Ref ref, int depth) {
+        Node node = persistence.load(NodeHash.of(ref.hash), depth);
+        if (node == null) {
+            return null;
+        }
+
+        if (node instanceof LeafNode) {
+            LeafNode leaf = (LeafNode) node;
+            return new MLeaf(Nibbles.unpackHP(leaf.getHp()).nibbles, leaf.getValue(), leaf.getKey());
+        }
+
+        if (node instanceof BranchNode) {
+            BranchNode branch = (BranchNode) node;
+            MBranch mBranch = new MBranch();
+            for (int i = 0; i < 16; i++) {
+                byte[] child = branch.getChild(i);
+                mBranch.children[i] = child == null || child.length == 0 ? null : new Ref(child);
+            }
+            mBranch.value = branch.getValue();
+            return mBranch;
+        }
+
+        ExtensionNode extension = (ExtensionNode) node;
+        int[] nibbles = Nibbles.unpackHP(extension.getHp()).nibbles;
+        MNode child = resolve(new Ref(extension.getChild()), depth < 0 ? -1 : depth + nibbles.length);
+        return new MExt(nibbles, child);
+    }
+
+    // ======================================
+    // Commit phase
+    // ======================================
+
+    private Committed commit(MNode node, int level, List<Write> writes) {
+        if (node instanceof Ref) {
+            return new Committed(((Ref) node).hash, null);
+        }
+
+        if (node instanceof MLeaf) {
+            MLeaf mLeaf = (MLeaf) node;
+            LeafNode leaf = LeafNode.of(Nibbles.packHP(true, mLeaf.nibbles), mLeaf.value, mLeaf.key);
+            return store(leaf, leaf.commit(hashFn, commitments), writes);
+        }
+
+        if (node instanceof MBranch) {
+            MBranch mBranch = (MBranch) node;
+            byte[][] childHashes = new byte[16][];
+
+            if (parallel && level < PARALLEL_LEVELS) {
+                List<CommitTask> tasks = new ArrayList<>(16);
+                for (int i = 0; i < 16; i++) {
+                    if (mBranch.children[i] != null) {
+                        tasks.add(new CommitTask(i, mBranch.children[i], level + 1));
+                    }
+                }
+                ForkJoinTask.invokeAll(tasks);
+                for (CommitTask task : tasks) {
+                    childHashes[task.index] = task.join().hash;
+                    writes.addAll(task.writes);
+                }
+            } else {
+                for (int i = 0; i < 16; i++) {
+                    if (mBranch.children[i] != null) {
+                        childHashes[i] = commit(mBranch.children[i], level + 1, writes).hash;
+                    }
+                }
+            }
+
+            BranchNode branch = BranchNode.builder().children(childHashes).value(mBranch.value).build();
+            return store(branch, branch.commit(hashFn, commitments), writes);
+        }
+
+        MExt mExt = (MExt) node;
+        Committed child = commit(mExt.child, level, writes);
+        ExtensionNode extension = ExtensionNode.of(Nibbles.packHP(false, mExt.nibbles), child.hash);
+        Node childNode = child.node != null ? child.node : persistence.load(NodeHash.of(child.hash));
+        return store(extension, persistence.computeExtensionCommit(extension, childNode), writes);
+    }
+
+    private static Committed store(Node node, byte[] hash, List<Write> writes) {
+        writes.add(new Write(hash, node, node.encode()));
+        return new Committed(hash, node);
+    }
+
+    private final class CommitTask extends RecursiveTask<Committed> {
+        private final int index;
+        private final MNode node;
+        private final int level;
+        private final List<Write> writes = new ArrayList<>();
+
+        CommitTask(int index, MNode node, int level) {
+            this.index = index;
+            this.node = node;
+            this.level = level;
+        }
+
+        @Override
+        protected Committed compute() {
+            return commit(node, level, writes);
+        }
+    }
+
+    /**
+     * A single put (value non-null) or delete (value null) operation.
+     */
+    static final class Operation {
+        final byte[] path;
+        final byte[] value;
+        final byte[] key;
+
+        private Operation(byte[] path, byte[] value, byte[] key) {
+            this.path = path;
+            this.value = value;
+            this.key = key;
+        }
+
+        static Operation put(byte[] path, byte[] value, byte[] key) {
+            return new Operation(path, value, key);
+        }
+
+        static Operation delete(byte[] path) {
+            return new Operation(path, null, null);
+        }
+    }
+
+    private static final class Write {
+        final byte[] hash;
+        final Node node;
+        final byte[] encoded;
+
+        Write(byte[] hash, Node node, byte[] encoded) {
+            this.hash = hash;
+            this.node = node;
+            this.encoded = encoded;
+        }
+    }
+
+    private static final class Committed {
+        final byte[] hash;
+        final Node node; // null for unchanged stored nodes
+
+        Committed(byte[] hash, Node node) {
+            this.hash = hash;
+            this.node = node;
+        }
+    }
+
+    // Mutable in-memory nodes. Untouched stored subtrees are kept as Ref.
+
+    private abstract static class MNode {
+    }
+
+    private static final class Ref extends MNode {
+        final byte[] hash;
+
+        Ref(byte[] hash) {
+            this.hash = hash;
+        }
+    }
+
+    private static final class MLeaf extends MNode {
+        final int[] nibbles;
+        byte[] value;
+        byte[] key;
+
+        MLeaf(int[] nibbles, byte[] value, byte[] key) {
+            this.nibbles = nibbles;
+            this.value = value;
+            this.key = key;
+        }
+    }
+
+    private static final class MExt extends MNode {
+        final int[] nibbles;
+        MNode child;
+
+        MExt(int[] nibbles, MNode child) {
+            this.nibbles = nibbles;
+            this.child = child;
+        }
+    }
+
+    private static final class MBranch extends MNode {
+        final MNode[] children = new MNode[16];
+        byte[] value;
+    }
+}
@@ -114,7 +114,7 @@ final class DeleteOperationVisitor implements NodeVisitor<NodeHash> {
                 return persistence.persist(node);
             }
 
-            Node childNode = persistence.load(NodeHash.of(childHash));
+            Node childNode = persistence.load(NodeHash.of(childHash), position + 1);
             if (childNode == null) {
                 // Child node missing - key not found - unchanged (may indicate storage corruption)
                 log.warn("Child node hash {} referenced in branch but not found in storage",
@@ -166,7 +166,7 @@ final class DeleteOperationVisitor implements NodeVisitor<NodeHash> {
 
         // Delete from child
         byte[] childHash = node.getChild();
-        Node childNode = persistence.load(NodeHash.of(childHash));
+        Node childNode = persistence.load(NodeHash.of(childHash), position + enNibs.length);
         if (childNode == null) {
             // Child not found - key not found - unchanged (may indicate storage corruption)
             log.warn("Child node hash {} referenced in extension but not found in storage",
@@ -0,0 +1,189 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.NodeHash;
+import com.bloxbean.cardano.vds.core.StateChange;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the changes between two roots of the same store, in ascending path order.
+ *
+ * <p>Both tries are walked at once, each with an explicit stack of pending subtrees sorted by path.
+ * Two subtrees at the same path with the same hash are identical and skipped without being loaded,
+ * so the number of nodes read is proportional to the number of changes times the trie depth, not to
+ * the trie size. Otherwise the subtree that comes first, or covers the other one, is expanded, and
+ * leaves are compared by path and value.</p>
+ */
+final class DiffIterator implements Iterator<StateChange> {
+    private static final int[] EMPTY = new int[0];
+
+    private final NodePersistence persistence;
+    private final Deque<Item> from = new ArrayDeque<>();
+    private final Deque<Item> to = new ArrayDeque<>();
+    private StateChange next;
+
+    /**
+     * @param persistence the node persistence holding the nodes of both roots
+     * @param fromRoot    the old root hash, or null for the empty trie
+     * @param toRoot      the new root hash, or null for the empty trie
+     */
+    DiffIterator(NodePersistence persistence, byte[] fromRoot, byte[] toRoot) {
+        this.persistence = persistence;
+        if (fromRoot != null) {
+            from.push(Item.subtree(EMPTY, fromRoot));
+        }
+        if (toRoot != null) {
+            to.push(Item.subtree(EMPTY, toRoot));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public StateChange next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        StateChange change = next;
+        next = null;
+        return change;
+    }
+
+    private StateChange advance() {
+        while (true) {
+            Item a = from.peek();
+            Item b = to.peek();
+            if (a == null && b == null) {
+                return null;
+            }
+
+            if (a != null && b != null && Arrays.equals(a.path, b.path)) {
+                if (a.hash != null && b.hash != null && Arrays.equals(a.hash, b.hash)) {
+                    // Same position and hash: identical subtrees
+                    from.pop();
+                    to.pop();
+                    continue;
+                }
+                if (a.isLeaf() && b.isLeaf()) {
+                    from.pop();
+                    to.pop();
+                    if (!Arrays.equals(a.value, b.value)) {
+                        return new StateChange(StateChange.Type.MODIFIED, Nibbles.fromNibbles(a.path),
+                                b.key != null ? b.key : a.key, a.value, b.value);
+                    }
+                    continue;
+                }
+            }
+
+            boolean fromFirst = b == null || (a != null && precedes(a, b));
+            Deque<Item> side = fromFirst ? from : to;
+            Item item = side.pop();
+            if (item.isLeaf()) {
+                return fromFirst
+                        ? new StateChange(StateChange.Type.REMOVED, Nibbles.fromNibbles(item.path), item.key, item.value, null)
+                        : new StateChange(StateChange.Type.ADDED, Nibbles.fromNibbles(item.path), item.key, null, item.value);
+            }
+            expand(side, item);
+        }
+    }
+
+    /**
+     * Replaces a subtree on the stack by its node's contents.
+     */
+    private void expand(Deque<Item> side, Item subtree) {
+        Node node = persistence.load(NodeHash.of(subtree.hash), subtree.path.length);
+        if (node == null) {
+            throw new IllegalStateException("Missing node " + NodeHash.of(subtree.hash));
+        }
+
+        if (node instanceof LeafNode) {
+            LeafNode leaf = (LeafNode) node;
+            int[] path = concat(subtree.path, Nibbles.unpackHP(leaf.getHp()).nibbles);
+            side.push(Item.leaf(path, leaf.getValue(), leaf.getKey()));
+        } else if (node instanceof ExtensionNode) {
+            ExtensionNode extension = (ExtensionNode) node;
+            int[] path = concat(subtree.path, Nibbles.unpackHP(extension.getHp()).nibbles);
+            side.push(Item.subtree(path, extension.getChild()));
+        } else if (node instanceof BranchNode) {
+            BranchNode branch = (BranchNode) node;
+            for (int i = 15; i >= 0; i--) {
+                byte[] childHash = branch.getChild(i);
+                if (childHash != null && childHash.length > 0) {
+                    side.push(Item.subtree(concat(subtree.path, new int[]{i}), childHash));
+                }
+            }
+            // A branch value sorts before the entries below the branch
+            if (branch.getValue() != null) {
+                side.push(Item.leaf(subtree.path, branch.getValue(), null));
+            }
+        }
+    }
+
+    /**
+     * Returns whether {@code a} must be handled before {@code b}: it covers {@code b} or sorts before it.
+     */
+    private static boolean precedes(Item a, Item b) {
+        if (!a.isLeaf() && isPrefix(a.path, b.path)) return true;
+        if (!b.isLeaf() && isPrefix(b.path, a.path)) return false;
+        int n = Math.min(a.path.length, b.path.length);
+        for (int i = 0; i < n; i++) {
+            if (a.path[i] != b.path[i]) return a.path[i] < b.path[i];
+        }
+        return a.path.length < b.path.length;
+    }
+
+    private static boolean isPrefix(int[] prefix, int[] path) {
+        if (prefix.length > path.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (prefix[i] != path[i]) return false;
+        }
+        return true;
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    /**
+     * A pending subtree, not loaded yet, or a leaf entry.
+     */
+    private static final class Item {
+        final int[] path;
+        final byte[] hash;  // subtree only
+        final byte[] value; // leaf only
+        final byte[] key;   // leaf only, nullable
+
+        private Item(int[] path, byte[] hash, byte[] value, byte[] key) {
+            this.path = path;
+            this.hash = hash;
+            this.value = value;
+            this.key = key;
+        }
+
+        static Item subtree(int[] path, byte[] hash) {
+            return new Item(path, hash, null, null);
+        }
+
+        static Item leaf(int[] path, byte[] value, byte[] key) {
+            return new Item(path, null, value, key);
+        }
+
+        boolean isLeaf() {
+            return hash == null;
+        }
+    }
+}
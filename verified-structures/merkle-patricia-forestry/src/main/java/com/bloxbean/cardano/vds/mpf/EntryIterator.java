@@ -0,0 +1,176 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.NodeHash;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the entries of a trie in ascending path order.
+ *
+ * <p>The iterator walks the trie depth-first with an explicit stack holding at most the pending siblings
+ * of the nodes on the current path (&le; 15 per level), so memory stays constant regardless of the trie
+ * size. The children of a branch are loaded in one {@link NodePersistence#loadAll(List, int)} call.
+ * Subtrees outside the prefix or before the start-after path are skipped without being loaded.</p>
+ *
+ * <p>The iterator reads the nodes of the root it was created with. As nodes are immutable, later updates
+ * to the trie don't affect it, unless old nodes are deleted from the store.</p>
+ */
+final class EntryIterator implements Iterator<MpfTrie.Entry> {
+    private static final int[] EMPTY = new int[0];
+
+    private final NodePersistence persistence;
+    private final int[] prefix;
+    private final int[] startAfter; // nullable => from the first entry
+    private final Deque<Pending> stack = new ArrayDeque<>();
+    private MpfTrie.Entry next;
+
+    /**
+     * @param persistence the node persistence
+     * @param root        the root hash, or null for the empty trie
+     * @param prefix      path prefix the entries must start with, or null for all entries
+     * @param startAfter  only entries with a path greater than this are returned, or null
+     */
+    EntryIterator(NodePersistence persistence, byte[] root, byte[] prefix, byte[] startAfter) {
+        this.persistence = persistence;
+        this.prefix = prefix == null ? EMPTY : Nibbles.toNibbles(prefix);
+        this.startAfter = startAfter == null ? null : Nibbles.toNibbles(startAfter);
+        if (root != null) {
+            Node rootNode = persistence.load(NodeHash.of(root), 0);
+            if (rootNode != null) {
+                stack.push(new Pending(EMPTY, rootNode));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public MpfTrie.Entry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MpfTrie.Entry entry = next;
+        next = null;
+        return entry;
+    }
+
+    private MpfTrie.Entry advance() {
+        while (!stack.isEmpty()) {
+            Pending pending = stack.pop();
+            Node node = pending.node;
+
+            if (node instanceof LeafNode) {
+                LeafNode leaf = (LeafNode) node;
+                int[] path = concat(pending.path, Nibbles.unpackHP(leaf.getHp()).nibbles);
+                if (accepts(path)) {
+                    return new MpfTrie.Entry(Nibbles.fromNibbles(path), leaf.getValue(), leaf.getKey());
+                }
+            } else if (node instanceof ExtensionNode) {
+                ExtensionNode extension = (ExtensionNode) node;
+                int[] path = concat(pending.path, Nibbles.unpackHP(extension.getHp()).nibbles);
+                byte[] childHash = extension.getChild();
+                if (childHash != null && childHash.length > 0 && mayContain(path)) {
+                    Node child = persistence.load(NodeHash.of(childHash), path.length);
+                    if (child != null) {
+                        stack.push(new Pending(path, child));
+                    }
+                }
+            } else if (node instanceof BranchNode) {
+                BranchNode branch = (BranchNode) node;
+                pushChildren(branch, pending.path);
+                // A branch value sorts before the entries below the branch
+                if (branch.getValue() != null && accepts(pending.path)) {
+                    return new MpfTrie.Entry(Nibbles.fromNibbles(pending.path), branch.getValue(), null);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void pushChildren(BranchNode branch, int[] path) {
+        List<int[]> childPaths = new ArrayList<>(16);
+        List<NodeHash> childHashes = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            byte[] childHash = branch.getChild(i);
+            if (childHash == null || childHash.length == 0) continue;
+            int[] childPath = concat(path, new int[]{i});
+            if (mayContain(childPath)) {
+                childPaths.add(childPath);
+                childHashes.add(NodeHash.of(childHash));
+            }
+        }
+        if (childHashes.isEmpty()) return;
+
+        List<Node> children = persistence.loadAll(childHashes, path.length + 1);
+        for (int i = children.size() - 1; i >= 0; i--) {
+            if (children.get(i) != null) {
+                stack.push(new Pending(childPaths.get(i), children.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Returns whether the subtree below the path may hold entries within the bounds.
+     */
+    private boolean mayContain(int[] path) {
+        int n = Math.min(path.length, prefix.length);
+        for (int i = 0; i < n; i++) {
+            if (path[i] != prefix[i]) return false;
+        }
+        if (startAfter == null) return true;
+        // The subtree is before the bound if the path sorts before the bound's prefix of the same length
+        n = Math.min(path.length, startAfter.length);
+        for (int i = 0; i < n; i++) {
+            if (path[i] != startAfter[i]) return path[i] > startAfter[i];
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether an entry with the given full path is within the bounds.
+     */
+    private boolean accepts(int[] path) {
+        if (path.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (path[i] != prefix[i]) return false;
+        }
+        return startAfter == null || compare(path, startAfter) > 0;
+    }
+
+    private static int compare(int[] a, int[] b) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            if (a[i] != b[i]) return Integer.compare(a[i], b[i]);
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static final class Pending {
+        final int[] path;
+        final Node node;
+
+        Pending(int[] path, Node node) {
+            this.path = path;
+            this.node = node;
+        }
+    }
+}
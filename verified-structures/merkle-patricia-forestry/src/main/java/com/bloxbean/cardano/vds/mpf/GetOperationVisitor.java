@@ -93,7 +93,7 @@ final class GetOperationVisitor implements NodeVisitor<byte[]> {
             return null; // No node at this path
         }
 
-        Node node = persistence.load(NodeHash.of(nodeHash));
+        Node node = persistence.load(NodeHash.of(nodeHash), position);
         if (node == null) {
             return null; // Missing node
         }
@@ -0,0 +1,256 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.BulkLoadResult;
+import com.bloxbean.cardano.vds.core.api.BulkWriter;
+import com.bloxbean.cardano.vds.core.api.HashFunction;
+import com.bloxbean.cardano.vds.core.api.NodeStore;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.mpf.commitment.CommitmentScheme;
+import com.bloxbean.cardano.vds.mpf.commitment.MpfCommitmentScheme;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds a trie bottom-up from entries sorted by path, writing only the final nodes.
+ *
+ * <p>Inserting a large dataset with {@link MpfTrie#put(byte[], byte[])} creates and rewrites the
+ * nodes on the path of every key. The bulk loader instead streams the entries in ascending order
+ * of their hashed key: once the next entry leaves a subtree, the subtree is complete and its nodes
+ * are hashed and written exactly once. Only the branches on the path of the current entry are kept
+ * in memory.</p>
+ *
+ * <p>Nodes are written through the store's {@link NodeStore#bulkWriter()}, so RocksDB stores ingest
+ * them as SST files and RDBMS stores use multi-row inserts. The resulting root hash and nodes are
+ * identical to inserting the same entries into an empty trie.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * try (MpfBulkLoader loader = new MpfBulkLoader(store)) {
+ *     // keys must be added in ascending order of blake2b-256(key)
+ *     for (Entry e : sortedEntries) {
+ *         loader.add(e.key(), e.value());
+ *     }
+ *     BulkLoadResult result = loader.finish();
+ *     MpfTrie trie = new MpfTrie(store, result.rootHash());
+ * }
+ * }</pre>
+ *
+ * <p>For datasets that fit in memory, {@link #load(Map)} sorts the entries first.</p>
+ *
+ * <p>Instances are not thread-safe and load a single trie.</p>
+ *
+ * @since 0.8.0
+ */
+public final class MpfBulkLoader implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(MpfBulkLoader.class);
+
+    private final HashFunction hashFn;
+    private final CommitmentScheme commitments;
+    private final NodePersistence persistence;
+    private final BulkWriter writer;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private final long startNanos = System.nanoTime();
+
+    private Pending previous;
+    private long entries;
+    private long nodes;
+    private long bytes;
+    private boolean finished;
+
+    /**
+     * Creates a bulk loader using Blake2b-256 and the MPF commitment scheme, like {@link MpfTrie#MpfTrie(NodeStore)}.
+     *
+     * @param store the store to write the nodes to
+     */
+    public MpfBulkLoader(NodeStore store) {
+        this(store, Blake2b256::digest, new MpfCommitmentScheme(Blake2b256::digest));
+    }
+
+    /**
+     * Creates a bulk loader with a custom hash function and commitment scheme. They must match the
+     * ones of the {@link MpfTrie} reading the loaded trie.
+     *
+     * @param store       the store to write the nodes to
+     * @param hashFn      the hash function for keys and values
+     * @param commitments the commitment scheme for node hashes
+     */
+    public MpfBulkLoader(NodeStore store, HashFunction hashFn, CommitmentScheme commitments) {
+        Objects.requireNonNull(store, "store");
+        this.hashFn = Objects.requireNonNull(hashFn, "hashFn");
+        this.commitments = Objects.requireNonNull(commitments, "commitments");
+        this.persistence = new NodePersistence(store, commitments, hashFn);
+        this.writer = store.bulkWriter();
+    }
+
+    /**
+     * Adds an entry. Entries must be added in strictly ascending order of their hashed key.
+     *
+     * @param key   the original key
+     * @param value the value, must not be null
+     * @throws IllegalArgumentException if the hashed key is not greater than the previous one
+     * @throws IllegalStateException    if the loader is already finished
+     */
+    public void add(byte[] key, byte[] value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        if (finished) {
+            throw new IllegalStateException("Bulk load already finished");
+        }
+
+        byte[] path = hashFn.digest(key);
+        Pending entry = new Pending(path, Nibbles.toNibbles(path), value, key);
+        if (previous == null) {
+            previous = entry;
+            entries++;
+            return;
+        }
+        if (path.length != previous.path.length || Arrays.compareUnsigned(previous.path, path) >= 0) {
+            throw new IllegalArgumentException("Keys must be added in ascending order of their hash");
+        }
+
+        // Subtrees deeper than the common prefix with the new entry are complete
+        int common = Nibbles.commonPrefixLen(previous.nibbles, entry.nibbles);
+        Object completed = previous;
+        while (!stack.isEmpty() && stack.peek().depth > common) {
+            Frame frame = stack.pop();
+            frame.children[previous.nibbles[frame.depth]] = commit(completed, frame.depth + 1);
+            completed = frame;
+        }
+        Frame parent = stack.peek();
+        if (parent == null || parent.depth < common) {
+            parent = new Frame(common, previous.nibbles);
+            stack.push(parent);
+        }
+        parent.children[previous.nibbles[common]] = commit(completed, common + 1);
+
+        previous = entry;
+        entries++;
+    }
+
+    /**
+     * Writes the remaining nodes and makes them visible in the store.
+     *
+     * @return the root hash (null if no entries were added) and throughput figures
+     * @throws IllegalStateException if the loader is already finished
+     */
+    public BulkLoadResult finish() {
+        if (finished) {
+            throw new IllegalStateException("Bulk load already finished");
+        }
+        finished = true;
+
+        byte[] root = null;
+        if (previous != null) {
+            Object completed = previous;
+            while (!stack.isEmpty()) {
+                Frame frame = stack.pop();
+                frame.children[previous.nibbles[frame.depth]] = commit(completed, frame.depth + 1);
+                completed = frame;
+            }
+            root = commit(completed, 0);
+        }
+        writer.finish();
+
+        BulkLoadResult result = new BulkLoadResult(root, entries, nodes, bytes, System.nanoTime() - startNanos);
+        log.info("MPF bulk load finished: {}", result);
+        return result;
+    }
+
+    /**
+     * Loads all entries of a map into the store, sorting them by hashed key first.
+     *
+     * @param entries the entries to load, values must not be null
+     * @return the root hash and throughput figures
+     */
+    public BulkLoadResult load(Map<byte[], byte[]> entries) {
+        List<Pending> sorted = new ArrayList<>(entries.size());
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            byte[] key = Objects.requireNonNull(entry.getKey(), "key");
+            sorted.add(new Pending(hashFn.digest(key), null, entry.getValue(), key));
+        }
+        sorted.sort((a, b) -> Arrays.compareUnsigned(a.path, b.path));
+        for (Pending entry : sorted) {
+            add(entry.key, entry.value);
+        }
+        return finish();
+    }
+
+    /**
+     * Closes the underlying bulk writer. Nodes of an unfinished load may be discarded.
+     */
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    /**
+     * Hashes and writes a completed subtree whose node starts at the given nibble depth.
+     */
+    private byte[] commit(Object subtree, int start) {
+        if (subtree instanceof Pending) {
+            Pending entry = (Pending) subtree;
+            LeafNode leaf = LeafNode.of(Nibbles.packHP(true, Arrays.copyOfRange(entry.nibbles, start, entry.nibbles.length)),
+                    entry.value, entry.key);
+            return write(leaf, leaf.commit(hashFn, commitments));
+        }
+
+        Frame frame = (Frame) subtree;
+        BranchNode branch = BranchNode.builder().children(frame.children).build();
+        byte[] branchHash = write(branch, branch.commit(hashFn, commitments));
+        if (frame.depth == start) {
+            return branchHash;
+        }
+
+        ExtensionNode extension = ExtensionNode.of(
+                Nibbles.packHP(false, Arrays.copyOfRange(frame.nibbles, start, frame.depth)), branchHash);
+        return write(extension, persistence.computeExtensionCommit(extension, branch));
+    }
+
+    private byte[] write(Node node, byte[] hash) {
+        byte[] encoded = node.encode();
+        writer.put(hash, encoded);
+        nodes++;
+        bytes += encoded.length;
+        return hash;
+    }
+
+    /**
+     * The last added entry, whose leaf position is known once the next entry arrives.
+     */
+    private static final class Pending {
+        final byte[] path;
+        final int[] nibbles;
+        final byte[] value;
+        final byte[] key;
+
+        Pending(byte[] path, int[] nibbles, byte[] value, byte[] key) {
+            this.path = path;
+            this.nibbles = nibbles;
+            this.value = value;
+            this.key = key;
+        }
+    }
+
+    /**
+     * A branch on the path of the current entry, at the given nibble depth.
+     */
+    private static final class Frame {
+        final int depth;
+        final int[] nibbles; // path of an entry below the branch; the first depth nibbles are the branch path
+        final byte[][] children = new byte[16][];
+
+        Frame(int depth, int[] nibbles) {
+            this.depth = depth;
+            this.nibbles = nibbles;
+        }
+    }
+}
@@ -7,19 +7,28 @@ import com.bloxbean.cardano.vds.core.api.NodeStore;
 import com.bloxbean.cardano.vds.core.hash.Blake2b256;
 import com.bloxbean.cardano.vds.core.NodeHash;
 import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.StateChange;
 import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
 import com.bloxbean.cardano.vds.mpf.commitment.CommitmentScheme;
 import com.bloxbean.cardano.vds.mpf.commitment.MpfCommitmentScheme;
+import com.bloxbean.cardano.vds.mpf.proof.MultiProof;
 import com.bloxbean.cardano.vds.mpf.proof.ProofFormatter;
 import com.bloxbean.cardano.vds.mpf.proof.ProofSerializer;
 import com.bloxbean.cardano.vds.mpf.proof.TraversalProof;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Merkle Patricia Forestry Trie - the primary API for Cardano developers.
@@ -120,7 +129,7 @@ public final class MpfTrie {
      */
     public MpfTrie(NodeStore store, byte[] root) {
         this.hashFn = Blake2b256::digest;
-        this.impl = new Impl(store, hashFn, root, new MpfCommitmentScheme(hashFn));
+        this.impl = new Impl(store, hashFn, root, new MpfCommitmentScheme(hashFn), null);
     }
 
 /**
@@ -160,7 +169,7 @@ public final class MpfTrie {
      */
     public MpfTrie(NodeStore store, HashFunction hashFn, byte[] root) {
         this.hashFn = Objects.requireNonNull(hashFn, "hashFn");
-        this.impl = new Impl(store, hashFn, root, new MpfCommitmentScheme(hashFn));
+        this.impl = new Impl(store, hashFn, root, new MpfCommitmentScheme(hashFn), null);
     }
 
     /**
@@ -184,8 +193,28 @@ public final class MpfTrie {
      * @since 0.8.0
      */
     public MpfTrie(NodeStore store, HashFunction hashFn, byte[] root, CommitmentScheme commitmentScheme) {
+        this(store, hashFn, root, commitmentScheme, null);
+    }
+
+    /**
+     * Creates an MpfTrie with a decoded-node cache in front of the store.
+     *
+     * <p>Nodes loaded or written by this trie are kept in the {@link NodeCache}, so repeated
+     * lookups and proofs skip the store and CBOR decoding for hot nodes, e.g. the root and
+     * the top branch levels. The cache may be shared by tries over the same store.</p>
+     *
+     * @param store             the storage backend for persisting trie nodes
+     * @param hashFn            the hash function for key hashing and commitments
+     * @param root              the root hash of an existing trie, or null for empty trie
+     * @param commitmentScheme  the commitment scheme used to derive node commitments
+     * @param nodeCache         the node cache, or null to disable caching
+     * @throws NullPointerException if store, hashFn, or commitmentScheme is null
+     * @since 0.8.0
+     */
+    public MpfTrie(NodeStore store, HashFunction hashFn, byte[] root, CommitmentScheme commitmentScheme,
+                   NodeCache nodeCache) {
         this.hashFn = Objects.requireNonNull(hashFn, "hashFn");
-        this.impl = new Impl(store, hashFn, root, commitmentScheme);
+        this.impl = new Impl(store, hashFn, root, commitmentScheme, nodeCache);
     }
 
     /**
@@ -257,6 +286,64 @@ public final class MpfTrie {
         impl.delete(hashFn.digest(key));
     }
 
+    /**
+     * Stores multiple key-value pairs in a single batch.
+     *
+     * <p>The resulting trie is identical to calling {@link #put(byte[], byte[])} for each entry, but
+     * intermediate nodes are built in memory and hashed once, and only the final nodes are written
+     * to the store. For large batches, independent subtrees are hashed in parallel on the common
+     * fork-join pool, so the hash function must be thread-safe.</p>
+     *
+     * @param entries the original keys and values to store (values must not be null)
+     * @throws IllegalArgumentException if any value is null
+     * @throws NullPointerException     if entries or any key is null
+     */
+    public void putAll(Map<byte[], byte[]> entries) {
+        for (byte[] value : entries.values()) {
+            if (value == null) throw new IllegalArgumentException("value cannot be null; use deleteAll");
+        }
+        applyBatch(entries);
+    }
+
+    /**
+     * Removes multiple keys in a single batch.
+     *
+     * <p>The resulting trie is identical to calling {@link #delete(byte[])} for each key.
+     * Keys which don't exist are ignored.</p>
+     *
+     * @param keys the original keys to delete
+     * @throws NullPointerException if keys or any key is null
+     */
+    public void deleteAll(Collection<byte[]> keys) {
+        List<BatchUpdater.Operation> operations = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            operations.add(BatchUpdater.Operation.delete(hashFn.digest(key)));
+        }
+        impl.applyBatch(operations);
+    }
+
+    /**
+     * Applies a batch of puts and deletes. An entry with a null value deletes the key.
+     *
+     * <p>See {@link #putAll(Map)} for how the batch is applied. If the map has a defined
+     * iteration order and contains the same key more than once (e.g. equal arrays as distinct
+     * instances), the last entry wins.</p>
+     *
+     * @param updates the original keys mapped to the new values, or null to delete
+     * @throws NullPointerException if updates or any key is null
+     */
+    public void applyBatch(Map<byte[], byte[]> updates) {
+        List<BatchUpdater.Operation> operations = new ArrayList<>(updates.size());
+        for (Map.Entry<byte[], byte[]> entry : updates.entrySet()) {
+            byte[] key = entry.getKey();
+            byte[] path = hashFn.digest(key);
+            operations.add(entry.getValue() != null
+                    ? BatchUpdater.Operation.put(path, entry.getValue(), key)
+                    : BatchUpdater.Operation.delete(path));
+        }
+        impl.applyBatch(operations);
+    }
+
     /**
      * Builds a mode-bound wire proof for the given key.
      *
@@ -318,6 +405,40 @@ public final class MpfTrie {
         return impl.verifyProofWire(expectedRoot, key, valueOrNull, including, wire);
     }
 
+    /**
+     * Builds a single proof for a set of keys.
+     *
+     * <p>The proof contains each trie node on the lookup paths of the keys once, so it is smaller and
+     * faster to build than one {@link #getProofWire(byte[])} per key when the keys share upper levels.
+     * It proves inclusion of present keys and non-inclusion of absent keys alike.</p>
+     *
+     * <p>The multiproof uses its own wire format (see {@link MultiProof}) and is not compatible with the
+     * Aiken on-chain verifier.</p>
+     *
+     * @param keys the original keys (will be hashed)
+     * @return the CBOR-encoded multiproof
+     * @see #verifyMultiProofWire(byte[], Map, byte[])
+     */
+    public byte[] getMultiProofWire(Collection<byte[]> keys) {
+        List<byte[]> paths = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            paths.add(hashFn.digest(Objects.requireNonNull(key, "key")));
+        }
+        return impl.getMultiProof(paths).toCbor();
+    }
+
+    /**
+     * Verifies a multiproof against an expected root.
+     *
+     * @param expectedRoot the expected trie root hash to verify against
+     * @param entries      the original keys mapped to their expected values, or null for non-inclusion
+     * @param wire         the multiproof bytes as produced by {@link #getMultiProofWire(Collection)}
+     * @return {@code true} if the proof is valid for all entries, {@code false} otherwise
+     */
+    public boolean verifyMultiProofWire(byte[] expectedRoot, Map<byte[], byte[]> entries, byte[] wire) {
+        return impl.verifyMultiProofWire(expectedRoot, entries, wire);
+    }
+
     /**
      * Returns all key-value entries stored in the trie.
      *
@@ -385,6 +506,106 @@ public final class MpfTrie {
         return impl.getEntries(limit);
     }
 
+    /**
+     * Returns a lazy iterator over all entries in ascending path (hashed key) order.
+     *
+     * @return iterator over all entries
+     * @see #iterator(byte[], byte[])
+     */
+    public Iterator<Entry> iterator() {
+        return iterator(null, null);
+    }
+
+    /**
+     * Returns a lazy iterator over the entries within the given bounds, in ascending path (hashed key) order.
+     *
+     * <p>Unlike {@link #getAllEntries()}, entries are not materialized: nodes are loaded as the iterator
+     * advances, with the children of each branch prefetched in one store call, and memory use is
+     * independent of the trie size. Subtrees outside the bounds are not loaded.</p>
+     *
+     * <p>To resume an interrupted iteration, e.g. a paged export, pass the path of the last entry
+     * received as {@code startAfterPath}.</p>
+     *
+     * <p>The iterator reads a snapshot at the current root. Updates made while iterating are not visible.</p>
+     *
+     * <p><b>Example usage:</b></p>
+     * <pre>{@code
+     * // Export the entries whose hashed key starts with 0xab, in pages of 1000
+     * byte[] cursor = null;
+     * List<MpfTrie.Entry> page;
+     * do {
+     *     page = trie.stream(new byte[]{(byte) 0xab}, cursor).limit(1000).collect(Collectors.toList());
+     *     if (!page.isEmpty()) cursor = page.get(page.size() - 1).getPath();
+     * } while (page.size() == 1000);
+     * }</pre>
+     *
+     * @param pathPrefix     only entries whose path starts with these bytes, or null for all entries
+     * @param startAfterPath only entries with a path greater than this, or null to start at the first entry
+     * @return iterator over the entries within the bounds
+     */
+    public Iterator<Entry> iterator(byte[] pathPrefix, byte[] startAfterPath) {
+        return impl.iterator(pathPrefix, startAfterPath);
+    }
+
+    /**
+     * Returns a lazy, ordered stream over all entries. See {@link #iterator(byte[], byte[])}.
+     *
+     * @return stream of all entries in ascending path order
+     */
+    public Stream<Entry> stream() {
+        return stream(null, null);
+    }
+
+    /**
+     * Returns a lazy, ordered stream over the entries within the given bounds.
+     * See {@link #iterator(byte[], byte[])}.
+     *
+     * @param pathPrefix     only entries whose path starts with these bytes, or null for all entries
+     * @param startAfterPath only entries with a path greater than this, or null to start at the first entry
+     * @return stream of the entries within the bounds in ascending path order
+     */
+    public Stream<Entry> stream(byte[] pathPrefix, byte[] startAfterPath) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(pathPrefix, startAfterPath),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the changes from an older root to the current root, in ascending path order.
+     *
+     * @param fromRoot the older root hash, or null for the empty trie
+     * @return lazy stream of added, removed and modified entries
+     * @see #diff(byte[], byte[])
+     */
+    public Stream<StateChange> diff(byte[] fromRoot) {
+        return diff(fromRoot, getRootHash());
+    }
+
+    /**
+     * Returns the changes between two roots stored in this trie's store, in ascending path (hashed key) order.
+     *
+     * <p>Both tries are walked together and subtrees with the same hash at the same position are skipped
+     * without being loaded, so the cost is proportional to the number of changes, not the trie size.
+     * The roots may come from any two versions kept in the store, e.g. a roots index; the nodes of both
+     * must still be present, so don't garbage-collect either root while the stream is consumed.</p>
+     *
+     * <p><b>Example usage:</b></p>
+     * <pre>{@code
+     * byte[] previous = trie.getRootHash();
+     * trie.put("alice".getBytes(), "150".getBytes());
+     * trie.diff(previous).forEach(change ->
+     *     System.out.println(change.type() + " " + new String(change.key())));
+     * }</pre>
+     *
+     * @param fromRoot the older root hash, or null for the empty trie
+     * @param toRoot   the newer root hash, or null for the empty trie
+     * @return lazy stream of the entries added, removed or modified from {@code fromRoot} to {@code toRoot}
+     * @throws IllegalStateException while consuming the stream, if a node of either root is missing
+     */
+    public Stream<StateChange> diff(byte[] fromRoot, byte[] toRoot) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(impl.diff(fromRoot, toRoot),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
     /**
      * Returns statistics about the trie structure.
      *
@@ -671,13 +892,14 @@ public final class MpfTrie {
          * @param hashFn      the hash function for node hashing (must not be null)
          * @param root        the initial root hash, or null for an empty trie
          * @param commitments the commitment scheme for node hashing (must not be null)
-         * @throws NullPointerException if any parameter is null
+         * @param nodeCache   the decoded-node cache, or null for no caching
+         * @throws NullPointerException if store, hashFn or commitments is null
          */
-        Impl(NodeStore store, HashFunction hashFn, byte[] root, CommitmentScheme commitments) {
+        Impl(NodeStore store, HashFunction hashFn, byte[] root, CommitmentScheme commitments, NodeCache nodeCache) {
             Objects.requireNonNull(store, "NodeStore");
             this.hashFn = Objects.requireNonNull(hashFn, "HashFunction");
             this.commitments = Objects.requireNonNull(commitments, "CommitmentScheme");
-            this.persistence = new NodePersistence(store, commitments, hashFn);
+            this.persistence = new NodePersistence(store, commitments, hashFn, nodeCache);
             this.root = root == null || root.length == 0 ? null : root;
         }
 
@@ -728,6 +950,14 @@ public final class MpfTrie {
             this.root = result != null ? result.toBytes() : null;
         }
 
+        /**
+         * Applies a batch of put/delete operations on hashed paths.
+         */
+        void applyBatch(List<BatchUpdater.Operation> operations) {
+            if (operations.isEmpty()) return;
+            this.root = new BatchUpdater(persistence, hashFn, commitments).apply(this.root, operations);
+        }
+
         /**
          * Builds an MPF-style inclusion or non-inclusion proof for the provided key.
          */
@@ -745,7 +975,7 @@ public final class MpfTrie {
             List<Integer> traversedNibbles = new ArrayList<>();
 
             while (true) {
-                Node node = persistence.load(NodeHash.of(currentHash));
+                Node node = persistence.load(NodeHash.of(currentHash), depth);
                 if (node == null) {
                     return TraversalProof.nonInclusionMissingBranch(steps);
                 }
@@ -915,6 +1145,90 @@ public final class MpfTrie {
                     .verify(expectedRoot, key, valueOrNull, including, wire, hashFn, commitments);
         }
 
+        /**
+         * Builds a multiproof covering the lookup paths of the given hashed keys.
+         */
+        MultiProof getMultiProof(List<byte[]> paths) {
+            if (this.root == null) {
+                return MultiProof.of(null);
+            }
+            List<int[]> nibblePaths = new ArrayList<>(paths.size());
+            for (byte[] path : paths) {
+                nibblePaths.add(Nibbles.toNibbles(path));
+            }
+            return MultiProof.of(multiProofNode(this.root, nibblePaths, 0));
+        }
+
+        /**
+         * Expands the node and the children on the given paths; other children are pruned to their commitment.
+         */
+        private MultiProof.Item multiProofNode(byte[] hash, List<int[]> paths, int depth) {
+            Node node = persistence.load(NodeHash.of(hash), depth);
+            if (node == null) {
+                throw new IllegalStateException("Missing trie node " + HexUtil.encodeHexString(hash));
+            }
+
+            if (node instanceof BranchNode) {
+                BranchNode branch = (BranchNode) node;
+                List<List<int[]>> groups = new ArrayList<>(16);
+                for (int i = 0; i < 16; i++) {
+                    groups.add(new ArrayList<>());
+                }
+                for (int[] path : paths) {
+                    if (depth < path.length) {
+                        groups.get(path[depth]).add(path);
+                    }
+                }
+
+                MultiProof.Item[] children = new MultiProof.Item[16];
+                for (int i = 0; i < 16; i++) {
+                    byte[] child = branch.getChild(i);
+                    if (child == null || child.length == 0) continue;
+                    children[i] = groups.get(i).isEmpty()
+                            ? MultiProof.pruned(child)
+                            : multiProofNode(child, groups.get(i), depth + 1);
+                }
+                byte[] value = branch.getValue();
+                return MultiProof.branch(children, value == null ? null : hashFn.digest(value));
+            }
+
+            if (node instanceof ExtensionNode) {
+                ExtensionNode extension = (ExtensionNode) node;
+                int[] extNibbles = Nibbles.unpackHP(extension.getHp()).nibbles;
+                byte[] child = extension.getChild();
+                if (child == null || child.length == 0) {
+                    return MultiProof.extension(extNibbles, null);
+                }
+
+                // The child is expanded even if no path continues below, as its structure is part of the commitment
+                List<int[]> matching = new ArrayList<>();
+                for (int[] path : paths) {
+                    if (depth + extNibbles.length <= path.length
+                            && Arrays.equals(path, depth, depth + extNibbles.length, extNibbles, 0, extNibbles.length)) {
+                        matching.add(path);
+                    }
+                }
+                return MultiProof.extension(extNibbles, multiProofNode(child, matching, depth + extNibbles.length));
+            }
+
+            if (node instanceof LeafNode) {
+                LeafNode leaf = (LeafNode) node;
+                return MultiProof.leaf(Nibbles.unpackHP(leaf.getHp()).nibbles, hashFn.digest(leaf.getValue()));
+            }
+
+            throw new IllegalStateException("Unsupported node type " + node.getClass().getSimpleName());
+        }
+
+        /**
+         * Verifies a multiproof against the supplied root and entries.
+         */
+        boolean verifyMultiProofWire(byte[] expectedRoot, Map<byte[], byte[]> entries, byte[] wire) {
+            Objects.requireNonNull(entries, "entries");
+            Objects.requireNonNull(wire, "wire");
+            return com.bloxbean.cardano.vds.mpf.proof.ProofVerifier
+                    .verifyMulti(expectedRoot, entries, wire, hashFn, commitments);
+        }
+
         // ======================================
         // Visitor-Based Implementation Methods
         // ======================================
@@ -930,7 +1244,7 @@ public final class MpfTrie {
                 return persistence.persist(leaf);
             }
 
-            Node node = persistence.load(NodeHash.of(nodeHash));
+            Node node = persistence.load(NodeHash.of(nodeHash), position);
             if (node == null) {
                 int[] remainingNibbles = NibbleArrays.slice(keyNibbles, position, keyNibbles.length);
                 byte[] hp = Nibbles.packHP(true, remainingNibbles);
@@ -950,7 +1264,7 @@ public final class MpfTrie {
                 return null;
             }
 
-            Node node = persistence.load(NodeHash.of(nodeHash));
+            Node node = persistence.load(NodeHash.of(nodeHash), position);
             if (node == null) {
                 return null;
             }
@@ -967,7 +1281,7 @@ public final class MpfTrie {
                 return null;
             }
 
-            Node node = persistence.load(NodeHash.of(nodeHash));
+            Node node = persistence.load(NodeHash.of(nodeHash), position);
             if (node == null) {
                 return null;
             }
@@ -1035,6 +1349,20 @@ public final class MpfTrie {
             return visitor.getEntries();
         }
 
+        /**
+         * Returns a lazy iterator over the entries of the current root.
+         */
+        Iterator<Entry> iterator(byte[] pathPrefix, byte[] startAfterPath) {
+            return new EntryIterator(persistence, root, pathPrefix, startAfterPath);
+        }
+
+        /**
+         * Returns a lazy iterator over the changes between two roots of the store.
+         */
+        Iterator<StateChange> diff(byte[] fromRoot, byte[] toRoot) {
+            return new DiffIterator(persistence, fromRoot, toRoot);
+        }
+
         /**
          * Returns statistics about the trie structure using the StatisticsVisitor.
          */
@@ -0,0 +1,334 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.NodeHash;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe cache of decoded trie nodes, keyed by {@link NodeHash}.
+ *
+ * <p>The cache sits between {@link NodePersistence} and the {@link com.bloxbean.cardano.vds.core.api.NodeStore},
+ * so repeated loads of the same node skip both the store lookup and CBOR decoding. Nodes are
+ * content-addressed and immutable, so cached entries never need to be invalidated.</p>
+ *
+ * <p><b>Weighting and eviction:</b> Entries are weighted by their encoded size plus a fixed per-entry
+ * overhead, and evicted in least-recently-used order once the configured weight is exceeded.</p>
+ *
+ * <p><b>Pinned upper levels:</b> Nodes loaded at a nibble depth below {@link Builder#pinnedDepth(int)}
+ * (the root and the top branch levels, which every lookup and proof goes through) are kept in a separate
+ * segment with its own weight budget. Scans over the lower levels can't evict them. The segment is
+ * still bounded, so upper-level nodes of old roots are eventually evicted by newer ones.</p>
+ *
+ * <p><b>Usage Example:</b></p>
+ * <pre>{@code
+ * NodeCache cache = NodeCache.builder()
+ *     .maxWeightBytes(128 * 1024 * 1024)
+ *     .pinnedDepth(3)
+ *     .build();
+ * MpfTrie trie = new MpfTrie(store, Blake2b256::digest, root, new MpfCommitmentScheme(Blake2b256::digest), cache);
+ *
+ * NodeCache.Stats stats = cache.getStats();
+ * System.out.println("Hit rate: " + stats.hitRate());
+ * }</pre>
+ *
+ * <p>A cache can be shared by tries which use the same store. Nodes deleted from the store (e.g. by
+ * garbage collection of old roots) may still be served from the cache when loaded by hash.</p>
+ *
+ * @since 0.8.0
+ */
+public final class NodeCache {
+    /**
+     * Approximate heap overhead of an entry besides the encoded bytes (node object, key, map entry).
+     */
+    static final int ENTRY_OVERHEAD = 96;
+
+    private final long maxWeight;
+    private final long maxPinnedWeight;
+    private final int pinnedDepth;
+
+    private final Segment regular = new Segment();
+    private final Segment pinned = new Segment();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private NodeCache(Builder builder) {
+        if (builder.maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("maxWeightBytes must be positive: " + builder.maxWeightBytes);
+        }
+        if (builder.pinnedDepth < 0) {
+            throw new IllegalArgumentException("pinnedDepth must not be negative: " + builder.pinnedDepth);
+        }
+        if (builder.pinnedWeightBytes > builder.maxWeightBytes) {
+            throw new IllegalArgumentException("pinnedWeightBytes must not exceed maxWeightBytes: "
+                    + builder.pinnedWeightBytes);
+        }
+
+        long pinnedWeight = builder.pinnedWeightBytes >= 0 ? builder.pinnedWeightBytes : builder.maxWeightBytes / 4;
+        this.pinnedDepth = builder.pinnedDepth;
+        this.maxPinnedWeight = pinnedDepth > 0 ? pinnedWeight : 0;
+        this.maxWeight = builder.maxWeightBytes - maxPinnedWeight;
+    }
+
+    /**
+     * Creates a builder with the default configuration: 64 MiB total weight, a quarter of it for the
+     * pinned levels, and nibble depths 0 and 1 pinned.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached node for the hash and records a hit or miss. A node found in the regular
+     * segment is moved to the pinned segment if it's now reached at a pinned depth, e.g. a new root.
+     *
+     * @param hash  the node hash
+     * @param depth the nibble depth at which the node is reached, or a negative value if unknown
+     * @return the cached node, or null if not cached
+     */
+    synchronized Node get(NodeHash hash, int depth) {
+        Entry entry = pinned.map.get(hash);
+        if (entry == null) {
+            entry = regular.map.get(hash);
+            if (entry != null && isPinnedDepth(depth)) {
+                regular.remove(hash);
+                pinned.put(hash, entry);
+                evictionCount += pinned.evict(maxPinnedWeight);
+            }
+        }
+
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.node;
+    }
+
+    /**
+     * Adds a node to the cache.
+     *
+     * @param hash        the node hash
+     * @param node        the decoded node
+     * @param encodedSize the size of the encoded node in bytes
+     * @param depth       the nibble depth at which the node is reached, or a negative value if unknown
+     */
+    synchronized void put(NodeHash hash, Node node, int encodedSize, int depth) {
+        Entry entry = new Entry(node, encodedSize + ENTRY_OVERHEAD);
+
+        if (isPinnedDepth(depth)) {
+            regular.remove(hash);
+            pinned.put(hash, entry);
+            evictionCount += pinned.evict(maxPinnedWeight);
+        } else if (!pinned.map.containsKey(hash)) {
+            regular.put(hash, entry);
+            evictionCount += regular.evict(maxWeight);
+        }
+    }
+
+    private boolean isPinnedDepth(int depth) {
+        return depth >= 0 && depth < pinnedDepth && maxPinnedWeight > 0;
+    }
+
+    /**
+     * Removes all entries. Metrics are kept.
+     */
+    public synchronized void clear() {
+        regular.clear();
+        pinned.clear();
+    }
+
+    /**
+     * Returns a snapshot of the cache metrics.
+     *
+     * @return cache statistics
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hitCount, missCount, evictionCount,
+                regular.map.size() + pinned.map.size(), regular.weight + pinned.weight,
+                pinned.map.size(), pinned.weight);
+    }
+
+    private static final class Entry {
+        final Node node;
+        final int weight;
+
+        Entry(Node node, int weight) {
+            this.node = node;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * LRU segment. Access is guarded by the cache monitor.
+     */
+    private static final class Segment {
+        final LinkedHashMap<NodeHash, Entry> map = new LinkedHashMap<>(256, 0.75f, true);
+        long weight;
+
+        void put(NodeHash hash, Entry entry) {
+            Entry previous = map.put(hash, entry);
+            weight += entry.weight - (previous != null ? previous.weight : 0);
+        }
+
+        void remove(NodeHash hash) {
+            Entry previous = map.remove(hash);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+        }
+
+        int evict(long maxWeight) {
+            int evicted = 0;
+            Iterator<Map.Entry<NodeHash, Entry>> it = map.entrySet().iterator();
+            while (weight > maxWeight && it.hasNext()) {
+                weight -= it.next().getValue().weight;
+                it.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        void clear() {
+            map.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Builder for {@link NodeCache}.
+     */
+    public static final class Builder {
+        private long maxWeightBytes = 64L * 1024 * 1024;
+        private long pinnedWeightBytes = -1;
+        private int pinnedDepth = 2;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum total weight of the cache, including the pinned segment.
+         *
+         * @param maxWeightBytes maximum weight in bytes (must be positive)
+         * @return this builder
+         */
+        public Builder maxWeightBytes(long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
+            return this;
+        }
+
+        /**
+         * Sets the part of the total weight reserved for pinned upper-level nodes.
+         * Defaults to a quarter of the total weight.
+         *
+         * @param pinnedWeightBytes weight in bytes, not more than the total weight
+         * @return this builder
+         */
+        public Builder pinnedWeightBytes(long pinnedWeightBytes) {
+            this.pinnedWeightBytes = pinnedWeightBytes;
+            return this;
+        }
+
+        /**
+         * Sets the nibble depth below which loaded nodes are pinned. 0 disables pinning.
+         *
+         * @param pinnedDepth the nibble depth (default 2: the root and the nodes directly below it)
+         * @return this builder
+         */
+        public Builder pinnedDepth(int pinnedDepth) {
+            this.pinnedDepth = pinnedDepth;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return a new NodeCache
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        public NodeCache build() {
+            return new NodeCache(this);
+        }
+    }
+
+    /**
+     * Snapshot of the cache metrics.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+        private final long weightBytes;
+        private final int pinnedSize;
+        private final long pinnedWeightBytes;
+
+        Stats(long hitCount, long missCount, long evictionCount, int size, long weightBytes,
+              int pinnedSize, long pinnedWeightBytes) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+            this.weightBytes = weightBytes;
+            this.pinnedSize = pinnedSize;
+            this.pinnedWeightBytes = pinnedWeightBytes;
+        }
+
+        /** @return no of loads served from the cache */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /** @return no of loads which went to the store */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /** @return no of entries evicted to stay within the weight limits */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /** @return no of cached nodes, including pinned nodes */
+        public int getSize() {
+            return size;
+        }
+
+        /** @return current weight of all cached nodes in bytes */
+        public long getWeightBytes() {
+            return weightBytes;
+        }
+
+        /** @return no of pinned upper-level nodes */
+        public int getPinnedSize() {
+            return pinnedSize;
+        }
+
+        /** @return current weight of the pinned nodes in bytes */
+        public long getPinnedWeightBytes() {
+            return pinnedWeightBytes;
+        }
+
+        /**
+         * Returns the ratio of hits to all lookups.
+         *
+         * @return hit rate between 0 and 1, or 0 if there were no lookups
+         */
+        public double hitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "NodeCache.Stats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                    + ", size=" + size + ", weightBytes=" + weightBytes + ", pinnedSize=" + pinnedSize
+                    + ", pinnedWeightBytes=" + pinnedWeightBytes + '}';
+        }
+    }
+}
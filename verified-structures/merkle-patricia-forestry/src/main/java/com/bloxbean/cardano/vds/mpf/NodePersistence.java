@@ -5,6 +5,9 @@ import com.bloxbean.cardano.vds.core.api.NodeStore;
 import com.bloxbean.cardano.vds.core.NodeHash;
 import com.bloxbean.cardano.vds.mpf.commitment.CommitmentScheme;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -53,6 +56,7 @@ public final class NodePersistence {
     private final NodeStore store;
     private final CommitmentScheme commitments;
     private final HashFunction hashFn;
+    private final NodeCache cache; // nullable => no caching
 
     /**
      * Creates a new NodePersistence instance.
@@ -61,9 +65,24 @@ public final class NodePersistence {
      * @throws NullPointerException if store is null
      */
     public NodePersistence(NodeStore store, CommitmentScheme commitments, HashFunction hashFn) {
+        this(store, commitments, hashFn, null);
+    }
+
+    /**
+     * Creates a new NodePersistence instance with a decoded-node cache.
+     *
+     * <p>Loaded and persisted nodes are added to the cache, and loads are served from
+     * the cache when possible.</p>
+     *
+     * @param store the underlying node storage implementation
+     * @param cache the node cache, or null to disable caching
+     * @throws NullPointerException if store is null
+     */
+    public NodePersistence(NodeStore store, CommitmentScheme commitments, HashFunction hashFn, NodeCache cache) {
         this.store = Objects.requireNonNull(store, "NodeStore cannot be null");
         this.commitments = Objects.requireNonNull(commitments, "CommitmentScheme cannot be null");
         this.hashFn = Objects.requireNonNull(hashFn, "HashFunction cannot be null");
+        this.cache = cache;
     }
 
     /**
@@ -91,12 +110,27 @@ public final class NodePersistence {
 
             store.put(hash, encoded);
 
-            return NodeHash.of(hash);
+            NodeHash nodeHash = NodeHash.of(hash);
+            if (cache != null) {
+                cache.put(nodeHash, node, encoded.length, -1);
+            }
+            return nodeHash;
         } catch (Exception e) {
             throw new RuntimeException("Failed to persist node: " + node.getClass().getSimpleName(), e);
         }
     }
 
+    /**
+     * Stores an already encoded node under a precomputed hash. Used by batch updates,
+     * which compute all commitments before writing.
+     */
+    void write(byte[] hash, Node node, byte[] encoded) {
+        store.put(hash, encoded);
+        if (cache != null) {
+            cache.put(NodeHash.of(hash), node, encoded.length, -1);
+        }
+    }
+
     /**
      * Loads a node from storage by its hash.
      *
@@ -110,8 +144,30 @@ public final class NodePersistence {
      * @throws RuntimeException     if decoding fails
      */
     public Node load(NodeHash hash) {
+        return load(hash, -1);
+    }
+
+    /**
+     * Loads a node from storage by its hash, reached at the given nibble depth of a key path.
+     *
+     * <p>The depth is only a hint for the node cache, which pins the upper levels of the trie.</p>
+     *
+     * @param hash  the hash of the node to load, must not be null
+     * @param depth the nibble depth of the node, or a negative value if unknown
+     * @return the decoded node instance, or null if not found
+     * @throws NullPointerException if hash is null
+     * @throws RuntimeException     if decoding fails
+     */
+    public Node load(NodeHash hash, int depth) {
         Objects.requireNonNull(hash, "NodeHash cannot be null");
 
+        if (cache != null) {
+            Node cached = cache.get(hash, depth);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         try {
             byte[] encoded = store.get(hash.getBytes());
 
@@ -119,12 +175,72 @@ public final class NodePersistence {
                 return null;
             }
 
-            return TrieEncoding.decode(encoded);
+            Node node = TrieEncoding.decode(encoded);
+            if (cache != null) {
+                cache.put(hash, node, encoded.length, depth);
+            }
+            return node;
         } catch (Exception e) {
             throw new RuntimeException("Failed to load node with hash: " + hash, e);
         }
     }
 
+    /**
+     * Loads several nodes reached at the same nibble depth, e.g. the children of a branch.
+     *
+     * <p>Nodes found in the cache are served from it; the others are read from the store
+     * with a single {@link NodeStore#getAll(List)} call.</p>
+     *
+     * @param hashes the hashes of the nodes to load
+     * @param depth  the nibble depth of the nodes, or a negative value if unknown
+     * @return the decoded nodes in the order of the hashes, with null for nodes not found
+     * @throws RuntimeException if decoding fails
+     */
+    List<Node> loadAll(List<NodeHash> hashes, int depth) {
+        List<Node> nodes = new ArrayList<>(hashes.size());
+        List<Integer> missing = new ArrayList<>();
+        List<byte[]> missingHashes = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            Node cached = cache != null ? cache.get(hashes.get(i), depth) : null;
+            nodes.add(cached);
+            if (cached == null) {
+                missing.add(i);
+                missingHashes.add(hashes.get(i).getBytes());
+            }
+        }
+        if (missingHashes.isEmpty()) {
+            return nodes;
+        }
+
+        List<byte[]> encoded = missingHashes.size() == 1
+                ? Collections.singletonList(store.get(missingHashes.get(0)))
+                : store.getAll(missingHashes);
+        for (int i = 0; i < missing.size(); i++) {
+            byte[] bytes = encoded.get(i);
+            if (bytes == null) continue;
+            NodeHash hash = hashes.get(missing.get(i));
+            try {
+                Node node = TrieEncoding.decode(bytes);
+                if (cache != null) {
+                    cache.put(hash, node, bytes.length, depth);
+                }
+                nodes.set(missing.get(i), node);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to load node with hash: " + hash, e);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the node cache of this instance.
+     *
+     * @return the node cache, or null if caching is disabled
+     */
+    public NodeCache getCache() {
+        return cache;
+    }
+
     /**
      * Returns the underlying NodeStore for advanced operations.
      *
@@ -163,15 +279,24 @@ public final class NodePersistence {
      * Chains through multiple extensions if present.
      */
     private byte[] computeExtensionCommit(ExtensionNode ext) {
-        com.bloxbean.cardano.vds.core.nibbles.Nibbles.HP hpInfo = com.bloxbean.cardano.vds.core.nibbles.Nibbles.unpackHP(ext.getHp());
-        com.bloxbean.cardano.vds.core.NibblePath accPrefix = com.bloxbean.cardano.vds.core.NibblePath.of(hpInfo.nibbles);
         byte[] childHash = ext.getChild();
         if (childHash == null || childHash.length == 0) {
             // No child; fall back to simple extension commitment
             return ext.commit(hashFn, commitments);
         }
 
-        Node current = load(NodeHash.of(childHash));
+        return computeExtensionCommit(ext, load(NodeHash.of(childHash)));
+    }
+
+    /**
+     * Same as {@link #computeExtensionCommit(ExtensionNode)}, but with the already resolved child node.
+     * Used when the child is not yet in the store, e.g. by batch updates which persist nodes at the end.
+     */
+    byte[] computeExtensionCommit(ExtensionNode ext, Node child) {
+        com.bloxbean.cardano.vds.core.nibbles.Nibbles.HP hpInfo = com.bloxbean.cardano.vds.core.nibbles.Nibbles.unpackHP(ext.getHp());
+        com.bloxbean.cardano.vds.core.NibblePath accPrefix = com.bloxbean.cardano.vds.core.NibblePath.of(hpInfo.nibbles);
+
+        Node current = child;
         while (current instanceof ExtensionNode) {
             ExtensionNode nextExt = (ExtensionNode) current;
             com.bloxbean.cardano.vds.core.nibbles.Nibbles.HP hpInfo2 = com.bloxbean.cardano.vds.core.nibbles.Nibbles.unpackHP(nextExt.getHp());
@@ -209,7 +209,7 @@ final class PutOperationVisitor implements NodeVisitor<NodeHash> {
             return persistence.persist(leaf);
         }
 
-        Node node = persistence.load(NodeHash.of(nodeHash));
+        Node node = persistence.load(NodeHash.of(nodeHash), position);
         if (node == null) {
             // Missing node - create new leaf (may indicate storage corruption)
             log.warn("Node hash {} referenced but not found in storage — creating replacement leaf",
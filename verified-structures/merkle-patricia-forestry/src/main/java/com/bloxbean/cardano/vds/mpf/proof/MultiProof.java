@@ -0,0 +1,391 @@
+package com.bloxbean.cardano.vds.mpf.proof;
+
+import co.nstant.in.cbor.CborDecoder;
+import co.nstant.in.cbor.CborEncoder;
+import co.nstant.in.cbor.CborException;
+import co.nstant.in.cbor.model.Array;
+import co.nstant.in.cbor.model.ByteString;
+import co.nstant.in.cbor.model.DataItem;
+import co.nstant.in.cbor.model.SimpleValue;
+import co.nstant.in.cbor.model.UnsignedInteger;
+import com.bloxbean.cardano.vds.core.NibblePath;
+import com.bloxbean.cardano.vds.core.nibbles.Nibbles;
+import com.bloxbean.cardano.vds.mpf.commitment.CommitmentScheme;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Proof for a set of keys against a single MPF root.
+ *
+ * <p>The proof is the part of the trie covering the union of the lookup paths of all keys. Every node
+ * on those paths appears exactly once, so the upper levels shared by the keys are not repeated as they
+ * are in N single proofs. Children which are not on a lookup path are pruned to their commitment.
+ * The verifier recomputes the commitments bottom-up, so the hashes of expanded children are not sent.</p>
+ *
+ * <p><b>Wire Format:</b></p>
+ * <pre>
+ * proof     = node / null                       ; null for the empty trie
+ * node      = branch / leaf / extension
+ * branch    = [0, [16 * child], valueHash / null]
+ * leaf      = [1, hp(suffix), valueHash]
+ * extension = [2, hp(path), node / null]     ; the child is always expanded
+ * child     = node / bstr(commitment) / null ; null for an empty slot
+ * </pre>
+ *
+ * <p>Extension children are always expanded, because the MPF commitment of an extension is flattened into
+ * the commitment of its child.</p>
+ *
+ * @see ProofVerifier#verifyMulti(byte[], java.util.Map, byte[])
+ * @since 0.8.0
+ */
+public final class MultiProof {
+
+    private static final int TYPE_BRANCH = 0;
+    private static final int TYPE_LEAF = 1;
+    private static final int TYPE_EXTENSION = 2;
+
+    private final Item root;
+
+    private MultiProof(Item root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a multiproof with the given root node.
+     *
+     * @param root the root node, or null for the empty trie
+     * @return the multiproof
+     */
+    public static MultiProof of(Item root) {
+        return new MultiProof(root);
+    }
+
+    /**
+     * @return the root node, or null for the empty trie
+     */
+    public Item root() {
+        return root;
+    }
+
+    /**
+     * Creates a pruned child represented only by its commitment.
+     *
+     * @param commitment the child commitment
+     * @return the pruned child
+     */
+    public static Item pruned(byte[] commitment) {
+        return new Pruned(Objects.requireNonNull(commitment, "commitment"));
+    }
+
+    /**
+     * Creates a branch node.
+     *
+     * @param children  16 children; null for empty slots
+     * @param valueHash hash of the branch value, or null
+     * @return the branch node
+     */
+    public static Item branch(Item[] children, byte[] valueHash) {
+        if (children.length != 16) {
+            throw new IllegalArgumentException("Branch must have 16 children");
+        }
+        return new Branch(children.clone(), valueHash);
+    }
+
+    /**
+     * Creates a leaf node.
+     *
+     * @param suffix    the remaining key nibbles below the parent
+     * @param valueHash hash of the leaf value
+     * @return the leaf node
+     */
+    public static Item leaf(int[] suffix, byte[] valueHash) {
+        return new Leaf(suffix.clone(), Objects.requireNonNull(valueHash, "valueHash"));
+    }
+
+    /**
+     * Creates an extension node.
+     *
+     * @param path  the shared nibbles
+     * @param child the expanded child, or null for an orphan extension
+     * @return the extension node
+     */
+    public static Item extension(int[] path, Item child) {
+        if (child instanceof Pruned) {
+            throw new IllegalArgumentException("Extension child must be expanded");
+        }
+        return new Extension(path.clone(), child);
+    }
+
+    /**
+     * Computes the root commitment of the proven trie.
+     *
+     * @param commitments the commitment scheme of the trie
+     * @return the root commitment, or null for the empty trie
+     * @throws IllegalArgumentException if the proof is malformed
+     */
+    public byte[] computeRoot(CommitmentScheme commitments) {
+        return root == null ? null : commit(root, commitments);
+    }
+
+    /**
+     * Looks up a key in the proven trie.
+     *
+     * @param keyPath the hashed key
+     * @return the value hash if the key is present, empty if the proof shows it is absent
+     * @throws IllegalArgumentException if the lookup path of the key is not covered by the proof
+     */
+    public Optional<byte[]> lookup(byte[] keyPath) {
+        int[] nibbles = Nibbles.toNibbles(keyPath);
+        Item item = root;
+        int depth = 0;
+        while (item != null) {
+            if (item instanceof Pruned) {
+                throw new IllegalArgumentException("Key is not covered by the proof");
+            }
+            if (item instanceof Branch) {
+                Branch branch = (Branch) item;
+                if (depth == nibbles.length) {
+                    return Optional.ofNullable(copy(branch.valueHash));
+                }
+                item = branch.children[nibbles[depth++]];
+            } else if (item instanceof Extension) {
+                Extension ext = (Extension) item;
+                if (!matches(nibbles, depth, ext.path, false)) {
+                    return Optional.empty();
+                }
+                depth += ext.path.length;
+                item = ext.child;
+            } else {
+                Leaf leaf = (Leaf) item;
+                return matches(nibbles, depth, leaf.suffix, true) ? Optional.of(copy(leaf.valueHash)) : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean matches(int[] key, int depth, int[] nibbles, boolean exact) {
+        if (depth + nibbles.length > key.length || (exact && depth + nibbles.length != key.length)) {
+            return false;
+        }
+        for (int i = 0; i < nibbles.length; i++) {
+            if (key[depth + i] != nibbles[i]) return false;
+        }
+        return true;
+    }
+
+    private static byte[] commit(Item item, CommitmentScheme commitments) {
+        if (item instanceof Pruned) {
+            return ((Pruned) item).commitment;
+        }
+        if (item instanceof Branch) {
+            Branch branch = (Branch) item;
+            return commitments.commitBranch(NibblePath.EMPTY, childCommitments(branch, commitments), branch.valueHash);
+        }
+        if (item instanceof Leaf) {
+            Leaf leaf = (Leaf) item;
+            return commitments.commitLeaf(NibblePath.of(leaf.suffix), leaf.valueHash);
+        }
+
+        // Flatten the extension chain into the commitment of the first non-extension child
+        Extension ext = (Extension) item;
+        NibblePath prefix = NibblePath.of(ext.path);
+        Item child = ext.child;
+        while (child instanceof Extension) {
+            prefix = prefix.concat(NibblePath.of(((Extension) child).path));
+            child = ((Extension) child).child;
+        }
+        if (child == null) {
+            return commitments.commitExtension(prefix, commitments.nullHash());
+        }
+        if (child instanceof Branch) {
+            Branch branch = (Branch) child;
+            return commitments.commitBranch(prefix, childCommitments(branch, commitments), branch.valueHash);
+        }
+        if (child instanceof Leaf) {
+            Leaf leaf = (Leaf) child;
+            return commitments.commitLeaf(prefix.concat(NibblePath.of(leaf.suffix)), leaf.valueHash);
+        }
+        throw new IllegalArgumentException("Extension child must be expanded");
+    }
+
+    private static byte[][] childCommitments(Branch branch, CommitmentScheme commitments) {
+        byte[][] hashes = new byte[16][];
+        for (int i = 0; i < 16; i++) {
+            Item child = branch.children[i];
+            hashes[i] = child == null ? null : commit(child, commitments);
+        }
+        return hashes;
+    }
+
+    // ======================================
+    // CBOR encoding
+    // ======================================
+
+    /**
+     * Encodes the proof to CBOR.
+     *
+     * @return the CBOR-encoded proof
+     */
+    public byte[] toCbor() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            new CborEncoder(baos).encode(encode(root));
+        } catch (CborException e) {
+            throw new IllegalStateException("Failed to encode MPF multiproof", e);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Decodes a proof produced by {@link #toCbor()}.
+     *
+     * @param cbor the CBOR-encoded proof
+     * @return the decoded proof
+     * @throws IllegalArgumentException if the bytes are not a valid multiproof
+     */
+    public static MultiProof fromCbor(byte[] cbor) {
+        try {
+            List<DataItem> items = new CborDecoder(new ByteArrayInputStream(cbor)).decode();
+            if (items.size() != 1) {
+                throw new IllegalArgumentException("Invalid MPF multiproof CBOR encoding");
+            }
+            return new MultiProof(decode(items.get(0), false));
+        } catch (CborException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed to decode MPF multiproof", e);
+        }
+    }
+
+    private static DataItem encode(Item item) {
+        if (item == null) {
+            return SimpleValue.NULL;
+        }
+        if (item instanceof Pruned) {
+            return new ByteString(((Pruned) item).commitment);
+        }
+        Array array = new Array();
+        if (item instanceof Branch) {
+            Branch branch = (Branch) item;
+            Array children = new Array();
+            for (Item child : branch.children) {
+                children.add(encode(child));
+            }
+            array.add(new UnsignedInteger(TYPE_BRANCH));
+            array.add(children);
+            array.add(branch.valueHash == null ? SimpleValue.NULL : new ByteString(branch.valueHash));
+        } else if (item instanceof Leaf) {
+            Leaf leaf = (Leaf) item;
+            array.add(new UnsignedInteger(TYPE_LEAF));
+            array.add(new ByteString(Nibbles.packHP(true, leaf.suffix)));
+            array.add(new ByteString(leaf.valueHash));
+        } else {
+            Extension ext = (Extension) item;
+            array.add(new UnsignedInteger(TYPE_EXTENSION));
+            array.add(new ByteString(Nibbles.packHP(false, ext.path)));
+            array.add(encode(ext.child));
+        }
+        return array;
+    }
+
+    private static Item decode(DataItem di, boolean allowPruned) {
+        if (SimpleValue.NULL.equals(di)) {
+            return null;
+        }
+        if (di instanceof ByteString) {
+            if (!allowPruned) {
+                throw new IllegalArgumentException("Unexpected pruned node");
+            }
+            return new Pruned(((ByteString) di).getBytes());
+        }
+        if (!(di instanceof Array)) {
+            throw new IllegalArgumentException("Invalid MPF multiproof node: " + di);
+        }
+        List<DataItem> fields = ((Array) di).getDataItems();
+        int type = ((UnsignedInteger) fields.get(0)).getValue().intValueExact();
+        switch (type) {
+            case TYPE_BRANCH: {
+                List<DataItem> encodedChildren = ((Array) fields.get(1)).getDataItems();
+                if (encodedChildren.size() != 16) {
+                    throw new IllegalArgumentException("Branch must have 16 children");
+                }
+                Item[] children = new Item[16];
+                for (int i = 0; i < 16; i++) {
+                    children[i] = decode(encodedChildren.get(i), true);
+                }
+                DataItem valueHash = fields.get(2);
+                return new Branch(children, valueHash instanceof ByteString ? ((ByteString) valueHash).getBytes() : null);
+            }
+            case TYPE_LEAF:
+                return new Leaf(Nibbles.unpackHP(((ByteString) fields.get(1)).getBytes()).nibbles,
+                        ((ByteString) fields.get(2)).getBytes());
+            case TYPE_EXTENSION:
+                return new Extension(Nibbles.unpackHP(((ByteString) fields.get(1)).getBytes()).nibbles,
+                        decode(fields.get(2), false));
+            default:
+                throw new IllegalArgumentException("Unknown MPF multiproof node type: " + type);
+        }
+    }
+
+    // ======================================
+    // Proof nodes
+    // ======================================
+
+    /**
+     * A node or pruned child of the proof.
+     */
+    public abstract static class Item {
+        private Item() {
+        }
+    }
+
+    private static final class Pruned extends Item {
+        final byte[] commitment;
+
+        Pruned(byte[] commitment) {
+            this.commitment = commitment;
+        }
+    }
+
+    private static final class Branch extends Item {
+        final Item[] children;
+        final byte[] valueHash;
+
+        Branch(Item[] children, byte[] valueHash) {
+            this.children = children;
+            this.valueHash = valueHash;
+        }
+    }
+
+    private static final class Leaf extends Item {
+        final int[] suffix;
+        final byte[] valueHash;
+
+        Leaf(int[] suffix, byte[] valueHash) {
+            this.suffix = suffix;
+            this.valueHash = valueHash;
+        }
+    }
+
+    private static final class Extension extends Item {
+        final int[] path;
+        final Item child;
+
+        Extension(int[] path, Item child) {
+            this.path = path;
+            this.child = child;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MultiProof{" + (root == null ? "empty" : root.getClass().getSimpleName()) + '}';
+    }
+
+    private static byte[] copy(byte[] data) {
+        return data == null ? null : Arrays.copyOf(data, data.length);
+    }
+}
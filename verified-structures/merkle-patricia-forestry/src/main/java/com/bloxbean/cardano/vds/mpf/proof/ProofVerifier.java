@@ -6,7 +6,9 @@ import com.bloxbean.cardano.vds.mpf.commitment.CommitmentScheme;
 import com.bloxbean.cardano.vds.mpf.commitment.MpfCommitmentScheme;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 public final class ProofVerifier {
 
@@ -52,4 +54,59 @@ public final class ProofVerifier {
         byte[] normalizedExpected = expectedRoot == null ? commitments.nullHash() : expectedRoot;
         return Arrays.equals(normalizedExpected, normalizedComputed);
     }
+
+    /**
+     * Verifies a {@link MultiProof} using Cardano/Aiken compatible defaults (Blake2b-256, MPF commitment scheme).
+     *
+     * @param expectedRoot the expected root hash
+     * @param entries      the keys being proven, mapped to their expected values (null for non-inclusion)
+     * @param proofCbor    the CBOR-encoded multiproof
+     * @return true if the proof is valid for all entries
+     */
+    public static boolean verifyMulti(byte[] expectedRoot, Map<byte[], byte[]> entries, byte[] proofCbor) {
+        return verifyMulti(expectedRoot, entries, proofCbor,
+                Blake2b256::digest, new MpfCommitmentScheme(Blake2b256::digest));
+    }
+
+    /**
+     * Verifies a {@link MultiProof} with custom hash function and commitment scheme.
+     *
+     * <p>The proof is valid if it hashes to the expected root and, for every entry, shows the key with the
+     * given value or, for a null value, shows that the key is absent. A key whose lookup path is not
+     * covered by the proof fails verification.</p>
+     *
+     * @param expectedRoot the expected root hash
+     * @param entries      the keys being proven, mapped to their expected values (null for non-inclusion)
+     * @param proofCbor    the CBOR-encoded multiproof
+     * @param hashFn       the hash function to use
+     * @param commitments  the commitment scheme to use
+     * @return true if the proof is valid for all entries
+     */
+    public static boolean verifyMulti(byte[] expectedRoot, Map<byte[], byte[]> entries, byte[] proofCbor,
+                                      HashFunction hashFn, CommitmentScheme commitments) {
+        Objects.requireNonNull(entries, "entries");
+        Objects.requireNonNull(proofCbor, "proofCbor");
+        MultiProof proof = MultiProof.fromCbor(proofCbor);
+        byte[] computed = proof.computeRoot(commitments);
+        byte[] normalizedComputed = computed == null ? commitments.nullHash() : computed;
+        byte[] normalizedExpected = expectedRoot == null ? commitments.nullHash() : expectedRoot;
+        if (!Arrays.equals(normalizedExpected, normalizedComputed)) {
+            return false;
+        }
+
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            Optional<byte[]> valueHash;
+            try {
+                valueHash = proof.lookup(hashFn.digest(entry.getKey()));
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+            byte[] value = entry.getValue();
+            if (value == null ? valueHash.isPresent()
+                    : valueHash.isEmpty() || !Arrays.equals(hashFn.digest(value), valueHash.get())) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,170 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.mpf.test.TestNodeStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpfBatchUpdateTest {
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> entries(int from, int to, String valuePrefix) {
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            entries.put(bytes("key-" + i), bytes(valuePrefix + i));
+        }
+        return entries;
+    }
+
+    private static MpfTrie sequential(Map<byte[], byte[]> entries) {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        entries.forEach(trie::put);
+        return trie;
+    }
+
+    @Test
+    void putAll_emptyTrie_matchesSequentialPuts() {
+        Map<byte[], byte[]> entries = entries(0, 200, "v");
+
+        MpfTrie batch = new MpfTrie(new TestNodeStore());
+        batch.putAll(entries);
+
+        assertArrayEquals(sequential(entries).getRootHash(), batch.getRootHash());
+        entries.forEach((k, v) -> assertArrayEquals(v, batch.get(k)));
+    }
+
+    @Test
+    void putAll_largeBatch_parallelCommitMatchesSequentialPuts() {
+        Map<byte[], byte[]> entries = entries(0, BatchUpdater.PARALLEL_THRESHOLD * 3, "v");
+
+        MpfTrie batch = new MpfTrie(new TestNodeStore());
+        batch.putAll(entries);
+
+        assertArrayEquals(sequential(entries).getRootHash(), batch.getRootHash());
+        assertEquals(entries.size(), batch.computeSize());
+    }
+
+    @Test
+    void putAll_existingTrie_updatesAndInserts() {
+        TestNodeStore store = new TestNodeStore();
+        MpfTrie batch = new MpfTrie(store);
+        entries(0, 300, "v").forEach(batch::put);
+
+        Map<byte[], byte[]> updates = entries(150, 600, "updated");
+        batch.putAll(updates);
+
+        MpfTrie reference = sequential(entries(0, 300, "v"));
+        updates.forEach(reference::put);
+
+        assertArrayEquals(reference.getRootHash(), batch.getRootHash());
+        assertArrayEquals(bytes("v10"), batch.get(bytes("key-10")));
+        assertArrayEquals(bytes("updated200"), batch.get(bytes("key-200")));
+
+        // Original keys are kept in the leaves
+        List<MpfTrie.Entry> all = batch.getAllEntries();
+        assertEquals(600, all.size());
+        assertTrue(all.stream().allMatch(e -> e.getKey() != null));
+    }
+
+    @Test
+    void deleteAll_matchesSequentialDeletes() {
+        Map<byte[], byte[]> entries = entries(0, 500, "v");
+        MpfTrie batch = sequential(entries);
+        MpfTrie reference = sequential(entries);
+
+        List<byte[]> toDelete = new ArrayList<>();
+        for (int i = 0; i < 500; i += 3) {
+            toDelete.add(bytes("key-" + i));
+        }
+        toDelete.add(bytes("missing-key"));
+
+        batch.deleteAll(toDelete);
+        toDelete.forEach(reference::delete);
+
+        assertArrayEquals(reference.getRootHash(), batch.getRootHash());
+        assertNull(batch.get(bytes("key-3")));
+        assertArrayEquals(bytes("v4"), batch.get(bytes("key-4")));
+    }
+
+    @Test
+    void deleteAll_allKeys_emptiesTrie() {
+        Map<byte[], byte[]> entries = entries(0, 50, "v");
+        MpfTrie trie = sequential(entries);
+
+        trie.deleteAll(entries.keySet());
+
+        assertNull(trie.getRootHash());
+    }
+
+    @Test
+    void deleteAll_missingKeys_keepsRoot() {
+        MpfTrie trie = sequential(entries(0, 100, "v"));
+        byte[] root = trie.getRootHash();
+
+        trie.deleteAll(List.of(bytes("missing-1"), bytes("missing-2")));
+
+        assertArrayEquals(root, trie.getRootHash());
+    }
+
+    @Test
+    void applyBatch_mixedOperations_matchesSequential() {
+        Random random = new Random(42);
+        Map<byte[], byte[]> initial = entries(0, 2000, "v");
+        MpfTrie batch = sequential(initial);
+        MpfTrie reference = sequential(initial);
+
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            int k = random.nextInt(4000);
+            updates.put(bytes("key-" + k), random.nextBoolean() ? null : bytes("n" + random.nextInt()));
+        }
+
+        batch.applyBatch(updates);
+        updates.forEach((k, v) -> {
+            if (v == null) reference.delete(k);
+            else reference.put(k, v);
+        });
+
+        assertArrayEquals(reference.getRootHash(), batch.getRootHash());
+        assertEquals(reference.computeSize(), batch.computeSize());
+    }
+
+    @Test
+    void applyBatch_sameKeyTwice_lastWins() {
+        Map<byte[], byte[]> updates = new LinkedHashMap<>();
+        updates.put(bytes("key"), bytes("first"));
+        updates.put(bytes("key"), bytes("second"));
+
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        trie.applyBatch(updates);
+
+        assertArrayEquals(bytes("second"), trie.get(bytes("key")));
+        assertEquals(1, trie.computeSize());
+    }
+
+    @Test
+    void putAll_nullValue_throws() {
+        Map<byte[], byte[]> entries = new HashMap<>();
+        entries.put(bytes("key"), null);
+
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        assertThrows(IllegalArgumentException.class, () -> trie.putAll(entries));
+    }
+
+    @Test
+    void proofsFromBatchTrie_verify() {
+        Map<byte[], byte[]> entries = entries(0, 100, "v");
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        trie.putAll(entries);
+
+        byte[] key = bytes("key-42");
+        byte[] wire = trie.getProofWire(key).orElseThrow();
+        assertTrue(trie.verifyProofWire(trie.getRootHash(), key, bytes("v42"), true, wire));
+    }
+}
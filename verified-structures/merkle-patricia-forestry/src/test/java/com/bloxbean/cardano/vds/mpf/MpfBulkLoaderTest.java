@@ -0,0 +1,127 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.BulkLoadResult;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.mpf.test.TestNodeStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpfBulkLoaderTest {
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> entries(int size) {
+        Random random = new Random(size);
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            byte[] value = new byte[1 + random.nextInt(64)];
+            random.nextBytes(value);
+            entries.put(bytes("key-" + i), value);
+        }
+        return entries;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 17, 256, 5000})
+    void bulkLoad_matchesIncrementalRoot(int size) {
+        Map<byte[], byte[]> entries = entries(size);
+        MpfTrie incremental = new MpfTrie(new TestNodeStore());
+        for (Map.Entry<byte[], byte[]> e : entries.entrySet()) {
+            incremental.put(e.getKey(), e.getValue());
+        }
+
+        TestNodeStore store = new TestNodeStore();
+        BulkLoadResult result;
+        try (MpfBulkLoader loader = new MpfBulkLoader(store)) {
+            result = loader.load(entries);
+        }
+
+        assertArrayEquals(incremental.getRootHash(), result.rootHash());
+        assertEquals(size, result.entries());
+        assertTrue(result.nodes() >= size);
+
+        MpfTrie loaded = new MpfTrie(store, result.rootHash());
+        for (Map.Entry<byte[], byte[]> e : entries.entrySet()) {
+            assertArrayEquals(e.getValue(), loaded.get(e.getKey()));
+        }
+        assertEquals(size, loaded.computeSize());
+    }
+
+    @Test
+    void bulkLoadedTrie_acceptsFurtherUpdates() {
+        Map<byte[], byte[]> entries = entries(1000);
+        MpfTrie incremental = new MpfTrie(new TestNodeStore());
+        incremental.putAll(entries);
+
+        TestNodeStore store = new TestNodeStore();
+        byte[] root;
+        try (MpfBulkLoader loader = new MpfBulkLoader(store)) {
+            root = loader.load(entries).rootHash();
+        }
+        MpfTrie loaded = new MpfTrie(store, root);
+
+        for (int i = 0; i < 100; i++) {
+            incremental.put(bytes("extra-" + i), bytes("v" + i));
+            loaded.put(bytes("extra-" + i), bytes("v" + i));
+            incremental.delete(bytes("key-" + i));
+            loaded.delete(bytes("key-" + i));
+        }
+        assertArrayEquals(incremental.getRootHash(), loaded.getRootHash());
+    }
+
+    @Test
+    void add_streamsSortedEntries() {
+        Map<byte[], byte[]> entries = entries(300);
+        List<byte[]> keys = new ArrayList<>(entries.keySet());
+        keys.sort((a, b) -> Arrays.compareUnsigned(Blake2b256.digest(a), Blake2b256.digest(b)));
+
+        TestNodeStore store = new TestNodeStore();
+        BulkLoadResult result;
+        try (MpfBulkLoader loader = new MpfBulkLoader(store)) {
+            for (byte[] key : keys) {
+                loader.add(key, entries.get(key));
+            }
+            result = loader.finish();
+        }
+
+        MpfTrie incremental = new MpfTrie(new TestNodeStore());
+        incremental.putAll(entries);
+        assertArrayEquals(incremental.getRootHash(), result.rootHash());
+        assertTrue(result.bytes() > 0);
+        assertTrue(result.entriesPerSecond() > 0);
+    }
+
+    @Test
+    void add_rejectsUnsortedOrDuplicateKeys() {
+        byte[] a = bytes("a");
+        byte[] b = bytes("b");
+        boolean aFirst = Arrays.compareUnsigned(Blake2b256.digest(a), Blake2b256.digest(b)) < 0;
+        byte[] first = aFirst ? a : b;
+        byte[] second = aFirst ? b : a;
+
+        try (MpfBulkLoader loader = new MpfBulkLoader(new TestNodeStore())) {
+            loader.add(second, bytes("1"));
+            assertThrows(IllegalArgumentException.class, () -> loader.add(first, bytes("2")));
+            assertThrows(IllegalArgumentException.class, () -> loader.add(second, bytes("3")));
+        }
+    }
+
+    @Test
+    void finish_emptyLoadHasNoRoot() {
+        try (MpfBulkLoader loader = new MpfBulkLoader(new TestNodeStore())) {
+            BulkLoadResult result = loader.finish();
+            assertNull(result.rootHash());
+            assertEquals(0, result.entries());
+            assertThrows(IllegalStateException.class, loader::finish);
+            assertThrows(IllegalStateException.class, () -> loader.add(bytes("k"), bytes("v")));
+        }
+    }
+}
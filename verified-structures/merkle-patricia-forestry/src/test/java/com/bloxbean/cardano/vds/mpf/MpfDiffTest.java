@@ -0,0 +1,131 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.StateChange;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.mpf.test.TestNodeStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpfDiffTest {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Store counting the nodes read. */
+    private static final class CountingStore extends TestNodeStore {
+        int reads;
+
+        @Override
+        public byte[] get(byte[] key) {
+            reads++;
+            return super.get(key);
+        }
+    }
+
+    private static String describe(StateChange change) {
+        return change.type() + " " + HEX.formatHex(change.keyHash()) + " "
+                + (change.oldValue() == null ? "-" : new String(change.oldValue(), StandardCharsets.UTF_8)) + " "
+                + (change.newValue() == null ? "-" : new String(change.newValue(), StandardCharsets.UTF_8));
+    }
+
+    private static List<String> expected(Map<String, String> before, Map<String, String> after) {
+        TreeMap<String, String> changes = new TreeMap<>();
+        Set<String> keys = new HashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        for (String key : keys) {
+            String old = before.get(key);
+            String now = after.get(key);
+            String path = HEX.formatHex(Blake2b256.digest(bytes(key)));
+            if (old == null) {
+                changes.put(path, "ADDED " + path + " - " + now);
+            } else if (now == null) {
+                changes.put(path, "REMOVED " + path + " " + old + " -");
+            } else if (!old.equals(now)) {
+                changes.put(path, "MODIFIED " + path + " " + old + " " + now);
+            }
+        }
+        return new ArrayList<>(changes.values());
+    }
+
+    @Test
+    void diff_returnsAddedRemovedAndModifiedInPathOrder() {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            trie.put(bytes("key-" + i), bytes("v" + i));
+            before.put("key-" + i, "v" + i);
+        }
+        byte[] oldRoot = trie.getRootHash();
+
+        Map<String, String> after = new HashMap<>(before);
+        for (int i = 0; i < 2000; i += 37) {
+            trie.delete(bytes("key-" + i));
+            after.remove("key-" + i);
+        }
+        for (int i = 5; i < 2000; i += 41) {
+            trie.put(bytes("key-" + i), bytes("w" + i));
+            after.put("key-" + i, "w" + i);
+        }
+        for (int i = 2000; i < 2050; i++) {
+            trie.put(bytes("key-" + i), bytes("v" + i));
+            after.put("key-" + i, "v" + i);
+        }
+
+        List<StateChange> changes = trie.diff(oldRoot).collect(Collectors.toList());
+
+        assertEquals(expected(before, after), changes.stream().map(MpfDiffTest::describe).collect(Collectors.toList()));
+        for (StateChange change : changes) {
+            assertNotNull(change.key());
+            assertArrayEquals(Blake2b256.digest(change.key()), change.keyHash());
+        }
+
+        // Reversed direction swaps added and removed
+        List<StateChange> reversed = trie.diff(trie.getRootHash(), oldRoot).collect(Collectors.toList());
+        assertEquals(expected(after, before), reversed.stream().map(MpfDiffTest::describe).collect(Collectors.toList()));
+    }
+
+    @Test
+    void diff_againstEmptyTrieListsAllEntries() {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        for (int i = 0; i < 300; i++) {
+            trie.put(bytes("key-" + i), bytes("v" + i));
+        }
+
+        assertTrue(trie.diff(null).allMatch(c -> c.type() == StateChange.Type.ADDED));
+        assertEquals(300, trie.diff(null).count());
+        assertEquals(300, trie.diff(trie.getRootHash(), null)
+                .filter(c -> c.type() == StateChange.Type.REMOVED).count());
+        assertEquals(0, trie.diff(trie.getRootHash()).count());
+        assertEquals(0, trie.diff(null, null).count());
+    }
+
+    @Test
+    void diff_readsNodesProportionalToChanges() {
+        CountingStore store = new CountingStore();
+        MpfTrie trie = new MpfTrie(store);
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            entries.put(bytes("key-" + i), bytes("v" + i));
+        }
+        trie.putAll(entries);
+        byte[] oldRoot = trie.getRootHash();
+        trie.put(bytes("key-42"), bytes("changed"));
+
+        store.reads = 0;
+        List<StateChange> changes = trie.diff(oldRoot).collect(Collectors.toList());
+
+        assertEquals(1, changes.size());
+        assertEquals(StateChange.Type.MODIFIED, changes.get(0).type());
+        assertArrayEquals(bytes("changed"), changes.get(0).newValue());
+        // One path per root, a handful of levels deep
+        assertTrue(store.reads <= 20, "reads: " + store.reads);
+    }
+}
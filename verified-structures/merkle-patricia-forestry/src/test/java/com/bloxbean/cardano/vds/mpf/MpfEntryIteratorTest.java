@@ -0,0 +1,121 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.mpf.test.TestNodeStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpfEntryIteratorTest {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MpfTrie trie(int size) {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        for (int i = 0; i < size; i++) {
+            trie.put(bytes("key-" + i), bytes("value-" + i));
+        }
+        return trie;
+    }
+
+    private static List<String> sortedPaths(List<MpfTrie.Entry> entries) {
+        return entries.stream().map(e -> HEX.formatHex(e.getPath())).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void iterator_returnsAllEntriesInPathOrder() {
+        MpfTrie trie = trie(1000);
+
+        List<MpfTrie.Entry> streamed = trie.stream().collect(Collectors.toList());
+
+        assertEquals(sortedPaths(trie.getAllEntries()),
+                streamed.stream().map(e -> HEX.formatHex(e.getPath())).collect(Collectors.toList()));
+        for (MpfTrie.Entry entry : streamed) {
+            assertArrayEquals(trie.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    @Test
+    void prefix_limitsToMatchingPaths() {
+        MpfTrie trie = trie(1000);
+        byte[] prefix = new byte[]{(byte) 0xa3};
+
+        List<String> expected = sortedPaths(trie.getAllEntries()).stream()
+                .filter(p -> p.startsWith("a3"))
+                .collect(Collectors.toList());
+        List<String> actual = trie.stream(prefix, null)
+                .map(e -> HEX.formatHex(e.getPath()))
+                .collect(Collectors.toList());
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void startAfter_pagesThroughAllEntries() {
+        MpfTrie trie = trie(500);
+        List<String> expected = sortedPaths(trie.getAllEntries());
+
+        List<String> paged = new ArrayList<>();
+        byte[] last = null;
+        do {
+            Iterator<MpfTrie.Entry> it = trie.iterator(null, last);
+            last = null;
+            for (int i = 0; i < 37 && it.hasNext(); i++) {
+                MpfTrie.Entry entry = it.next();
+                paged.add(HEX.formatHex(entry.getPath()));
+                last = entry.getPath();
+            }
+        } while (last != null);
+
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void startAfter_arbitraryBoundWithinPrefix() {
+        MpfTrie trie = trie(1000);
+        byte[] prefix = new byte[]{0x5};
+        byte[] startAfter = new byte[]{0x5, (byte) 0x80};
+
+        List<String> expected = sortedPaths(trie.getAllEntries()).stream()
+                .filter(p -> p.startsWith("05") && p.compareTo("0580") > 0)
+                .collect(Collectors.toList());
+        List<String> actual = trie.stream(prefix, startAfter)
+                .map(e -> HEX.formatHex(e.getPath()))
+                .collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void emptyTrie_hasNoEntries() {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+
+        Iterator<MpfTrie.Entry> it = trie.iterator();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void iterator_isNotAffectedByLaterUpdates() {
+        MpfTrie trie = trie(100);
+        Iterator<MpfTrie.Entry> it = trie.iterator();
+        it.next();
+
+        trie.put(bytes("key-new"), bytes("value-new"));
+
+        int remaining = 0;
+        while (it.hasNext()) {
+            it.next();
+            remaining++;
+        }
+        assertEquals(99, remaining);
+    }
+}
@@ -0,0 +1,152 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.mpf.proof.ProofVerifier;
+import com.bloxbean.cardano.vds.mpf.test.TestNodeStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpfMultiProofTest {
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MpfTrie trie(int size) {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        for (int i = 0; i < size; i++) {
+            trie.put(bytes("key-" + i), bytes("value-" + i));
+        }
+        return trie;
+    }
+
+    private static List<byte[]> keys(int... ids) {
+        List<byte[]> keys = new ArrayList<>();
+        for (int id : ids) {
+            keys.add(bytes("key-" + id));
+        }
+        return keys;
+    }
+
+    @Test
+    void inclusionAndNonInclusion_verify() {
+        MpfTrie trie = trie(1000);
+        List<byte[]> keys = keys(1, 42, 500, 999, 5000, 5001);
+        byte[] wire = trie.getMultiProofWire(keys);
+
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        entries.put(bytes("key-1"), bytes("value-1"));
+        entries.put(bytes("key-42"), bytes("value-42"));
+        entries.put(bytes("key-500"), bytes("value-500"));
+        entries.put(bytes("key-999"), bytes("value-999"));
+        entries.put(bytes("key-5000"), null);
+        entries.put(bytes("key-5001"), null);
+
+        assertTrue(trie.verifyMultiProofWire(trie.getRootHash(), entries, wire));
+        assertTrue(ProofVerifier.verifyMulti(trie.getRootHash(), entries, wire));
+    }
+
+    @Test
+    void subsetOfKeys_verifies() {
+        MpfTrie trie = trie(300);
+        byte[] wire = trie.getMultiProofWire(keys(3, 4, 5));
+
+        assertTrue(trie.verifyMultiProofWire(trie.getRootHash(),
+                Map.of(bytes("key-4"), bytes("value-4")), wire));
+    }
+
+    @Test
+    void wrongValue_fails() {
+        MpfTrie trie = trie(300);
+        byte[] wire = trie.getMultiProofWire(keys(7, 8));
+
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        entries.put(bytes("key-7"), bytes("value-7"));
+        entries.put(bytes("key-8"), bytes("other"));
+        assertFalse(trie.verifyMultiProofWire(trie.getRootHash(), entries, wire));
+    }
+
+    @Test
+    void presentKeyClaimedAbsent_fails() {
+        MpfTrie trie = trie(300);
+        byte[] wire = trie.getMultiProofWire(keys(7));
+
+        Map<byte[], byte[]> entries = new HashMap<>();
+        entries.put(bytes("key-7"), null);
+        assertFalse(trie.verifyMultiProofWire(trie.getRootHash(), entries, wire));
+    }
+
+    @Test
+    void keyNotCoveredByProof_fails() {
+        MpfTrie trie = trie(300);
+        byte[] wire = trie.getMultiProofWire(keys(7));
+
+        assertFalse(trie.verifyMultiProofWire(trie.getRootHash(),
+                Map.of(bytes("key-123"), bytes("value-123")), wire));
+    }
+
+    @Test
+    void wrongRoot_fails() {
+        MpfTrie trie = trie(300);
+        byte[] root = trie.getRootHash();
+        byte[] wire = trie.getMultiProofWire(keys(7));
+        trie.put(bytes("key-7"), bytes("changed"));
+
+        assertFalse(trie.verifyMultiProofWire(trie.getRootHash(), Map.of(bytes("key-7"), bytes("value-7")), wire));
+        assertTrue(trie.verifyMultiProofWire(root, Map.of(bytes("key-7"), bytes("value-7")), wire));
+    }
+
+    @Test
+    void smallTries_withExtensionsAndSingleLeaf_verify() {
+        for (int size = 1; size <= 40; size++) {
+            MpfTrie trie = trie(size);
+            List<byte[]> keys = keys(0, size - 1, size, size + 7);
+            byte[] wire = trie.getMultiProofWire(keys);
+
+            Map<byte[], byte[]> entries = new LinkedHashMap<>();
+            entries.put(bytes("key-0"), bytes("value-0"));
+            entries.put(bytes("key-" + (size - 1)), bytes("value-" + (size - 1)));
+            entries.put(bytes("key-" + size), null);
+            entries.put(bytes("key-" + (size + 7)), null);
+            assertTrue(trie.verifyMultiProofWire(trie.getRootHash(), entries, wire), "size " + size);
+        }
+    }
+
+    @Test
+    void emptyTrie_provesNonInclusion() {
+        MpfTrie trie = new MpfTrie(new TestNodeStore());
+        byte[] wire = trie.getMultiProofWire(keys(1, 2));
+
+        Map<byte[], byte[]> entries = new HashMap<>();
+        entries.put(bytes("key-1"), null);
+        assertTrue(trie.verifyMultiProofWire(null, entries, wire));
+        assertFalse(trie.verifyMultiProofWire(null, Map.of(bytes("key-1"), bytes("value-1")), wire));
+    }
+
+    @Test
+    void multiProof_isSmallerThanSingleProofs() {
+        MpfTrie trie = trie(2000);
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            keys.add(bytes("key-" + (i * 7)));
+        }
+
+        int singleBytes = 0;
+        for (byte[] key : keys) {
+            singleBytes += trie.getProofWire(key).orElseThrow().length;
+        }
+        int multiBytes = trie.getMultiProofWire(keys).length;
+
+        assertTrue(multiBytes < singleBytes, multiBytes + " >= " + singleBytes);
+    }
+
+    @Test
+    void malformedProof_throws() {
+        MpfTrie trie = trie(10);
+        assertThrows(IllegalArgumentException.class,
+                () -> trie.verifyMultiProofWire(trie.getRootHash(), Map.of(), new byte[]{(byte) 0x83, 0x05}));
+    }
+}
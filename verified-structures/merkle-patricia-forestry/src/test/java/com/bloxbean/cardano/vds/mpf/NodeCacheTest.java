@@ -0,0 +1,171 @@
+package com.bloxbean.cardano.vds.mpf;
+
+import com.bloxbean.cardano.vds.core.NodeHash;
+import com.bloxbean.cardano.vds.core.hash.Blake2b256;
+import com.bloxbean.cardano.vds.mpf.commitment.MpfCommitmentScheme;
+import com.bloxbean.cardano.vds.mpf.test.TestNodeStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeCacheTest {
+
+    private static final int ENTRY_SIZE = 100;
+    private static final int ENTRY_WEIGHT = ENTRY_SIZE + NodeCache.ENTRY_OVERHEAD;
+
+    private static NodeHash hash(int i) {
+        return NodeHash.of(Blake2b256.digest(new byte[]{(byte) (i >> 8), (byte) i}));
+    }
+
+    private static Node leaf(int i) {
+        return LeafNode.of(new byte[]{0x20}, new byte[]{(byte) i});
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void get_recordsHitsAndMisses() {
+        NodeCache cache = NodeCache.builder().build();
+        Node node = leaf(1);
+
+        assertNull(cache.get(hash(1), 5));
+        cache.put(hash(1), node, ENTRY_SIZE, 5);
+        assertSame(node, cache.get(hash(1), 5));
+
+        NodeCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.hitRate());
+        assertEquals(1, stats.getSize());
+        assertEquals(ENTRY_WEIGHT, stats.getWeightBytes());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedByWeight() {
+        NodeCache cache = NodeCache.builder()
+                .maxWeightBytes(3L * ENTRY_WEIGHT)
+                .pinnedDepth(0)
+                .build();
+
+        cache.put(hash(1), leaf(1), ENTRY_SIZE, 10);
+        cache.put(hash(2), leaf(2), ENTRY_SIZE, 10);
+        cache.put(hash(3), leaf(3), ENTRY_SIZE, 10);
+        cache.get(hash(1), 10); // 2 is now least recently used
+        cache.put(hash(4), leaf(4), ENTRY_SIZE, 10);
+
+        assertNull(cache.get(hash(2), 10));
+        assertNotNull(cache.get(hash(1), 10));
+        assertNotNull(cache.get(hash(3), 10));
+        assertNotNull(cache.get(hash(4), 10));
+        assertEquals(1, cache.getStats().getEvictionCount());
+        assertEquals(3L * ENTRY_WEIGHT, cache.getStats().getWeightBytes());
+    }
+
+    @Test
+    void pinnedNodes_surviveScansOfLowerLevels() {
+        NodeCache cache = NodeCache.builder()
+                .maxWeightBytes(10L * ENTRY_WEIGHT)
+                .pinnedWeightBytes(2L * ENTRY_WEIGHT)
+                .pinnedDepth(2)
+                .build();
+
+        cache.put(hash(0), leaf(0), ENTRY_SIZE, 0);
+        cache.put(hash(1), leaf(1), ENTRY_SIZE, 1);
+        for (int i = 100; i < 200; i++) {
+            cache.put(hash(i), leaf(i), ENTRY_SIZE, 10);
+        }
+
+        assertNotNull(cache.get(hash(0), 0));
+        assertNotNull(cache.get(hash(1), 1));
+        NodeCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.getPinnedSize());
+        assertEquals(10, stats.getSize());
+        assertTrue(stats.getWeightBytes() <= 10L * ENTRY_WEIGHT);
+    }
+
+    @Test
+    void get_atPinnedDepth_promotesNode() {
+        NodeCache cache = NodeCache.builder().pinnedDepth(1).build();
+
+        cache.put(hash(1), leaf(1), ENTRY_SIZE, -1);
+        assertEquals(0, cache.getStats().getPinnedSize());
+
+        assertNotNull(cache.get(hash(1), 0));
+        assertEquals(1, cache.getStats().getPinnedSize());
+        assertEquals(1, cache.getStats().getSize());
+    }
+
+    @Test
+    void builder_invalidConfig_throws() {
+        assertThrows(IllegalArgumentException.class, () -> NodeCache.builder().maxWeightBytes(0).build());
+        assertThrows(IllegalArgumentException.class, () -> NodeCache.builder().pinnedDepth(-1).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> NodeCache.builder().maxWeightBytes(100).pinnedWeightBytes(200).build());
+    }
+
+    @Test
+    void trieWithCache_matchesTrieWithoutCache_andSkipsStore() {
+        AtomicInteger storeGets = new AtomicInteger();
+        TestNodeStore store = new TestNodeStore() {
+            @Override
+            public byte[] get(byte[] key) {
+                storeGets.incrementAndGet();
+                return super.get(key);
+            }
+        };
+        NodeCache cache = NodeCache.builder().build();
+        MpfTrie cached = new MpfTrie(store, Blake2b256::digest, null,
+                new MpfCommitmentScheme(Blake2b256::digest), cache);
+        MpfTrie plain = new MpfTrie(new TestNodeStore());
+
+        for (int i = 0; i < 500; i++) {
+            cached.put(bytes("key-" + i), bytes("value-" + i));
+            plain.put(bytes("key-" + i), bytes("value-" + i));
+        }
+        for (int i = 0; i < 500; i += 5) {
+            cached.delete(bytes("key-" + i));
+            plain.delete(bytes("key-" + i));
+        }
+        assertArrayEquals(plain.getRootHash(), cached.getRootHash());
+
+        storeGets.set(0);
+        for (int i = 1; i < 500; i += 5) {
+            assertArrayEquals(bytes("value-" + i), cached.get(bytes("key-" + i)));
+        }
+        assertNull(cached.get(bytes("key-0")));
+
+        // Every node was written through the cache, so lookups don't touch the store
+        assertEquals(0, storeGets.get());
+        NodeCache.Stats stats = cache.getStats();
+        assertTrue(stats.getHitCount() > 0);
+        assertTrue(stats.getPinnedSize() > 0);
+
+        byte[] wire = cached.getProofWire(bytes("key-1")).orElseThrow();
+        assertTrue(cached.verifyProofWire(cached.getRootHash(), bytes("key-1"), bytes("value-1"), true, wire));
+    }
+
+    @Test
+    void sharedCache_loadsExistingTrieFromStore() {
+        TestNodeStore store = new TestNodeStore();
+        MpfTrie writer = new MpfTrie(store);
+        for (int i = 0; i < 100; i++) {
+            writer.put(bytes("key-" + i), bytes("value-" + i));
+        }
+
+        NodeCache cache = NodeCache.builder().build();
+        MpfTrie reader = new MpfTrie(store, Blake2b256::digest, writer.getRootHash(),
+                new MpfCommitmentScheme(Blake2b256::digest), cache);
+
+        assertArrayEquals(bytes("value-7"), reader.get(bytes("key-7")));
+        long missesAfterFirstGet = cache.getStats().getMissCount();
+        assertArrayEquals(bytes("value-7"), reader.get(bytes("key-7")));
+
+        assertEquals(missesAfterFirstGet, cache.getStats().getMissCount());
+        assertTrue(cache.getStats().getHitCount() > 0);
+    }
+}
@@ -13,11 +13,19 @@ import javax.sql.DataSource;
  * Database configuration for RDBMS state trees.
  *
  * <p>Supports JDBC DataSource or connection parameters. For production use,
- * it's recommended to use HikariCP for connection pooling.
+ * it's recommended to use HikariCP for connection pooling: either pass a pooled
+ * DataSource, or use {@link Builder#jdbcUrl(String, String, String)}, which creates a
+ * bounded HikariCP pool sized by {@link Builder#poolSize(int)} with per-connection
+ * statement caching sized by {@link Builder#statementCacheSize(int)}.
  *
  * @since 0.8.0
  */
 public class DbConfig {
+    /** Default maximum number of pooled connections. */
+    public static final int DEFAULT_POOL_SIZE = 10;
+    /** Default number of prepared statements cached per pooled connection. */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+
     private final DataSource dataSource;
     private final SqlDialect dialect;
     private final String tablePrefix;
@@ -82,6 +90,11 @@ public class DbConfig {
         private DataSource dataSource;
         private SqlDialect dialect;
         private String tablePrefix = "";
+        private String jdbcUrl;
+        private String username;
+        private String password;
+        private int poolSize = DEFAULT_POOL_SIZE;
+        private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
 
         /**
          * Sets the JDBC data source.
@@ -91,6 +104,7 @@ public class DbConfig {
          */
         public Builder dataSource(DataSource dataSource) {
             this.dataSource = dataSource;
+            this.jdbcUrl = null;
             return this;
         }
 
@@ -117,24 +131,22 @@ public class DbConfig {
         }
 
         /**
-         * Creates a HikariCP data source from JDBC URL and auto-detects the dialect.
+         * Uses a HikariCP connection pool for the JDBC URL and auto-detects the dialect.
+         *
+         * <p>The pool is created by {@link #build()}, with at most {@link #poolSize(int)}
+         * connections and the dialect's {@link SqlDialect#statementCacheProperties(int)} for
+         * {@link #statementCacheSize(int)} statements per connection.</p>
          *
          * @param jdbcUrl the JDBC URL
-         * @param username the database username
-         * @param password the database password
+         * @param username the database username, or null if not needed
+         * @param password the database password, or null if not needed
          * @return this builder with DataSource and Dialect configured
          */
         public Builder jdbcUrl(String jdbcUrl, String username, String password) {
-            // Create HikariCP DataSource
-            HikariConfig hikariConfig = new HikariConfig();
-            hikariConfig.setJdbcUrl(jdbcUrl);
-            hikariConfig.setUsername(username);
-            hikariConfig.setPassword(password);
-            hikariConfig.setMaximumPoolSize(10);
-            hikariConfig.setMinimumIdle(2);
-            hikariConfig.setConnectionTimeout(30000);
-
-            this.dataSource = new HikariDataSource(hikariConfig);
+            this.jdbcUrl = jdbcUrl;
+            this.username = username;
+            this.password = password;
+            this.dataSource = null;
 
             // Auto-detect dialect from JDBC URL
             this.dialect = detectDialect(jdbcUrl);
@@ -142,6 +154,37 @@ public class DbConfig {
             return this;
         }
 
+        /**
+         * Sets the maximum number of connections of the pool created for
+         * {@link #jdbcUrl(String, String, String)}.
+         *
+         * @param poolSize the maximum pool size, at least 1 (default {@value DbConfig#DEFAULT_POOL_SIZE})
+         * @return this builder
+         */
+        public Builder poolSize(int poolSize) {
+            if (poolSize < 1) {
+                throw new IllegalArgumentException("poolSize must be at least 1");
+            }
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of prepared statements cached per connection of the pool created for
+         * {@link #jdbcUrl(String, String, String)}.
+         *
+         * @param statementCacheSize the cache size, 0 to disable
+         *                           (default {@value DbConfig#DEFAULT_STATEMENT_CACHE_SIZE})
+         * @return this builder
+         */
+        public Builder statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException("statementCacheSize must not be negative");
+            }
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
         /**
          * Creates a simple non-pooled data source (for testing only).
          *
@@ -150,10 +193,23 @@ public class DbConfig {
          */
         public Builder simpleJdbcUrl(String jdbcUrl) {
             this.dataSource = new SimpleDataSource(jdbcUrl);
+            this.jdbcUrl = null;
             this.dialect = detectDialect(jdbcUrl);
             return this;
         }
 
+        private DataSource createPool() {
+            HikariConfig hikariConfig = new HikariConfig();
+            hikariConfig.setJdbcUrl(jdbcUrl);
+            hikariConfig.setUsername(username);
+            hikariConfig.setPassword(password);
+            hikariConfig.setMaximumPoolSize(poolSize);
+            hikariConfig.setMinimumIdle(Math.min(2, poolSize));
+            hikariConfig.setConnectionTimeout(30000);
+            dialect.statementCacheProperties(statementCacheSize).forEach(hikariConfig::addDataSourceProperty);
+            return new HikariDataSource(hikariConfig);
+        }
+
         private SqlDialect detectDialect(String jdbcUrl) {
             if (jdbcUrl.startsWith("jdbc:postgresql:")) {
                 return new PostgresDialect();
@@ -176,6 +232,10 @@ public class DbConfig {
          * @throws IllegalStateException if required fields are missing
          */
         public DbConfig build() {
+            if (jdbcUrl != null && dialect != null) {
+                dataSource = createPool();
+                jdbcUrl = null;
+            }
             if (dataSource == null) {
                 throw new IllegalStateException("dataSource is required");
             }
@@ -3,6 +3,9 @@ package com.bloxbean.cardano.vds.rdbms.dialect;
 import com.bloxbean.cardano.vds.rdbms.common.KeyCodec;
 import com.bloxbean.cardano.vds.rdbms.common.StandardKeyCodec;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * H2 Database SQL dialect implementation.
  *
@@ -84,6 +87,17 @@ public class H2Dialect implements SqlDialect {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>H2 caches parsed statements per session; the default of 8 is too small for the
+     * number of distinct statements the stores issue.</p>
+     */
+    @Override
+    public Map<String, String> statementCacheProperties(int cacheSize) {
+        return Collections.singletonMap("QUERY_CACHE_SIZE", String.valueOf(cacheSize));
+    }
+
     @Override
     public String toString() {
         return "H2Dialect{}";
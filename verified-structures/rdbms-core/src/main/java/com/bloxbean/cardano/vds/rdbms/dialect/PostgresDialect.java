@@ -3,6 +3,9 @@ package com.bloxbean.cardano.vds.rdbms.dialect;
 import com.bloxbean.cardano.vds.rdbms.common.KeyCodec;
 import com.bloxbean.cardano.vds.rdbms.common.StandardKeyCodec;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * PostgreSQL SQL dialect implementation.
  *
@@ -66,6 +69,21 @@ public class PostgresDialect implements SqlDialect {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>pgjdbc keeps a per-connection cache of server-side prepared statements keyed by SQL
+     * text. A prepare threshold of 1 uses a server-side statement from the first execution
+     * instead of the fifth; a cache size of 0 turns server-side statements off.</p>
+     */
+    @Override
+    public Map<String, String> statementCacheProperties(int cacheSize) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("prepareThreshold", cacheSize > 0 ? "1" : "0");
+        properties.put("preparedStatementCacheQueries", String.valueOf(cacheSize));
+        return properties;
+    }
+
     @Override
     public String toString() {
         return "PostgresDialect{}";
@@ -2,6 +2,9 @@ package com.bloxbean.cardano.vds.rdbms.dialect;
 
 import com.bloxbean.cardano.vds.rdbms.common.KeyCodec;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Abstraction for database-specific SQL syntax.
  *
@@ -98,4 +101,57 @@ public interface SqlDialect {
      * @return the INSERT OR IGNORE SQL statement
      */
     String insertOrIgnoreSql(String tableName, String columns, String placeholders);
+
+    /**
+     * Returns an INSERT OR IGNORE statement inserting {@code rows} rows at once.
+     *
+     * <p>Multi-row inserts cut the per-statement overhead of bulk loads. The parameters are
+     * the placeholders of each row in order. Callers must keep {@code rows} times the
+     * placeholders per row below the driver's parameter limit (999 for older SQLite builds).
+     *
+     * @param tableName the table name
+     * @param columns comma-separated column names
+     * @param placeholders comma-separated value placeholders of one row (e.g., "?, ?, ?")
+     * @param rows the number of rows, at least 1
+     * @return the multi-row INSERT OR IGNORE SQL statement
+     */
+    default String insertOrIgnoreRowsSql(String tableName, String columns, String placeholders, int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("rows must be at least 1");
+        }
+        return insertOrIgnoreSql(tableName, columns, String.join("), (", Collections.nCopies(rows, placeholders)));
+    }
+
+    /**
+     * Returns a predicate matching {@code column} against {@code count} bound values, used by
+     * multi-key reads.
+     *
+     * <p>The default is {@code column IN (?, ?, ...)} with one parameter per value. Callers
+     * should round {@code count} up to a few fixed sizes so that the statements can be reused
+     * from the driver's statement cache.
+     *
+     * @param column the column name
+     * @param count the number of values, at least 1
+     * @return the SQL predicate
+     */
+    default String inListSql(String column, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        return column + " IN (" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    /**
+     * Returns the driver properties enabling per-connection prepared statement caching.
+     *
+     * <p>Applied to pooled data sources created by {@link com.bloxbean.cardano.vds.rdbms.common.DbConfig}.
+     * The default returns no properties, for drivers that cache statements on their own or
+     * not at all.
+     *
+     * @param cacheSize the number of statements to cache per connection, 0 to disable
+     * @return the driver properties
+     */
+    default Map<String, String> statementCacheProperties(int cacheSize) {
+        return Collections.emptyMap();
+    }
 }
@@ -0,0 +1,188 @@
+package com.bloxbean.cardano.vds.rocksdb.bulk;
+
+import com.bloxbean.cardano.vds.core.api.BulkWriter;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Bulk writer for one column family that ingests the records as SST files.
+ *
+ * <p>SST files must be written in key order, but tree nodes are produced in tree order. Records are
+ * therefore buffered up to a configurable size, sorted and written as one SST file per chunk. On
+ * {@link #finish()} all files are ingested into the column family in one call and moved, not copied,
+ * into the database. The chunks may overlap; RocksDB assigns them increasing sequence numbers, so for
+ * a key written twice the later write wins.</p>
+ *
+ * <p>Chunk files are kept in a temporary directory inside the database directory and are removed on
+ * {@link #close()}. Records are not visible before {@link #finish()}; closing an unfinished writer
+ * discards them.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * try (SstBulkWriter writer = new SstBulkWriter(db, cfNodes)) {
+ *     for (...) {
+ *         writer.put(key, value);
+ *     }
+ *     writer.finish();
+ * }
+ * }</pre>
+ *
+ * @since 0.8.0
+ */
+public final class SstBulkWriter implements BulkWriter {
+    private static final Logger log = LoggerFactory.getLogger(SstBulkWriter.class);
+
+    /**
+     * Default chunk size: 64 MiB of buffered keys and values.
+     */
+    public static final long DEFAULT_CHUNK_BYTES = 64L << 20;
+
+    private final RocksDB db;
+    private final ColumnFamilyHandle columnFamily;
+    private final long chunkBytes;
+    private final List<byte[][]> buffer = new ArrayList<>();
+    private final List<String> files = new ArrayList<>();
+    private long bufferedBytes;
+    private Path directory;
+    private boolean finished;
+
+    /**
+     * Creates a writer with the {@link #DEFAULT_CHUNK_BYTES default chunk size}.
+     *
+     * @param db           the database
+     * @param columnFamily the column family to load
+     */
+    public SstBulkWriter(RocksDB db, ColumnFamilyHandle columnFamily) {
+        this(db, columnFamily, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param db           the database
+     * @param columnFamily the column family to load
+     * @param chunkBytes   buffered bytes after which a chunk is sorted and written as an SST file
+     */
+    public SstBulkWriter(RocksDB db, ColumnFamilyHandle columnFamily, long chunkBytes) {
+        this.db = Objects.requireNonNull(db, "db");
+        this.columnFamily = Objects.requireNonNull(columnFamily, "columnFamily");
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("chunkBytes must be positive");
+        }
+        this.chunkBytes = chunkBytes;
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        if (finished) {
+            throw new IllegalStateException("Writer already finished");
+        }
+        buffer.add(new byte[][]{key, value});
+        bufferedBytes += key.length + value.length;
+        if (bufferedBytes >= chunkBytes) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Writes the buffered records and ingests all chunk files into the column family.
+     */
+    @Override
+    public void finish() {
+        if (finished) {
+            throw new IllegalStateException("Writer already finished");
+        }
+        finished = true;
+        if (!buffer.isEmpty()) {
+            writeChunk();
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+
+        try (IngestExternalFileOptions options = new IngestExternalFileOptions()) {
+            options.setMoveFiles(true);
+            db.ingestExternalFile(columnFamily, files, options);
+            log.debug("Ingested {} SST files into column family {}", files.size(), new String(columnFamily.getName()));
+        } catch (RocksDBException e) {
+            throw new RuntimeException("Failed to ingest SST files", e);
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    /**
+     * Removes the chunk files. Records of an unfinished writer are discarded.
+     */
+    @Override
+    public void close() {
+        buffer.clear();
+        deleteDirectory();
+    }
+
+    private void writeChunk() {
+        // Stable sort: for duplicate keys the last written record comes last
+        buffer.sort((a, b) -> Arrays.compareUnsigned(a[0], b[0]));
+
+        try (EnvOptions envOptions = new EnvOptions();
+             Options options = new Options();
+             SstFileWriter writer = new SstFileWriter(envOptions, options)) {
+            if (directory == null) {
+                directory = Files.createTempDirectory(Path.of(db.getName()), "sst-bulk-");
+            }
+            String file = directory.resolve("chunk-" + files.size() + ".sst").toString();
+            writer.open(file);
+            for (int i = 0; i < buffer.size(); i++) {
+                byte[][] record = buffer.get(i);
+                if (i + 1 < buffer.size() && Arrays.equals(record[0], buffer.get(i + 1)[0])) {
+                    continue;
+                }
+                writer.put(record[0], record[1]);
+            }
+            writer.finish();
+            files.add(file);
+        } catch (RocksDBException | IOException e) {
+            throw new RuntimeException("Failed to write SST chunk", e);
+        }
+
+        buffer.clear();
+        bufferedBytes = 0;
+    }
+
+    private void deleteDirectory() {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Failed to delete bulk load file {}", path, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Failed to delete bulk load directory {}", directory, e);
+        }
+        directory = null;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Bulk loading into RocksDB column families via SST file ingestion.
+ *
+ * <p>{@link com.bloxbean.cardano.vds.rocksdb.bulk.SstBulkWriter} buffers records in sorted chunks,
+ * writes each chunk as an SST file and ingests the files at the end, bypassing the memtable,
+ * write-ahead log and the compactions caused by regular writes.</p>
+ *
+ * @since 0.8.0
+ */
+package com.bloxbean.cardano.vds.rocksdb.bulk;
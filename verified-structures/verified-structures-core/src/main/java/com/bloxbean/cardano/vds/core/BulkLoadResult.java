@@ -0,0 +1,77 @@
+package com.bloxbean.cardano.vds.core;
+
+import java.util.Locale;
+
+/**
+ * Result of a bulk load: the root hash of the loaded tree and throughput figures.
+ *
+ * @since 0.8.0
+ */
+public final class BulkLoadResult {
+    private final byte[] rootHash;
+    private final long entries;
+    private final long nodes;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new result.
+     *
+     * @param rootHash     the root hash, or null for an empty tree
+     * @param entries      number of key-value entries loaded
+     * @param nodes        number of nodes written
+     * @param bytes        total size of the encoded nodes and values written
+     * @param elapsedNanos wall-clock time of the load, including the final flush
+     */
+    public BulkLoadResult(byte[] rootHash, long entries, long nodes, long bytes, long elapsedNanos) {
+        this.rootHash = rootHash != null ? rootHash.clone() : null;
+        this.entries = entries;
+        this.nodes = nodes;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the root hash, or null for an empty tree
+     */
+    public byte[] rootHash() {
+        return rootHash != null ? rootHash.clone() : null;
+    }
+
+    public long entries() {
+        return entries;
+    }
+
+    public long nodes() {
+        return nodes;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return loaded entries per second
+     */
+    public double entriesPerSecond() {
+        return elapsedNanos == 0 ? 0 : entries * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * @return written megabytes (2^20 bytes) per second
+     */
+    public double megabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * 1_000_000_000.0 / elapsedNanos / (1 << 20);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "BulkLoadResult{entries=%d, nodes=%d, bytes=%d, elapsedMs=%d, entries/s=%.0f, MiB/s=%.1f}",
+                entries, nodes, bytes, elapsedNanos / 1_000_000, entriesPerSecond(), megabytesPerSecond());
+    }
+}
@@ -0,0 +1,83 @@
+package com.bloxbean.cardano.vds.core;
+
+import com.bloxbean.cardano.client.util.HexUtil;
+
+/**
+ * One changed key in a diff between two tree states.
+ *
+ * <p>Keys are identified by their hashed key, the path under which trees store them. The original
+ * key is available when the tree keeps it next to the value, as MPF leaves do.</p>
+ *
+ * @since 0.8.0
+ */
+public final class StateChange {
+
+    /**
+     * Kind of change.
+     */
+    public enum Type {
+        /** The key exists only in the new state. */
+        ADDED,
+        /** The key exists only in the old state. */
+        REMOVED,
+        /** The key exists in both states with different values. */
+        MODIFIED
+    }
+
+    private final Type type;
+    private final byte[] keyHash;
+    private final byte[] key;
+    private final byte[] oldValue;
+    private final byte[] newValue;
+
+    /**
+     * Creates a change.
+     *
+     * @param type     the kind of change
+     * @param keyHash  the hashed key
+     * @param key      the original key, or null if not stored
+     * @param oldValue the value in the old state, null for {@link Type#ADDED}
+     * @param newValue the value in the new state, null for {@link Type#REMOVED}
+     */
+    public StateChange(Type type, byte[] keyHash, byte[] key, byte[] oldValue, byte[] newValue) {
+        this.type = type;
+        this.keyHash = keyHash;
+        this.key = key;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public byte[] keyHash() {
+        return keyHash;
+    }
+
+    /**
+     * @return the original key, or null if the tree does not store it
+     */
+    public byte[] key() {
+        return key;
+    }
+
+    /**
+     * @return the value in the old state, or null if the key was added
+     */
+    public byte[] oldValue() {
+        return oldValue;
+    }
+
+    /**
+     * @return the value in the new state, or null if the key was removed
+     */
+    public byte[] newValue() {
+        return newValue;
+    }
+
+    @Override
+    public String toString() {
+        return "StateChange{" + type + " " + HexUtil.encodeHexString(keyHash) + "}";
+    }
+}
@@ -0,0 +1,41 @@
+package com.bloxbean.cardano.vds.core.api;
+
+/**
+ * Write-only sink for loading a large number of records into a store.
+ *
+ * <p>Bulk writers bypass the regular write path of a store, e.g. by writing SST files that are
+ * ingested at the end (RocksDB) or by multi-row inserts (RDBMS). Records may be written in any
+ * order; writing the same key twice keeps the last value.</p>
+ *
+ * <p>Records are guaranteed to be visible once {@link #finish()} returns. Closing a writer
+ * without finishing it releases its resources; whether records written so far are kept
+ * depends on the store.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ *
+ * @since 0.8.0
+ */
+public interface BulkWriter extends AutoCloseable {
+
+    /**
+     * Writes a record.
+     *
+     * @param key   the record key
+     * @param value the record value
+     * @throws RuntimeException if the record cannot be written
+     */
+    void put(byte[] key, byte[] value);
+
+    /**
+     * Makes all written records visible in the store.
+     *
+     * @throws RuntimeException if the records cannot be made durable
+     */
+    void finish();
+
+    /**
+     * Releases the resources of this writer.
+     */
+    @Override
+    void close();
+}
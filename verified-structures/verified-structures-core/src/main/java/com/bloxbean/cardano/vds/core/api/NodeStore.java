@@ -1,5 +1,8 @@
 package com.bloxbean.cardano.vds.core.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Storage abstraction for nodes in verifiable data structures.
  *
@@ -31,6 +34,25 @@ public interface NodeStore {
      */
     byte[] get(byte[] hash);
 
+    /**
+     * Retrieves several nodes by their hashes.
+     *
+     * <p>Used by traversals to prefetch the children of a node in one call. The default
+     * implementation calls {@link #get(byte[])} for each hash; stores with a native
+     * multi-key read should override it.</p>
+     *
+     * @param hashes the hashes of the nodes to retrieve
+     * @return the CBOR-encoded node bytes in the order of the hashes, with null for nodes not found
+     * @throws RuntimeException if storage operation fails
+     */
+    default List<byte[]> getAll(List<byte[]> hashes) {
+        List<byte[]> nodes = new ArrayList<>(hashes.size());
+        for (byte[] hash : hashes) {
+            nodes.add(get(hash));
+        }
+        return nodes;
+    }
+
     /**
      * Stores a node with its hash as the key.
      *
@@ -44,6 +66,31 @@ public interface NodeStore {
      */
     void put(byte[] hash, byte[] nodeBytes);
 
+    /**
+     * Opens a writer for bulk loading nodes, e.g. when building a trie from an existing dataset.
+     *
+     * <p>The default implementation writes through {@link #put(byte[], byte[])}. Stores with a
+     * faster bulk path (SST ingestion, multi-row inserts) should override it.</p>
+     *
+     * @return a new bulk writer; the caller must close it
+     */
+    default BulkWriter bulkWriter() {
+        return new BulkWriter() {
+            @Override
+            public void put(byte[] key, byte[] value) {
+                NodeStore.this.put(key, value);
+            }
+
+            @Override
+            public void finish() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
     /**
      * Deletes a node by its hash.
      *